@@ -4,7 +4,8 @@ module org.universidad.automatizacionmetodosgranmydosfases {
 
     requires org.controlsfx.controls;
     requires java.desktop;
+    requires org.universidad.simplex;
 
     opens org.universidad.automatizacionmetodosgranmydosfases to javafx.fxml;
     exports org.universidad.automatizacionmetodosgranmydosfases;
-}
\ No newline at end of file
+}
@@ -8,6 +8,7 @@ import javafx.scene.layout.VBox;
 import org.universidad.automatizacionmetodosgranmydosfases.metodos.DosFases;
 import org.universidad.automatizacionmetodosgranmydosfases.metodos.GranM;
 import org.universidad.automatizacionmetodosgranmydosfases.metodos.SimplexBase;
+import org.universidad.granm.claseabstracta.TipoRestriccion;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -18,7 +19,7 @@ public class HelloController {
     private double[] funcionObjetivo;
     private double[][] restricciones;
     private double[] terminosIndependientes;
-    private char[] tipoRestricciones;
+    private TipoRestriccion[] tipoRestricciones;
 
     private ComboBox<Character> comboBoxTipoRestricciones;
     private List<ComboBox<Character>> operadoresRestricciones;
@@ -166,7 +167,7 @@ public class HelloController {
             // Capturar coeficientes de las restricciones y términos independientes
             restricciones = new double[numRestricciones][numVariables];
             terminosIndependientes = new double[numRestricciones];
-            tipoRestricciones = new char[numRestricciones];
+            tipoRestricciones = new TipoRestriccion[numRestricciones];
             boolean todasRestriccionesSonMenorIgual = true;
 
             for (int r = 0; r < numRestricciones; r++) {
@@ -174,8 +175,8 @@ public class HelloController {
                     restricciones[r][v] = Double.parseDouble(textFieldsRestricciones.get(r).get(v).getText());
                 }
                 terminosIndependientes[r] = Double.parseDouble(textFieldsTerminosIndependientes.get(r).getText());
-                tipoRestricciones[r] = operadoresRestricciones.get(r).getValue();
-                if (tipoRestricciones[r] != '≤')
+                tipoRestricciones[r] = TipoRestriccion.desde(operadoresRestricciones.get(r).getValue());
+                if (tipoRestricciones[r] != TipoRestriccion.MENOR_IGUAL)
                     todasRestriccionesSonMenorIgual = false;
             }
 
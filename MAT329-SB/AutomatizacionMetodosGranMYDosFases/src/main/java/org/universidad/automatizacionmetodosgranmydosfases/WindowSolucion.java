@@ -251,7 +251,7 @@ public class WindowSolucion {
         // Mostrar variables de holgura en base (si tienen valor > 0)
         List<VariableInfo> variablesHolgura = simplex.obtenerVariablesPorTipo(VariableInfo.TipoVariable.HOLGURA);
         List<VariableInfo> holguraEnBase = variablesHolgura.stream()
-                .filter(var -> var.isEstaEnBase() && Math.abs(var.getValor()) > SimplexBase.epsilon)
+                .filter(var -> var.isEstaEnBase() && Math.abs(var.getValor()) > simplex.getEpsilon())
                 .toList();
 
         mostrarResultadoDeLasVariables(holguraEnBase, "Variables de Holgura:", "(Holgura)");
@@ -259,14 +259,14 @@ public class WindowSolucion {
         // Mostrar variables de exceso en base (si tienen valor > 0)
         List<VariableInfo> variablesExceso = simplex.obtenerVariablesPorTipo(VariableInfo.TipoVariable.EXCESO);
         List<VariableInfo> excesoEnBase = variablesExceso.stream()
-                .filter(var -> var.isEstaEnBase() && Math.abs(var.getValor()) > SimplexBase.epsilon)
+                .filter(var -> var.isEstaEnBase() && Math.abs(var.getValor()) > simplex.getEpsilon())
                 .toList();
         mostrarResultadoDeLasVariables(excesoEnBase, "Variables de Exceso:", "(Exceso)");
 
         // Mostrar variables artificiales en base (si tienen valor > 0)
         List<VariableInfo> variablesArtificial = simplex.obtenerVariablesPorTipo(VariableInfo.TipoVariable.ARTIFICIAL);
         List<VariableInfo> artificialEnBase = variablesArtificial.stream()
-                .filter(var -> var.isEstaEnBase() && Math.abs(var.getValor()) > SimplexBase.epsilon)
+                .filter(var -> var.isEstaEnBase() && Math.abs(var.getValor()) > simplex.getEpsilon())
                 .toList();
         mostrarResultadoDeLasVariables(artificialEnBase, "Variables Artificial:", "(Artificial)");
 
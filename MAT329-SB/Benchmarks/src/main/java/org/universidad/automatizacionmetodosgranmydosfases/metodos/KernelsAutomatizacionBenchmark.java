@@ -0,0 +1,105 @@
+package org.universidad.automatizacionmetodosgranmydosfases.metodos;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.universidad.benchmarks.GeneradorProblemas;
+import org.universidad.benchmarks.ProblemaLineal;
+import org.universidad.granm.metodos.EstructuraParaGuardarPasos;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Microbenchmarks de los kernels del SimplexBase de AutomatizacionMetodosGranMYDosFases
+ * (tabla double[][]), con la misma estructura que KernelsBenchmark de GranM para comparar ambos.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KernelsAutomatizacionBenchmark {
+
+    @State(Scope.Thread)
+    public static class Datos {
+        @Param({"100", "500"})
+        public int filas;
+
+        @Param({"100", "500"})
+        public int columnas;
+
+        @Param({"0.1", "1.0"})
+        public double densidad;
+
+        GranM motor;
+        double[][] original;
+        int filaPivote;
+        int columnaPivote;
+
+        @Setup
+        public void preparar() {
+            motor = construirMotor(filas, columnas, densidad);
+            original = new double[motor.M.length][];
+            for (int i = 0; i < original.length; i++)
+                original[i] = motor.M[i].clone();
+            columnaPivote = motor.obtenerColumnaPivoteMaximizar();
+            filaPivote = motor.obtenerFilaPivote(columnaPivote);
+        }
+    }
+
+    /**
+     * Motor propio para el pivoteo, con la tabla inicial restaurada antes de cada invocación.
+     */
+    @State(Scope.Thread)
+    public static class Pivoteo {
+        GranM motor;
+
+        @Setup
+        public void preparar(Datos datos) {
+            motor = construirMotor(datos.filas, datos.columnas, datos.densidad);
+        }
+
+        @Setup(Level.Invocation)
+        public void restaurar(Datos datos) {
+            for (int i = 0; i < datos.original.length; i++)
+                System.arraycopy(datos.original[i], 0, motor.M[i], 0, datos.original[i].length);
+        }
+    }
+
+    private static GranM construirMotor(int filas, int columnas, double densidad) {
+        ProblemaLineal problema = GeneradorProblemas.factible(new Random(42), filas, columnas, densidad, 0);
+        return new GranM(problema.funcionObjetivo, problema.restricciones,
+                problema.terminosIndependientes, problema.tipoRestricciones.clone(), true);
+    }
+
+    @Benchmark
+    public double[][] pivoteo(Datos datos, Pivoteo pivoteo) {
+        pivoteo.motor.realizarPivoteo(datos.columnaPivote, datos.filaPivote);
+        return pivoteo.motor.M;
+    }
+
+    @Benchmark
+    public int pruebaCociente(Datos datos) {
+        return datos.motor.obtenerFilaPivote(datos.columnaPivote);
+    }
+
+    @Benchmark
+    public int pricing(Datos datos) {
+        return datos.motor.obtenerColumnaPivoteMaximizar();
+    }
+
+    @Benchmark
+    public EstructuraParaGuardarPasos copiaHistorial(Datos datos) {
+        return new EstructuraParaGuardarPasos(datos.motor.M, "", "", "");
+    }
+}
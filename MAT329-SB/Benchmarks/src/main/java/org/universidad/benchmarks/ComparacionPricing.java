@@ -0,0 +1,100 @@
+package org.universidad.benchmarks;
+
+import org.universidad.granm.claseabstracta.MDosFasesRefactorizada;
+import org.universidad.granm.claseabstracta.MSimplexRevisado;
+import org.universidad.granm.claseabstracta.MatrizDispersa;
+import org.universidad.granm.claseabstracta.NivelHistorial;
+import org.universidad.granm.claseabstracta.OpcionesResolucion;
+import org.universidad.granm.claseabstracta.ReglaPricing;
+import org.universidad.granm.claseabstracta.ReglaPricingAleatoria;
+import org.universidad.granm.claseabstracta.ReglaPricingBland;
+import org.universidad.granm.claseabstracta.ReglaPricingDantzig;
+import org.universidad.granm.claseabstracta.ReglaPricingDevex;
+import org.universidad.granm.claseabstracta.ReglaPricingMayorIncremento;
+import org.universidad.granm.claseabstracta.ReglaPricingParcial;
+import org.universidad.granm.claseabstracta.ReglaPricingPonderada;
+import org.universidad.granm.claseabstracta.ReglaPricingSteepestEdge;
+import org.universidad.granm.claseabstracta.SimplexBase;
+import org.universidad.granm.claseabstracta.TipoRestriccion;
+
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Compara las reglas de pricing por familia de problemas: iteraciones promedio del Simplex primal
+ * y tiempo total, con el Simplex revisado y con Dos Fases sobre el tableau (steepest edge y Devex
+ * solo con este último).
+ *
+ *     java -cp target/benchmarks.jar org.universidad.benchmarks.ComparacionPricing [problemas por familia]
+ */
+public final class ComparacionPricing {
+
+    private static final List<Supplier<ReglaPricing>> REGLAS = List.of(
+            ReglaPricingDantzig::new,
+            ReglaPricingBland::new,
+            ReglaPricingMayorIncremento::new,
+            ReglaPricingAleatoria::new,
+            ReglaPricingSteepestEdge::new,
+            ReglaPricingDevex::new,
+            () -> ReglaPricingParcial.parcial(64),
+            () -> new ReglaPricingParcial(64, 8));
+
+    private ComparacionPricing() {
+    }
+
+    public static void main(String[] args) {
+        int cantidad = args.length > 0 ? Integer.parseInt(args[0]) : 50;
+
+        comparar("Factible 60x60", cantidad, r -> GeneradorProblemas.factible(r, 60, 60, 0.3, 0.2));
+        comparar("Ancho 30x3000", Math.max(1, cantidad / 10), r -> GeneradorProblemas.factible(r, 30, 3000, 0.1, 0.2));
+        comparar("Degenerado 60x60", cantidad, r -> GeneradorProblemas.degenerado(r, 60, 60, 0.3, 0.3));
+        comparar("Klee-Minty 10", 1, r -> GeneradorProblemas.kleeMinty(10));
+        comparar("Transporte 10x15", cantidad, r -> GeneradorProblemas.transporte(r, 10, 15));
+        comparar("Asignación 8", cantidad, r -> GeneradorProblemas.asignacion(r, 8));
+        comparar("Bloques angulares 4x(15x15)", cantidad,
+                r -> GeneradorProblemas.bloquesAngulares(r, 4, 15, 15, 3, 0.4));
+    }
+
+    private static void comparar(String familia, int cantidad, Function<Random, ProblemaLineal> generador) {
+        System.out.println(familia);
+        for (String motor : List.of("SimplexRevisado", "DosFasesRefactorizada")) {
+            for (Supplier<ReglaPricing> regla : REGLAS) {
+                // Las reglas con pesos necesitan el tableau explícito
+                if (motor.equals("SimplexRevisado") && regla.get() instanceof ReglaPricingPonderada)
+                    continue;
+                long iteraciones = 0;
+                int resueltos = 0;
+                long inicio = System.nanoTime();
+                for (ProblemaLineal problema : (Iterable<ProblemaLineal>) GeneradorProblemas
+                        .corpus(7, cantidad, generador)::iterator) {
+                    SimplexBase simplex = crearMotor(motor, problema, regla);
+                    simplex.resolver();
+                    iteraciones += simplex.getIteraciones();
+                    if (simplex.isSolucionEncontrada())
+                        resueltos++;
+                }
+                double milisegundos = (System.nanoTime() - inicio) / 1e6;
+                System.out.printf("  %-22s %-20s iteraciones promedio %10.1f  resueltos %4d/%d  %10.1f ms%n",
+                        motor, regla.get().nombre(), (double) iteraciones / cantidad, resueltos, cantidad, milisegundos);
+            }
+        }
+    }
+
+    private static SimplexBase crearMotor(String motor, ProblemaLineal problema, Supplier<ReglaPricing> regla) {
+        MatrizDispersa restricciones = MatrizDispersa.desdeDensa(problema.restricciones);
+        double[] b = problema.terminosIndependientes.clone();
+        TipoRestriccion[] tipos = problema.tipoRestricciones.clone();
+        OpcionesResolucion opciones = OpcionesResolucion.PREDETERMINADAS
+                .conNivelHistorial(NivelHistorial.NINGUNO)
+                .conReglaPricing(regla);
+        return switch (motor) {
+            case "SimplexRevisado" -> new MSimplexRevisado(problema.funcionObjetivo, restricciones, b, tipos,
+                    problema.maximizar, opciones);
+            case "DosFasesRefactorizada" -> new MDosFasesRefactorizada(problema.funcionObjetivo, restricciones, b, tipos,
+                    problema.maximizar, opciones);
+            default -> throw new IllegalArgumentException("Motor desconocido: " + motor);
+        };
+    }
+}
@@ -0,0 +1,376 @@
+package org.universidad.benchmarks;
+
+import org.universidad.granm.claseabstracta.TipoRestriccion;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * Generador reproducible de problemas de programación lineal para benchmarks y pruebas de carga.
+ * Cada familia es un método estático que recibe el Random del que saca sus datos, de modo que se puede
+ * pasar como Function&lt;Random, ProblemaLineal&gt; a corpus(), que genera los problemas de a uno y bajo
+ * demanda: un corpus de millones de problemas nunca está entero en memoria, y el problema i-ésimo
+ * depende solo de la semilla y de i.
+ */
+public final class GeneradorProblemas {
+
+    public enum Familia {
+        FACTIBLE,
+        INFACTIBLE,
+        NO_ACOTADO,
+        DEGENERADO,
+        KLEE_MINTY,
+        TRANSPORTE,
+        ASIGNACION,
+        BLOQUES_ANGULARES
+    }
+
+    private GeneradorProblemas() {
+    }
+
+    /**
+     * Secuencia perezosa de problemas de una familia. El problema i-ésimo usa su propio Random,
+     * derivado de la semilla y de i, así que la secuencia es la misma aunque se recorra en paralelo.
+     *
+     * @param semilla Semilla del corpus
+     * @param cantidad Cantidad de problemas
+     * @param familia Familia de problemas, p. ej. r -> GeneradorProblemas.transporte(r, 10, 20)
+     */
+    public static Stream<ProblemaLineal> corpus(long semilla, long cantidad, Function<Random, ProblemaLineal> familia) {
+        if (cantidad < 0)
+            throw new IllegalArgumentException("La cantidad de problemas no puede ser negativa");
+        return LongStream.range(0, cantidad).mapToObj(indice -> generar(semilla, indice, familia));
+    }
+
+    /**
+     * Problema i-ésimo del corpus de la semilla dada, sin generar los anteriores.
+     */
+    public static ProblemaLineal generar(long semilla, long indice, Function<Random, ProblemaLineal> familia) {
+        return familia.apply(new Random(mezclar(semilla + indice * 0x9E3779B97F4A7C15L)));
+    }
+
+    /**
+     * Familia que elige al azar una de las demás, con dimensiones aleatorias acotadas por filasMax y columnasMax.
+     */
+    public static Function<Random, ProblemaLineal> mixto(int filasMax, int columnasMax) {
+        if (filasMax < 2 || columnasMax < 2)
+            throw new IllegalArgumentException("Dimensiones inválidas");
+
+        Familia[] familias = Familia.values();
+        return random -> {
+            int filas = 2 + random.nextInt(filasMax - 1);
+            int columnas = 2 + random.nextInt(columnasMax - 1);
+            double densidad = 0.1 + 0.9 * random.nextDouble();
+            return switch (familias[random.nextInt(familias.length)]) {
+                case FACTIBLE -> factible(random, filas, columnas, densidad, 0.3 * random.nextDouble());
+                case INFACTIBLE -> infactible(random, filas, columnas, densidad, 0.3 * random.nextDouble());
+                case NO_ACOTADO -> noAcotado(random, filas, columnas, densidad, 0.3 * random.nextDouble());
+                case DEGENERADO -> degenerado(random, filas, columnas, densidad, 0.5 * random.nextDouble());
+                case KLEE_MINTY -> kleeMinty(Math.min(columnas, 20));
+                case TRANSPORTE -> transporte(random, Math.max(2, filas / 2), Math.max(2, columnas / 2));
+                case ASIGNACION -> asignacion(random, Math.max(2, (int) Math.sqrt(columnas)));
+                case BLOQUES_ANGULARES -> bloquesAngulares(random, 2 + random.nextInt(3),
+                        Math.max(1, filas / 3), Math.max(1, columnas / 3), 1 + random.nextInt(3), densidad);
+            };
+        };
+    }
+
+    /**
+     * Problema factible y acotado construido alrededor del punto x0 = (1, ..., 1): las restricciones ≤
+     * tienen holgura positiva en x0 y las ≥ se cumplen en x0, así que el problema es factible; como toda
+     * columna tiene al menos un coeficiente positivo en una restricción ≤, también es acotado.
+     *
+     * @param filas Cantidad de restricciones
+     * @param columnas Cantidad de variables
+     * @param densidad Fracción de coeficientes no nulos en las restricciones
+     * @param fraccionMayorIgual Fracción de restricciones ≥ (0 para el Simplex estándar)
+     */
+    public static ProblemaLineal factible(Random random, int filas, int columnas, double densidad, double fraccionMayorIgual) {
+        return alrededorDeX0(random, Familia.FACTIBLE, filas, columnas, densidad, fraccionMayorIgual, false);
+    }
+
+    /**
+     * Problema factible al que se agrega una copia ≥ de una de sus restricciones ≤ con un término
+     * independiente mayor, de modo que ambas no se pueden cumplir a la vez.
+     */
+    public static ProblemaLineal infactible(Random random, int filas, int columnas, double densidad, double fraccionMayorIgual) {
+        ProblemaLineal base = alrededorDeX0(random, Familia.INFACTIBLE, filas, columnas, densidad, fraccionMayorIgual, false);
+        int filasMenorIgual = filas - (int) Math.round(filas * fraccionMayorIgual);
+        int fila = random.nextInt(filasMenorIgual);
+
+        double[][] restricciones = Arrays.copyOf(base.restricciones, filas + 1);
+        double[] terminosIndependientes = Arrays.copyOf(base.terminosIndependientes, filas + 1);
+        TipoRestriccion[] tipoRestricciones = Arrays.copyOf(base.tipoRestricciones, filas + 1);
+        restricciones[filas] = restricciones[fila].clone();
+        terminosIndependientes[filas] = terminosIndependientes[fila] + 1 + random.nextInt(10);
+        tipoRestricciones[filas] = TipoRestriccion.MAYOR_IGUAL;
+
+        return new ProblemaLineal(Familia.INFACTIBLE, base.funcionObjetivo, restricciones, terminosIndependientes,
+                tipoRestricciones, true, ProblemaLineal.Resultado.INFACTIBLE);
+    }
+
+    /**
+     * Problema factible con una variable de costo positivo cuyos coeficientes son negativos en las
+     * restricciones ≤ y no negativos en las ≥: aumentarla nunca viola una restricción, así que Z no
+     * está acotada.
+     */
+    public static ProblemaLineal noAcotado(Random random, int filas, int columnas, double densidad, double fraccionMayorIgual) {
+        return alrededorDeX0(random, Familia.NO_ACOTADO, filas, columnas, densidad, fraccionMayorIgual, true);
+    }
+
+    /**
+     * Problema solo con restricciones ≤ y muy degenerado: una fracción de las filas tiene término
+     * independiente 0 y cada fila impar es múltiplo de la anterior, lo que produce empates en la prueba
+     * del cociente. El origen es factible y toda columna aparece con coeficiente positivo en alguna
+     * fila, así que el problema tiene óptimo.
+     *
+     * @param fraccionCeros Fracción de restricciones con término independiente 0
+     */
+    public static ProblemaLineal degenerado(Random random, int filas, int columnas, double densidad, double fraccionCeros) {
+        validar(filas, columnas, densidad);
+
+        double[] funcionObjetivo = costosAleatorios(random, columnas);
+        double[][] restricciones = new double[filas][columnas];
+        double[] terminosIndependientes = new double[filas];
+        TipoRestriccion[] tipoRestricciones = new TipoRestriccion[filas];
+        Arrays.fill(tipoRestricciones, TipoRestriccion.MENOR_IGUAL);
+
+        for (int i = 0; i < filas; i++)
+            llenarFila(random, restricciones[i], 0, columnas, densidad);
+        // Las filas pares no se sobrescriben: ahí se asegura la cota de cada variable
+        for (int j = 0; j < columnas; j++)
+            restricciones[2 * random.nextInt((filas + 1) / 2)][j] += 1;
+
+        for (int i = 0; i < filas; i++)
+            terminosIndependientes[i] = sumaFila(restricciones[i]) + 1 + random.nextInt(10 * columnas);
+        for (int i = 1; i < filas; i += 2) {
+            double factor = 2 + random.nextInt(3);
+            for (int j = 0; j < columnas; j++)
+                restricciones[i][j] = factor * restricciones[i - 1][j];
+            terminosIndependientes[i] = factor * terminosIndependientes[i - 1];
+        }
+        int ceros = (int) Math.round(filas * fraccionCeros);
+        for (int i = filas - ceros; i < filas; i++)
+            terminosIndependientes[i] = 0;
+
+        return new ProblemaLineal(Familia.DEGENERADO, funcionObjetivo, restricciones, terminosIndependientes,
+                tipoRestricciones, true, ProblemaLineal.Resultado.OPTIMO);
+    }
+
+    /**
+     * Cubo de Klee-Minty de dimensión n: con la regla de Dantzig el Simplex visita los 2^n vértices.
+     * max Σ 2^(n-j) x_j  s.a.  Σ_{j<i} 2^(i-j+1) x_j + x_i ≤ 5^i,  i = 1..n
+     */
+    public static ProblemaLineal kleeMinty(int n) {
+        if (n < 1 || n > 60)
+            throw new IllegalArgumentException("La dimensión del cubo de Klee-Minty debe estar entre 1 y 60");
+
+        double[] funcionObjetivo = new double[n];
+        double[][] restricciones = new double[n][n];
+        double[] terminosIndependientes = new double[n];
+        TipoRestriccion[] tipoRestricciones = new TipoRestriccion[n];
+
+        for (int j = 0; j < n; j++)
+            funcionObjetivo[j] = Math.pow(2, n - 1 - j);
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < i; j++)
+                restricciones[i][j] = Math.pow(2, i - j + 1);
+            restricciones[i][i] = 1;
+            terminosIndependientes[i] = Math.pow(5, i + 1);
+            tipoRestricciones[i] = TipoRestriccion.MENOR_IGUAL;
+        }
+
+        return new ProblemaLineal(Familia.KLEE_MINTY, funcionObjetivo, restricciones, terminosIndependientes,
+                tipoRestricciones, true, ProblemaLineal.Resultado.OPTIMO);
+    }
+
+    /**
+     * Problema de transporte de costo mínimo: x_ij (variable i * destinos + j) es lo enviado del origen i
+     * al destino j. Las ofertas son restricciones ≤ y las demandas ≥; la demanda total no supera a la
+     * oferta total, así que siempre es factible.
+     */
+    public static ProblemaLineal transporte(Random random, int origenes, int destinos) {
+        if (origenes < 1 || destinos < 1)
+            throw new IllegalArgumentException("Dimensiones inválidas");
+
+        int variables = origenes * destinos;
+        double[] funcionObjetivo = new double[variables];
+        double[][] restricciones = new double[origenes + destinos][variables];
+        double[] terminosIndependientes = new double[origenes + destinos];
+        TipoRestriccion[] tipoRestricciones = new TipoRestriccion[origenes + destinos];
+
+        for (int k = 0; k < variables; k++)
+            funcionObjetivo[k] = 1 + random.nextInt(20);
+
+        double ofertaTotal = 0;
+        for (int i = 0; i < origenes; i++) {
+            for (int j = 0; j < destinos; j++)
+                restricciones[i][i * destinos + j] = 1;
+            terminosIndependientes[i] = 10 + random.nextInt(91);
+            tipoRestricciones[i] = TipoRestriccion.MENOR_IGUAL;
+            ofertaTotal += terminosIndependientes[i];
+        }
+
+        double[] pesos = new double[destinos];
+        double pesoTotal = 0;
+        for (int j = 0; j < destinos; j++) {
+            pesos[j] = 1 + random.nextInt(10);
+            pesoTotal += pesos[j];
+        }
+        for (int j = 0; j < destinos; j++) {
+            int fila = origenes + j;
+            for (int i = 0; i < origenes; i++)
+                restricciones[fila][i * destinos + j] = 1;
+            terminosIndependientes[fila] = Math.floor(ofertaTotal * pesos[j] / pesoTotal);
+            tipoRestricciones[fila] = TipoRestriccion.MAYOR_IGUAL;
+        }
+
+        return new ProblemaLineal(Familia.TRANSPORTE, funcionObjetivo, restricciones, terminosIndependientes,
+                tipoRestricciones, false, ProblemaLineal.Resultado.OPTIMO);
+    }
+
+    /**
+     * Problema de asignación de costo mínimo de n tareas a n agentes, con restricciones de igualdad:
+     * cada agente (fila i) y cada tarea (columna j) se asignan exactamente una vez.
+     */
+    public static ProblemaLineal asignacion(Random random, int n) {
+        if (n < 1)
+            throw new IllegalArgumentException("Dimensiones inválidas");
+
+        double[] funcionObjetivo = new double[n * n];
+        double[][] restricciones = new double[2 * n][n * n];
+        double[] terminosIndependientes = new double[2 * n];
+        TipoRestriccion[] tipoRestricciones = new TipoRestriccion[2 * n];
+        Arrays.fill(terminosIndependientes, 1);
+        Arrays.fill(tipoRestricciones, TipoRestriccion.IGUAL);
+
+        for (int k = 0; k < n * n; k++)
+            funcionObjetivo[k] = 1 + random.nextInt(100);
+        for (int i = 0; i < n; i++)
+            for (int j = 0; j < n; j++) {
+                restricciones[i][i * n + j] = 1;
+                restricciones[n + j][i * n + j] = 1;
+            }
+
+        return new ProblemaLineal(Familia.ASIGNACION, funcionObjetivo, restricciones, terminosIndependientes,
+                tipoRestricciones, false, ProblemaLineal.Resultado.OPTIMO);
+    }
+
+    /**
+     * Problema angular por bloques: filasEnlace restricciones que abarcan todas las variables, seguidas de
+     * bloques independientes de filasBloque x columnasBloque en la diagonal. Todas son ≤ y se construyen
+     * alrededor de x0 = (1, ..., 1), como en factible().
+     */
+    public static ProblemaLineal bloquesAngulares(Random random, int bloques, int filasBloque, int columnasBloque,
+                                                  int filasEnlace, double densidad) {
+        if (bloques < 1 || filasEnlace < 0)
+            throw new IllegalArgumentException("Dimensiones inválidas");
+        validar(filasBloque, columnasBloque, densidad);
+
+        int columnas = bloques * columnasBloque;
+        int filas = filasEnlace + bloques * filasBloque;
+        double[] funcionObjetivo = costosAleatorios(random, columnas);
+        double[][] restricciones = new double[filas][columnas];
+        double[] terminosIndependientes = new double[filas];
+        TipoRestriccion[] tipoRestricciones = new TipoRestriccion[filas];
+        Arrays.fill(tipoRestricciones, TipoRestriccion.MENOR_IGUAL);
+
+        for (int i = 0; i < filasEnlace; i++)
+            llenarFila(random, restricciones[i], 0, columnas, densidad);
+        for (int k = 0; k < bloques; k++) {
+            int primeraFila = filasEnlace + k * filasBloque;
+            int primeraColumna = k * columnasBloque;
+            for (int i = primeraFila; i < primeraFila + filasBloque; i++)
+                llenarFila(random, restricciones[i], primeraColumna, primeraColumna + columnasBloque, densidad);
+            for (int j = primeraColumna; j < primeraColumna + columnasBloque; j++)
+                restricciones[primeraFila + random.nextInt(filasBloque)][j] += 1;
+        }
+
+        for (int i = 0; i < filas; i++)
+            terminosIndependientes[i] = sumaFila(restricciones[i]) + 1 + random.nextInt(10 * columnasBloque);
+
+        return new ProblemaLineal(Familia.BLOQUES_ANGULARES, funcionObjetivo, restricciones, terminosIndependientes,
+                tipoRestricciones, true, ProblemaLineal.Resultado.OPTIMO);
+    }
+
+    private static ProblemaLineal alrededorDeX0(Random random, Familia familia, int filas, int columnas, double densidad,
+                                                double fraccionMayorIgual, boolean noAcotado) {
+        validar(filas, columnas, densidad);
+        if (fraccionMayorIgual < 0 || fraccionMayorIgual >= 1)
+            throw new IllegalArgumentException("La fracción de restricciones ≥ debe estar en [0, 1)");
+        int mayorIgual = (int) Math.round(filas * fraccionMayorIgual);
+        int filasMenorIgual = filas - mayorIgual;
+        if (filasMenorIgual == 0)
+            throw new IllegalArgumentException("Se necesita al menos una restricción ≤");
+
+        double[] funcionObjetivo = costosAleatorios(random, columnas);
+        double[][] restricciones = new double[filas][columnas];
+        double[] terminosIndependientes = new double[filas];
+        TipoRestriccion[] tipoRestricciones = new TipoRestriccion[filas];
+
+        for (int i = 0; i < filas; i++) {
+            tipoRestricciones[i] = i < filasMenorIgual ? TipoRestriccion.MENOR_IGUAL : TipoRestriccion.MAYOR_IGUAL;
+            llenarFila(random, restricciones[i], 0, columnas, densidad);
+        }
+
+        // Cada variable aparece en alguna restricción ≤ para que el problema sea acotado
+        for (int j = 0; j < columnas; j++)
+            restricciones[random.nextInt(filasMenorIgual)][j] += 1;
+
+        if (noAcotado) {
+            int libre = random.nextInt(columnas);
+            for (int i = 0; i < filasMenorIgual; i++)
+                if (restricciones[i][libre] != 0)
+                    restricciones[i][libre] = -restricciones[i][libre];
+        }
+
+        for (int i = 0; i < filas; i++) {
+            double enX0 = sumaFila(restricciones[i]);
+            terminosIndependientes[i] = i < filasMenorIgual
+                    ? Math.max(enX0, 0) + 1 + random.nextInt(10 * columnas)
+                    : Math.floor(enX0 * random.nextDouble());
+        }
+
+        return new ProblemaLineal(familia, funcionObjetivo, restricciones, terminosIndependientes, tipoRestricciones,
+                true, noAcotado ? ProblemaLineal.Resultado.NO_ACOTADO : ProblemaLineal.Resultado.OPTIMO);
+    }
+
+    private static void validar(int filas, int columnas, double densidad) {
+        if (filas < 1 || columnas < 1)
+            throw new IllegalArgumentException("Dimensiones inválidas");
+        if (densidad <= 0 || densidad > 1)
+            throw new IllegalArgumentException("La densidad debe estar en (0, 1]");
+    }
+
+    private static double[] costosAleatorios(Random random, int columnas) {
+        double[] costos = new double[columnas];
+        for (int j = 0; j < columnas; j++)
+            costos[j] = 1 + random.nextInt(20);
+        return costos;
+    }
+
+    private static void llenarFila(Random random, double[] fila, int desde, int hasta, double densidad) {
+        for (int j = desde; j < hasta; j++)
+            if (random.nextDouble() < densidad)
+                fila[j] = 1 + random.nextInt(9);
+    }
+
+    private static double sumaFila(double[] fila) {
+        double suma = 0;
+        for (double valor : fila)
+            suma += valor;
+        return suma;
+    }
+
+    /**
+     * Mezclador de 64 bits (SplitMix64) para que semillas consecutivas den secuencias no correlacionadas.
+     */
+    private static long mezclar(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
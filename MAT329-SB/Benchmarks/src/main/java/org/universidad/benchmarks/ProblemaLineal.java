@@ -0,0 +1,70 @@
+package org.universidad.benchmarks;
+
+import org.universidad.granm.claseabstracta.TipoRestriccion;
+
+/**
+ * Problema de programación lineal en el formato que reciben los constructores de SimplexBase:
+ * funcionObjetivo, restricciones, terminosIndependientes y tipoRestricciones.
+ * Lo producen las familias de GeneradorProblemas, junto con el resultado que se espera al resolverlo.
+ */
+public final class ProblemaLineal {
+
+    /**
+     * Resultado conocido del problema por construcción, para validar a los motores en pruebas de carga.
+     */
+    public enum Resultado {
+        OPTIMO,
+        INFACTIBLE,
+        NO_ACOTADO
+    }
+
+    public final GeneradorProblemas.Familia familia;
+    public final double[] funcionObjetivo;
+    public final double[][] restricciones;
+    public final double[] terminosIndependientes;
+    public final TipoRestriccion[] tipoRestricciones;
+    public final boolean maximizar;
+    public final Resultado resultadoEsperado;
+
+    public ProblemaLineal(GeneradorProblemas.Familia familia, double[] funcionObjetivo, double[][] restricciones,
+                          double[] terminosIndependientes, TipoRestriccion[] tipoRestricciones, boolean maximizar,
+                          Resultado resultadoEsperado) {
+        if (restricciones.length != terminosIndependientes.length || restricciones.length != tipoRestricciones.length)
+            throw new IllegalArgumentException("Las restricciones, los términos independientes y los tipos no coinciden");
+        for (double[] fila : restricciones)
+            if (fila.length != funcionObjetivo.length)
+                throw new IllegalArgumentException("Las restricciones no tienen el mismo número de variables que la función objetivo");
+
+        this.familia = familia;
+        this.funcionObjetivo = funcionObjetivo;
+        this.restricciones = restricciones;
+        this.terminosIndependientes = terminosIndependientes;
+        this.tipoRestricciones = tipoRestricciones;
+        this.maximizar = maximizar;
+        this.resultadoEsperado = resultadoEsperado;
+    }
+
+    public int getNumeroRestricciones() {
+        return restricciones.length;
+    }
+
+    public int getNumeroVariables() {
+        return funcionObjetivo.length;
+    }
+
+    /**
+     * Copia profunda de las restricciones; algunos motores modifican los datos que reciben.
+     */
+    public double[][] copiaRestricciones() {
+        double[][] copia = new double[restricciones.length][];
+        for (int i = 0; i < restricciones.length; i++)
+            copia[i] = restricciones[i].clone();
+        return copia;
+    }
+
+    @Override
+    public String toString() {
+        return familia + " (" + restricciones.length + "x" + funcionObjetivo.length + ", "
+                + (maximizar ? "max" : "min") + ", esperado " + resultadoEsperado + ")";
+    }
+}
@@ -0,0 +1,105 @@
+package org.universidad.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.universidad.automatizacionmetodosgranmydosfases.metodos.DosFases;
+import org.universidad.automatizacionmetodosgranmydosfases.metodos.GranM;
+import org.universidad.granm.claseabstracta.MDosFasesRefactorizada;
+import org.universidad.granm.claseabstracta.MGranMRefactorizada;
+import org.universidad.granm.claseabstracta.MSimplexEstandar;
+import org.universidad.granm.claseabstracta.MSimplexRevisado;
+import org.universidad.granm.claseabstracta.MatrizDispersa;
+import org.universidad.granm.claseabstracta.NivelHistorial;
+import org.universidad.granm.claseabstracta.SimplexBase;
+import org.universidad.granm.claseabstracta.TipoRestriccion;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resolución completa (construcción del tableau + resolver()) de problemas aleatorios,
+ * por motor, tamaño y densidad de la matriz de restricciones.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class ResolucionBenchmark {
+
+    /**
+     * Motores de GranM (claseabstracta) y de AutomatizacionMetodosGranMYDosFases (Automatizacion*).
+     */
+    @Param({"SimplexEstandar", "GranMRefactorizada", "DosFasesRefactorizada", "SimplexRevisado",
+            "AutomatizacionGranM", "AutomatizacionDosFases"})
+    public String motor;
+
+    @Param({"20", "100"})
+    public int filas;
+
+    @Param({"20", "100"})
+    public int columnas;
+
+    @Param({"0.1", "0.5"})
+    public double densidad;
+
+    /**
+     * Solo lo usan los motores de GranM; los de AutomatizacionMetodosGranMYDosFases guardan siempre la tabla.
+     */
+    @Param({"NINGUNO", "COMPLETO"})
+    public NivelHistorial historial;
+
+    private ProblemaLineal problema;
+    private MatrizDispersa restriccionesDispersas;
+
+    @Setup
+    public void preparar() {
+        double fraccionMayorIgual = motor.equals("SimplexEstandar") ? 0 : 0.2;
+        problema = GeneradorProblemas.factible(new Random(42), filas, columnas, densidad, fraccionMayorIgual);
+        restriccionesDispersas = MatrizDispersa.desdeDensa(problema.restricciones);
+    }
+
+    @Benchmark
+    public Map<String, Double> resolver() {
+        double[] b = problema.terminosIndependientes.clone();
+        TipoRestriccion[] tipos = problema.tipoRestricciones.clone();
+        double[] c = problema.funcionObjetivo;
+
+        switch (motor) {
+            case "AutomatizacionGranM" -> {
+                GranM granM = new GranM(c, problema.restricciones, b, tipos, true);
+                granM.resolver();
+                return granM.solucion;
+            }
+            case "AutomatizacionDosFases" -> {
+                DosFases dosFases = new DosFases(c, problema.restricciones, b, tipos, true);
+                dosFases.resolver();
+                return dosFases.solucion;
+            }
+            default -> {
+                SimplexBase simplex = switch (motor) {
+                    case "SimplexEstandar" -> new MSimplexEstandar(c, restriccionesDispersas, b, tipos, true, historial);
+                    case "GranMRefactorizada" -> new MGranMRefactorizada(c, restriccionesDispersas, b, tipos, true, historial);
+                    // Dos Fases escala las filas con término independiente negativo: recibe su propia copia
+                    case "DosFasesRefactorizada" -> new MDosFasesRefactorizada(c,
+                            MatrizDispersa.desdeDensa(problema.restricciones), b, tipos, true, historial);
+                    case "SimplexRevisado" -> new MSimplexRevisado(c, restriccionesDispersas, b, tipos, true, historial);
+                    default -> throw new IllegalArgumentException("Motor desconocido: " + motor);
+                };
+                simplex.resolver();
+                return simplex.solucion;
+            }
+        }
+    }
+}
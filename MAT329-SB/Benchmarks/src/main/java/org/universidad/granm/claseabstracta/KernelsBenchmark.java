@@ -0,0 +1,150 @@
+package org.universidad.granm.claseabstracta;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.universidad.benchmarks.GeneradorProblemas;
+import org.universidad.benchmarks.ProblemaLineal;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Microbenchmarks de los kernels de SimplexBase y Tableau (pivoteo, prueba del cociente, pricing
+ * y copia de la tabla para el historial) sobre la tabla inicial de un problema aleatorio.
+ * Está en el paquete de los motores para medir los métodos protegidos y de paquete sin exponerlos.
+ * Los métodos con sufijo {@code Escalar} repiten la medición en un fork con {@code -Dgranm.simd=false}
+ * para comparar la implementación vectorial de {@link KernelFila} con la escalar.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class KernelsBenchmark {
+
+    @State(Scope.Thread)
+    public static class Datos {
+        @Param({"100", "500"})
+        public int filas;
+
+        @Param({"100", "500"})
+        public int columnas;
+
+        @Param({"0.1", "1.0"})
+        public double densidad;
+
+        MSimplexEstandar motor;
+        Tableau original;
+        int filaPivote;
+        int columnaPivote;
+
+        @Setup
+        public void preparar() {
+            motor = crearMotor(OpcionesResolucion.PREDETERMINADAS);
+            original = motor.tableau.copia();
+            columnaPivote = motor.obtenerColumnaPivoteMaximizar();
+            filaPivote = motor.obtenerFilaPivote(columnaPivote);
+        }
+
+        /**
+         * Motor nuevo sobre el mismo problema aleatorio, sin historial de pasos.
+         */
+        MSimplexEstandar crearMotor(OpcionesResolucion opciones) {
+            ProblemaLineal problema = GeneradorProblemas.factible(new Random(42), filas, columnas, densidad, 0);
+            return new MSimplexEstandar(problema.funcionObjetivo, MatrizDispersa.desdeDensa(problema.restricciones),
+                    problema.terminosIndependientes, problema.tipoRestricciones, true,
+                    opciones.conNivelHistorial(NivelHistorial.NINGUNO));
+        }
+    }
+
+    /**
+     * Motor propio para el pivoteo, con la tabla inicial restaurada antes de cada invocación.
+     */
+    @State(Scope.Thread)
+    public static class Pivoteo {
+        @Param({"false", "true"})
+        public boolean paralelo;
+
+        MSimplexEstandar motor;
+
+        @Setup
+        public void preparar(Datos datos) {
+            motor = datos.crearMotor(OpcionesResolucion.PREDETERMINADAS);
+            motor.setPoolEliminacion(paralelo ? ForkJoinPool.commonPool() : null);
+            motor.setUmbralCeldasParalelo(0);
+        }
+
+        @Setup(Level.Invocation)
+        public void restaurar(Datos datos) {
+            double[] origen = datos.original.datos();
+            System.arraycopy(origen, 0, motor.tableau.datos(), 0, origen.length);
+        }
+    }
+
+    @Benchmark
+    public Tableau pivoteo(Datos datos, Pivoteo pivoteo) {
+        pivoteo.motor.realizarPivoteo(datos.filaPivote, datos.columnaPivote);
+        return pivoteo.motor.tableau;
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector", "-Dgranm.simd=false"})
+    public Tableau pivoteoEscalar(Datos datos, Pivoteo pivoteo) {
+        return pivoteo(datos, pivoteo);
+    }
+
+    @Benchmark
+    public int pruebaCociente(Datos datos) {
+        return datos.motor.obtenerFilaPivote(datos.columnaPivote);
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector", "-Dgranm.simd=false"})
+    public int pruebaCocienteEscalar(Datos datos) {
+        return pruebaCociente(datos);
+    }
+
+    /**
+     * Motor propio con la regla de pricing a medir; las parciales recorren ventanas de 64 columnas.
+     */
+    @State(Scope.Thread)
+    public static class Pricing {
+        @Param({"Dantzig", "Parcial", "Multiple"})
+        public String regla;
+
+        MSimplexEstandar motor;
+
+        @Setup
+        public void preparar(Datos datos) {
+            motor = datos.crearMotor(OpcionesResolucion.PREDETERMINADAS.conReglaPricing(switch (regla) {
+                case "Dantzig" -> ReglaPricingDantzig::new;
+                case "Parcial" -> () -> ReglaPricingParcial.parcial(64);
+                case "Multiple" -> () -> new ReglaPricingParcial(64, 8);
+                default -> throw new IllegalArgumentException("Regla desconocida: " + regla);
+            }));
+        }
+    }
+
+    @Benchmark
+    public int pricing(Pricing pricing) {
+        // Sin cambiar la versión, el motor devolvería la columna elegida en la invocación anterior
+        pricing.motor.tableau.marcarModificado();
+        return pricing.motor.obtenerColumnaPivoteMaximizar();
+    }
+
+    @Benchmark
+    public double[][] copiaHistorial(Datos datos) {
+        return datos.original.aMatriz();
+    }
+}
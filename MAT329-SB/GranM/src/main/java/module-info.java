@@ -1,7 +1,7 @@
 /**
  * Módulo principal de la aplicación GranM.
  * Este módulo define las dependencias necesarias para la aplicación y configura
- * la visibilidad de los paquetes para JavaFX.
+ * la visibilidad de los paquetes para JavaFX. Los motores Simplex viven en simplex-core.
  */
 module org.universidad.granm {
     // Dependencias de JavaFX necesarias para la interfaz gráfica
@@ -11,10 +11,9 @@ module org.universidad.granm {
     // Dependencias adicionales
     requires org.controlsfx.controls;  // Biblioteca de controles adicionales para JavaFX
     requires java.xml;                 // Soporte para procesamiento XML
+    requires org.universidad.simplex;  // Motores Simplex sin interfaz (simplex-core)
 
     // Configuración de visibilidad de paquetes
     opens org.universidad.granm to javafx.fxml;         // Permite que JavaFX acceda al paquete principal
-    exports org.universidad.granm.metodos;              // Expone el paquete de métodos para uso externo
-    opens org.universidad.granm.metodos to javafx.fxml; // Permite que JavaFX acceda al paquete de métodos
     exports org.universidad.granm;                      // Expone el paquete principal para uso externo
 }
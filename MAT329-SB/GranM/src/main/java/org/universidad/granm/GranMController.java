@@ -10,7 +10,9 @@ import javafx.scene.layout.VBox;
 import org.universidad.granm.claseabstracta.MDosFasesRefactorizada;
 import org.universidad.granm.claseabstracta.MGranMRefactorizada;
 import org.universidad.granm.claseabstracta.MSimplexEstandar;
+import org.universidad.granm.claseabstracta.MSimplexRevisado;
 import org.universidad.granm.claseabstracta.SimplexBase;
+import org.universidad.granm.claseabstracta.TipoRestriccion;
 import org.universidad.granm.metodos.DosFaces;
 import org.universidad.granm.metodos.MGranM;
 import org.universidad.granm.metodos.MSimplex;
@@ -25,8 +27,6 @@ import java.util.List;
  */
 public class GranMController {
 
-    public static boolean DOSFACES = false;
-
     /**
      * Array que almacena los coeficientes de la función objetivo.
      */
@@ -43,7 +43,7 @@ public class GranMController {
     private double[] terminosIndependientes;
 
 
-    private String[] tipoRestriccion;
+    private TipoRestriccion[] tipoRestriccion;
 
     private ComboBox<String> comboOperador;
     private List<ComboBox<String>> operadoresRestricciones = new ArrayList<>();
@@ -212,7 +212,7 @@ public class GranMController {
         //              objeto, fila, columna, cantColumnas a ocupar, cantFilas a ocupar
 
         comboMetodo = new ComboBox<>();
-        comboMetodo.getItems().addAll("Simplex", "GranM", "Dos Faces");
+        comboMetodo.getItems().addAll("Simplex", "GranM", "Dos Faces", "Simplex Revisado");
         comboMetodo.setValue("Simplex");
 
         comboTipoOperacion = new ComboBox<>();
@@ -321,7 +321,7 @@ public class GranMController {
             // Capturar coeficientes de las restricciones y términos independientes
             restricciones = new double[numRestricciones][numVariables];
             terminosIndependientes = new double[numRestricciones];
-            tipoRestriccion = new String[numRestricciones];
+            tipoRestriccion = new TipoRestriccion[numRestricciones];
             boolean todasRestriccionesSonMenorIgual = true;
 
             for (int r = 0; r < numRestricciones; r++) {
@@ -329,8 +329,8 @@ public class GranMController {
                     restricciones[r][v] = Double.parseDouble(camposRestricciones.get(r).get(v).getText());
                 }
                 terminosIndependientes[r] = Double.parseDouble(camposTerminosIndependientes.get(r).getText());
-                tipoRestriccion[r] = operadoresRestricciones.get(r).getValue();
-                if (!tipoRestriccion[r].equals("\u2264"))
+                tipoRestriccion[r] = TipoRestriccion.desde(operadoresRestricciones.get(r).getValue());
+                if (tipoRestriccion[r] != TipoRestriccion.MENOR_IGUAL)
                     todasRestriccionesSonMenorIgual = false;
             }
 
@@ -359,6 +359,8 @@ public class GranMController {
                 simplex = new MGranMRefactorizada(funcionObjetivo, restricciones, terminosIndependientes, tipoRestriccion, maximizar);
             } else if (metodo.equals("Dos Faces")) {
                 simplex = new MDosFasesRefactorizada(funcionObjetivo, restricciones, terminosIndependientes, tipoRestriccion, maximizar);
+            } else if (metodo.equals("Simplex Revisado")) {
+                simplex = new MSimplexRevisado(funcionObjetivo, restricciones, terminosIndependientes, tipoRestriccion, maximizar);
             }
 
 
@@ -13,7 +13,6 @@ import javafx.stage.Stage;
 import org.universidad.granm.claseabstracta.SimplexBase;
 import org.universidad.granm.metodos.MSimplex;
 
-import static org.universidad.granm.metodos.MSimplex.*;
 
 /**
  * Clase que representa la ventana donde se muestra el proceso paso a paso del método Simplex
@@ -204,7 +203,7 @@ public class MatrizWindow {
 
             // Mostrar cada valor de la tabla con formato de dos decimales
             for (int j = 0; j < tabla[i].length; j++) {
-                TextField lblValor = new TextField(String.format("%.2f", redondear(tabla[i][j], decimales, epsilon)));
+                TextField lblValor = new TextField(String.format("%.2f", simplex.getOpciones().redondear(tabla[i][j])));
                 lblValor.setEditable(false);
                 lblValor.setStyle("-fx-border-color: #ddd; -fx-border-width: 1; -fx-padding: 5;");
                 gridPane.add(lblValor, j + 1, i + 3);
@@ -0,0 +1,82 @@
+package org.universidad.servidor;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Limita cuántas resoluciones corren a la vez y cuántas esperan turno. Las que esperan forman una
+ * cola FIFO (semáforo justo) con un tiempo máximo de espera; si la cola está llena o se agota la
+ * espera, la petición se rechaza enseguida para que el cliente reintente, en lugar de acumular
+ * hilos y tableaus en memoria.
+ *
+ * Antes de leer el cuerpo, cada petición reserva además un lugar entre las
+ * resolucionesSimultaneas + maximoEnCola que el servidor atiende a la vez. Así los cuerpos que se
+ * están recibiendo tampoco se acumulan: leer es barato en CPU pero no en memoria.
+ */
+final class ControlAdmision {
+
+    private final Semaphore peticiones;
+    private final Semaphore cupos;
+    private final int resolucionesSimultaneas;
+    private final int maximoEnCola;
+    private final long esperaMaximaNanos;
+    private final AtomicInteger enCola = new AtomicInteger();
+
+    ControlAdmision(int resolucionesSimultaneas, int maximoEnCola, long esperaMaximaMillis) {
+        if (resolucionesSimultaneas < 1)
+            throw new IllegalArgumentException("Debe admitirse al menos una resolución simultánea");
+        if (maximoEnCola < 0)
+            throw new IllegalArgumentException("El máximo en cola no puede ser negativo");
+        if (esperaMaximaMillis < 0)
+            throw new IllegalArgumentException("La espera máxima no puede ser negativa");
+        this.peticiones = new Semaphore(resolucionesSimultaneas + maximoEnCola);
+        this.cupos = new Semaphore(resolucionesSimultaneas, true);
+        this.resolucionesSimultaneas = resolucionesSimultaneas;
+        this.maximoEnCola = maximoEnCola;
+        this.esperaMaximaNanos = TimeUnit.MILLISECONDS.toNanos(esperaMaximaMillis);
+    }
+
+    /**
+     * Reserva lugar para una petición antes de leer su cuerpo, sin esperar.
+     *
+     * @return true si se obtuvo (hay que llamar a {@link #liberarPeticion()} al terminar), false si se rechazó
+     */
+    boolean reservarPeticion() {
+        return peticiones.tryAcquire();
+    }
+
+    void liberarPeticion() {
+        peticiones.release();
+    }
+
+    /**
+     * Pide un cupo, esperando en la cola si hace falta.
+     *
+     * @return true si se obtuvo (hay que llamar a {@link #salir()} al terminar), false si se rechazó
+     */
+    boolean entrar() throws InterruptedException {
+        // tryAcquire con tiempo respeta el orden de la cola; sin tiempo se adelantaría a los que esperan
+        if (cupos.tryAcquire(0, TimeUnit.NANOSECONDS))
+            return true;
+        if (enCola.incrementAndGet() > maximoEnCola) {
+            enCola.decrementAndGet();
+            return false;
+        }
+        try {
+            return cupos.tryAcquire(esperaMaximaNanos, TimeUnit.NANOSECONDS);
+        } finally {
+            enCola.decrementAndGet();
+        }
+    }
+
+    void salir() {
+        cupos.release();
+    }
+
+    int getPeticionesEnCurso() { return resolucionesSimultaneas + maximoEnCola - peticiones.availablePermits(); }
+    int getEnCurso() { return resolucionesSimultaneas - cupos.availablePermits(); }
+    int getEnCola() { return enCola.get(); }
+    int getResolucionesSimultaneas() { return resolucionesSimultaneas; }
+    int getMaximoEnCola() { return maximoEnCola; }
+}
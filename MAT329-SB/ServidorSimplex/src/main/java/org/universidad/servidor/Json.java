@@ -0,0 +1,270 @@
+package org.universidad.servidor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Lectura y escritura del JSON que usa el servidor, sin dependencias externas.
+ * Al leer, los objetos quedan como {@code Map<String, Object>}, los arreglos como {@code List<Object>},
+ * los números como {@code Double} y {@code null}, true y false como {@code null} y {@code Boolean}.
+ */
+final class Json {
+
+    // Evita desbordar la pila con entradas anidadas a propósito
+    private static final int PROFUNDIDAD_MAXIMA = 64;
+
+    private final String texto;
+    private int posicion;
+    private int profundidad;
+
+    private Json(String texto) {
+        this.texto = texto;
+    }
+
+    /**
+     * @throws IllegalArgumentException si el texto no es JSON válido
+     */
+    static Object leer(String texto) {
+        Json lector = new Json(texto);
+        lector.saltarEspacios();
+        Object valor = lector.leerValor();
+        lector.saltarEspacios();
+        if (lector.posicion != texto.length())
+            throw lector.error("Sobra texto después del valor");
+        return valor;
+    }
+
+    private Object leerValor() {
+        if (posicion >= texto.length())
+            throw error("Fin inesperado del texto");
+        char c = texto.charAt(posicion);
+        if ((c == '{' || c == '[') && profundidad >= PROFUNDIDAD_MAXIMA)
+            throw error("Demasiados niveles de anidamiento");
+        return switch (c) {
+            case '{' -> leerObjeto();
+            case '[' -> leerArreglo();
+            case '"' -> leerCadena();
+            case 't' -> leerLiteral("true", Boolean.TRUE);
+            case 'f' -> leerLiteral("false", Boolean.FALSE);
+            case 'n' -> leerLiteral("null", null);
+            default -> {
+                if (c == '-' || (c >= '0' && c <= '9'))
+                    yield leerNumero();
+                throw error("Carácter inesperado '" + c + "'");
+            }
+        };
+    }
+
+    private Map<String, Object> leerObjeto() {
+        Map<String, Object> objeto = new LinkedHashMap<>();
+        posicion++;
+        profundidad++;
+        saltarEspacios();
+        if (consumir('}')) {
+            profundidad--;
+            return objeto;
+        }
+        do {
+            saltarEspacios();
+            if (posicion >= texto.length() || texto.charAt(posicion) != '"')
+                throw error("Se esperaba el nombre de un campo");
+            String clave = leerCadena();
+            saltarEspacios();
+            if (!consumir(':'))
+                throw error("Se esperaba ':'");
+            saltarEspacios();
+            objeto.put(clave, leerValor());
+            saltarEspacios();
+        } while (consumir(','));
+        if (!consumir('}'))
+            throw error("Se esperaba ',' o '}'");
+        profundidad--;
+        return objeto;
+    }
+
+    private List<Object> leerArreglo() {
+        List<Object> arreglo = new ArrayList<>();
+        posicion++;
+        profundidad++;
+        saltarEspacios();
+        if (consumir(']')) {
+            profundidad--;
+            return arreglo;
+        }
+        do {
+            saltarEspacios();
+            arreglo.add(leerValor());
+            saltarEspacios();
+        } while (consumir(','));
+        if (!consumir(']'))
+            throw error("Se esperaba ',' o ']'");
+        profundidad--;
+        return arreglo;
+    }
+
+    private String leerCadena() {
+        StringBuilder cadena = new StringBuilder();
+        posicion++;
+        while (posicion < texto.length()) {
+            char c = texto.charAt(posicion++);
+            if (c == '"')
+                return cadena.toString();
+            if (c != '\\') {
+                cadena.append(c);
+                continue;
+            }
+            if (posicion >= texto.length())
+                break;
+            char escape = texto.charAt(posicion++);
+            switch (escape) {
+                case '"', '\\', '/' -> cadena.append(escape);
+                case 'b' -> cadena.append('\b');
+                case 'f' -> cadena.append('\f');
+                case 'n' -> cadena.append('\n');
+                case 'r' -> cadena.append('\r');
+                case 't' -> cadena.append('\t');
+                case 'u' -> {
+                    if (posicion + 4 > texto.length())
+                        throw error("Escape \\u incompleto");
+                    try {
+                        cadena.append((char) Integer.parseInt(texto, posicion, posicion + 4, 16));
+                    } catch (NumberFormatException e) {
+                        throw error("Escape \\u inválido");
+                    }
+                    posicion += 4;
+                }
+                default -> throw error("Escape inválido '\\" + escape + "'");
+            }
+        }
+        throw error("Cadena sin cerrar");
+    }
+
+    private Double leerNumero() {
+        int inicio = posicion;
+        while (posicion < texto.length() && "+-0123456789.eE".indexOf(texto.charAt(posicion)) >= 0)
+            posicion++;
+        try {
+            return Double.parseDouble(texto.substring(inicio, posicion));
+        } catch (NumberFormatException e) {
+            throw error("Número inválido");
+        }
+    }
+
+    private Object leerLiteral(String literal, Object valor) {
+        if (!texto.startsWith(literal, posicion))
+            throw error("Se esperaba " + literal);
+        posicion += literal.length();
+        return valor;
+    }
+
+    private boolean consumir(char c) {
+        if (posicion < texto.length() && texto.charAt(posicion) == c) {
+            posicion++;
+            return true;
+        }
+        return false;
+    }
+
+    private void saltarEspacios() {
+        while (posicion < texto.length() && Character.isWhitespace(texto.charAt(posicion)))
+            posicion++;
+    }
+
+    private IllegalArgumentException error(String mensaje) {
+        return new IllegalArgumentException("JSON inválido en la posición " + posicion + ": " + mensaje);
+    }
+
+    // Escritura
+
+    static String escribir(Object valor) {
+        StringBuilder salida = new StringBuilder();
+        escribir(valor, salida);
+        return salida.toString();
+    }
+
+    /**
+     * Admite Map, Collection, double[], double[][], Number, Boolean, String, Enum y null.
+     * Los números no finitos se escriben como null, porque JSON no los representa.
+     */
+    static void escribir(Object valor, StringBuilder salida) {
+        switch (valor) {
+            case null -> salida.append("null");
+            case String cadena -> escribirCadena(cadena, salida);
+            case Boolean booleano -> salida.append(booleano);
+            case Double numero -> escribirNumero(numero, salida);
+            case Float numero -> escribirNumero(numero, salida);
+            case Number numero -> salida.append(numero);
+            case Enum<?> constante -> escribirCadena(constante.name(), salida);
+            case double[] arreglo -> {
+                salida.append('[');
+                for (int i = 0; i < arreglo.length; i++) {
+                    if (i > 0) salida.append(',');
+                    escribirNumero(arreglo[i], salida);
+                }
+                salida.append(']');
+            }
+            case double[][] matriz -> {
+                salida.append('[');
+                for (int i = 0; i < matriz.length; i++) {
+                    if (i > 0) salida.append(',');
+                    escribir(matriz[i], salida);
+                }
+                salida.append(']');
+            }
+            case Collection<?> coleccion -> {
+                salida.append('[');
+                boolean primero = true;
+                for (Object elemento : coleccion) {
+                    if (!primero) salida.append(',');
+                    escribir(elemento, salida);
+                    primero = false;
+                }
+                salida.append(']');
+            }
+            case Map<?, ?> mapa -> {
+                salida.append('{');
+                boolean primero = true;
+                for (Map.Entry<?, ?> entrada : mapa.entrySet()) {
+                    if (!primero) salida.append(',');
+                    escribirCadena(String.valueOf(entrada.getKey()), salida);
+                    salida.append(':');
+                    escribir(entrada.getValue(), salida);
+                    primero = false;
+                }
+                salida.append('}');
+            }
+            default -> throw new IllegalArgumentException("Tipo sin representación JSON: " + valor.getClass().getName());
+        }
+    }
+
+    private static void escribirNumero(double numero, StringBuilder salida) {
+        if (Double.isFinite(numero))
+            salida.append(numero);
+        else
+            salida.append("null");
+    }
+
+    private static void escribirCadena(String cadena, StringBuilder salida) {
+        salida.append('"');
+        for (int i = 0; i < cadena.length(); i++) {
+            char c = cadena.charAt(i);
+            switch (c) {
+                case '"' -> salida.append("\\\"");
+                case '\\' -> salida.append("\\\\");
+                case '\n' -> salida.append("\\n");
+                case '\r' -> salida.append("\\r");
+                case '\t' -> salida.append("\\t");
+                default -> {
+                    if (c < 0x20)
+                        salida.append(String.format("\\u%04x", (int) c));
+                    else
+                        salida.append(c);
+                }
+            }
+        }
+        salida.append('"');
+    }
+}
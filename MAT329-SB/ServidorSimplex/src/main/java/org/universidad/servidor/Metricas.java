@@ -0,0 +1,102 @@
+package org.universidad.servidor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Contadores y latencias por endpoint. La latencia se acumula en un histograma de cubetas
+ * logarítmicas (potencias de 2 en microsegundos), así que registrar es O(1) y sin bloqueos,
+ * y los percentiles son aproximados: se informa el límite superior de la cubeta que los contiene.
+ */
+final class Metricas {
+
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+    private final long inicio = System.nanoTime();
+
+    Endpoint endpoint(String nombre) {
+        return endpoints.computeIfAbsent(nombre, n -> new Endpoint());
+    }
+
+    /**
+     * Resumen de todos los endpoints, listo para escribir como JSON.
+     */
+    Map<String, Object> resumen() {
+        Map<String, Object> resumen = new LinkedHashMap<>();
+        resumen.put("segundosActivo", (System.nanoTime() - inicio) / 1_000_000_000L);
+        Map<String, Object> porEndpoint = new LinkedHashMap<>();
+        endpoints.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(e -> porEndpoint.put(e.getKey(), e.getValue().resumen()));
+        resumen.put("endpoints", porEndpoint);
+        return resumen;
+    }
+
+    static final class Endpoint {
+        // Cubeta k: latencias en [2^(k-1), 2^k) microsegundos; la última junta todo lo mayor
+        private static final int CUBETAS = 40;
+
+        private final LongAdder peticiones = new LongAdder();
+        private final LongAdder errores = new LongAdder();
+        private final LongAdder rechazadas = new LongAdder();
+        private final LongAdder sumaMicros = new LongAdder();
+        private final LongAccumulator maximoMicros = new LongAccumulator(Math::max, 0);
+        private final AtomicLongArray histograma = new AtomicLongArray(CUBETAS);
+
+        /**
+         * Registra una petición atendida, con su código de estado HTTP.
+         */
+        void registrar(long nanos, int codigo) {
+            long micros = Math.max(nanos / 1000, 0);
+            peticiones.increment();
+            if (codigo >= 400)
+                errores.increment();
+            sumaMicros.add(micros);
+            maximoMicros.accumulate(micros);
+            histograma.incrementAndGet(Math.min(64 - Long.numberOfLeadingZeros(micros), CUBETAS - 1));
+        }
+
+        /**
+         * Registra una petición rechazada por el control de admisión (no cuenta como atendida).
+         */
+        void registrarRechazo() {
+            rechazadas.increment();
+        }
+
+        private Map<String, Object> resumen() {
+            long[] cuentas = new long[CUBETAS];
+            long total = 0;
+            for (int k = 0; k < CUBETAS; k++) {
+                cuentas[k] = histograma.get(k);
+                total += cuentas[k];
+            }
+
+            Map<String, Object> resumen = new LinkedHashMap<>();
+            resumen.put("peticiones", peticiones.sum());
+            resumen.put("errores", errores.sum());
+            resumen.put("rechazadas", rechazadas.sum());
+            resumen.put("latenciaMediaMs", total == 0 ? 0.0 : sumaMicros.sum() / 1000.0 / total);
+            resumen.put("latenciaP50Ms", percentil(cuentas, total, 0.50));
+            resumen.put("latenciaP95Ms", percentil(cuentas, total, 0.95));
+            resumen.put("latenciaP99Ms", percentil(cuentas, total, 0.99));
+            resumen.put("latenciaMaximaMs", maximoMicros.get() / 1000.0);
+            return resumen;
+        }
+
+        private static double percentil(long[] cuentas, long total, double p) {
+            if (total == 0)
+                return 0;
+            long objetivo = (long) Math.ceil(p * total);
+            long acumulado = 0;
+            for (int k = 0; k < cuentas.length; k++) {
+                acumulado += cuentas[k];
+                if (acumulado >= objetivo)
+                    return (1L << k) / 1000.0;
+            }
+            return (1L << (cuentas.length - 1)) / 1000.0;
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package org.universidad.servidor;
+
+import org.universidad.granm.claseabstracta.MDosFasesRefactorizada;
+import org.universidad.granm.claseabstracta.MGranMRefactorizada;
+import org.universidad.granm.claseabstracta.MSimplexEstandar;
+import org.universidad.granm.claseabstracta.MatrizDispersa;
+import org.universidad.granm.claseabstracta.NivelHistorial;
+import org.universidad.granm.claseabstracta.OpcionesResolucion;
+import org.universidad.granm.claseabstracta.SimplexBase;
+import org.universidad.granm.claseabstracta.TipoRestriccion;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Modelo recibido en POST /resolver, ya validado:
+ *
+ *     {
+ *       "metodo": "GRAN_M",                      SIMPLEX, GRAN_M o DOS_FASES
+ *       "maximizar": true,
+ *       "funcionObjetivo": [3, 5],
+ *       "restricciones": [[1, 0], [0, 2], [3, 2]],
+ *       "tipoRestricciones": ["<=", "<=", "="],    también "≤" y "≥"
+ *       "terminosIndependientes": [4, 12, 18],
+ *       "historial": "NINGUNO",                  NINGUNO (por omisión), RESUMEN o COMPLETO
+ *       "maximoIteraciones": 10000,              opcional
+ *       "tiempoLimiteMs": 2000                   opcional, no mayor que el límite del servidor
+ *     }
+ */
+record PeticionResolucion(Metodo metodo, double[] funcionObjetivo, double[][] restricciones,
+                          double[] terminosIndependientes, TipoRestriccion[] tipoRestricciones, boolean maximizar,
+                          OpcionesResolucion opciones) {
+
+    enum Metodo { SIMPLEX, GRAN_M, DOS_FASES }
+
+    /**
+     * @param tiempoLimiteServidor tiempo máximo que el servidor dedica a una resolución
+     * @throws IllegalArgumentException si falta un campo o el modelo no es coherente
+     */
+    static PeticionResolucion desde(Object json, Duration tiempoLimiteServidor) {
+        if (!(json instanceof Map<?, ?> campos))
+            throw new IllegalArgumentException("El cuerpo debe ser un objeto JSON");
+
+        Metodo metodo = enumerado(Metodo.class, texto(campos, "metodo", "GRAN_M"), "metodo");
+        boolean maximizar = booleano(campos, "maximizar");
+        double[] funcionObjetivo = vector(requerido(campos, "funcionObjetivo"), "funcionObjetivo");
+        int n = funcionObjetivo.length;
+        if (n == 0)
+            throw new IllegalArgumentException("La función objetivo no tiene variables");
+
+        List<?> filas = lista(requerido(campos, "restricciones"), "restricciones");
+        int m = filas.size();
+        double[][] restricciones = new double[m][];
+        for (int i = 0; i < m; i++) {
+            restricciones[i] = vector(filas.get(i), "restricciones[" + i + "]");
+            if (restricciones[i].length != n)
+                throw new IllegalArgumentException("La restricción " + (i + 1) + " tiene " + restricciones[i].length
+                        + " coeficientes y la función objetivo " + n);
+        }
+
+        double[] terminos = vector(requerido(campos, "terminosIndependientes"), "terminosIndependientes");
+        if (terminos.length != m)
+            throw new IllegalArgumentException("Hay " + terminos.length + " términos independientes para " + m + " restricciones");
+
+        List<?> tipos = lista(requerido(campos, "tipoRestricciones"), "tipoRestricciones");
+        if (tipos.size() != m)
+            throw new IllegalArgumentException("Hay " + tipos.size() + " tipos de restricción para " + m + " restricciones");
+        TipoRestriccion[] tipoRestricciones = new TipoRestriccion[m];
+        for (int i = 0; i < m; i++)
+            tipoRestricciones[i] = tipo(tipos.get(i), i);
+
+        if (metodo == Metodo.SIMPLEX) {
+            for (int i = 0; i < m; i++) {
+                if (tipoRestricciones[i] != TipoRestriccion.MENOR_IGUAL || terminos[i] < 0)
+                    throw new IllegalArgumentException("El Simplex estándar solo admite restricciones ≤ con término "
+                            + "independiente no negativo; use GRAN_M o DOS_FASES");
+            }
+        }
+
+        OpcionesResolucion opciones = OpcionesResolucion.PREDETERMINADAS
+                .conNivelHistorial(enumerado(NivelHistorial.class, texto(campos, "historial", "NINGUNO"), "historial"));
+        if (campos.get("maximoIteraciones") != null)
+            opciones = opciones.conMaximoIteraciones((int) Math.min(numero(campos.get("maximoIteraciones"), "maximoIteraciones"), Integer.MAX_VALUE));
+        Duration tiempoLimite = tiempoLimiteServidor;
+        if (campos.get("tiempoLimiteMs") != null) {
+            long pedido = (long) numero(campos.get("tiempoLimiteMs"), "tiempoLimiteMs");
+            if (pedido < 1)
+                throw new IllegalArgumentException("tiempoLimiteMs debe ser positivo");
+            if (pedido < tiempoLimite.toMillis())
+                tiempoLimite = Duration.ofMillis(pedido);
+        }
+        opciones = opciones.conTiempoLimite(tiempoLimite);
+
+        return new PeticionResolucion(metodo, funcionObjetivo, restricciones, terminos, tipoRestricciones, maximizar, opciones);
+    }
+
+    SimplexBase crearMotor() {
+        MatrizDispersa matriz = MatrizDispersa.desdeDensa(restricciones);
+        return switch (metodo) {
+            case SIMPLEX -> new MSimplexEstandar(funcionObjetivo, matriz, terminosIndependientes, tipoRestricciones, maximizar, opciones);
+            case GRAN_M -> new MGranMRefactorizada(funcionObjetivo, matriz, terminosIndependientes, tipoRestricciones, maximizar, opciones);
+            case DOS_FASES -> new MDosFasesRefactorizada(funcionObjetivo, matriz, terminosIndependientes, tipoRestricciones, maximizar, opciones);
+        };
+    }
+
+    // Lectura de campos
+
+    private static Object requerido(Map<?, ?> campos, String nombre) {
+        Object valor = campos.get(nombre);
+        if (valor == null)
+            throw new IllegalArgumentException("Falta el campo " + nombre);
+        return valor;
+    }
+
+    private static String texto(Map<?, ?> campos, String nombre, String predeterminado) {
+        Object valor = campos.get(nombre);
+        if (valor == null)
+            return predeterminado;
+        if (!(valor instanceof String cadena))
+            throw new IllegalArgumentException("El campo " + nombre + " debe ser texto");
+        return cadena;
+    }
+
+    private static boolean booleano(Map<?, ?> campos, String nombre) {
+        if (!(requerido(campos, nombre) instanceof Boolean valor))
+            throw new IllegalArgumentException("El campo " + nombre + " debe ser true o false");
+        return valor;
+    }
+
+    private static double numero(Object valor, String nombre) {
+        if (!(valor instanceof Double numero) || !Double.isFinite(numero))
+            throw new IllegalArgumentException(nombre + " debe ser un número");
+        return numero;
+    }
+
+    private static List<?> lista(Object valor, String nombre) {
+        if (!(valor instanceof List<?> lista))
+            throw new IllegalArgumentException("El campo " + nombre + " debe ser un arreglo");
+        return lista;
+    }
+
+    private static double[] vector(Object valor, String nombre) {
+        List<?> lista = lista(valor, nombre);
+        double[] vector = new double[lista.size()];
+        for (int j = 0; j < vector.length; j++)
+            vector[j] = numero(lista.get(j), nombre + "[" + j + "]");
+        return vector;
+    }
+
+    private static TipoRestriccion tipo(Object valor, int fila) {
+        if (valor instanceof String cadena) {
+            switch (cadena.strip()) {
+                case "≤", "<=", "<": return TipoRestriccion.MENOR_IGUAL;
+                case "≥", ">=", ">": return TipoRestriccion.MAYOR_IGUAL;
+                case "=", "==": return TipoRestriccion.IGUAL;
+                default: break;
+            }
+        }
+        throw new IllegalArgumentException("Tipo de la restricción " + (fila + 1) + " inválido: " + valor
+                + " (se espera <=, >= o =)");
+    }
+
+    private static <E extends Enum<E>> E enumerado(Class<E> clase, String valor, String nombre) {
+        try {
+            return Enum.valueOf(clase, valor.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Valor inválido para " + nombre + ": " + valor);
+        }
+    }
+}
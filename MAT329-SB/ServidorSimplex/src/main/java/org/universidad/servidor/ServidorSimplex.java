@@ -0,0 +1,222 @@
+package org.universidad.servidor;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.universidad.granm.claseabstracta.EstadoSolucion;
+import org.universidad.granm.claseabstracta.NivelHistorial;
+import org.universidad.granm.claseabstracta.SimplexBase;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Servidor HTTP de los motores Simplex, sin JavaFX. Cada petición se atiende en un hilo virtual;
+ * las resoluciones pasan por un {@link ControlAdmision} que limita cuántas corren a la vez y cuántas
+ * esperan (también mientras se recibe el cuerpo), y responde 503 cuando el servidor está saturado.
+ *
+ *     POST /resolver   modelo en JSON (ver {@link PeticionResolucion}); responde estado, solución,
+ *                      iteraciones y, si se pidió, los pasos
+ *     GET  /metricas   peticiones, errores, rechazos y latencias por endpoint, y la ocupación actual
+ *     GET  /salud      {"estado":"ok"}
+ */
+public final class ServidorSimplex {
+
+    private static final int TAMANO_MAXIMO_CUERPO = 16 << 20;
+    private static final Duration TIEMPO_LIMITE_RESOLUCION = Duration.ofSeconds(30);
+    private static final long ESPERA_MAXIMA_EN_COLA_MS = 5_000;
+    private static final System.Logger REGISTRO = System.getLogger(ServidorSimplex.class.getName());
+
+    private final HttpServer servidor;
+    private final ExecutorService ejecutor;
+    private final ControlAdmision admision;
+    private final Metricas metricas = new Metricas();
+
+    /**
+     * @param resolucionesSimultaneas resoluciones que corren a la vez (el trabajo es de CPU: conviene
+     *                                no pasar de la cantidad de núcleos)
+     * @param maximoEnCola            peticiones que pueden esperar turno antes de empezar a rechazar
+     */
+    public ServidorSimplex(InetSocketAddress direccion, int resolucionesSimultaneas, int maximoEnCola) throws IOException {
+        this.admision = new ControlAdmision(resolucionesSimultaneas, maximoEnCola, ESPERA_MAXIMA_EN_COLA_MS);
+        this.servidor = HttpServer.create(direccion, 0);
+        this.ejecutor = Executors.newVirtualThreadPerTaskExecutor();
+        servidor.setExecutor(ejecutor);
+        servidor.createContext("/resolver", intercambio -> atender("/resolver", "POST", intercambio, this::resolver));
+        servidor.createContext("/metricas", intercambio -> atender("/metricas", "GET", intercambio, this::metricas));
+        servidor.createContext("/salud", intercambio -> atender("/salud", "GET", intercambio,
+                i -> new Respuesta(200, Map.of("estado", "ok"))));
+    }
+
+    public void iniciar() {
+        servidor.start();
+    }
+
+    /**
+     * Deja de aceptar conexiones, espera hasta {@code segundos} a que terminen las peticiones en curso
+     * y libera los hilos.
+     */
+    public void detener(int segundos) {
+        servidor.stop(segundos);
+        ejecutor.close();
+    }
+
+    public int getPuerto() {
+        return servidor.getAddress().getPort();
+    }
+
+    public static void main(String[] args) throws IOException {
+        int puerto = args.length > 0 ? Integer.parseInt(args[0]) : 8080;
+        int simultaneas = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        int enCola = args.length > 2 ? Integer.parseInt(args[2]) : 16 * simultaneas;
+
+        ServidorSimplex servidor = new ServidorSimplex(new InetSocketAddress(puerto), simultaneas, enCola);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> servidor.detener(5)));
+        servidor.iniciar();
+        System.out.printf("Servidor Simplex en el puerto %d (%d resoluciones simultáneas, %d en cola)%n",
+                servidor.getPuerto(), simultaneas, enCola);
+    }
+
+    // Endpoints
+
+    private record Respuesta(int codigo, Object cuerpo) {
+    }
+
+    @FunctionalInterface
+    private interface Manejador {
+        Respuesta atender(HttpExchange intercambio) throws IOException, InterruptedException;
+    }
+
+    private static final class PeticionRechazada extends RuntimeException {
+        PeticionRechazada() {
+            super("El servidor está saturado; reintente más tarde", null, false, false);
+        }
+    }
+
+    /**
+     * Valida el método HTTP, ejecuta el manejador, escribe la respuesta JSON y registra la latencia.
+     */
+    private void atender(String nombre, String metodoHttp, HttpExchange intercambio, Manejador manejador) throws IOException {
+        long inicio = System.nanoTime();
+        Metricas.Endpoint endpoint = metricas.endpoint(nombre);
+        Respuesta respuesta;
+        try (intercambio) {
+            try {
+                if (!intercambio.getRequestMethod().equals(metodoHttp)) {
+                    intercambio.getResponseHeaders().set("Allow", metodoHttp);
+                    respuesta = error(405, "Use " + metodoHttp);
+                } else {
+                    respuesta = manejador.atender(intercambio);
+                }
+            } catch (PeticionRechazada e) {
+                endpoint.registrarRechazo();
+                intercambio.getResponseHeaders().set("Retry-After", "1");
+                enviar(intercambio, error(503, e.getMessage()));
+                return;
+            } catch (IllegalArgumentException e) {
+                respuesta = error(400, e.getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                respuesta = error(503, "El servidor se está deteniendo");
+            } catch (RuntimeException e) {
+                // El detalle queda en el registro del servidor; al cliente no se le muestran clases ni mensajes internos
+                REGISTRO.log(System.Logger.Level.ERROR, "Error al atender " + nombre, e);
+                respuesta = error(500, "Error interno del servidor");
+            }
+            enviar(intercambio, respuesta);
+        }
+        endpoint.registrar(System.nanoTime() - inicio, respuesta.codigo());
+    }
+
+    private Respuesta resolver(HttpExchange intercambio) throws IOException, InterruptedException {
+        // El lugar se reserva antes de leer el cuerpo, para no acumular cuerpos de hasta 16 MB
+        if (!admision.reservarPeticion())
+            throw new PeticionRechazada();
+        try {
+            PeticionResolucion peticion = PeticionResolucion.desde(
+                    Json.leer(leerCuerpo(intercambio.getRequestBody())), TIEMPO_LIMITE_RESOLUCION);
+
+            if (!admision.entrar())
+                throw new PeticionRechazada();
+            SimplexBase motor;
+            try {
+                motor = peticion.crearMotor();
+                motor.resolver();
+            } finally {
+                admision.salir();
+            }
+
+            Map<String, Object> cuerpo = new LinkedHashMap<>();
+            cuerpo.put("estado", motor.getEstado());
+            cuerpo.put("solucion", motor.getEstado() == EstadoSolucion.OPTIMA ? motor.solucion : Map.of());
+            cuerpo.put("iteraciones", motor.getIteraciones());
+            if (motor.getNivelHistorial() != NivelHistorial.NINGUNO)
+                cuerpo.put("pasos", pasos(motor));
+            return new Respuesta(200, cuerpo);
+        } finally {
+            admision.liberarPeticion();
+        }
+    }
+
+    private static List<Map<String, Object>> pasos(SimplexBase motor) {
+        boolean conTablas = motor.getNivelHistorial() == NivelHistorial.COMPLETO;
+        List<Map<String, Object>> pasos = new ArrayList<>(motor.cantPasos());
+        for (int i = 0; i < motor.cantPasos(); i++) {
+            Map<String, Object> paso = new LinkedHashMap<>();
+            paso.put("descripcion", motor.getDescripcionPaso(i));
+            paso.put("entra", motor.getVariableEntradaPaso(i));
+            paso.put("sale", motor.getVariableSalidaPaso(i));
+            if (conTablas)
+                paso.put("tabla", motor.getTablaPaso(i));
+            pasos.add(paso);
+        }
+        return pasos;
+    }
+
+    private Respuesta metricas(HttpExchange intercambio) {
+        Map<String, Object> cuerpo = new LinkedHashMap<>();
+        cuerpo.put("peticionesEnCurso", admision.getPeticionesEnCurso());
+        cuerpo.put("resolucionesEnCurso", admision.getEnCurso());
+        cuerpo.put("peticionesEnCola", admision.getEnCola());
+        cuerpo.put("resolucionesSimultaneas", admision.getResolucionesSimultaneas());
+        cuerpo.put("maximoEnCola", admision.getMaximoEnCola());
+        cuerpo.putAll(metricas.resumen());
+        return new Respuesta(200, cuerpo);
+    }
+
+    // Entrada y salida
+
+    private static String leerCuerpo(InputStream entrada) throws IOException {
+        ByteArrayOutputStream cuerpo = new ByteArrayOutputStream();
+        byte[] bloque = new byte[8192];
+        for (int leidos; (leidos = entrada.read(bloque)) != -1; ) {
+            if (cuerpo.size() + leidos > TAMANO_MAXIMO_CUERPO)
+                throw new IllegalArgumentException("El cuerpo supera los " + (TAMANO_MAXIMO_CUERPO >> 20) + " MB");
+            cuerpo.write(bloque, 0, leidos);
+        }
+        return cuerpo.toString(StandardCharsets.UTF_8);
+    }
+
+    private static Respuesta error(int codigo, String mensaje) {
+        return new Respuesta(codigo, Map.of("error", mensaje));
+    }
+
+    private static void enviar(HttpExchange intercambio, Respuesta respuesta) throws IOException {
+        byte[] bytes = Json.escribir(respuesta.cuerpo()).getBytes(StandardCharsets.UTF_8);
+        intercambio.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        intercambio.sendResponseHeaders(respuesta.codigo(), bytes.length);
+        try (OutputStream salida = intercambio.getResponseBody()) {
+            salida.write(bytes);
+        }
+    }
+}
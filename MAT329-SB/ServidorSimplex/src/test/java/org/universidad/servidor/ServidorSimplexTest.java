@@ -0,0 +1,106 @@
+package org.universidad.servidor;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ServidorSimplexTest {
+
+    // max 3x1 + 5x2  s.a.  x1 ≤ 4,  2x2 ≤ 12,  3x1 + 2x2 ≤ 18   →  x1 = 2, x2 = 6, z = 36
+    private static final String MODELO = """
+            {"metodo": "SIMPLEX", "maximizar": true, "funcionObjetivo": [3, 5],
+             "restricciones": [[1, 0], [0, 2], [3, 2]], "tipoRestricciones": ["<=", "<=", "<="],
+             "terminosIndependientes": [4, 12, 18]}""";
+
+    private final HttpClient cliente = HttpClient.newHttpClient();
+    private ServidorSimplex servidor;
+
+    @BeforeEach
+    void iniciar() throws IOException {
+        // Una sola resolución y sin cola: la segunda petición simultánea se rechaza
+        servidor = new ServidorSimplex(new InetSocketAddress("127.0.0.1", 0), 1, 0);
+        servidor.iniciar();
+    }
+
+    @AfterEach
+    void detener() {
+        servidor.detener(0);
+    }
+
+    @Test
+    void resuelveUnModelo() throws Exception {
+        HttpResponse<String> respuesta = enviar(HttpRequest.newBuilder(uri("/resolver"))
+                .POST(HttpRequest.BodyPublishers.ofString(MODELO)));
+
+        assertEquals(200, respuesta.statusCode());
+        assertTrue(respuesta.body().contains("\"OPTIMA\""), respuesta.body());
+        assertTrue(respuesta.body().contains("\"z\":36"), respuesta.body());
+    }
+
+    @Test
+    void rechazaUnModeloInvalido() throws Exception {
+        HttpResponse<String> respuesta = enviar(HttpRequest.newBuilder(uri("/resolver"))
+                .POST(HttpRequest.BodyPublishers.ofString("{\"maximizar\": true}")));
+
+        assertEquals(400, respuesta.statusCode());
+        assertTrue(respuesta.body().contains("funcionObjetivo"), respuesta.body());
+    }
+
+    @Test
+    void respondeMetodoNoPermitido() throws Exception {
+        HttpResponse<String> respuesta = enviar(HttpRequest.newBuilder(uri("/resolver")).GET());
+
+        assertEquals(405, respuesta.statusCode());
+        assertEquals("POST", respuesta.headers().firstValue("Allow").orElse(null));
+    }
+
+    @Test
+    void rechazaCuandoElServidorEstaSaturado() throws Exception {
+        // Una conexión que anuncia un cuerpo y no lo envía ocupa el único lugar mientras se lee
+        try (Socket lenta = new Socket("127.0.0.1", servidor.getPuerto())) {
+            OutputStream salida = lenta.getOutputStream();
+            salida.write(("POST /resolver HTTP/1.1\r\nHost: 127.0.0.1\r\nContent-Length: 1000\r\n\r\n{")
+                    .getBytes(StandardCharsets.US_ASCII));
+            salida.flush();
+            esperarPeticionEnCurso();
+
+            HttpResponse<String> respuesta = enviar(HttpRequest.newBuilder(uri("/resolver"))
+                    .POST(HttpRequest.BodyPublishers.ofString(MODELO)));
+
+            assertEquals(503, respuesta.statusCode());
+            assertEquals("1", respuesta.headers().firstValue("Retry-After").orElse(null));
+        }
+    }
+
+    private void esperarPeticionEnCurso() throws Exception {
+        long limite = System.nanoTime() + 5_000_000_000L;
+        while (System.nanoTime() < limite) {
+            String metricas = enviar(HttpRequest.newBuilder(uri("/metricas")).GET()).body();
+            if (metricas.contains("\"peticionesEnCurso\":1"))
+                return;
+            Thread.sleep(10);
+        }
+        throw new AssertionError("La petición lenta no llegó a ocupar su lugar");
+    }
+
+    private URI uri(String ruta) {
+        return URI.create("http://127.0.0.1:" + servidor.getPuerto() + ruta);
+    }
+
+    private HttpResponse<String> enviar(HttpRequest.Builder peticion) throws IOException, InterruptedException {
+        return cliente.send(peticion.build(), HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -0,0 +1,12 @@
+/**
+ * Motores Simplex sin interfaz gráfica, compartidos por GranM, AutomatizacionMetodosGranMYDosFases,
+ * los benchmarks y el servidor. No depende de JavaFX, así que sirve para uso sin interfaz y para
+ * imágenes jlink pequeñas.
+ */
+module org.universidad.simplex {
+    requires static jdk.incubator.vector; // Kernels SIMD del pivoteo (opcional: sin el módulo se usa la versión escalar)
+
+    exports org.universidad.granm.claseabstracta;                      // Motores refactorizados (tableau plano, revisado, acotado)
+    exports org.universidad.granm.metodos;                             // Motores originales de GranM e historial de pasos
+    exports org.universidad.automatizacionmetodosgranmydosfases.metodos; // Motores de AutomatizacionMetodosGranMYDosFases
+}
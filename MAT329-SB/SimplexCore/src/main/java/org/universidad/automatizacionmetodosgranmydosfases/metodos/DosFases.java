@@ -1,5 +1,7 @@
 package org.universidad.automatizacionmetodosgranmydosfases.metodos;
 
+import org.universidad.granm.claseabstracta.TipoRestriccion;
+
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -13,8 +15,15 @@ public class DosFases extends SimplexBase {
     private boolean maximizarOriginal;
 
     public DosFases(double[] funcionObjetivo, double[][] restricciones,
-                    double[] terminosIndependientes, char[] tipoRestricciones, boolean maximizar) {
-        super();
+                    double[] terminosIndependientes, TipoRestriccion[] tipoRestricciones, boolean maximizar) {
+        this(funcionObjetivo, restricciones, terminosIndependientes, tipoRestricciones, maximizar,
+                OpcionesResolucion.PREDETERMINADAS);
+    }
+
+    public DosFases(double[] funcionObjetivo, double[][] restricciones,
+                    double[] terminosIndependientes, TipoRestriccion[] tipoRestricciones, boolean maximizar,
+                    OpcionesResolucion opciones) {
+        super(opciones);
         super.nroVariables = funcionObjetivo.length;
         super.nroRestricciones = restricciones.length;
         super.maximizar = maximizar;
@@ -41,7 +50,7 @@ public class DosFases extends SimplexBase {
     }
 
     private void construirTableau(double[] funcionObjetivo, double[][] restricciones,
-                                  double[] terminosIndependientes, char[] tipoRestricciones) {
+                                  double[] terminosIndependientes, TipoRestriccion[] tipoRestricciones) {
 
         setValor(0, 0, 1);
 
@@ -79,19 +88,19 @@ public class DosFases extends SimplexBase {
         }
     }
 
-    private void configurarVariablesRestruccion(int filaRestriccion, char tipoRestriccion) {
+    private void configurarVariablesRestruccion(int filaRestriccion, TipoRestriccion tipoRestriccion) {
         for (VariableInfo var : variables) {
             if (!var.isEstaEnBase()) continue;
 
             if (var.getFilaEnBase() == filaRestriccion + 1) {
                 switch (tipoRestriccion) {
-                    case '≤':
+                    case MENOR_IGUAL:
                         if (var.esHolgura()) {
                             setValor(filaRestriccion + 1, var.getIndiceColumna(), 1);
                         }
                         break;
 
-                    case '≥':
+                    case MAYOR_IGUAL:
                         if (var.esArtificial()) {
                             setValor(filaRestriccion + 1, var.getIndiceColumna(), 1);
                             // También configurar la variable de exceso correspondiente
@@ -99,7 +108,7 @@ public class DosFases extends SimplexBase {
                         }
                         break;
 
-                    case '=':
+                    case IGUAL:
                         if (var.esArtificial()) {
                             setValor(filaRestriccion + 1, var.getIndiceColumna(), 1);
                         }
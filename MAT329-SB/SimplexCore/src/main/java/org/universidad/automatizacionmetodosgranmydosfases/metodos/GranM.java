@@ -1,17 +1,54 @@
 package org.universidad.automatizacionmetodosgranmydosfases.metodos;
 
+import org.universidad.granm.claseabstracta.TipoRestriccion;
+
 public class GranM extends SimplexBase {
-    private static final double M_VALOR = 1E6;
 
+    /**
+     * Cómo se representa M en la fila 0.
+     */
+    public enum Modo {
+        /** M = valorM de las opciones dentro de la fila 0; puede tapar los costos reales si son de un orden parecido. */
+        NUMERICO,
+        /** La fila 0 se guarda como parte M y parte real por separado y se comparan en ese orden. */
+        LEXICOGRAFICO
+    }
+
+    private final Modo modo;
+    private final double valorM;
+    // Coeficientes de M de la fila 0; solo en modo LEXICOGRAFICO
+    private double[] filaM;
+
+    public GranM(double[] funcionObjetivo, double[][] restricciones,
+                 double[] terminosIndependientes, TipoRestriccion[] tipoRestricciones, boolean maximizar) {
+        this(funcionObjetivo, restricciones, terminosIndependientes, tipoRestricciones, maximizar, Modo.NUMERICO);
+    }
+
+    /**
+     * En modo LEXICOGRAFICO el tableau de cada paso muestra solo la parte real de la fila 0;
+     * la parte M se consulta con {@link #getCoeficienteM(int)}.
+     */
     public GranM(double[] funcionObjetivo, double[][] restricciones,
-                 double[] terminosIndependientes, char[] tipoRestricciones, boolean maximizar) {
-        super();
+                 double[] terminosIndependientes, TipoRestriccion[] tipoRestricciones, boolean maximizar, Modo modo) {
+        this(funcionObjetivo, restricciones, terminosIndependientes, tipoRestricciones, maximizar, modo,
+                OpcionesResolucion.PREDETERMINADAS);
+    }
+
+    public GranM(double[] funcionObjetivo, double[][] restricciones, double[] terminosIndependientes,
+                 TipoRestriccion[] tipoRestricciones, boolean maximizar, Modo modo, OpcionesResolucion opciones) {
+        super(opciones);
+        if (modo == null)
+            throw new IllegalArgumentException("El modo de Gran M no puede ser nulo");
+        this.modo = modo;
+        this.valorM = opciones.valorM();
         super.nroVariables = funcionObjetivo.length;
         super.nroRestricciones = restricciones.length;
         super.maximizar = maximizar;
         super.soluciónOptima = true;
 
         super.inicializarTableauBase(tipoRestricciones);
+        if (modo == Modo.LEXICOGRAFICO)
+            filaM = new double[nroColumnas];
         construirTableau(funcionObjetivo, restricciones, terminosIndependientes, tipoRestricciones);
         super.guardarPaso("Tableau inicializado", "", "");
 
@@ -20,7 +57,7 @@ public class GranM extends SimplexBase {
     }
 
     private void construirTableau(double[] funcionObjetivo, double[][] restricciones,
-                                  double[] terminosIndependientes, char[] tipoRestricciones) {
+                                  double[] terminosIndependientes, TipoRestriccion[] tipoRestricciones) {
 
         // Configurar la función objetivo
         setValor(0, 0, maximizar ? 1 : -1);
@@ -32,8 +69,9 @@ public class GranM extends SimplexBase {
                 double coeficiente = maximizar ? -funcionObjetivo[indiceOriginal] : funcionObjetivo[indiceOriginal];
                 setValor(0, var.getIndiceColumna(), coeficiente);
             } else if (var.esArtificial()) {
-                // Las variables artificiales tienen coeficiente M_VALOR en Gran M
-                setValor(0, var.getIndiceColumna(), M_VALOR);
+                // Las variables artificiales tienen coeficiente M en Gran M
+                if (filaM != null) filaM[var.getIndiceColumna()] = 1;
+                else setValor(0, var.getIndiceColumna(), valorM);
             }
         }
 
@@ -55,19 +93,19 @@ public class GranM extends SimplexBase {
         }
     }
 
-    private void configurarVariablesRestruccion(int filaRestriccion, char tipoRestriccion) {
+    private void configurarVariablesRestruccion(int filaRestriccion, TipoRestriccion tipoRestriccion) {
         for (VariableInfo var : variables) {
             if (!var.isEstaEnBase()) continue;
 
             if (var.getFilaEnBase() == filaRestriccion + 1) {
                 switch (tipoRestriccion) {
-                    case '≤':
+                    case MENOR_IGUAL:
                         if (var.esHolgura()) {
                             setValor(filaRestriccion + 1, var.getIndiceColumna(), 1);
                         }
                         break;
 
-                    case '≥':
+                    case MAYOR_IGUAL:
                         if (var.esExceso()) {
                             // Buscar la variable de exceso correspondiente
                             setValor(filaRestriccion + 1, var.getIndiceColumna(), -1);
@@ -76,7 +114,7 @@ public class GranM extends SimplexBase {
                         }
                         break;
 
-                    case '=':
+                    case IGUAL:
                         if (var.esArtificial()) {
                             setValor(filaRestriccion + 1, var.getIndiceColumna(), 1);
                         }
@@ -86,7 +124,7 @@ public class GranM extends SimplexBase {
         }
 
         // Para restricciones ≥, necesitamos configurar tanto exceso como artificial
-        if (tipoRestriccion == '≥') {
+        if (tipoRestriccion == TipoRestriccion.MAYOR_IGUAL) {
             for (VariableInfo var : variables) {
                 if (var.esExceso() && !var.isEstaEnBase()) {
                     // Esta es la variable de exceso para esta restricción
@@ -102,7 +140,12 @@ public class GranM extends SimplexBase {
         for (VariableInfo var : variables) {
             if (var.esArtificial() && var.isEstaEnBase()) {
                 int filaVariable = var.getFilaEnBase();
-                double factorM = -M_VALOR;
+                if (filaM != null) {
+                    for (int k = 0; k < nroColumnas; k++)
+                        filaM[k] -= getValor(filaVariable, k);
+                    continue;
+                }
+                double factorM = -valorM;
 
                 for (int k = 0; k < nroColumnas; k++) {
                     double valorActual = getValor(0, k);
@@ -130,14 +173,55 @@ public class GranM extends SimplexBase {
         }
     }
 
+    @Override
+    protected void realizarPivoteo(int columnaPivote, int filaPivote) {
+        super.realizarPivoteo(columnaPivote, filaPivote);
+        if (filaM == null) return;
+
+        // La fila pivote ya está normalizada: se elimina la columna pivote también de la parte M
+        double factor = filaM[columnaPivote];
+        for (int j = 0; j < nroColumnas; j++) {
+            double valor = redondear(filaM[j] - factor * getValor(filaPivote, j));
+            filaM[j] = Math.abs(valor) <= epsilon ? 0 : valor;
+        }
+        filaM[columnaPivote] = 0;
+    }
+
     @Override
     protected int obtenerColumnaPivote() {
-        return super.obtenerColumnaPivoteMaximizar();
+        if (filaM == null) return super.obtenerColumnaPivoteMaximizar();
+        return obtenerColumnaPivoteLexicografica();
+    }
+
+    /**
+     * Primero el costo reducido más negativo de la parte M; si no queda ninguno, el más negativo de la
+     * parte real entre las columnas cuya parte M es cero. Devuelve 0 si el tableau es óptimo.
+     */
+    private int obtenerColumnaPivoteLexicografica() {
+        double maxNegativo = -epsilon;
+        int columnaPivote = 0;
+        for (int j = 1; j < nroColumnas - 1; j++) {
+            if (filaM[j] < maxNegativo) {
+                maxNegativo = filaM[j];
+                columnaPivote = j;
+            }
+        }
+        if (columnaPivote != 0) return columnaPivote;
+
+        maxNegativo = 0;
+        for (int j = 1; j < nroColumnas - 1; j++) {
+            if (Math.abs(filaM[j]) <= epsilon && getValor(0, j) < maxNegativo) {
+                maxNegativo = getValor(0, j);
+                columnaPivote = j;
+            }
+        }
+        return columnaPivote;
     }
 
     @Override
     protected boolean esOptimo() {
-        return !existenNegativosEnLaFunciónObjetivo();
+        if (filaM == null) return !existenNegativosEnLaFunciónObjetivo();
+        return obtenerColumnaPivoteLexicografica() == 0;
     }
 
     @Override
@@ -161,6 +245,15 @@ public class GranM extends SimplexBase {
     // Métodos adicionales para debugging y análisis
 
 
+    public Modo getModo() { return modo; }
+
+    /**
+     * Coeficiente de M en la columna dada de la fila 0 (0 en modo NUMERICO, donde M ya está sumada).
+     */
+    public double getCoeficienteM(int columna) {
+        return filaM == null ? 0 : filaM[columna];
+    }
+
     public boolean tieneVariablesArtificialesActivas() {
         return variables.stream()
                 .filter(VariableInfo::esArtificial)
@@ -0,0 +1,71 @@
+package org.universidad.automatizacionmetodosgranmydosfases.metodos;
+
+/**
+ * Parámetros de un método Simplex, fijados al construirlo. Es inmutable: cada {@code con...} devuelve
+ * una copia con un solo valor cambiado, así que una misma instancia sirve para muchos problemas.
+ *
+ * @param epsilon                Valor absoluto por debajo del cual un coeficiente se trata como cero
+ * @param decimales              Decimales a los que se redondea el tableau después de cada pivoteo
+ * @param valorM                 Penalización de las artificiales en la Gran M numérica
+ * @param toleranciaFactibilidad Cuánto puede quedar negativo un término independiente en la prueba de Harris
+ * @param toleranciaPivote       Menor elemento pivote aceptado por la prueba de Harris
+ * @param pruebaCocienteHarris   Usar la prueba del cociente de Harris en lugar de la razón mínima estricta
+ * @param maximoIteraciones      Pivoteos antes de abandonar la resolución
+ */
+public record OpcionesResolucion(double epsilon, int decimales, double valorM,
+                                 double toleranciaFactibilidad, double toleranciaPivote,
+                                 boolean pruebaCocienteHarris, int maximoIteraciones) {
+
+    public static final OpcionesResolucion PREDETERMINADAS =
+            new OpcionesResolucion(1e-10, 6, 1E6, 1e-9, 1e-9, false, Integer.MAX_VALUE);
+
+    public OpcionesResolucion {
+        if (!(epsilon > 0))
+            throw new IllegalArgumentException("epsilon debe ser positivo");
+        if (decimales < 0)
+            throw new IllegalArgumentException("La cantidad de decimales no puede ser negativa");
+        if (!(valorM > 0) || Double.isInfinite(valorM))
+            throw new IllegalArgumentException("El valor de M debe ser positivo y finito");
+        if (!(toleranciaFactibilidad >= 0))
+            throw new IllegalArgumentException("La tolerancia de factibilidad no puede ser negativa");
+        if (!(toleranciaPivote >= 0))
+            throw new IllegalArgumentException("La tolerancia del pivote no puede ser negativa");
+        if (maximoIteraciones < 1)
+            throw new IllegalArgumentException("El máximo de iteraciones debe ser al menos 1");
+    }
+
+    public OpcionesResolucion conEpsilon(double epsilon) {
+        return new OpcionesResolucion(epsilon, decimales, valorM, toleranciaFactibilidad, toleranciaPivote,
+                pruebaCocienteHarris, maximoIteraciones);
+    }
+
+    public OpcionesResolucion conDecimales(int decimales) {
+        return new OpcionesResolucion(epsilon, decimales, valorM, toleranciaFactibilidad, toleranciaPivote,
+                pruebaCocienteHarris, maximoIteraciones);
+    }
+
+    public OpcionesResolucion conValorM(double valorM) {
+        return new OpcionesResolucion(epsilon, decimales, valorM, toleranciaFactibilidad, toleranciaPivote,
+                pruebaCocienteHarris, maximoIteraciones);
+    }
+
+    public OpcionesResolucion conToleranciaFactibilidad(double toleranciaFactibilidad) {
+        return new OpcionesResolucion(epsilon, decimales, valorM, toleranciaFactibilidad, toleranciaPivote,
+                pruebaCocienteHarris, maximoIteraciones);
+    }
+
+    public OpcionesResolucion conToleranciaPivote(double toleranciaPivote) {
+        return new OpcionesResolucion(epsilon, decimales, valorM, toleranciaFactibilidad, toleranciaPivote,
+                pruebaCocienteHarris, maximoIteraciones);
+    }
+
+    public OpcionesResolucion conPruebaCocienteHarris(boolean pruebaCocienteHarris) {
+        return new OpcionesResolucion(epsilon, decimales, valorM, toleranciaFactibilidad, toleranciaPivote,
+                pruebaCocienteHarris, maximoIteraciones);
+    }
+
+    public OpcionesResolucion conMaximoIteraciones(int maximoIteraciones) {
+        return new OpcionesResolucion(epsilon, decimales, valorM, toleranciaFactibilidad, toleranciaPivote,
+                pruebaCocienteHarris, maximoIteraciones);
+    }
+}
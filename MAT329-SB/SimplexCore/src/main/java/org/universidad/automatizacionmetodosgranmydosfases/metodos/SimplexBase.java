@@ -1,6 +1,7 @@
 package org.universidad.automatizacionmetodosgranmydosfases.metodos;
 
-import org.universidad.automatizacionmetodosgranmydosfases.guardarPasos.GuardarPasos;
+import org.universidad.granm.claseabstracta.TipoRestriccion;
+import org.universidad.granm.metodos.GuardarPasos;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
@@ -22,10 +23,29 @@ public abstract class SimplexBase {
     public Map<String, Double> solucion;
     protected GuardarPasos historialDePasos;
 
-    public static double epsilon = 1e-10;
-    public static byte decimales = 6;
+    protected final OpcionesResolucion opciones;
+    protected final double epsilon;
+    protected final int decimales;
+
+    // Prueba del cociente de Harris (desactivada por omisión: se usa la razón mínima estricta)
+    private final boolean pruebaCocienteHarris;
+    private final double toleranciaFactibilidad;
+    private final double toleranciaPivote;
+    private int iteraciones;
 
     protected SimplexBase() {
+        this(OpcionesResolucion.PREDETERMINADAS);
+    }
+
+    protected SimplexBase(OpcionesResolucion opciones) {
+        if (opciones == null)
+            throw new IllegalArgumentException("Las opciones de resolución no pueden ser nulas");
+        this.opciones = opciones;
+        this.epsilon = opciones.epsilon();
+        this.decimales = opciones.decimales();
+        this.pruebaCocienteHarris = opciones.pruebaCocienteHarris();
+        this.toleranciaFactibilidad = opciones.toleranciaFactibilidad();
+        this.toleranciaPivote = opciones.toleranciaPivote();
         this.soluciónOptima = true;
         this.solucion = new HashMap<>();
         this.historialDePasos = new GuardarPasos();
@@ -38,14 +58,14 @@ public abstract class SimplexBase {
         this.nroColumnas = 0;
     }
 
-    protected void inicializarTableauBase(char[] tipoRestricciones) {
+    protected void inicializarTableauBase(TipoRestriccion[] tipoRestricciones) {
         contarVariablesPorTipo(tipoRestricciones);
         this.nroFilas = this.nroRestricciones + 1;
         this.nroColumnas = 1 + getTotalVariables() + 1; // Z + variables + RHS
         this.M = new double[this.nroFilas][this.nroColumnas];
     }
 
-    private void contarVariablesPorTipo(char[] tipoRestricciones) {
+    private void contarVariablesPorTipo(TipoRestriccion[] tipoRestricciones) {
         variables.clear();
         variablesPorNombre.clear();
 
@@ -64,7 +84,7 @@ public abstract class SimplexBase {
 
         for (int i = 0; i < tipoRestricciones.length; i++) {
             switch (tipoRestricciones[i]) {
-                case '≤':
+                case MENOR_IGUAL:
                     String nombreHolgura = "s" + contadorHolgura++;
                     VariableInfo varHolgura = new VariableInfo(indiceColumna++,
                             VariableInfo.TipoVariable.HOLGURA, nombreHolgura, i + 1);
@@ -72,7 +92,7 @@ public abstract class SimplexBase {
                     variablesPorNombre.put(nombreHolgura, varHolgura);
                     break;
 
-                case '≥':
+                case MAYOR_IGUAL:
                     String nombreExceso = "e" + contadorExceso++;
                     VariableInfo varExceso = new VariableInfo(indiceColumna++,
                             VariableInfo.TipoVariable.EXCESO, nombreExceso);
@@ -86,7 +106,7 @@ public abstract class SimplexBase {
                     variablesPorNombre.put(nombreArtificial1, varArtificial1);
                     break;
 
-                case '=':
+                case IGUAL:
                     String nombreArtificial2 = "a" + contadorArtificial++;
                     VariableInfo varArtificial2 = new VariableInfo(indiceColumna++,
                             VariableInfo.TipoVariable.ARTIFICIAL, nombreArtificial2, i + 1);
@@ -128,6 +148,13 @@ public abstract class SimplexBase {
     public abstract void resolver();
 
     protected void iteraciónSimplex() {
+        if (iteraciones >= opciones.maximoIteraciones()) {
+            guardarPaso("Se alcanzó el máximo de " + opciones.maximoIteraciones() + " iteraciones", "", "");
+            soluciónOptima = false;
+            return;
+        }
+        iteraciones++;
+
         int columnaPivote = obtenerColumnaPivote();
         if (columnaPivote == 0) {
             manejarProblemaNoAcotado("no se puede resolver el problema");
@@ -207,6 +234,8 @@ public abstract class SimplexBase {
     }
 
     protected int obtenerFilaPivote(int columnaPivote) {
+        if (pruebaCocienteHarris) return obtenerFilaPivoteHarris(columnaPivote);
+
         double minimoActual = Double.POSITIVE_INFINITY;
         int filaPivote = 0;
 
@@ -222,6 +251,31 @@ public abstract class SimplexBase {
         return filaPivote;
     }
 
+    /**
+     * Prueba del cociente de Harris en dos pasadas: la primera calcula la razón máxima admisible
+     * relajando cada término independiente en toleranciaFactibilidad, y la segunda elige, entre las
+     * filas que no la superan, la de mayor elemento pivote. Devuelve 0 si la columna no está acotada.
+     */
+    protected int obtenerFilaPivoteHarris(int columnaPivote) {
+        double razonMaxima = Double.POSITIVE_INFINITY;
+        for (int i = 1; i < nroFilas; i++) {
+            double a = getValor(i, columnaPivote);
+            if (a > toleranciaPivote)
+                razonMaxima = Math.min(razonMaxima, (Math.max(getValor(i, nroColumnas - 1), 0) + toleranciaFactibilidad) / a);
+        }
+
+        double mayorPivote = 0;
+        int filaPivote = 0;
+        for (int i = 1; i < nroFilas; i++) {
+            double a = getValor(i, columnaPivote);
+            if (a > toleranciaPivote && Math.max(getValor(i, nroColumnas - 1), 0) / a <= razonMaxima && a > mayorPivote) {
+                mayorPivote = a;
+                filaPivote = i;
+            }
+        }
+        return filaPivote;
+    }
+
     protected abstract boolean esOptimo();
 
     protected boolean hayVariablesArtificialesEnBase() {
@@ -310,7 +364,7 @@ public abstract class SimplexBase {
         historialDePasos.agregarPaso(M, variableEntrada, variableSalida, descripcion);
     }
 
-    public static double redondear(double valor) {
+    public double redondear(double valor) {
         if (Math.abs(valor) < epsilon) {
             return 0.0;
         }
@@ -341,6 +395,13 @@ public abstract class SimplexBase {
     public boolean isSolucionEncontrada() { return soluciónOptima; }
     public double obtenerValorFuncionObjetivo() { return getValor(0, nroColumnas - 1); }
     public boolean isMaximizar() { return maximizar; }
+    public OpcionesResolucion getOpciones() { return opciones; }
+    public double getEpsilon() { return epsilon; }
+    public int getDecimales() { return decimales; }
+    public int getIteraciones() { return iteraciones; }
+    public boolean isPruebaCocienteHarris() { return pruebaCocienteHarris; }
+    public double getToleranciaFactibilidad() { return toleranciaFactibilidad; }
+    public double getToleranciaPivote() { return toleranciaPivote; }
 
     // Métodos para acceder a las variables
     public List<VariableInfo> getVariables() { return new ArrayList<>(variables); }
@@ -0,0 +1,191 @@
+package org.universidad.granm.claseabstracta;
+
+import java.util.Arrays;
+
+/**
+ * Acumula un {@link ModeloLineal} mientras se lee un archivo: filas y columnas se dan de alta por
+ * nombre, y los coeficientes se guardan como tripletas en arreglos que crecen, sin un objeto por
+ * elemento. Al final {@link #construir()} arma la matriz dispersa con una ordenación por conteo.
+ */
+final class ConstructorModelo {
+
+    private final TablaNombres filas = new TablaNombres();
+    private final TablaNombres columnas = new TablaNombres();
+
+    private String nombre = "";
+    private boolean maximizar;
+    private double constanteObjetivo;
+
+    private TipoRestriccion[] tipos = new TipoRestriccion[64];
+    private double[] terminos = new double[64];
+    // Amplitud del rango de cada fila (RANGES en MPS, lo ≤ expr ≤ hi en LP); NaN si no tiene
+    private double[] rangos = new double[64];
+
+    private double[] objetivo = new double[64];
+    private double[] cotaInferior = new double[64];
+    private double[] cotaSuperior = new double[64];
+
+    private int[] filaT = new int[1024];
+    private int[] columnaT = new int[1024];
+    private double[] valorT = new double[1024];
+    private int noCeros;
+
+    void setNombre(String nombre) { this.nombre = nombre; }
+    void setMaximizar(boolean maximizar) { this.maximizar = maximizar; }
+    void sumarConstanteObjetivo(double valor) { constanteObjetivo += valor; }
+    void setConstanteObjetivo(double valor) { constanteObjetivo = valor; }
+
+    // Filas
+
+    int buscarFila(LectorMapeado lector, int desde, int hasta) {
+        return filas.buscar(lector, desde, hasta);
+    }
+
+    /**
+     * Da de alta una restricción con el nombre leído; el tipo puede quedar en null hasta conocerlo.
+     */
+    int agregarFila(LectorMapeado lector, int desde, int hasta, TipoRestriccion tipo) {
+        if (filas.buscar(lector, desde, hasta) >= 0)
+            throw lector.error("Restricción repetida: " + lector.texto(desde, hasta));
+        return prepararFila(filas.agregar(lector, desde, hasta), tipo);
+    }
+
+    /**
+     * Da de alta una restricción sin nombre en el archivo, con un nombre R1, R2, ... que no esté usado.
+     */
+    int agregarFila(TipoRestriccion tipo) {
+        int indice;
+        int sufijo = filas.cantidad() + 1;
+        while ((indice = filas.agregar("R" + sufijo)) < 0)
+            sufijo++;
+        return prepararFila(indice, tipo);
+    }
+
+    private int prepararFila(int indice, TipoRestriccion tipo) {
+        if (indice == tipos.length) {
+            tipos = Arrays.copyOf(tipos, indice * 2);
+            terminos = Arrays.copyOf(terminos, indice * 2);
+            rangos = Arrays.copyOf(rangos, indice * 2);
+        }
+        tipos[indice] = tipo;
+        terminos[indice] = 0;
+        rangos[indice] = Double.NaN;
+        return indice;
+    }
+
+    void setTipo(int fila, TipoRestriccion tipo) { tipos[fila] = tipo; }
+    TipoRestriccion getTipo(int fila) { return tipos[fila]; }
+    void setTermino(int fila, double valor) { terminos[fila] = valor; }
+    void setRango(int fila, double valor) { rangos[fila] = valor; }
+    int getNroFilas() { return filas.cantidad(); }
+
+    // Columnas
+
+    /**
+     * Índice de la columna con ese nombre, dándola de alta (0 ≤ x < ∞, costo 0) si es nueva.
+     */
+    int columna(LectorMapeado lector, int desde, int hasta) {
+        int indice = columnas.buscar(lector, desde, hasta);
+        if (indice >= 0)
+            return indice;
+        indice = columnas.agregar(lector, desde, hasta);
+        if (indice == objetivo.length) {
+            objetivo = Arrays.copyOf(objetivo, indice * 2);
+            cotaInferior = Arrays.copyOf(cotaInferior, indice * 2);
+            cotaSuperior = Arrays.copyOf(cotaSuperior, indice * 2);
+        }
+        objetivo[indice] = 0;
+        cotaInferior[indice] = 0;
+        cotaSuperior[indice] = Double.POSITIVE_INFINITY;
+        return indice;
+    }
+
+    void sumarObjetivo(int columna, double valor) { objetivo[columna] += valor; }
+    double getCotaInferior(int columna) { return cotaInferior[columna]; }
+    double getCotaSuperior(int columna) { return cotaSuperior[columna]; }
+    void setCotaInferior(int columna, double valor) { cotaInferior[columna] = valor; }
+    void setCotaSuperior(int columna, double valor) { cotaSuperior[columna] = valor; }
+
+    /**
+     * Agrega el coeficiente a(fila, columna); los repetidos se suman al construir.
+     */
+    void agregarCoeficiente(int fila, int columna, double valor) {
+        if (valor == 0)
+            return;
+        if (noCeros == filaT.length) {
+            int capacidad = noCeros + (noCeros >> 1);
+            filaT = Arrays.copyOf(filaT, capacidad);
+            columnaT = Arrays.copyOf(columnaT, capacidad);
+            valorT = Arrays.copyOf(valorT, capacidad);
+        }
+        filaT[noCeros] = fila;
+        columnaT[noCeros] = columna;
+        valorT[noCeros] = valor;
+        noCeros++;
+    }
+
+    /**
+     * Arma el modelo. Cada fila con rango l ≤ a·x ≤ u se convierte en a·x ≥ l más una fila nueva a·x ≤ u
+     * al final (nombre con sufijo _rango), o en una igualdad si l = u.
+     */
+    ModeloLineal construir() {
+        int m = filas.cantidad();
+        int n = columnas.cantidad();
+        String[] nombresFilas = filas.nombres();
+        for (int i = 0; i < m; i++)
+            if (tipos[i] == null)
+                throw new IllegalArgumentException("La restricción " + nombresFilas[i] + " no tiene tipo");
+
+        int[] filaRango = new int[m];
+        Arrays.fill(filaRango, -1);
+        int extra = 0;
+        double[] superiores = new double[m];
+        for (int i = 0; i < m; i++) {
+            if (Double.isNaN(rangos[i]))
+                continue;
+            double amplitud = Math.abs(rangos[i]);
+            double inferior;
+            double superior;
+            switch (tipos[i]) {
+                case MENOR_IGUAL -> { inferior = terminos[i] - amplitud; superior = terminos[i]; }
+                case MAYOR_IGUAL -> { inferior = terminos[i]; superior = terminos[i] + amplitud; }
+                default -> {
+                    inferior = rangos[i] < 0 ? terminos[i] - amplitud : terminos[i];
+                    superior = rangos[i] < 0 ? terminos[i] : terminos[i] + amplitud;
+                }
+            }
+            if (inferior == superior) {
+                tipos[i] = TipoRestriccion.IGUAL;
+                terminos[i] = inferior;
+                continue;
+            }
+            tipos[i] = TipoRestriccion.MAYOR_IGUAL;
+            terminos[i] = inferior;
+            superiores[extra] = superior;
+            filaRango[i] = m + extra++;
+        }
+
+        int total = m + extra;
+        TipoRestriccion[] tiposFinales = Arrays.copyOf(tipos, total);
+        double[] terminosFinales = Arrays.copyOf(terminos, total);
+        String[] nombresFinales = Arrays.copyOf(nombresFilas, total);
+        if (extra > 0) {
+            for (int i = 0; i < m; i++) {
+                int nueva = filaRango[i];
+                if (nueva < 0) continue;
+                tiposFinales[nueva] = TipoRestriccion.MENOR_IGUAL;
+                terminosFinales[nueva] = superiores[nueva - m];
+                nombresFinales[nueva] = nombresFilas[i] + "_rango";
+            }
+            int original = noCeros;
+            for (int k = 0; k < original; k++)
+                if (filaRango[filaT[k]] >= 0)
+                    agregarCoeficiente(filaRango[filaT[k]], columnaT[k], valorT[k]);
+        }
+
+        MatrizDispersa matriz = MatrizDispersa.desdeTripletas(total, n, filaT, columnaT, valorT, noCeros);
+        return new ModeloLineal(nombre, maximizar, Arrays.copyOf(objetivo, n), constanteObjetivo, matriz,
+                terminosFinales, tiposFinales, Arrays.copyOf(cotaInferior, n), Arrays.copyOf(cotaSuperior, n),
+                columnas.nombres(), nombresFinales);
+    }
+}
@@ -0,0 +1,215 @@
+package org.universidad.granm.claseabstracta;
+
+import java.util.Arrays;
+
+/**
+ * Escalado de filas y columnas de la matriz de restricciones antes de construir el tableau.
+ * El motor recibe A' = R·A·S, b' = R·b y c' = S·c, con R y S diagonales; así los coeficientes quedan
+ * cerca de 1 y las comparaciones contra epsilon dejan de depender de las unidades del modelo.
+ * Los factores se redondean a potencias de 2 para no agregar error de redondeo.
+ *
+ * Al finalizar, el motor devuelve la solución en las unidades originales: x_j = s_j·x'_j para las
+ * variables de decisión y holgura_i = holgura'_i / r_i para las auxiliares. El valor de z no cambia.
+ *
+ *     SimplexBase motor = Escalado.fabrica(Escalado.Metodo.MEDIA_GEOMETRICA, MDosFasesRefactorizada::new)
+ *             .crear(funcionObjetivo, restricciones, terminos, tipos, true);
+ */
+public final class Escalado {
+
+    /**
+     * Cómo se calculan los factores.
+     */
+    public enum Metodo {
+        /** Pasadas alternadas que dividen cada fila y columna por la media geométrica de su mayor y menor |a_ij|. */
+        MEDIA_GEOMETRICA,
+        /** Cada fila y luego cada columna se divide por su mayor |a_ij|, que queda en 1. */
+        EQUILIBRIO
+    }
+
+    private static final int PASADAS_MEDIA_GEOMETRICA = 4;
+
+    private final Metodo metodo;
+    private final double[] escalaFila;
+    private final double[] escalaColumna;
+    private final double rangoOriginal;
+    private final double rangoEscalado;
+
+    /**
+     * Calcula los factores de escala de la matriz de restricciones.
+     *
+     * @param nroVariables cantidad de variables (puede ser mayor que las columnas de la matriz)
+     */
+    public Escalado(Metodo metodo, MatrizDispersa restricciones, int nroVariables) {
+        if (metodo == null)
+            throw new IllegalArgumentException("El método de escalado no puede ser nulo");
+        if (restricciones.getNroColumnas() > nroVariables)
+            throw new IllegalArgumentException("La matriz de restricciones tiene más columnas que variables");
+
+        this.metodo = metodo;
+        this.escalaFila = new double[restricciones.getNroFilas()];
+        this.escalaColumna = new double[nroVariables];
+        Arrays.fill(escalaFila, 1);
+        Arrays.fill(escalaColumna, 1);
+        this.rangoOriginal = rango(restricciones);
+
+        if (metodo == Metodo.MEDIA_GEOMETRICA) {
+            double anterior = rangoOriginal;
+            for (int pasada = 0; pasada < PASADAS_MEDIA_GEOMETRICA; pasada++) {
+                escalarFilasMediaGeometrica(restricciones);
+                escalarColumnasMediaGeometrica(restricciones);
+                double actual = rango(restricciones);
+                // Otra pasada mejora poco si el rango ya casi no baja
+                if (actual > 0.9 * anterior)
+                    break;
+                anterior = actual;
+            }
+        } else {
+            equilibrar(restricciones);
+        }
+        redondearAPotenciasDeDos(escalaFila);
+        redondearAPotenciasDeDos(escalaColumna);
+        this.rangoEscalado = rango(restricciones);
+    }
+
+    /**
+     * Fábrica que escala el modelo y construye el motor con la fábrica dada; el motor queda con
+     * los factores para devolver la solución en las unidades originales.
+     */
+    public static FabricaMotor fabrica(Metodo metodo, FabricaMotor fabrica) {
+        return (funcionObjetivo, restricciones, terminosIndependientes, tipoRestricciones, maximizar) -> {
+            Escalado escalado = new Escalado(metodo, restricciones, funcionObjetivo.length);
+            SimplexBase motor = fabrica.crear(escalado.escalarObjetivo(funcionObjetivo),
+                    escalado.escalarRestricciones(restricciones), escalado.escalarTerminos(terminosIndependientes),
+                    tipoRestricciones.clone(), maximizar);
+            motor.aplicarEscalado(escalado);
+            return motor;
+        };
+    }
+
+    private void escalarFilasMediaGeometrica(MatrizDispersa a) {
+        for (int i = 0; i < a.getNroFilas(); i++) {
+            double mayor = 0;
+            double menor = Double.POSITIVE_INFINITY;
+            for (int k = a.getInicioFila(i); k < a.getFinFila(i); k++) {
+                double v = Math.abs(a.getValorPosicion(k)) * escalaFila[i] * escalaColumna[a.getColumna(k)];
+                mayor = Math.max(mayor, v);
+                menor = Math.min(menor, v);
+            }
+            if (mayor > 0)
+                escalaFila[i] /= Math.sqrt(mayor * menor);
+        }
+    }
+
+    private void escalarColumnasMediaGeometrica(MatrizDispersa a) {
+        double[] mayor = new double[escalaColumna.length];
+        double[] menor = new double[escalaColumna.length];
+        Arrays.fill(menor, Double.POSITIVE_INFINITY);
+        for (int i = 0; i < a.getNroFilas(); i++) {
+            for (int k = a.getInicioFila(i); k < a.getFinFila(i); k++) {
+                int j = a.getColumna(k);
+                double v = Math.abs(a.getValorPosicion(k)) * escalaFila[i] * escalaColumna[j];
+                mayor[j] = Math.max(mayor[j], v);
+                menor[j] = Math.min(menor[j], v);
+            }
+        }
+        for (int j = 0; j < escalaColumna.length; j++)
+            if (mayor[j] > 0)
+                escalaColumna[j] /= Math.sqrt(mayor[j] * menor[j]);
+    }
+
+    private void equilibrar(MatrizDispersa a) {
+        for (int i = 0; i < a.getNroFilas(); i++) {
+            double mayor = 0;
+            for (int k = a.getInicioFila(i); k < a.getFinFila(i); k++)
+                mayor = Math.max(mayor, Math.abs(a.getValorPosicion(k)));
+            if (mayor > 0)
+                escalaFila[i] = 1 / mayor;
+        }
+
+        double[] mayor = new double[escalaColumna.length];
+        for (int i = 0; i < a.getNroFilas(); i++)
+            for (int k = a.getInicioFila(i); k < a.getFinFila(i); k++)
+                mayor[a.getColumna(k)] = Math.max(mayor[a.getColumna(k)], Math.abs(a.getValorPosicion(k)) * escalaFila[i]);
+        for (int j = 0; j < escalaColumna.length; j++)
+            if (mayor[j] > 0)
+                escalaColumna[j] = 1 / mayor[j];
+    }
+
+    /**
+     * Potencia de 2 más cercana en escala logarítmica; multiplicar por ella es exacto.
+     */
+    private static void redondearAPotenciasDeDos(double[] factores) {
+        for (int k = 0; k < factores.length; k++)
+            factores[k] = Math.scalb(1.0, Math.getExponent(factores[k] * Math.sqrt(2)));
+    }
+
+    /**
+     * Cociente entre el mayor y el menor |a_ij| no nulo con los factores actuales (1 si no hay no nulos).
+     */
+    private double rango(MatrizDispersa a) {
+        double mayor = 0;
+        double menor = Double.POSITIVE_INFINITY;
+        for (int i = 0; i < a.getNroFilas(); i++) {
+            for (int k = a.getInicioFila(i); k < a.getFinFila(i); k++) {
+                double v = Math.abs(a.getValorPosicion(k)) * escalaFila[i] * escalaColumna[a.getColumna(k)];
+                mayor = Math.max(mayor, v);
+                menor = Math.min(menor, v);
+            }
+        }
+        return mayor > 0 ? mayor / menor : 1;
+    }
+
+    // Transformación del modelo (siempre en copias nuevas)
+
+    public MatrizDispersa escalarRestricciones(MatrizDispersa a) {
+        int filas = a.getNroFilas();
+        int[] inicio = new int[filas + 1];
+        int[] columnas = new int[a.getNroNoCeros()];
+        double[] valores = new double[a.getNroNoCeros()];
+        for (int i = 0; i < filas; i++) {
+            inicio[i + 1] = a.getFinFila(i);
+            for (int k = a.getInicioFila(i); k < a.getFinFila(i); k++) {
+                columnas[k] = a.getColumna(k);
+                valores[k] = a.getValorPosicion(k) * escalaFila[i] * escalaColumna[columnas[k]];
+            }
+        }
+        return new MatrizDispersa(filas, a.getNroColumnas(), inicio, columnas, valores);
+    }
+
+    public double[] escalarTerminos(double[] terminosIndependientes) {
+        double[] escalados = new double[terminosIndependientes.length];
+        for (int i = 0; i < escalados.length; i++)
+            escalados[i] = terminosIndependientes[i] * escalaFila[i];
+        return escalados;
+    }
+
+    public double[] escalarObjetivo(double[] funcionObjetivo) {
+        double[] escalada = new double[funcionObjetivo.length];
+        for (int j = 0; j < escalada.length; j++)
+            escalada[j] = funcionObjetivo[j] * escalaColumna[j];
+        return escalada;
+    }
+
+    /**
+     * Variables de decisión del problema escalado a las del original: x_j = s_j·x'_j.
+     */
+    public double[] desescalarPrimal(double[] x) {
+        double[] original = new double[x.length];
+        for (int j = 0; j < x.length; j++)
+            original[j] = x[j] * escalaColumna[j];
+        return original;
+    }
+
+    public Metodo getMetodo() { return metodo; }
+    public double getEscalaFila(int i) { return escalaFila[i]; }
+    public double getEscalaColumna(int j) { return escalaColumna[j]; }
+    /** Cociente entre el mayor y el menor coeficiente no nulo antes de escalar. */
+    public double getRangoOriginal() { return rangoOriginal; }
+    /** Cociente entre el mayor y el menor coeficiente no nulo después de escalar. */
+    public double getRangoEscalado() { return rangoEscalado; }
+
+    @Override
+    public String toString() {
+        return String.format("Escalado %s: rango de coeficientes %.2e -> %.2e", metodo, rangoOriginal, rangoEscalado);
+    }
+}
@@ -0,0 +1,27 @@
+package org.universidad.granm.claseabstracta;
+
+/**
+ * Cómo terminó la última resolución de un motor Simplex.
+ */
+public enum EstadoSolucion {
+    /**
+     * Todavía no se llamó a resolver (o la resolución no llegó a ninguna conclusión).
+     */
+    SIN_RESOLVER,
+    /**
+     * Se encontró una solución óptima.
+     */
+    OPTIMA,
+    /**
+     * La función objetivo no está acotada en la región factible.
+     */
+    NO_ACOTADA,
+    /**
+     * Las restricciones no tienen solución factible.
+     */
+    INFACTIBLE,
+    /**
+     * Se cortó por el máximo de iteraciones o el tiempo límite de las opciones.
+     */
+    LIMITE_ALCANZADO
+}
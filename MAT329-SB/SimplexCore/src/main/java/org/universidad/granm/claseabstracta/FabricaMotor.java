@@ -0,0 +1,12 @@
+package org.universidad.granm.claseabstracta;
+
+/**
+ * Constructor de un motor a partir del modelo, con la firma de los constructores de cinco argumentos
+ * de los motores (por ejemplo {@code MDosFasesRefactorizada::new}). Lo usan las etapas que transforman
+ * el modelo antes de construir el tableau, como {@link Presolucion} y {@link Escalado}.
+ */
+@FunctionalInterface
+public interface FabricaMotor {
+    SimplexBase crear(double[] funcionObjetivo, MatrizDispersa restricciones,
+                      double[] terminosIndependientes, TipoRestriccion[] tipoRestricciones, boolean maximizar);
+}
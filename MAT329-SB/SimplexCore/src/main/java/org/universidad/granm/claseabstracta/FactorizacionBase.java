@@ -0,0 +1,195 @@
+package org.universidad.granm.claseabstracta;
+
+import java.util.Arrays;
+
+/**
+ * Factorización de la matriz básica B para el método Simplex revisado.
+ * Guarda P·B = L·U (pivoteo parcial por filas) y, entre refactorizaciones,
+ * un archivo de matrices eta en forma producto: B_k^-1 = E_k ··· E_1 · B_0^-1.
+ *
+ * Limitación: L y U se guardan densas (m×m), así que la memoria es O(m²), cada refactorización
+ * cuesta O(m³) y cada ftran/btran O(m²), por dispersa que sea la base. Solo las columnas eta son
+ * dispersas. Sirve para problemas de hasta unos pocos miles de restricciones; para modelos grandes
+ * y dispersos haría falta una LU dispersa con orden de Markowitz que limite el relleno.
+ */
+final class FactorizacionBase {
+
+    private static final double TOLERANCIA_SINGULAR = 1e-12;
+
+    private final int m;
+    private final double[] lu;
+    private final int[] permutacion;
+
+    // Archivo eta: posición de la columna reemplazada y parte no nula de la columna eta
+    private int nroEtas;
+    private int[] etaPosicion;
+    private int[][] etaIndices;
+    private double[][] etaValores;
+
+    FactorizacionBase(int m) {
+        this.m = m;
+        this.lu = new double[m * m];
+        this.permutacion = new int[m];
+        this.etaPosicion = new int[16];
+        this.etaIndices = new int[16][];
+        this.etaValores = new double[16][];
+    }
+
+    /**
+     * Factoriza la base densa B (m×m, fila mayor) y vacía el archivo eta.
+     *
+     * @throws IllegalStateException si la base es singular
+     */
+    void factorizar(double[] base) {
+        System.arraycopy(base, 0, lu, 0, m * m);
+        for (int i = 0; i < m; i++) permutacion[i] = i;
+        nroEtas = 0;
+
+        for (int k = 0; k < m; k++) {
+            int filaMax = k;
+            double max = Math.abs(lu[k * m + k]);
+            for (int i = k + 1; i < m; i++) {
+                double v = Math.abs(lu[i * m + k]);
+                if (v > max) {
+                    max = v;
+                    filaMax = i;
+                }
+            }
+            if (max < TOLERANCIA_SINGULAR)
+                throw new IllegalStateException("Base singular");
+
+            if (filaMax != k) {
+                intercambiarFilas(k, filaMax);
+                int t = permutacion[k];
+                permutacion[k] = permutacion[filaMax];
+                permutacion[filaMax] = t;
+            }
+
+            double pivote = lu[k * m + k];
+            for (int i = k + 1; i < m; i++) {
+                double l = lu[i * m + k];
+                if (l == 0) continue;
+                l /= pivote;
+                lu[i * m + k] = l;
+                int fi = i * m, fk = k * m;
+                for (int j = k + 1; j < m; j++)
+                    lu[fi + j] -= l * lu[fk + j];
+            }
+        }
+    }
+
+    private void intercambiarFilas(int a, int b) {
+        int fa = a * m, fb = b * m;
+        for (int j = 0; j < m; j++) {
+            double t = lu[fa + j];
+            lu[fa + j] = lu[fb + j];
+            lu[fb + j] = t;
+        }
+    }
+
+    /**
+     * FTRAN: resuelve B x = a. El resultado queda en {@code x}; {@code a} no se modifica.
+     */
+    void ftran(double[] a, double[] x) {
+        for (int i = 0; i < m; i++)
+            x[i] = a[permutacion[i]];
+
+        // L y = P a (L con diagonal unitaria)
+        for (int i = 1; i < m; i++) {
+            double suma = x[i];
+            int fi = i * m;
+            for (int j = 0; j < i; j++)
+                suma -= lu[fi + j] * x[j];
+            x[i] = suma;
+        }
+        // U x = y
+        for (int i = m - 1; i >= 0; i--) {
+            double suma = x[i];
+            int fi = i * m;
+            for (int j = i + 1; j < m; j++)
+                suma -= lu[fi + j] * x[j];
+            x[i] = suma / lu[fi + i];
+        }
+
+        for (int e = 0; e < nroEtas; e++) {
+            int r = etaPosicion[e];
+            double xr = x[r];
+            if (xr == 0) continue;
+            x[r] = 0;
+            int[] indices = etaIndices[e];
+            double[] valores = etaValores[e];
+            for (int k = 0; k < indices.length; k++)
+                x[indices[k]] += valores[k] * xr;
+        }
+    }
+
+    /**
+     * BTRAN: resuelve y^T B = c^T. El resultado queda en {@code y}; {@code c} no se modifica.
+     */
+    void btran(double[] c, double[] y) {
+        double[] z = Arrays.copyOf(c, m);
+
+        // z^T = c^T E_k ··· E_1: cada eta solo cambia la componente de su posición
+        for (int e = nroEtas - 1; e >= 0; e--) {
+            int[] indices = etaIndices[e];
+            double[] valores = etaValores[e];
+            double suma = 0;
+            for (int k = 0; k < indices.length; k++)
+                suma += z[indices[k]] * valores[k];
+            z[etaPosicion[e]] = suma;
+        }
+
+        // B_0^T = U^T L^T P: U^T w = z
+        for (int i = 0; i < m; i++) {
+            double suma = z[i];
+            for (int j = 0; j < i; j++)
+                suma -= lu[j * m + i] * z[j];
+            z[i] = suma / lu[i * m + i];
+        }
+        // L^T v = w
+        for (int i = m - 1; i >= 0; i--) {
+            double suma = z[i];
+            for (int j = i + 1; j < m; j++)
+                suma -= lu[j * m + i] * z[j];
+            z[i] = suma;
+        }
+        for (int i = 0; i < m; i++)
+            y[permutacion[i]] = z[i];
+    }
+
+    /**
+     * Registra el cambio de base en la posición r, dada la columna entrante ya transformada
+     * {@code alfa = B^-1 a_q}.
+     */
+    void actualizar(int r, double[] alfa) {
+        double pivote = alfa[r];
+        int nnz = 0;
+        for (int i = 0; i < m; i++)
+            if (alfa[i] != 0) nnz++;
+
+        int[] indices = new int[nnz];
+        double[] valores = new double[nnz];
+        int k = 0;
+        for (int i = 0; i < m; i++) {
+            if (alfa[i] == 0) continue;
+            indices[k] = i;
+            valores[k] = i == r ? 1 / pivote : -alfa[i] / pivote;
+            k++;
+        }
+
+        if (nroEtas == etaPosicion.length) {
+            int capacidad = nroEtas * 2;
+            etaPosicion = Arrays.copyOf(etaPosicion, capacidad);
+            etaIndices = Arrays.copyOf(etaIndices, capacidad);
+            etaValores = Arrays.copyOf(etaValores, capacidad);
+        }
+        etaPosicion[nroEtas] = r;
+        etaIndices[nroEtas] = indices;
+        etaValores[nroEtas] = valores;
+        nroEtas++;
+    }
+
+    int getNroEtas() {
+        return nroEtas;
+    }
+}
@@ -0,0 +1,634 @@
+package org.universidad.granm.claseabstracta;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Lectura y escritura de modelos en formato LP de CPLEX:
+ *
+ *     \ comentario
+ *     Maximize
+ *      obj: 3 x1 + 2 x2 - x3
+ *     Subject To
+ *      c1: x1 + x2 + x3 <= 10
+ *      c2: x1 - x2 >= -2
+ *      -5 <= x1 - x3 <= 5
+ *     Bounds
+ *      x1 <= 4
+ *      -inf <= x3 <= 8
+ *      x2 free
+ *     End
+ *
+ * Las expresiones y restricciones pueden ocupar varias líneas; cada cota va en su propia línea.
+ * Las palabras clave (Maximize/Minimize, Subject To/st/s.t., Bounds, End) se reconocen al comienzo
+ * de una línea. Las restricciones sin nombre reciben R1, R2, ...; las de rango l ≤ a·x ≤ u se
+ * convierten en dos filas. Las secciones de variables enteras o semicontinuas y los términos
+ * cuadráticos no se admiten.
+ */
+public final class FormatoLp {
+
+    private static final double INFINITO = 1e30;
+    // Caracteres que cortan un nombre
+    private static final String OPERADORES = "+-<>=:[]*^\\";
+    private static final String[] PALABRAS_RESERVADAS = {
+            "maximize", "maximise", "maximum", "max", "minimize", "minimise", "minimum", "min",
+            "subject", "such", "st", "s.t.", "st.", "bounds", "bound", "general", "generals", "gen",
+            "integer", "integers", "binary", "binaries", "bin", "semi", "semis", "end", "free", "inf", "infinity"};
+
+    private FormatoLp() {
+    }
+
+    /**
+     * @throws IllegalArgumentException si el archivo no respeta el formato (el mensaje indica la línea)
+     */
+    public static ModeloLineal leer(Path archivo) throws IOException {
+        try (LectorMapeado lector = new LectorMapeado(archivo)) {
+            return new Analizador(lector).leer();
+        }
+    }
+
+    /**
+     * Analizador de un archivo: separa cada línea en tokens y los procesa con una máquina de estados
+     * que sigue viva entre líneas, así que solo hace falta mirar hacia adelante dentro de la línea.
+     */
+    private static final class Analizador {
+
+        private static final byte NUMERO = 0, NOMBRE = 1, MAS = 2, MENOS = 3, DOS_PUNTOS = 4,
+                MENOR_IGUAL = 5, MAYOR_IGUAL = 6, IGUAL = 7;
+
+        private enum Seccion { NINGUNA, OBJETIVO, RESTRICCIONES, COTAS }
+
+        private enum Estado { INICIO, EXPRESION, LADO_DERECHO }
+
+        private final LectorMapeado lector;
+        private final ConstructorModelo modelo = new ConstructorModelo();
+
+        // Tokens de la línea actual
+        private byte[] tipo = new byte[64];
+        private int[] inicio = new int[64];
+        private int[] fin = new int[64];
+        private double[] valor = new double[64];
+        private int cantidad;
+
+        private Seccion seccion = Seccion.NINGUNA;
+        private boolean hayObjetivo;
+
+        // Expresión en curso (objetivo o lado izquierdo de una restricción)
+        private Estado estado = Estado.INICIO;
+        private int fila;
+        private double signo = 1;
+        private double coeficiente;
+        private boolean hayCoeficiente;
+        private boolean hayVariables;
+        private boolean hayConstante;
+        private double constante;
+
+        // Restricción en curso
+        private byte sentido;
+        private double signoDerecho;
+        // Forma de rango l ≤ expr ≤ u: el número y el sentido que quedaron a la izquierda
+        private boolean hayIzquierda;
+        private double izquierda;
+        private byte sentidoIzquierda;
+
+        // Operando de una cota: variable o valor
+        private boolean operandoEsVariable;
+        private int operandoColumna;
+        private double operandoValor;
+
+        Analizador(LectorMapeado lector) {
+            this.lector = lector;
+        }
+
+        ModeloLineal leer() throws IOException {
+            boolean terminado = false;
+            while (!terminado && lector.siguienteLinea()) {
+                separarTokens();
+                if (cantidad == 0)
+                    continue;
+                int t = palabraClave();
+                if (t < 0) {
+                    terminado = true;
+                    continue;
+                }
+                if (t == cantidad)
+                    continue;
+                switch (seccion) {
+                    case NINGUNA -> throw lector.error("Se esperaba Maximize o Minimize");
+                    case OBJETIVO -> {
+                        for (; t < cantidad; t++)
+                            t = tokenObjetivo(t);
+                    }
+                    case RESTRICCIONES -> {
+                        for (; t < cantidad; t++)
+                            t = tokenRestriccion(t);
+                    }
+                    case COTAS -> leerCota(t);
+                }
+            }
+            cerrarSeccion();
+            if (!terminado)
+                throw new IllegalArgumentException("Falta End al final del archivo");
+            if (!hayObjetivo)
+                throw new IllegalArgumentException("Falta la función objetivo (Maximize o Minimize)");
+            return modelo.construir();
+        }
+
+        // Secciones
+
+        /**
+         * Reconoce una palabra clave de sección al comienzo de la línea.
+         *
+         * @return índice del primer token después de la palabra clave (0 si no hay), o -1 en End
+         */
+        private int palabraClave() {
+            if (tipo[0] != NOMBRE)
+                return 0;
+            boolean dosPalabras = cantidad > 1 && tipo[1] == NOMBRE;
+            if (es(0, "maximize") || es(0, "maximise") || es(0, "maximum") || es(0, "max")
+                    || es(0, "minimize") || es(0, "minimise") || es(0, "minimum") || es(0, "min")) {
+                if (hayObjetivo)
+                    throw lector.error("La función objetivo ya fue definida");
+                cerrarSeccion();
+                modelo.setMaximizar(lector.byteEn(inicio[0] + 1) == 'a' || lector.byteEn(inicio[0] + 1) == 'A');
+                hayObjetivo = true;
+                seccion = Seccion.OBJETIVO;
+                return 1;
+            }
+            int consumidos = 0;
+            if (es(0, "st") || es(0, "s.t.") || es(0, "st."))
+                consumidos = 1;
+            else if (dosPalabras && ((es(0, "subject") && es(1, "to")) || (es(0, "such") && es(1, "that"))))
+                consumidos = 2;
+            if (consumidos > 0) {
+                cerrarSeccion();
+                seccion = Seccion.RESTRICCIONES;
+                return consumidos;
+            }
+            if (es(0, "bounds") || es(0, "bound")) {
+                cerrarSeccion();
+                seccion = Seccion.COTAS;
+                return 1;
+            }
+            if (es(0, "general") || es(0, "generals") || es(0, "gen") || es(0, "integer") || es(0, "integers")
+                    || es(0, "binary") || es(0, "binaries") || es(0, "bin") || es(0, "semi") || es(0, "semis"))
+                throw lector.error("Variables enteras o semicontinuas no soportadas");
+            if (es(0, "end") && cantidad == 1) {
+                cerrarSeccion();
+                return -1;
+            }
+            return 0;
+        }
+
+        private void cerrarSeccion() {
+            if (seccion == Seccion.OBJETIVO) {
+                cerrarConstante();
+                modelo.sumarConstanteObjetivo(constante);
+                reiniciarExpresion();
+            } else if (seccion == Seccion.RESTRICCIONES && estado != Estado.INICIO) {
+                throw lector.error("Restricción incompleta");
+            }
+            seccion = Seccion.NINGUNA;
+        }
+
+        // Expresiones
+
+        private void reiniciarExpresion() {
+            estado = Estado.INICIO;
+            signo = 1;
+            hayCoeficiente = false;
+            hayVariables = false;
+            hayConstante = false;
+            constante = 0;
+            hayIzquierda = false;
+        }
+
+        /**
+         * Un número sin variable a continuación es un término constante.
+         */
+        private void cerrarConstante() {
+            if (hayCoeficiente) {
+                constante += signo * coeficiente;
+                hayConstante = true;
+                signo = 1;
+                hayCoeficiente = false;
+            }
+        }
+
+        /**
+         * Procesa un token de la forma [signo] [número] [variable].
+         *
+         * @return false si el token no pertenece a una expresión
+         */
+        private boolean tokenExpresion(int t, boolean objetivo) {
+            switch (tipo[t]) {
+                case MAS -> cerrarConstante();
+                case MENOS -> {
+                    cerrarConstante();
+                    signo = -signo;
+                }
+                case NUMERO -> {
+                    if (hayCoeficiente)
+                        throw lector.error("Falta un operador entre dos números");
+                    coeficiente = valor[t];
+                    hayCoeficiente = true;
+                }
+                case NOMBRE -> {
+                    int columna = modelo.columna(lector, inicio[t], fin[t]);
+                    double c = signo * (hayCoeficiente ? coeficiente : 1);
+                    if (objetivo)
+                        modelo.sumarObjetivo(columna, c);
+                    else
+                        modelo.agregarCoeficiente(fila, columna, c);
+                    signo = 1;
+                    hayCoeficiente = false;
+                    hayVariables = true;
+                }
+                default -> {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private int tokenObjetivo(int t) {
+            // Nombre opcional de la función objetivo: "obj:"
+            if (estado == Estado.INICIO) {
+                estado = Estado.EXPRESION;
+                if (tipo[t] == NOMBRE && t + 1 < cantidad && tipo[t + 1] == DOS_PUNTOS)
+                    return t + 1;
+            }
+            if (!tokenExpresion(t, true))
+                throw lector.error("Token inesperado en la función objetivo: " + lector.texto(inicio[t], fin[t]));
+            return t;
+        }
+
+        private int tokenRestriccion(int t) {
+            switch (estado) {
+                case INICIO -> {
+                    estado = Estado.EXPRESION;
+                    if (tipo[t] == NOMBRE && t + 1 < cantidad && tipo[t + 1] == DOS_PUNTOS) {
+                        fila = modelo.agregarFila(lector, inicio[t], fin[t], null);
+                        return t + 1;
+                    }
+                    fila = modelo.agregarFila(null);
+                    return tokenRestriccion(t);
+                }
+                case EXPRESION -> {
+                    if (tokenExpresion(t, false))
+                        return t;
+                    if (!esSentido(tipo[t]))
+                        throw lector.error("Token inesperado en la restricción: " + lector.texto(inicio[t], fin[t]));
+                    cerrarConstante();
+                    if (!hayVariables && !hayIzquierda && hayConstante) {
+                        // Forma de rango: el número de la izquierda y su sentido, y sigue la expresión
+                        hayIzquierda = true;
+                        izquierda = constante;
+                        sentidoIzquierda = tipo[t];
+                        constante = 0;
+                        hayConstante = false;
+                        return t;
+                    }
+                    if (!hayVariables)
+                        throw lector.error("La restricción no tiene variables");
+                    sentido = tipo[t];
+                    signoDerecho = 1;
+                    estado = Estado.LADO_DERECHO;
+                }
+                case LADO_DERECHO -> {
+                    switch (tipo[t]) {
+                        case MAS -> { }
+                        case MENOS -> signoDerecho = -signoDerecho;
+                        case NUMERO -> cerrarRestriccion(signoDerecho * valor[t]);
+                        default -> throw lector.error("Se esperaba el término independiente");
+                    }
+                }
+            }
+            return t;
+        }
+
+        private void cerrarRestriccion(double derecho) {
+            double rhs = derecho - constante;
+            if (!hayIzquierda) {
+                modelo.setTipo(fila, tipoDeSentido(sentido));
+                modelo.setTermino(fila, rhs);
+            } else {
+                // l s1 expr s2 u: las dos partes acotan la expresión por lados opuestos
+                double inferior = Double.NEGATIVE_INFINITY;
+                double superior = Double.POSITIVE_INFINITY;
+                double valorIzquierda = izquierda - constante;
+                if (sentidoIzquierda == MENOR_IGUAL && sentido == MENOR_IGUAL) {
+                    inferior = valorIzquierda;
+                    superior = rhs;
+                } else if (sentidoIzquierda == MAYOR_IGUAL && sentido == MAYOR_IGUAL) {
+                    inferior = rhs;
+                    superior = valorIzquierda;
+                } else {
+                    throw lector.error("Restricción de rango inválida: los dos sentidos deben ser <= o los dos >=");
+                }
+                if (inferior > superior)
+                    throw lector.error("Restricción de rango vacía");
+                modelo.setTipo(fila, TipoRestriccion.MAYOR_IGUAL);
+                modelo.setTermino(fila, inferior);
+                modelo.setRango(fila, superior - inferior);
+            }
+            reiniciarExpresion();
+        }
+
+        private static boolean esSentido(byte tipo) {
+            return tipo == MENOR_IGUAL || tipo == MAYOR_IGUAL || tipo == IGUAL;
+        }
+
+        private static TipoRestriccion tipoDeSentido(byte sentido) {
+            return switch (sentido) {
+                case MENOR_IGUAL -> TipoRestriccion.MENOR_IGUAL;
+                case MAYOR_IGUAL -> TipoRestriccion.MAYOR_IGUAL;
+                default -> TipoRestriccion.IGUAL;
+            };
+        }
+
+        // Cotas
+
+        /**
+         * Una cota por línea: "x free", "x s v", "v s x" o "v s x s v", con v un número o ±inf.
+         */
+        private void leerCota(int t) {
+            if (cantidad - t == 2 && tipo[t] == NOMBRE && es(t + 1, "free")) {
+                int columna = modelo.columna(lector, inicio[t], fin[t]);
+                modelo.setCotaInferior(columna, Double.NEGATIVE_INFINITY);
+                modelo.setCotaSuperior(columna, Double.POSITIVE_INFINITY);
+                return;
+            }
+            t = leerOperando(t);
+            boolean primeroEsVariable = operandoEsVariable;
+            int columna = operandoColumna;
+            double primerValor = operandoValor;
+            byte s1 = leerSentido(t++);
+            t = leerOperando(t);
+            if (primeroEsVariable == operandoEsVariable)
+                throw lector.error("Una cota relaciona una variable con un valor");
+            if (primeroEsVariable) {
+                aplicarCota(columna, s1, operandoValor);
+            } else {
+                columna = operandoColumna;
+                aplicarCota(columna, invertir(s1), primerValor);
+                if (t < cantidad) {
+                    byte s2 = leerSentido(t++);
+                    t = leerOperando(t);
+                    if (operandoEsVariable)
+                        throw lector.error("Se esperaba un valor");
+                    aplicarCota(columna, s2, operandoValor);
+                }
+            }
+            if (t < cantidad)
+                throw lector.error("Sobra texto en la cota");
+        }
+
+        private int leerOperando(int t) {
+            if (t >= cantidad)
+                throw lector.error("Cota incompleta");
+            double signoOperando = 1;
+            boolean haySigno = false;
+            if (tipo[t] == MAS || tipo[t] == MENOS) {
+                signoOperando = tipo[t] == MENOS ? -1 : 1;
+                haySigno = true;
+                if (++t >= cantidad)
+                    throw lector.error("Cota incompleta");
+            }
+            if (tipo[t] == NUMERO) {
+                operandoEsVariable = false;
+                operandoValor = signoOperando * valor[t];
+            } else if (tipo[t] == NOMBRE && (es(t, "inf") || es(t, "infinity"))) {
+                operandoEsVariable = false;
+                operandoValor = signoOperando * Double.POSITIVE_INFINITY;
+            } else if (tipo[t] == NOMBRE && !haySigno) {
+                operandoEsVariable = true;
+                operandoColumna = modelo.columna(lector, inicio[t], fin[t]);
+            } else {
+                throw lector.error("Se esperaba una variable o un valor");
+            }
+            if (!operandoEsVariable && Math.abs(operandoValor) >= INFINITO)
+                operandoValor = Math.copySign(Double.POSITIVE_INFINITY, operandoValor);
+            return t + 1;
+        }
+
+        private byte leerSentido(int t) {
+            if (t >= cantidad || !esSentido(tipo[t]))
+                throw lector.error("Se esperaba <=, >= o =");
+            return tipo[t];
+        }
+
+        private static byte invertir(byte sentido) {
+            return sentido == MENOR_IGUAL ? MAYOR_IGUAL : sentido == MAYOR_IGUAL ? MENOR_IGUAL : sentido;
+        }
+
+        private void aplicarCota(int columna, byte sentido, double v) {
+            if (sentido != MAYOR_IGUAL) {
+                // Como en MPS: una cota superior negativa con inferior 0 deja la variable sin cota inferior
+                if (v < 0 && modelo.getCotaInferior(columna) == 0 && sentido == MENOR_IGUAL)
+                    modelo.setCotaInferior(columna, Double.NEGATIVE_INFINITY);
+                modelo.setCotaSuperior(columna, v);
+            }
+            if (sentido != MENOR_IGUAL)
+                modelo.setCotaInferior(columna, v);
+        }
+
+        // Tokens
+
+        private boolean es(int t, String palabra) {
+            return lector.esPalabra(inicio[t], fin[t], palabra);
+        }
+
+        private void separarTokens() {
+            cantidad = 0;
+            int i = lector.getInicioLinea();
+            int finLinea = lector.getFinLinea();
+            while (i < finLinea) {
+                byte b = lector.byteEn(i);
+                if (LectorMapeado.esEspacio(b)) {
+                    i++;
+                    continue;
+                }
+                if (b == '\\')
+                    break;
+                int desde = i++;
+                byte t;
+                switch (b) {
+                    case '+' -> t = MAS;
+                    case '-' -> t = MENOS;
+                    case ':' -> t = DOS_PUNTOS;
+                    case '<' -> {
+                        t = MENOR_IGUAL;
+                        if (i < finLinea && lector.byteEn(i) == '=') i++;
+                    }
+                    case '>' -> {
+                        t = MAYOR_IGUAL;
+                        if (i < finLinea && lector.byteEn(i) == '=') i++;
+                    }
+                    case '=' -> {
+                        if (i < finLinea && lector.byteEn(i) == '<') {
+                            t = MENOR_IGUAL;
+                            i++;
+                        } else if (i < finLinea && lector.byteEn(i) == '>') {
+                            t = MAYOR_IGUAL;
+                            i++;
+                        } else {
+                            t = IGUAL;
+                        }
+                    }
+                    case '[', ']', '*', '^' -> throw lector.error("Términos cuadráticos no soportados");
+                    default -> {
+                        if (esCifra(b) || (b == '.' && i < finLinea && esCifra(lector.byteEn(i)))) {
+                            t = NUMERO;
+                            while (i < finLinea && (esCifra(lector.byteEn(i)) || lector.byteEn(i) == '.'))
+                                i++;
+                            // Exponente solo si le sigue una cifra: en "2e" o "2 ex" la e es de una variable
+                            if (i < finLinea && (lector.byteEn(i) == 'e' || lector.byteEn(i) == 'E')) {
+                                int j = i + 1;
+                                if (j < finLinea && (lector.byteEn(j) == '+' || lector.byteEn(j) == '-'))
+                                    j++;
+                                if (j < finLinea && esCifra(lector.byteEn(j))) {
+                                    i = j;
+                                    while (i < finLinea && esCifra(lector.byteEn(i)))
+                                        i++;
+                                }
+                            }
+                        } else {
+                            t = NOMBRE;
+                            while (i < finLinea && !LectorMapeado.esEspacio(lector.byteEn(i))
+                                    && OPERADORES.indexOf(lector.byteEn(i)) < 0)
+                                i++;
+                        }
+                    }
+                }
+                agregarToken(t, desde, i);
+            }
+        }
+
+        private void agregarToken(byte t, int desde, int hasta) {
+            if (cantidad == tipo.length) {
+                tipo = Arrays.copyOf(tipo, cantidad * 2);
+                inicio = Arrays.copyOf(inicio, cantidad * 2);
+                fin = Arrays.copyOf(fin, cantidad * 2);
+                valor = Arrays.copyOf(valor, cantidad * 2);
+            }
+            tipo[cantidad] = t;
+            inicio[cantidad] = desde;
+            fin[cantidad] = hasta;
+            if (t == NUMERO)
+                valor[cantidad] = lector.numero(desde, hasta);
+            cantidad++;
+        }
+
+        private static boolean esCifra(byte b) {
+            return b >= '0' && b <= '9';
+        }
+    }
+
+    /**
+     * Escribe el modelo en formato LP. Las expresiones largas se parten en varias líneas. La función
+     * objetivo nombra todas las variables en orden (con coeficiente 0 las que no tienen costo), así que
+     * al volver a leer el archivo se obtienen las mismas columnas en el mismo orden.
+     *
+     * @throws IllegalArgumentException si algún nombre no es válido en formato LP (vacío, con espacios u
+     *                                  operadores, empieza con cifra o punto, o es una palabra clave)
+     */
+    public static void escribir(ModeloLineal modelo, Path archivo) throws IOException {
+        String[] variables = modelo.nombresVariables();
+        String[] restricciones = modelo.nombresRestricciones();
+        for (String nombre : variables) validarNombre(nombre);
+        for (String nombre : restricciones) validarNombre(nombre);
+        String objetivo = FormatoMps.nombreLibre("obj", restricciones);
+
+        try (SalidaTexto salida = new SalidaTexto(archivo)) {
+            if (!modelo.nombre().isBlank())
+                salida.texto("\\ ").texto(modelo.nombre().replace('\n', ' ')).nuevaLinea();
+            salida.texto(modelo.maximizar() ? "Maximize" : "Minimize").nuevaLinea();
+            salida.texto(" ").texto(objetivo).texto(":");
+            // Todas las columnas, también las de costo 0, para que el lector las numere en este orden
+            double[] costos = modelo.funcionObjetivo();
+            int terminos = 0;
+            for (int j = 0; j < costos.length; j++)
+                escribirTermino(salida, costos[j], variables[j], terminos++);
+            if (modelo.constanteObjetivo() != 0) {
+                double c = modelo.constanteObjetivo();
+                salida.texto(c < 0 ? " - " : " + ").numero(Math.abs(c));
+            }
+            salida.nuevaLinea();
+
+            salida.texto("Subject To").nuevaLinea();
+            MatrizDispersa a = modelo.restricciones();
+            TipoRestriccion[] tipos = modelo.tipoRestricciones();
+            double[] b = modelo.terminosIndependientes();
+            for (int i = 0; i < restricciones.length; i++) {
+                salida.texto(" ").texto(restricciones[i]).texto(":");
+                if (a.getInicioFila(i) == a.getFinFila(i) && variables.length > 0)
+                    salida.texto(" 0 ").texto(variables[0]);
+                terminos = 0;
+                for (int k = a.getInicioFila(i); k < a.getFinFila(i); k++)
+                    escribirTermino(salida, a.getValorPosicion(k), variables[a.getColumna(k)], terminos++);
+                String sentido = switch (tipos[i]) {
+                    case MENOR_IGUAL -> " <= ";
+                    case MAYOR_IGUAL -> " >= ";
+                    case IGUAL -> " = ";
+                };
+                salida.texto(sentido).numero(b[i]).nuevaLinea();
+            }
+
+            if (modelo.tieneCotas()) {
+                salida.texto("Bounds").nuevaLinea();
+                double[] inferior = modelo.cotaInferior();
+                double[] superior = modelo.cotaSuperior();
+                for (int j = 0; j < variables.length; j++)
+                    escribirCotas(salida, variables[j], inferior[j], superior[j]);
+            }
+            salida.texto("End").nuevaLinea();
+        }
+    }
+
+    private static void escribirTermino(SalidaTexto salida, double coeficiente, String variable, int posicion) throws IOException {
+        if (posicion > 0 && posicion % 8 == 0)
+            salida.nuevaLinea().texto("   ");
+        salida.texto(coeficiente < 0 ? " - " : " + ");
+        if (Math.abs(coeficiente) != 1)
+            salida.numero(Math.abs(coeficiente)).caracter(' ');
+        salida.texto(variable);
+    }
+
+    private static void escribirCotas(SalidaTexto salida, String variable, double inferior, double superior) throws IOException {
+        if (inferior == 0 && superior == Double.POSITIVE_INFINITY)
+            return;
+        salida.caracter(' ');
+        if (inferior == Double.NEGATIVE_INFINITY && superior == Double.POSITIVE_INFINITY) {
+            salida.texto(variable).texto(" free");
+        } else if (inferior == superior) {
+            salida.texto(variable).texto(" = ").numero(inferior);
+        } else if (superior == Double.POSITIVE_INFINITY) {
+            salida.texto(variable).texto(" >= ").numero(inferior);
+        } else {
+            if (inferior == Double.NEGATIVE_INFINITY)
+                salida.texto("-inf");
+            else
+                salida.numero(inferior);
+            salida.texto(" <= ").texto(variable).texto(" <= ").numero(superior);
+        }
+        salida.nuevaLinea();
+    }
+
+    private static void validarNombre(String nombre) {
+        boolean valido = !nombre.isEmpty() && !Character.isDigit(nombre.charAt(0)) && nombre.charAt(0) != '.';
+        for (int i = 0; valido && i < nombre.length(); i++) {
+            char c = nombre.charAt(i);
+            valido = !Character.isWhitespace(c) && OPERADORES.indexOf(c) < 0;
+        }
+        if (valido) {
+            String minusculas = nombre.toLowerCase(Locale.ROOT);
+            for (String palabra : PALABRAS_RESERVADAS)
+                valido &= !minusculas.equals(palabra);
+        }
+        if (!valido)
+            throw new IllegalArgumentException("El nombre '" + nombre + "' no es válido en formato LP");
+    }
+}
@@ -0,0 +1,316 @@
+package org.universidad.granm.claseabstracta;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Lectura y escritura de modelos en formato MPS libre (campos separados por espacios, nombres sin
+ * espacios). Secciones admitidas: NAME, OBJSENSE, ROWS, COLUMNS, RHS, RANGES, BOUNDS y ENDATA.
+ *
+ * La lectura recorre el archivo mapeado en memoria una sola vez y vuelca los coeficientes directo en
+ * las tripletas de la matriz dispersa. Las filas N después de la primera (filas libres) se descartan,
+ * las restricciones con RANGES se convierten en dos filas y los valores de magnitud ≥ 1e30 en BOUNDS
+ * se toman como infinitos. Las variables enteras (MARKER, BV, LI, UI, SC) no se admiten, porque los
+ * motores solo resuelven problemas continuos.
+ */
+public final class FormatoMps {
+
+    private static final double INFINITO = 1e30;
+
+    private enum Seccion { NINGUNA, OBJSENSE, ROWS, COLUMNS, RHS, RANGES, BOUNDS }
+
+    private FormatoMps() {
+    }
+
+    /**
+     * @throws IllegalArgumentException si el archivo no respeta el formato (el mensaje indica la línea)
+     */
+    public static ModeloLineal leer(Path archivo) throws IOException {
+        try (LectorMapeado lector = new LectorMapeado(archivo)) {
+            ConstructorModelo modelo = new ConstructorModelo();
+            // Filas N: la primera es la función objetivo, las demás se ignoran
+            TablaNombres filasLibres = new TablaNombres();
+            Seccion seccion = Seccion.NINGUNA;
+            boolean terminado = false;
+
+            while (!terminado && lector.siguienteLinea()) {
+                int campos = lector.dividirCampos();
+                if (campos == 0 || lector.byteEn(lector.inicio(0)) == '*')
+                    continue;
+
+                if (lector.inicio(0) == lector.getInicioLinea()) {
+                    // Encabezado de sección: empieza en la primera columna (los datos sin sangría
+                    // también, pero tienen más de un campo: "RHS fila valor" no es el encabezado RHS)
+                    if (lector.es(0, "NAME")) {
+                        if (campos > 1)
+                            modelo.setNombre(lector.texto(lector.inicio(1), lector.getFinLinea()).strip());
+                        seccion = Seccion.NINGUNA;
+                    } else if (lector.es(0, "OBJSENSE")) {
+                        if (campos > 1)
+                            modelo.setMaximizar(leerSentido(lector, 1));
+                        seccion = campos > 1 ? Seccion.NINGUNA : Seccion.OBJSENSE;
+                    } else if (campos == 1 && lector.es(0, "ROWS")) {
+                        seccion = Seccion.ROWS;
+                    } else if (campos == 1 && lector.es(0, "COLUMNS")) {
+                        seccion = Seccion.COLUMNS;
+                    } else if (campos == 1 && lector.es(0, "RHS")) {
+                        seccion = Seccion.RHS;
+                    } else if (campos == 1 && lector.es(0, "RANGES")) {
+                        seccion = Seccion.RANGES;
+                    } else if (campos == 1 && lector.es(0, "BOUNDS")) {
+                        seccion = Seccion.BOUNDS;
+                    } else if (campos == 1 && lector.es(0, "ENDATA")) {
+                        terminado = true;
+                    } else if (seccion == Seccion.NINGUNA) {
+                        throw lector.error("Sección desconocida: " + lector.campo(0));
+                    } else {
+                        leerDatos(lector, campos, seccion, modelo, filasLibres);
+                    }
+                    continue;
+                }
+                if (seccion == Seccion.NINGUNA)
+                    throw lector.error("Datos fuera de una sección");
+                leerDatos(lector, campos, seccion, modelo, filasLibres);
+            }
+
+            if (!terminado)
+                throw new IllegalArgumentException("Falta ENDATA al final del archivo");
+            if (filasLibres.cantidad() == 0)
+                throw new IllegalArgumentException("El modelo no tiene fila N (función objetivo)");
+            return modelo.construir();
+        }
+    }
+
+    private static void leerDatos(LectorMapeado lector, int campos, Seccion seccion, ConstructorModelo modelo,
+                                  TablaNombres filasLibres) {
+        switch (seccion) {
+            case OBJSENSE -> modelo.setMaximizar(leerSentido(lector, 0));
+            case ROWS -> leerFila(lector, campos, modelo, filasLibres);
+            case COLUMNS -> leerColumna(lector, campos, modelo, filasLibres);
+            case RHS, RANGES -> leerValoresDeFilas(lector, campos, seccion == Seccion.RHS, modelo, filasLibres);
+            case BOUNDS -> leerCota(lector, campos, modelo);
+            default -> throw new IllegalStateException();
+        }
+    }
+
+    private static boolean leerSentido(LectorMapeado lector, int campo) {
+        if (lector.es(campo, "MAX") || lector.es(campo, "MAXIMIZE"))
+            return true;
+        if (lector.es(campo, "MIN") || lector.es(campo, "MINIMIZE"))
+            return false;
+        throw lector.error("Sentido de optimización inválido: " + lector.campo(campo));
+    }
+
+    private static void leerFila(LectorMapeado lector, int campos, ConstructorModelo modelo, TablaNombres filasLibres) {
+        if (campos != 2)
+            throw lector.error("Se esperaba: tipo nombre");
+        TipoRestriccion tipo;
+        if (lector.es(0, "N")) {
+            if (filasLibres.buscar(lector, lector.inicio(1), lector.fin(1)) >= 0)
+                throw lector.error("Fila repetida: " + lector.campo(1));
+            filasLibres.agregar(lector, lector.inicio(1), lector.fin(1));
+            return;
+        } else if (lector.es(0, "L")) {
+            tipo = TipoRestriccion.MENOR_IGUAL;
+        } else if (lector.es(0, "G")) {
+            tipo = TipoRestriccion.MAYOR_IGUAL;
+        } else if (lector.es(0, "E")) {
+            tipo = TipoRestriccion.IGUAL;
+        } else {
+            throw lector.error("Tipo de fila inválido: " + lector.campo(0));
+        }
+        modelo.agregarFila(lector, lector.inicio(1), lector.fin(1), tipo);
+    }
+
+    private static void leerColumna(LectorMapeado lector, int campos, ConstructorModelo modelo, TablaNombres filasLibres) {
+        if (campos >= 2 && lector.es(1, "'MARKER'"))
+            throw lector.error("Variables enteras (MARKER) no soportadas");
+        if (campos != 3 && campos != 5)
+            throw lector.error("Se esperaba: columna fila valor [fila valor]");
+        int columna = modelo.columna(lector, lector.inicio(0), lector.fin(0));
+        for (int c = 1; c < campos; c += 2) {
+            double valor = lector.numero(c + 1);
+            int fila = modelo.buscarFila(lector, lector.inicio(c), lector.fin(c));
+            if (fila >= 0)
+                modelo.agregarCoeficiente(fila, columna, valor);
+            else if (esObjetivo(lector, c, filasLibres))
+                modelo.sumarObjetivo(columna, valor);
+            else if (filasLibres.buscar(lector, lector.inicio(c), lector.fin(c)) < 0)
+                throw lector.error("Fila desconocida: " + lector.campo(c));
+        }
+    }
+
+    /**
+     * RHS y RANGES: [conjunto] fila valor [fila valor]. El nombre del conjunto es opcional en formato libre.
+     */
+    private static void leerValoresDeFilas(LectorMapeado lector, int campos, boolean rhs, ConstructorModelo modelo,
+                                           TablaNombres filasLibres) {
+        if (campos < 2 || campos > 5)
+            throw lector.error("Se esperaba: [conjunto] fila valor [fila valor]");
+        for (int c = campos % 2; c < campos; c += 2) {
+            double valor = lector.numero(c + 1);
+            int fila = modelo.buscarFila(lector, lector.inicio(c), lector.fin(c));
+            if (fila >= 0) {
+                if (rhs)
+                    modelo.setTermino(fila, valor);
+                else
+                    modelo.setRango(fila, valor);
+            } else if (rhs && esObjetivo(lector, c, filasLibres)) {
+                // Por convención el RHS de la función objetivo es el opuesto de su constante
+                modelo.setConstanteObjetivo(-valor);
+            } else if (filasLibres.buscar(lector, lector.inicio(c), lector.fin(c)) < 0) {
+                throw lector.error("Fila desconocida: " + lector.campo(c));
+            }
+        }
+    }
+
+    private static boolean esObjetivo(LectorMapeado lector, int campo, TablaNombres filasLibres) {
+        return filasLibres.buscar(lector, lector.inicio(campo), lector.fin(campo)) == 0;
+    }
+
+    /**
+     * BOUNDS: tipo [conjunto] columna [valor]. FR, MI y PL no llevan valor.
+     */
+    private static void leerCota(LectorMapeado lector, int campos, ConstructorModelo modelo) {
+        boolean sinValor = lector.es(0, "FR") || lector.es(0, "MI") || lector.es(0, "PL");
+        int campoColumna;
+        if (sinValor)
+            campoColumna = campos == 2 ? 1 : 2;
+        else if (campos == 3 || campos == 4)
+            campoColumna = campos - 2;
+        else
+            throw lector.error("Se esperaba: tipo [conjunto] columna valor");
+        if (campoColumna >= campos)
+            throw lector.error("Falta la columna");
+
+        int columna = modelo.columna(lector, lector.inicio(campoColumna), lector.fin(campoColumna));
+        double valor = sinValor ? 0 : lector.numero(campoColumna + 1);
+        if (valor >= INFINITO) valor = Double.POSITIVE_INFINITY;
+        if (valor <= -INFINITO) valor = Double.NEGATIVE_INFINITY;
+
+        if (lector.es(0, "UP")) {
+            // Convención habitual: una cota superior negativa con inferior 0 deja la variable sin cota inferior
+            if (valor < 0 && modelo.getCotaInferior(columna) == 0)
+                modelo.setCotaInferior(columna, Double.NEGATIVE_INFINITY);
+            modelo.setCotaSuperior(columna, valor);
+        } else if (lector.es(0, "LO")) {
+            modelo.setCotaInferior(columna, valor);
+        } else if (lector.es(0, "FX")) {
+            modelo.setCotaInferior(columna, valor);
+            modelo.setCotaSuperior(columna, valor);
+        } else if (lector.es(0, "FR")) {
+            modelo.setCotaInferior(columna, Double.NEGATIVE_INFINITY);
+            modelo.setCotaSuperior(columna, Double.POSITIVE_INFINITY);
+        } else if (lector.es(0, "MI")) {
+            modelo.setCotaInferior(columna, Double.NEGATIVE_INFINITY);
+        } else if (lector.es(0, "PL")) {
+            modelo.setCotaSuperior(columna, Double.POSITIVE_INFINITY);
+        } else if (lector.es(0, "BV") || lector.es(0, "LI") || lector.es(0, "UI") || lector.es(0, "SC")) {
+            throw lector.error("Cotas de variables enteras (" + lector.campo(0) + ") no soportadas");
+        } else {
+            throw lector.error("Tipo de cota inválido: " + lector.campo(0));
+        }
+    }
+
+    /**
+     * Escribe el modelo en formato MPS libre. La función objetivo se llama OBJ (o OBJ_1, ... si ese
+     * nombre ya lo usa una restricción) y los nombres no deben contener espacios.
+     *
+     * @throws IllegalArgumentException si algún nombre está vacío o tiene espacios
+     */
+    public static void escribir(ModeloLineal modelo, Path archivo) throws IOException {
+        String[] variables = modelo.nombresVariables();
+        String[] restricciones = modelo.nombresRestricciones();
+        for (String nombre : variables) validarNombre(nombre);
+        for (String nombre : restricciones) validarNombre(nombre);
+        String objetivo = nombreLibre("OBJ", restricciones);
+
+        try (SalidaTexto salida = new SalidaTexto(archivo)) {
+            salida.texto("NAME");
+            if (!modelo.nombre().isBlank())
+                salida.texto("          ").texto(modelo.nombre());
+            salida.nuevaLinea();
+            if (modelo.maximizar())
+                salida.texto("OBJSENSE").nuevaLinea().texto("    MAX").nuevaLinea();
+
+            salida.texto("ROWS").nuevaLinea();
+            salida.texto(" N  ").texto(objetivo).nuevaLinea();
+            TipoRestriccion[] tipos = modelo.tipoRestricciones();
+            for (int i = 0; i < restricciones.length; i++) {
+                String letra = switch (tipos[i]) {
+                    case MENOR_IGUAL -> " L  ";
+                    case MAYOR_IGUAL -> " G  ";
+                    case IGUAL -> " E  ";
+                };
+                salida.texto(letra).texto(restricciones[i]).nuevaLinea();
+            }
+
+            // Por columnas: la transpuesta es la matriz en formato CSC
+            salida.texto("COLUMNS").nuevaLinea();
+            MatrizDispersa porColumnas = modelo.restricciones().transpuesta();
+            double[] costos = modelo.funcionObjetivo();
+            for (int j = 0; j < variables.length; j++) {
+                if (costos[j] != 0 || porColumnas.getInicioFila(j) == porColumnas.getFinFila(j))
+                    salida.texto("    ").texto(variables[j]).texto("  ").texto(objetivo).texto("  ").numero(costos[j]).nuevaLinea();
+                for (int k = porColumnas.getInicioFila(j); k < porColumnas.getFinFila(j); k++)
+                    salida.texto("    ").texto(variables[j]).texto("  ").texto(restricciones[porColumnas.getColumna(k)])
+                            .texto("  ").numero(porColumnas.getValorPosicion(k)).nuevaLinea();
+            }
+
+            salida.texto("RHS").nuevaLinea();
+            double[] terminos = modelo.terminosIndependientes();
+            if (modelo.constanteObjetivo() != 0)
+                salida.texto("    RHS  ").texto(objetivo).texto("  ").numero(-modelo.constanteObjetivo()).nuevaLinea();
+            for (int i = 0; i < terminos.length; i++)
+                if (terminos[i] != 0)
+                    salida.texto("    RHS  ").texto(restricciones[i]).texto("  ").numero(terminos[i]).nuevaLinea();
+
+            if (modelo.tieneCotas()) {
+                salida.texto("BOUNDS").nuevaLinea();
+                double[] inferior = modelo.cotaInferior();
+                double[] superior = modelo.cotaSuperior();
+                for (int j = 0; j < variables.length; j++)
+                    escribirCotas(salida, variables[j], inferior[j], superior[j]);
+            }
+            salida.texto("ENDATA").nuevaLinea();
+        }
+    }
+
+    private static void escribirCotas(SalidaTexto salida, String variable, double inferior, double superior) throws IOException {
+        if (inferior == 0 && superior == Double.POSITIVE_INFINITY)
+            return;
+        if (inferior == superior) {
+            salida.texto(" FX BND  ").texto(variable).texto("  ").numero(inferior).nuevaLinea();
+            return;
+        }
+        if (inferior == Double.NEGATIVE_INFINITY && superior == Double.POSITIVE_INFINITY) {
+            salida.texto(" FR BND  ").texto(variable).nuevaLinea();
+            return;
+        }
+        if (inferior == Double.NEGATIVE_INFINITY)
+            salida.texto(" MI BND  ").texto(variable).nuevaLinea();
+        else if (inferior != 0)
+            salida.texto(" LO BND  ").texto(variable).texto("  ").numero(inferior).nuevaLinea();
+        if (superior != Double.POSITIVE_INFINITY)
+            salida.texto(" UP BND  ").texto(variable).texto("  ").numero(superior).nuevaLinea();
+    }
+
+    private static void validarNombre(String nombre) {
+        if (nombre.isEmpty())
+            throw new IllegalArgumentException("Nombre vacío");
+        for (int i = 0; i < nombre.length(); i++)
+            if (Character.isWhitespace(nombre.charAt(i)))
+                throw new IllegalArgumentException("El nombre '" + nombre + "' tiene espacios y no se puede escribir en MPS libre");
+    }
+
+    static String nombreLibre(String base, String[] usados) {
+        Set<String> conjunto = new HashSet<>(Arrays.asList(usados));
+        String nombre = base;
+        for (int sufijo = 1; conjunto.contains(nombre); sufijo++)
+            nombre = base + "_" + sufijo;
+        return nombre;
+    }
+}
@@ -0,0 +1,45 @@
+package org.universidad.granm.claseabstracta;
+
+/**
+ * Operaciones sobre filas y columnas del tableau que dominan el costo de cada pivoteo.
+ * La implementación se elige una sola vez al cargar {@link Tableau}: vectorial si el módulo
+ * {@code jdk.incubator.vector} está disponible, escalar en caso contrario.
+ */
+interface KernelFila {
+
+    /**
+     * datos[inicio .. inicio + longitud) *= factor
+     */
+    void escalar(double[] datos, int inicio, int longitud, double factor);
+
+    /**
+     * datos[destino + j] += factor * datos[origen + j], para j en [0, longitud)
+     */
+    void sumarMultiplo(double[] datos, int destino, int origen, int longitud, double factor);
+
+    /**
+     * Prueba del cociente mínimo sobre dos columnas de una matriz por filas con paso {@code paso}:
+     * con num(i) = datos[numerador + i * paso] y den(i) = datos[denominador + i * paso], devuelve el
+     * primer i en [desde, hasta) con den(i) &gt; toleranciaPivote que minimiza num(i) / den(i), o -1 si no hay ninguno.
+     * Las columnas se leen en su lugar, sin copiarlas a un arreglo contiguo.
+     */
+    int indiceRazonMinima(double[] datos, int numerador, int denominador, int paso, int desde, int hasta,
+                          double toleranciaPivote);
+
+    String nombre();
+
+    /**
+     * Elige la implementación; con la propiedad {@code granm.simd=false} se fuerza la escalar.
+     */
+    static KernelFila seleccionar() {
+        if (!"false".equals(System.getProperty("granm.simd"))
+                && ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+            try {
+                return new KernelFilaVectorial();
+            } catch (LinkageError e) {
+                // El módulo no se puede enlazar en esta plataforma: se usa la versión escalar
+            }
+        }
+        return new KernelFilaEscalar();
+    }
+}
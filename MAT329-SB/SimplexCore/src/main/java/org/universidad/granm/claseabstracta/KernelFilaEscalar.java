@@ -0,0 +1,43 @@
+package org.universidad.granm.claseabstracta;
+
+/**
+ * Implementación escalar de los kernels de fila; es la referencia y la opción por defecto.
+ */
+final class KernelFilaEscalar implements KernelFila {
+
+    @Override
+    public void escalar(double[] datos, int inicio, int longitud, double factor) {
+        int fin = inicio + longitud;
+        for (int k = inicio; k < fin; k++)
+            datos[k] *= factor;
+    }
+
+    @Override
+    public void sumarMultiplo(double[] datos, int destino, int origen, int longitud, double factor) {
+        for (int j = 0; j < longitud; j++)
+            datos[destino + j] += factor * datos[origen + j];
+    }
+
+    @Override
+    public int indiceRazonMinima(double[] datos, int numerador, int denominador, int paso, int desde, int hasta,
+                                 double toleranciaPivote) {
+        double minimoActual = Double.POSITIVE_INFINITY;
+        int indice = -1;
+        for (int i = desde, kn = numerador + desde * paso, kd = denominador + desde * paso; i < hasta;
+             i++, kn += paso, kd += paso) {
+            double den = datos[kd];
+            if (den <= toleranciaPivote) continue;
+            double razon = datos[kn] / den;
+            if (razon < minimoActual) {
+                minimoActual = razon;
+                indice = i;
+            }
+        }
+        return indice;
+    }
+
+    @Override
+    public String nombre() {
+        return "escalar";
+    }
+}
@@ -0,0 +1,99 @@
+package org.universidad.granm.claseabstracta;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Kernels de fila con la Vector API ({@code jdk.incubator.vector}).
+ * Se usan multiplicación y suma separadas (sin FMA) para obtener exactamente
+ * los mismos resultados que {@link KernelFilaEscalar}.
+ */
+final class KernelFilaVectorial implements KernelFila {
+
+    private static final VectorSpecies<Double> ESPECIE = DoubleVector.SPECIES_PREFERRED;
+
+    @Override
+    public void escalar(double[] datos, int inicio, int longitud, double factor) {
+        int limite = inicio + ESPECIE.loopBound(longitud);
+        int fin = inicio + longitud;
+        int k = inicio;
+        for (; k < limite; k += ESPECIE.length())
+            DoubleVector.fromArray(ESPECIE, datos, k).mul(factor).intoArray(datos, k);
+        for (; k < fin; k++)
+            datos[k] *= factor;
+    }
+
+    @Override
+    public void sumarMultiplo(double[] datos, int destino, int origen, int longitud, double factor) {
+        int limite = ESPECIE.loopBound(longitud);
+        int j = 0;
+        for (; j < limite; j += ESPECIE.length()) {
+            DoubleVector fila = DoubleVector.fromArray(ESPECIE, datos, origen + j);
+            DoubleVector.fromArray(ESPECIE, datos, destino + j)
+                    .add(fila.mul(factor))
+                    .intoArray(datos, destino + j);
+        }
+        for (; j < longitud; j++)
+            datos[destino + j] += factor * datos[origen + j];
+    }
+
+    /**
+     * Desplazamientos {0, paso, 2 * paso, ...} de un carril al siguiente para leer una columna con gather.
+     */
+    private record MapaColumna(int paso, int[] desplazamientos) {
+        static MapaColumna de(int paso) {
+            int[] desplazamientos = new int[ESPECIE.length()];
+            for (int l = 0; l < desplazamientos.length; l++)
+                desplazamientos[l] = l * paso;
+            return new MapaColumna(paso, desplazamientos);
+        }
+    }
+
+    // El kernel se comparte entre hilos; el registro es inmutable, así que basta con publicarlo
+    private volatile MapaColumna mapaColumna = MapaColumna.de(1);
+
+    @Override
+    public int indiceRazonMinima(double[] datos, int numerador, int denominador, int paso, int desde, int hasta,
+                                 double toleranciaPivote) {
+        MapaColumna mapa = mapaColumna;
+        if (mapa.paso() != paso)
+            mapaColumna = mapa = MapaColumna.de(paso);
+        int[] desplazamientos = mapa.desplazamientos();
+
+        // Primera pasada vectorial (gather por columna): valor mínimo de la razón entre las filas elegibles
+        DoubleVector infinito = DoubleVector.broadcast(ESPECIE, Double.POSITIVE_INFINITY);
+        DoubleVector minimos = infinito;
+        int limite = desde + ESPECIE.loopBound(hasta - desde);
+        int i = desde;
+        for (; i < limite; i += ESPECIE.length()) {
+            DoubleVector den = DoubleVector.fromArray(ESPECIE, datos, denominador + i * paso, desplazamientos, 0);
+            DoubleVector razon = DoubleVector.fromArray(ESPECIE, datos, numerador + i * paso, desplazamientos, 0)
+                    .div(den);
+            VectorMask<Double> elegibles = den.compare(VectorOperators.GT, toleranciaPivote)
+                    .andNot(razon.test(VectorOperators.IS_NAN));
+            minimos = minimos.min(infinito.blend(razon, elegibles));
+        }
+        double minimo = minimos.reduceLanes(VectorOperators.MIN);
+        for (; i < hasta; i++) {
+            double den = datos[denominador + i * paso];
+            if (den <= toleranciaPivote) continue;
+            double razon = datos[numerador + i * paso] / den;
+            if (razon < minimo) minimo = razon;
+        }
+        if (minimo == Double.POSITIVE_INFINITY) return -1;
+
+        // Segunda pasada: primer índice que alcanza el mínimo (mismo desempate que la versión escalar)
+        for (int k = desde, kn = numerador + desde * paso, kd = denominador + desde * paso; k < hasta;
+             k++, kn += paso, kd += paso)
+            if (datos[kd] > toleranciaPivote && datos[kn] / datos[kd] == minimo)
+                return k;
+        return -1;
+    }
+
+    @Override
+    public String nombre() {
+        return "vectorial (" + ESPECIE.length() + " x double)";
+    }
+}
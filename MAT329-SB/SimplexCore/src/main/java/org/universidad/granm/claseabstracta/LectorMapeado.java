@@ -0,0 +1,239 @@
+package org.universidad.granm.claseabstracta;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Recorre un archivo de texto línea por línea sobre un FileChannel mapeado en memoria, sin copiar el
+ * contenido a Strings. El archivo se mapea por ventanas (un MappedByteBuffer no pasa de 2 GB); cuando
+ * una línea cruza el final de la ventana se vuelve a mapear a partir del inicio de esa línea.
+ *
+ * Las posiciones que devuelve ({@link #getInicioLinea()}, {@link #inicio(int)}, ...) son índices dentro
+ * de la ventana actual y solo valen hasta la siguiente llamada a {@link #siguienteLinea()}.
+ */
+final class LectorMapeado implements AutoCloseable {
+
+    private static final int VENTANA = 1 << 26; // 64 MB
+    private static final int MAXIMO_CAMPOS = 64;
+
+    // Potencias de 10 representables exactamente en double (10^0 .. 10^22)
+    private static final double[] POTENCIAS_10 = new double[23];
+
+    static {
+        POTENCIAS_10[0] = 1;
+        for (int i = 1; i < POTENCIAS_10.length; i++)
+            POTENCIAS_10[i] = POTENCIAS_10[i - 1] * 10;
+    }
+
+    private final FileChannel canal;
+    private final long tamano;
+    private MappedByteBuffer buffer;
+    private long base;
+    private int limite;
+    private int posicion;
+
+    private long nroLinea;
+    private int inicioLinea;
+    private int finLinea;
+
+    private final int[] inicioCampo = new int[MAXIMO_CAMPOS];
+    private final int[] finCampo = new int[MAXIMO_CAMPOS];
+    private int campos;
+
+    LectorMapeado(Path archivo) throws IOException {
+        this.canal = FileChannel.open(archivo, StandardOpenOption.READ);
+        this.tamano = canal.size();
+        if (tamano > 0)
+            mapear(0);
+    }
+
+    private void mapear(long desde) throws IOException {
+        base = desde;
+        limite = (int) Math.min(VENTANA, tamano - desde);
+        buffer = canal.map(FileChannel.MapMode.READ_ONLY, desde, limite);
+        posicion = 0;
+    }
+
+    /**
+     * Avanza a la siguiente línea (sin el fin de línea, sea \n o \r\n).
+     *
+     * @return false al llegar al final del archivo
+     */
+    boolean siguienteLinea() throws IOException {
+        if (buffer == null)
+            return false;
+        while (true) {
+            boolean ultimaVentana = base + limite == tamano;
+            if (posicion == limite && ultimaVentana)
+                return false;
+            int i = posicion;
+            while (i < limite && buffer.get(i) != '\n')
+                i++;
+            if (i < limite || ultimaVentana) {
+                inicioLinea = posicion;
+                finLinea = i;
+                if (finLinea > inicioLinea && buffer.get(finLinea - 1) == '\r')
+                    finLinea--;
+                posicion = i < limite ? i + 1 : i;
+                nroLinea++;
+                campos = 0;
+                return true;
+            }
+            if (posicion == 0)
+                throw new IllegalArgumentException("La línea " + (nroLinea + 1) + " supera los " + (VENTANA >> 20) + " MB");
+            mapear(base + posicion);
+        }
+    }
+
+    /**
+     * Divide la línea actual en campos separados por espacios o tabuladores.
+     *
+     * @return cantidad de campos
+     */
+    int dividirCampos() {
+        campos = 0;
+        int i = inicioLinea;
+        while (true) {
+            while (i < finLinea && esEspacio(buffer.get(i)))
+                i++;
+            if (i >= finLinea)
+                return campos;
+            if (campos == MAXIMO_CAMPOS)
+                throw error("Demasiados campos");
+            inicioCampo[campos] = i;
+            while (i < finLinea && !esEspacio(buffer.get(i)))
+                i++;
+            finCampo[campos++] = i;
+        }
+    }
+
+    static boolean esEspacio(byte b) {
+        return b == ' ' || b == '\t' || b == '\r' || b == '\f';
+    }
+
+    // Acceso a la línea actual
+
+    long getNroLinea() { return nroLinea; }
+    int getInicioLinea() { return inicioLinea; }
+    int getFinLinea() { return finLinea; }
+    byte byteEn(int i) { return buffer.get(i); }
+
+    int inicio(int campo) { return inicioCampo[campo]; }
+    int fin(int campo) { return finCampo[campo]; }
+    String campo(int campo) { return texto(inicioCampo[campo], finCampo[campo]); }
+    double numero(int campo) { return numero(inicioCampo[campo], finCampo[campo]); }
+    boolean es(int campo, String palabra) { return esPalabra(inicioCampo[campo], finCampo[campo], palabra); }
+
+    String texto(int desde, int hasta) {
+        byte[] bytes = new byte[hasta - desde];
+        buffer.get(desde, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Compara el texto [desde, hasta) con una palabra ASCII, sin distinguir mayúsculas.
+     */
+    boolean esPalabra(int desde, int hasta, String palabra) {
+        if (hasta - desde != palabra.length())
+            return false;
+        for (int i = 0; i < palabra.length(); i++) {
+            int b = buffer.get(desde + i);
+            char c = palabra.charAt(i);
+            if (b != c && Character.toLowerCase(b) != Character.toLowerCase(c))
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Convierte el texto [desde, hasta) en número. Los decimales de hasta 15 cifras significativas con
+     * exponente chico (lo habitual en los modelos) se calculan sin crear objetos, con una sola
+     * multiplicación o división exacta, que da el mismo resultado que {@link Double#parseDouble}; el resto
+     * pasa por Double.parseDouble. También acepta inf e infinity con signo.
+     *
+     * @throws IllegalArgumentException si el texto no es un número
+     */
+    double numero(int desde, int hasta) {
+        int i = desde;
+        boolean negativo = false;
+        if (i < hasta && (buffer.get(i) == '+' || buffer.get(i) == '-'))
+            negativo = buffer.get(i++) == '-';
+
+        long mantisa = 0;
+        int cifras = 0;
+        int exponente = 0;
+        boolean hayCifras = false;
+        byte b;
+        while (i < hasta && (b = buffer.get(i)) >= '0' && b <= '9') {
+            hayCifras = true;
+            if (cifras < 18) {
+                mantisa = mantisa * 10 + (b - '0');
+                if (mantisa != 0) cifras++;
+            } else {
+                exponente++;
+            }
+            i++;
+        }
+        if (i < hasta && buffer.get(i) == '.') {
+            i++;
+            while (i < hasta && (b = buffer.get(i)) >= '0' && b <= '9') {
+                hayCifras = true;
+                if (cifras < 18) {
+                    mantisa = mantisa * 10 + (b - '0');
+                    if (mantisa != 0) cifras++;
+                    exponente--;
+                }
+                i++;
+            }
+        }
+        if (hayCifras && i < hasta && (buffer.get(i) == 'e' || buffer.get(i) == 'E')) {
+            i++;
+            boolean exponenteNegativo = false;
+            if (i < hasta && (buffer.get(i) == '+' || buffer.get(i) == '-'))
+                exponenteNegativo = buffer.get(i++) == '-';
+            int valor = 0;
+            boolean hayExponente = false;
+            while (i < hasta && (b = buffer.get(i)) >= '0' && b <= '9') {
+                hayExponente = true;
+                if (valor < 100_000) valor = valor * 10 + (b - '0');
+                i++;
+            }
+            if (!hayExponente)
+                hayCifras = false;
+            exponente += exponenteNegativo ? -valor : valor;
+        }
+
+        if (hayCifras && i == hasta && cifras <= 15 && Math.abs(exponente) < POTENCIAS_10.length) {
+            double valor = exponente >= 0 ? mantisa * POTENCIAS_10[exponente] : mantisa / POTENCIAS_10[-exponente];
+            return negativo ? -valor : valor;
+        }
+        int sinSigno = hasta > desde && (buffer.get(desde) == '+' || buffer.get(desde) == '-') ? desde + 1 : desde;
+        if (esPalabra(sinSigno, hasta, "inf") || esPalabra(sinSigno, hasta, "infinity"))
+            return negativo ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+        String texto = texto(desde, hasta);
+        try {
+            if (!hayCifras)
+                throw new NumberFormatException();
+            return Double.parseDouble(texto);
+        } catch (NumberFormatException e) {
+            throw error("Número inválido '" + texto + "'");
+        }
+    }
+
+    /**
+     * Error de formato con el número de la línea actual.
+     */
+    IllegalArgumentException error(String mensaje) {
+        return new IllegalArgumentException("Línea " + nroLinea + ": " + mensaje);
+    }
+
+    @Override
+    public void close() throws IOException {
+        buffer = null;
+        canal.close();
+    }
+}
@@ -1,26 +1,48 @@
 package org.universidad.granm.claseabstracta;
 
-import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 public class MDosFasesRefactorizada extends SimplexBase {
 
-    private int artificiales;
     private double[] funcionObjetivoOriginal;
     private Map<Integer, Integer> indexParaNuevoZ;
+    // Las artificiales ocupan las columnas [primeraArtificial, primeraArtificial + artificiales)
+    private int primeraArtificial;
     private Map<Integer, Integer> indiceSolucionFase2;
     private boolean fase1Completada;
 
     public MDosFasesRefactorizada(double[] funcionObjetivo, double[][] restricciones,
-                                  double[] terminosIndependientes, String[] tipoRestricciones,
+                                  double[] terminosIndependientes, TipoRestriccion[] tipoRestricciones,
                                   boolean maximizar) {
-        super();
+        this(funcionObjetivo, MatrizDispersa.desdeDensa(restricciones), terminosIndependientes, tipoRestricciones, maximizar);
+    }
+
+    public MDosFasesRefactorizada(double[] funcionObjetivo, MatrizDispersa restricciones,
+                                  double[] terminosIndependientes, TipoRestriccion[] tipoRestricciones,
+                                  boolean maximizar) {
+        this(funcionObjetivo, restricciones, terminosIndependientes, tipoRestricciones, maximizar, NivelHistorial.COMPLETO);
+    }
+
+    /**
+     * Constructor con el nivel de detalle del historial de pasos ({@link NivelHistorial#NINGUNO} para resolver en lote).
+     */
+    public MDosFasesRefactorizada(double[] funcionObjetivo, MatrizDispersa restricciones,
+                                  double[] terminosIndependientes, TipoRestriccion[] tipoRestricciones,
+                                  boolean maximizar, NivelHistorial nivelHistorial) {
+        this(funcionObjetivo, restricciones, terminosIndependientes, tipoRestricciones, maximizar, opcionesConNivel(nivelHistorial));
+    }
+
+    /**
+     * Constructor con las opciones de resolución (tolerancias, límites, pricing e historial).
+     */
+    public MDosFasesRefactorizada(double[] funcionObjetivo, MatrizDispersa restricciones,
+                                  double[] terminosIndependientes, TipoRestriccion[] tipoRestricciones,
+                                  boolean maximizar, OpcionesResolucion opciones) {
+        super(opciones);
         this.maximizar = maximizar;
-        this.nroRestricciones = restricciones.length;
+        this.nroRestricciones = restricciones.getNroFilas();
         this.nroVariables = funcionObjetivo.length;
-        this.artificiales = 0;
         this.fase1Completada = false;
         this.indiceSolucionFase2 = new HashMap<>();
         this.indexParaNuevoZ = new HashMap<>();
@@ -28,8 +50,10 @@ public class MDosFasesRefactorizada extends SimplexBase {
         // Guardar función objetivo original
         almacenarFuncionObjetivoOriginal(funcionObjetivo);
 
-        // Normalizar restricciones con términos independientes negativos
-        normalizarRestricciones(restricciones, terminosIndependientes, tipoRestricciones);
+        // Normalizar restricciones con términos independientes negativos (sobre copias de los datos del usuario)
+        terminosIndependientes = terminosIndependientes.clone();
+        tipoRestricciones = tipoRestricciones.clone();
+        restricciones = normalizarRestricciones(restricciones, terminosIndependientes, tipoRestricciones);
 
         // Inicializar tableau para Fase 1
         inicializarTableauBase(funcionObjetivo, restricciones, terminosIndependientes, tipoRestricciones);
@@ -49,87 +73,88 @@ public class MDosFasesRefactorizada extends SimplexBase {
         }
     }
 
-    private void normalizarRestricciones(double[][] restricciones, double[] terminosIndependientes,
-                                         String[] tipoRestricciones) {
+    /**
+     * Multiplica por -1 las filas ≤ con término independiente negativo. Cambia los términos y tipos
+     * recibidos (ya copiados) y devuelve una copia de la matriz si alguna fila cambió de signo.
+     */
+    private MatrizDispersa normalizarRestricciones(MatrizDispersa restricciones, double[] terminosIndependientes,
+                                                   TipoRestriccion[] tipoRestricciones) {
+        MatrizDispersa normalizada = restricciones;
         for (int i = 0; i < tipoRestricciones.length; i++) {
-            if (tipoRestricciones[i].equals("≤") && terminosIndependientes[i] < 0) {
+            if (tipoRestricciones[i] == TipoRestriccion.MENOR_IGUAL && terminosIndependientes[i] < 0) {
                 // Multiplicar por -1 para convertir ≤ con RHS negativo a ≥ con RHS positivo
-                for (int j = 0; j < nroVariables; j++) {
-                    restricciones[i][j] = -restricciones[i][j];
-                }
+                if (normalizada == restricciones)
+                    normalizada = restricciones.copia();
+                normalizada.escalarFila(i, -1);
                 terminosIndependientes[i] = -terminosIndependientes[i];
-                tipoRestricciones[i] = "≥";
+                tipoRestricciones[i] = TipoRestriccion.MAYOR_IGUAL;
             }
         }
+        return normalizada;
     }
 
 
-    private void construirTableauFase1(double[] funcionObjetivo, double[][] restricciones,
-                                       double[] terminosIndependientes, String[] tipoRestricciones) {
+    private void construirTableauFase1(double[] funcionObjetivo, MatrizDispersa restricciones,
+                                       double[] terminosIndependientes, TipoRestriccion[] tipoRestricciones) {
 
         int colHolgura = nroVariables + 1;
         int colExceso = colHolgura + holguras;
         int colArtificial = colExceso + excesos;
+        primeraArtificial = colArtificial;
 
         int idxHolgura = 0, idxExceso = 0, idxArtificial = 0;
 
         // Fila función objetivo para Fase 1 (minimizar suma de variables artificiales)
-        setValor(0, 0, 1);
+        tableau.set(0, 0, 1);
 
         // Coeficientes de variables originales = 0 en Fase 1
         for (int j = 0; j < nroVariables; j++) {
-            setValor(0, j + 1, 0);
+            tableau.set(0, j + 1, 0);
         }
 
-        setValor(0, nroColumnas - 1, 0); // RHS
+        tableau.set(0, nroColumnas - 1, 0); // RHS
 
         // Filas de restricciones
         for (int i = 0; i < nroRestricciones; i++) {
-            setValor(i + 1, 0, 0); // Columna identidad
+            tableau.set(i + 1, 0, 0); // Columna identidad
 
             // Coeficientes de variables originales
-            for (int j = 0; j < nroVariables; j++) {
-                setValor(i + 1, j + 1, restricciones[i][j]);
-            }
+            copiarRestriccion(restricciones, i);
 
             // Agregar variables de holgura, exceso y artificiales según el tipo
             switch (tipoRestricciones[i]) {
-                case "≤":
-                    setValor(i + 1, colHolgura + idxHolgura, 1);
+                case MENOR_IGUAL:
+                    tableau.set(i + 1, colHolgura + idxHolgura, 1);
                     indiceSolucionFase2.put(colHolgura + idxHolgura, i + 1);
                     idxHolgura++;
                     break;
 
-                case "≥":
-                    setValor(i + 1, colExceso + idxExceso, -1);
-                    setValor(i + 1, colArtificial + idxArtificial, 1);
-                    setValor(0, colArtificial + idxArtificial, -1); // Coeficiente en función objetivo
+                case MAYOR_IGUAL:
+                    tableau.set(i + 1, colExceso + idxExceso, -1);
+                    tableau.set(i + 1, colArtificial + idxArtificial, 1);
+                    tableau.set(0, colArtificial + idxArtificial, -1); // Coeficiente en función objetivo
                     indexParaNuevoZ.put(i + 1, colArtificial + idxArtificial);
                     indiceSolucionFase2.put(colArtificial + idxArtificial, i + 1);
                     idxExceso++;
                     idxArtificial++;
                     break;
 
-                case "=":
-                    setValor(i + 1, colArtificial + idxArtificial, 1);
-                    setValor(0, colArtificial + idxArtificial, -1); // Coeficiente en función objetivo
+                case IGUAL:
+                    tableau.set(i + 1, colArtificial + idxArtificial, 1);
+                    tableau.set(0, colArtificial + idxArtificial, -1); // Coeficiente en función objetivo
                     indexParaNuevoZ.put(i + 1, colArtificial + idxArtificial);
                     indiceSolucionFase2.put(colArtificial + idxArtificial, i + 1);
                     idxArtificial++;
                     break;
             }
 
-            setValor(i + 1, nroColumnas - 1, terminosIndependientes[i]);
+            tableau.set(i + 1, nroColumnas - 1, terminosIndependientes[i]);
         }
     }
 
     private void actualizarZFase1() {
         // Actualizar Z para eliminar variables artificiales de la función objetivo
-        indexParaNuevoZ.forEach((fila, _) -> {
-            for (int j = 0; j < nroColumnas; j++) {
-                setValor(0, j, getValor(0, j) + getValor(fila, j));
-            }
-        });
+        indexParaNuevoZ.forEach((fila, _) -> tableau.sumarMultiploFila(0, fila, 1));
     }
 
     @Override
@@ -144,7 +169,7 @@ public class MDosFasesRefactorizada extends SimplexBase {
         // Verificar si hay variables artificiales en la base
         if (hayVariablesArtificialesEnBase()) {
             guardarPaso("Solución no factible: variables artificiales en la base", "", "");
-            solucionEncontrada = false;
+            marcarEstado(EstadoSolucion.INFACTIBLE);
             return;
         }
 
@@ -193,25 +218,22 @@ public class MDosFasesRefactorizada extends SimplexBase {
         }
 
         // Eliminar columnas de variables artificiales (ponerlas en cero)
-        List<Integer> columnasArtificiales = new ArrayList<>(indexParaNuevoZ.values());
-        for (int i = 0; i < nroFilas; i++) {
-            for (int columna : columnasArtificiales) {
-                setValor(i, columna, 0);
-            }
+        for (int columna : indexParaNuevoZ.values()) {
+            tableau.llenarColumna(columna, 0);
         }
 
         // Restaurar función objetivo original
         for (int i = 0; i <= nroVariables; i++) {
-            setValor(0, i, funcionObjetivoOriginal[i]);
+            tableau.set(0, i, funcionObjetivoOriginal[i]);
         }
 
         // Limpiar resto de coeficientes en función objetivo (excepto RHS)
         for (int j = nroVariables + 1; j < nroColumnas - 1; j++) {
-            if (!columnasArtificiales.contains(j)) {
-                setValor(0, j, 0);
+            if (!esVariableArtificial(j)) {
+                tableau.set(0, j, 0);
             }
         }
-        setValor(0, nroColumnas - 1, 0); // RHS
+        tableau.set(0, nroColumnas - 1, 0); // RHS
 
         // Actualizar Z para Fase 2
         actualizarZFase2();
@@ -223,19 +245,16 @@ public class MDosFasesRefactorizada extends SimplexBase {
             int columna = entry.getKey();
             int fila = entry.getValue();
 
-            double coeficienteZ = getValor(0, columna);
+            double coeficienteZ = tableau.get(0, columna);
             if (Math.abs(coeficienteZ) > epsilon) {
-                for (int j = 0; j < nroColumnas; j++) {
-                    double nuevoValor = getValor(0, j) - coeficienteZ * getValor(fila, j);
-                    setValor(0, j, nuevoValor);
-                }
+                tableau.sumarMultiploFila(0, fila, -coeficienteZ);
             }
         }
     }
 
     private boolean hayVariablesArtificialesEnBase() {
         // Verificar el valor de la función objetivo de Fase 1
-        double valorFase1 = getValor(0, nroColumnas - 1);
+        double valorFase1 = tableau.get(0, nroColumnas - 1);
         if (Math.abs(valorFase1) > epsilon) {
             return true; // Si la suma de artificiales > 0, no es factible
         }
@@ -243,7 +262,7 @@ public class MDosFasesRefactorizada extends SimplexBase {
         for (Map.Entry<Integer, Integer> entry : indiceSolucion.entrySet()) {
             int columna = entry.getKey();
             if (esVariableArtificial(columna)) {
-                double valor = getValor(entry.getValue(), nroColumnas - 1);
+                double valor = tableau.get(entry.getValue(), nroColumnas - 1);
                 if (Math.abs(valor) > epsilon) {
                     return true;
                 }
@@ -253,7 +272,26 @@ public class MDosFasesRefactorizada extends SimplexBase {
     }
 
     private boolean esVariableArtificial(int columna) {
-        return indexParaNuevoZ.containsValue(columna);
+        return columna >= primeraArtificial && columna < primeraArtificial + artificiales;
+    }
+
+    /**
+     * La base instalada no tiene artificiales básicas, así que se pasa directamente a la Fase 2.
+     */
+    @Override
+    protected void prepararArranqueEnCaliente() {
+        fase1Completada = true;
+        prepararTableauFase2();
+    }
+
+    @Override
+    protected void cancelarArranqueEnCaliente() {
+        fase1Completada = false;
+    }
+
+    @Override
+    protected boolean esColumnaArtificial(int columna) {
+        return esVariableArtificial(columna);
     }
 
     @Override
@@ -277,7 +315,7 @@ public class MDosFasesRefactorizada extends SimplexBase {
 
     @Override
     protected double calcularValorFuncionObjetivo() {
-        double valor = getValor(0, nroColumnas - 1);
+        double valor = tableau.get(0, nroColumnas - 1);
         if (!fase1Completada) {
             return valor;
         }
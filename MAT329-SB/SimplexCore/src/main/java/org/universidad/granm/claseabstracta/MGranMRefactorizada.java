@@ -0,0 +1,289 @@
+package org.universidad.granm.claseabstracta;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class MGranMRefactorizada extends SimplexBase {
+
+    /**
+     * Cómo se representa la penalización M de las variables artificiales.
+     */
+    public enum Modo {
+        /** M = {@link OpcionesResolucion#valorM()} sumado a la fila Z, como en el libro. */
+        NUMERICO,
+        /**
+         * La parte M de la fila Z se guarda aparte y los costos reducidos se comparan primero por su
+         * parte M y después por la real: el comportamiento exacto de M → ∞, sin elegir un valor.
+         */
+        LEXICOGRAFICO
+    }
+
+    private final double valorM;
+    protected Map<Integer, Integer> indexParaNuevoZ;
+    // Las artificiales ocupan las columnas [primeraArtificial, primeraArtificial + artificiales)
+    private int primeraArtificial;
+    private final Modo modo;
+    // Coeficientes de M en la fila Z (incluido el término independiente), solo en modo lexicográfico
+    private double[] filaM;
+
+    public MGranMRefactorizada(double[] funcionObjetivo, double[][] restricciones,
+                               double[] terminosIndependientes, TipoRestriccion[] tipoRestricciones,
+                               boolean maximizar) {
+        this(funcionObjetivo, MatrizDispersa.desdeDensa(restricciones), terminosIndependientes, tipoRestricciones, maximizar);
+    }
+
+    public MGranMRefactorizada(double[] funcionObjetivo, MatrizDispersa restricciones,
+                               double[] terminosIndependientes, TipoRestriccion[] tipoRestricciones,
+                               boolean maximizar) {
+        this(funcionObjetivo, restricciones, terminosIndependientes, tipoRestricciones, maximizar, NivelHistorial.COMPLETO);
+    }
+
+    /**
+     * Constructor con el nivel de detalle del historial de pasos ({@link NivelHistorial#NINGUNO} para resolver en lote).
+     */
+    public MGranMRefactorizada(double[] funcionObjetivo, MatrizDispersa restricciones,
+                               double[] terminosIndependientes, TipoRestriccion[] tipoRestricciones,
+                               boolean maximizar, NivelHistorial nivelHistorial) {
+        this(funcionObjetivo, restricciones, terminosIndependientes, tipoRestricciones, maximizar, nivelHistorial, Modo.NUMERICO);
+    }
+
+    /**
+     * Constructor con el modo de representar M ({@link Modo#LEXICOGRAFICO} para la Gran M simbólica).
+     */
+    public MGranMRefactorizada(double[] funcionObjetivo, MatrizDispersa restricciones,
+                               double[] terminosIndependientes, TipoRestriccion[] tipoRestricciones,
+                               boolean maximizar, NivelHistorial nivelHistorial, Modo modo) {
+        this(funcionObjetivo, restricciones, terminosIndependientes, tipoRestricciones, maximizar, opcionesConNivel(nivelHistorial), modo);
+    }
+
+    /**
+     * Constructor con las opciones de resolución; en modo numérico M vale {@link OpcionesResolucion#valorM()}.
+     */
+    public MGranMRefactorizada(double[] funcionObjetivo, MatrizDispersa restricciones,
+                               double[] terminosIndependientes, TipoRestriccion[] tipoRestricciones,
+                               boolean maximizar, OpcionesResolucion opciones) {
+        this(funcionObjetivo, restricciones, terminosIndependientes, tipoRestricciones, maximizar, opciones, Modo.NUMERICO);
+    }
+
+    public MGranMRefactorizada(double[] funcionObjetivo, MatrizDispersa restricciones,
+                               double[] terminosIndependientes, TipoRestriccion[] tipoRestricciones,
+                               boolean maximizar, OpcionesResolucion opciones, Modo modo) {
+        super(opciones);
+        if (modo == null)
+            throw new IllegalArgumentException("El modo de Gran M no puede ser nulo");
+        this.modo = modo;
+        this.valorM = opciones.valorM();
+        this.maximizar = maximizar;
+        this.nroRestricciones = restricciones.getNroFilas();
+        this.nroVariables = funcionObjetivo.length;
+        this.indexParaNuevoZ = new HashMap<>();
+
+        inicializarTableauBase(funcionObjetivo, restricciones, terminosIndependientes, tipoRestricciones);
+        if (modo == Modo.LEXICOGRAFICO)
+            filaM = new double[nroColumnas];
+
+        construirTableauGranM(funcionObjetivo, restricciones, terminosIndependientes, tipoRestricciones);
+
+        actualizarZ();
+        guardarPaso("Tabla inicial con Gran M", "", "");
+    }
+
+    private void construirTableauGranM(double[] funcionObjetivo, MatrizDispersa restricciones,
+                                       double[] terminosIndependientes, TipoRestriccion[] tipoRestricciones) {
+        int colHolgura = nroVariables + 1;
+        int colExceso = colHolgura + holguras;
+        int colArtificial = colExceso + excesos;
+        primeraArtificial = colArtificial;
+
+        int idxHolgura = 0, idxExceso = 0, idxArtificial = 0;
+
+        // Fila función objetivo
+        tableau.set(0, 0, 1); // Cambiar de -1 a 1 para consistencia
+        for (int j = 0; j < nroVariables; j++) {
+            double coeficiente = maximizar ? -funcionObjetivo[j] : funcionObjetivo[j];
+            tableau.set(0, j + 1, coeficiente);
+        }
+        tableau.set(0, nroColumnas - 1, 0);
+
+        // Filas de restricciones
+        for (int i = 0; i < nroRestricciones; i++) {
+            tableau.set(i + 1, 0, 0);
+
+            copiarRestriccion(restricciones, i);
+
+            switch (tipoRestricciones[i]) {
+                case MENOR_IGUAL:
+                    tableau.set(i + 1, colHolgura + idxHolgura, 1);
+                    idxHolgura++;
+                    break;
+                case MAYOR_IGUAL:
+                    tableau.set(i + 1, colExceso + idxExceso, -1);
+                    tableau.set(i + 1, colArtificial + idxArtificial, 1);
+                    fijarCoeficienteM(colArtificial + idxArtificial);
+                    indexParaNuevoZ.put(i + 1, colArtificial + idxArtificial);
+                    idxExceso++;
+                    idxArtificial++;
+                    break;
+                case IGUAL:
+                    tableau.set(i + 1, colArtificial + idxArtificial, 1);
+                    fijarCoeficienteM(colArtificial + idxArtificial);
+                    indexParaNuevoZ.put(i + 1, colArtificial + idxArtificial);
+                    idxArtificial++;
+                    break;
+            }
+            tableau.set(i + 1, nroColumnas - 1, terminosIndependientes[i]);
+        }
+    }
+
+    @Override
+    public void resolver() {
+        continuarResolucion();
+    }
+
+    @Override
+    protected void continuarResolucion() {
+        while (!esOptimo() && solucionEncontrada) {
+            iteracionSimplex();
+        }
+
+        if (solucionEncontrada) {
+            if (quedanArtificialesPositivas()) {
+                guardarPaso("Solución no factible: variables artificiales en la base", "", "");
+                marcarEstado(EstadoSolucion.INFACTIBLE);
+            } else {
+                finalizarSolucion();
+            }
+        }
+    }
+
+    /**
+     * Penalización M de una artificial en la fila Z: +M al maximizar, -M al minimizar.
+     */
+    private void fijarCoeficienteM(int columna) {
+        double signo = maximizar ? 1 : -1;
+        if (filaM != null)
+            filaM[columna] = signo;
+        else
+            tableau.set(0, columna, signo * valorM);
+    }
+
+    private void actualizarZ() {
+        indexParaNuevoZ.forEach((fila, columnaArtificial) -> {
+            double factor = maximizar ? -1 : 1;
+            if (filaM != null) {
+                for (int j = 0; j < nroColumnas; j++)
+                    filaM[j] += factor * tableau.get(fila, j);
+            } else {
+                tableau.sumarMultiploFila(0, fila, factor * valorM);
+            }
+        });
+    }
+
+    /**
+     * En modo lexicográfico la parte M de la fila Z se elimina con la misma fila pivote ya normalizada.
+     */
+    @Override
+    protected void realizarPivoteo(int filaPivote, int columnaPivote) {
+        super.realizarPivoteo(filaPivote, columnaPivote);
+        if (filaM == null)
+            return;
+        double factor = filaM[columnaPivote];
+        if (factor != 0)
+            for (int j = 0; j < nroColumnas; j++)
+                filaM[j] -= factor * tableau.get(filaPivote, j);
+        filaM[columnaPivote] = 0;
+        // Sin M sumada, lo que queda por debajo de epsilon es solo error de redondeo
+        for (int j = 0; j < nroColumnas; j++)
+            if (Math.abs(filaM[j]) <= epsilon)
+                filaM[j] = 0;
+    }
+
+    /**
+     * En modo lexicográfico la razón mínima descarta los elementos menores que epsilon: son ruido de
+     * redondeo de la eliminación y, como pivotes, llevan la parte real a valores del orden de 1e17.
+     */
+    @Override
+    protected int obtenerFilaPivote(int columnaPivote) {
+        if (filaM == null || isPruebaCocienteHarris())
+            return super.obtenerFilaPivote(columnaPivote);
+
+        double minimoActual = Double.POSITIVE_INFINITY;
+        int filaPivote = 0;
+        for (int i = 1; i < nroFilas; i++) {
+            double a = tableau.get(i, columnaPivote);
+            if (a <= epsilon) continue;
+            double razon = tableau.get(i, nroColumnas - 1) / a;
+            if (razon < minimoActual) {
+                minimoActual = razon;
+                filaPivote = i;
+            }
+        }
+        return filaPivote;
+    }
+
+    /**
+     * Columna entrante comparando (parte M, parte real) en orden lexicográfico: si alguna columna mejora
+     * la parte M decide solo ella; si no, entre las de parte M nula decide la parte real.
+     */
+    private int obtenerColumnaPivoteLexicografica() {
+        double signo = maximizar ? 1 : -1;
+        for (int j = 1; j < nroColumnas - 1; j++)
+            if (signo * filaM[j] < -epsilon)
+                return elegirColumna(maximizar, k -> signo * filaM[k]);
+        return elegirColumna(maximizar,
+                k -> Math.abs(filaM[k]) <= epsilon ? signo * tableau.get(0, k) : Double.POSITIVE_INFINITY);
+    }
+
+    @Override
+    protected boolean esColumnaArtificial(int columna) {
+        return columna >= primeraArtificial && columna < primeraArtificial + artificiales;
+    }
+
+    @Override
+    protected int obtenerColumnaPivote() {
+        if (filaM != null)
+            return obtenerColumnaPivoteLexicografica();
+        return maximizar ? obtenerColumnaPivoteMaximizar() : obtenerColumnaPivoteMinimizar();
+    }
+
+    @Override
+    protected boolean esOptimo() {
+        if (filaM != null)
+            return obtenerColumnaPivoteLexicografica() == 0;
+        return maximizar ? !existenNegativosEnlaFuncionObjetivo() : !existenPositivosEnlaFuncionObjetivo();
+    }
+
+    // El Simplex dual y el arranque en caliente de SimplexBase solo miran la parte real de la fila Z,
+    // y agregar una fila ensancharía el tableau sin ensanchar filaM
+
+    @Override
+    public void agregarRestriccion(double[] coeficientes, double terminoIndependiente, TipoRestriccion tipo) {
+        if (filaM != null)
+            throw new UnsupportedOperationException("La Gran M lexicográfica no admite agregar restricciones");
+        super.agregarRestriccion(coeficientes, terminoIndependiente, tipo);
+    }
+
+    @Override
+    public void reoptimizarDual() {
+        if (filaM != null)
+            throw new UnsupportedOperationException("La Gran M lexicográfica no admite la reoptimización dual");
+        super.reoptimizarDual();
+    }
+
+    @Override
+    public void resolverDesdeBase(Map<Integer, Integer> base) {
+        if (filaM != null)
+            throw new UnsupportedOperationException("La Gran M lexicográfica no admite el arranque en caliente");
+        super.resolverDesdeBase(base);
+    }
+
+    public Modo getModo() { return modo; }
+
+    /** Coeficiente de M en la fila Z para la columna dada (0 en modo numérico, donde M ya está sumada). */
+    public double getCoeficienteM(int columna) { return filaM == null ? 0 : filaM[columna]; }
+    @Override
+    protected double calcularValorFuncionObjetivo() {
+        double valor = tableau.get(0, nroColumnas - 1);
+        return maximizar ? valor : -valor;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,387 @@
+package org.universidad.granm.claseabstracta;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Método Simplex con variables acotadas l ≤ x ≤ u (técnica de la cota superior).
+ * Las cotas no agregan filas al tableau: las inferiores se trasladan (x = l + x') y las superiores
+ * se manejan en la prueba del cociente, que además de la razón mínima habitual considera
+ * <ul>
+ *     <li>la variable básica que llega a su cota superior (sale de la base en esa cota), y</li>
+ *     <li>la variable entrante que llega a su propia cota antes que cualquier básica (cambio de cota,
+ *     sin pivoteo).</li>
+ * </ul>
+ * Una variable que queda en su cota superior se reemplaza por su complemento x̄ = u − x: se cambia
+ * el signo de su columna y se ajustan los términos independientes. Así todas las no básicas valen 0
+ * en el tableau y el resto del método es el de siempre.
+ *
+ * La fila Z se guarda siempre en forma de maximización. Las restricciones ≥ y = se resuelven con
+ * una Fase 1 sobre variables artificiales, como en el método de Dos Fases.
+ */
+public class MSimplexAcotado extends SimplexBase {
+
+    private final double[] funcionObjetivo;
+    private final double[] cotaInferior;
+    // Amplitud u - l de cada columna del tableau (infinita para holguras, excesos y artificiales)
+    private final double[] amplitud;
+    // Columnas reemplazadas por su complemento u - x
+    private final boolean[] complementada;
+    private int primeraArtificial;
+    private boolean fase1;
+    private int cambiosDeCota;
+
+    public MSimplexAcotado(double[] funcionObjetivo, double[][] restricciones,
+                           double[] terminosIndependientes, TipoRestriccion[] tipoRestricciones, boolean maximizar,
+                           double[] cotaInferior, double[] cotaSuperior) {
+        this(funcionObjetivo, MatrizDispersa.desdeDensa(restricciones), terminosIndependientes, tipoRestricciones,
+                maximizar, cotaInferior, cotaSuperior);
+    }
+
+    public MSimplexAcotado(double[] funcionObjetivo, MatrizDispersa restricciones,
+                           double[] terminosIndependientes, TipoRestriccion[] tipoRestricciones, boolean maximizar,
+                           double[] cotaInferior, double[] cotaSuperior) {
+        this(funcionObjetivo, restricciones, terminosIndependientes, tipoRestricciones, maximizar,
+                cotaInferior, cotaSuperior, NivelHistorial.COMPLETO);
+    }
+
+    /**
+     * Constructor con el nivel de detalle del historial de pasos ({@link NivelHistorial#NINGUNO} para resolver en lote).
+     *
+     * @param cotaInferior Cota inferior finita de cada variable, o null para x ≥ 0
+     * @param cotaSuperior Cota superior de cada variable (Double.POSITIVE_INFINITY si no tiene), o null si ninguna tiene
+     */
+    public MSimplexAcotado(double[] funcionObjetivo, MatrizDispersa restricciones,
+                           double[] terminosIndependientes, TipoRestriccion[] tipoRestricciones, boolean maximizar,
+                           double[] cotaInferior, double[] cotaSuperior, NivelHistorial nivelHistorial) {
+        this(funcionObjetivo, restricciones, terminosIndependientes, tipoRestricciones, maximizar,
+                cotaInferior, cotaSuperior, opcionesConNivel(nivelHistorial));
+    }
+
+    /**
+     * Constructor con las opciones de resolución.
+     */
+    public MSimplexAcotado(double[] funcionObjetivo, MatrizDispersa restricciones,
+                           double[] terminosIndependientes, TipoRestriccion[] tipoRestricciones, boolean maximizar,
+                           double[] cotaInferior, double[] cotaSuperior, OpcionesResolucion opciones) {
+        super(opciones);
+        this.maximizar = maximizar;
+        this.nroRestricciones = restricciones.getNroFilas();
+        this.nroVariables = funcionObjetivo.length;
+        this.funcionObjetivo = funcionObjetivo.clone();
+        this.cotaInferior = cotaInferior == null ? new double[nroVariables] : cotaInferior.clone();
+        double[] superior = cotaSuperior == null ? new double[nroVariables] : cotaSuperior;
+        if (cotaSuperior == null)
+            Arrays.fill(superior, Double.POSITIVE_INFINITY);
+        validarCotas(superior);
+
+        // Traslado de las cotas inferiores: b - A·l, y filas con término negativo multiplicadas por -1
+        double[] terminos = terminosIndependientes.clone();
+        for (int i = 0; i < nroRestricciones; i++)
+            for (int k = restricciones.getInicioFila(i); k < restricciones.getFinFila(i); k++)
+                terminos[i] -= restricciones.getValorPosicion(k) * this.cotaInferior[restricciones.getColumna(k)];
+        TipoRestriccion[] tipos = tipoRestricciones.clone();
+        double[] signo = new double[nroRestricciones];
+        for (int i = 0; i < nroRestricciones; i++) {
+            signo[i] = terminos[i] < 0 ? -1 : 1;
+            if (signo[i] < 0) {
+                terminos[i] = -terminos[i];
+                tipos[i] = tipos[i].invertido();
+            }
+        }
+
+        inicializarTableauBase(funcionObjetivo, restricciones, terminos, tipos);
+        this.amplitud = new double[nroColumnas];
+        this.complementada = new boolean[nroColumnas];
+        Arrays.fill(amplitud, Double.POSITIVE_INFINITY);
+        for (int j = 0; j < nroVariables; j++)
+            amplitud[j + 1] = superior[j] - this.cotaInferior[j];
+
+        construirTableau(restricciones, terminos, tipos, signo);
+        this.fase1 = artificiales > 0;
+        if (fase1) {
+            prepararFase1();
+            guardarPaso("Tabla inicial - Fase 1 (Simplex con variables acotadas)", "", "");
+        } else {
+            prepararFase2();
+            guardarPaso("Tabla inicial (Simplex con variables acotadas)", "", "");
+        }
+    }
+
+    private void validarCotas(double[] superior) {
+        if (cotaInferior.length != nroVariables || superior.length != nroVariables)
+            throw new IllegalArgumentException("Las cotas no tienen el mismo número de variables que la función objetivo");
+        for (int j = 0; j < nroVariables; j++) {
+            if (!Double.isFinite(cotaInferior[j]))
+                throw new IllegalArgumentException("La cota inferior de x" + (j + 1) + " debe ser finita");
+            if (Double.isNaN(superior[j]) || superior[j] < cotaInferior[j])
+                throw new IllegalArgumentException("La cota superior de x" + (j + 1) + " es menor que la inferior");
+        }
+    }
+
+    private void construirTableau(MatrizDispersa restricciones, double[] terminos, TipoRestriccion[] tipos, double[] signo) {
+        int colHolgura = nroVariables + 1;
+        int colExceso = colHolgura + holguras;
+        int colArtificial = colExceso + excesos;
+        primeraArtificial = colArtificial;
+
+        tableau.set(0, 0, 1);
+        for (int i = 0; i < nroRestricciones; i++) {
+            for (int k = restricciones.getInicioFila(i); k < restricciones.getFinFila(i); k++)
+                tableau.set(i + 1, restricciones.getColumna(k) + 1, signo[i] * restricciones.getValorPosicion(k));
+
+            switch (tipos[i]) {
+                case MENOR_IGUAL -> {
+                    tableau.set(i + 1, colHolgura, 1);
+                    ponerEnBase(colHolgura++, i + 1);
+                }
+                case MAYOR_IGUAL -> {
+                    tableau.set(i + 1, colExceso++, -1);
+                    tableau.set(i + 1, colArtificial, 1);
+                    ponerEnBase(colArtificial++, i + 1);
+                }
+                case IGUAL -> {
+                    tableau.set(i + 1, colArtificial, 1);
+                    ponerEnBase(colArtificial++, i + 1);
+                }
+            }
+            tableau.set(i + 1, nroColumnas - 1, terminos[i]);
+        }
+    }
+
+    /**
+     * Fila Z de la Fase 1: maximizar -Σ artificiales, expresada en términos de las no básicas.
+     */
+    private void prepararFase1() {
+        for (int j = primeraArtificial; j < nroColumnas - 1; j++)
+            tableau.set(0, j, 1);
+        indiceSolucion.forEach((columna, fila) -> {
+            if (columna >= primeraArtificial)
+                tableau.sumarMultiploFila(0, fila, -1);
+        });
+    }
+
+    /**
+     * Fila Z del problema original en forma de maximización, con el cambio de signo de las columnas
+     * complementadas, expresada en términos de las no básicas.
+     */
+    private void prepararFase2() {
+        for (int j = 1; j < nroColumnas; j++)
+            tableau.set(0, j, 0);
+        double terminoZ = 0;
+        for (int j = 1; j <= nroVariables; j++) {
+            double costo = maximizar ? -funcionObjetivo[j - 1] : funcionObjetivo[j - 1];
+            if (complementada[j]) {
+                terminoZ -= costo * amplitud[j];
+                costo = -costo;
+            }
+            tableau.set(0, j, costo);
+        }
+        tableau.set(0, nroColumnas - 1, terminoZ);
+        indiceSolucion.forEach((columna, fila) -> {
+            double coeficiente = tableau.get(0, columna);
+            if (coeficiente != 0)
+                tableau.sumarMultiploFila(0, fila, -coeficiente);
+        });
+    }
+
+    @Override
+    public void resolver() {
+        if (fase1) {
+            while (!esOptimo() && solucionEncontrada)
+                iteracionSimplex();
+            if (!solucionEncontrada)
+                return;
+            if (tableau.get(0, nroColumnas - 1) < -epsilon) {
+                guardarPaso("Problema infactible: la Fase 1 termina con artificiales positivas", "", "");
+                marcarEstado(EstadoSolucion.INFACTIBLE);
+                return;
+            }
+            sacarArtificialesDeLaBase();
+            fase1 = false;
+            prepararFase2();
+            guardarPaso("Tabla preparada para Fase 2", "", "");
+        }
+
+        while (!esOptimo() && solucionEncontrada)
+            iteracionSimplex();
+        if (solucionEncontrada)
+            finalizarSolucion();
+    }
+
+    /**
+     * Las artificiales que siguen básicas (en cero) se cambian por la columna no artificial con mayor
+     * elemento en su fila; si no hay, la fila es redundante y la artificial queda en la base.
+     * Después se anulan las columnas de las artificiales no básicas para que no vuelvan a entrar.
+     */
+    private void sacarArtificialesDeLaBase() {
+        for (Map.Entry<Integer, Integer> entry : Map.copyOf(indiceSolucion).entrySet()) {
+            if (entry.getKey() < primeraArtificial)
+                continue;
+            int fila = entry.getValue();
+            int columnaPivote = 0;
+            double mayor = epsilon;
+            for (int j = 1; j < primeraArtificial; j++) {
+                if (!indiceSolucion.containsKey(j) && Math.abs(tableau.get(fila, j)) > mayor) {
+                    mayor = Math.abs(tableau.get(fila, j));
+                    columnaPivote = j;
+                }
+            }
+            if (columnaPivote != 0)
+                pivotear(fila, columnaPivote);
+        }
+        for (int j = primeraArtificial; j < nroColumnas - 1; j++)
+            if (!indiceSolucion.containsKey(j))
+                tableau.llenarColumna(j, 0);
+    }
+
+    /**
+     * Iteración con la prueba del cociente de variables acotadas: la entrante avanza hasta que una básica
+     * llega a 0, una básica llega a su cota superior o la propia entrante llega a la suya.
+     */
+    @Override
+    protected void iteracionSimplex() {
+        if (limiteAlcanzado())
+            return;
+
+        int columnaPivote = obtenerColumnaPivote();
+        if (columnaPivote == 0) {
+            manejarProblemaNoAcotado("columna");
+            return;
+        }
+
+        int[] columnaBasica = new int[nroFilas];
+        indiceSolucion.forEach((columna, fila) -> columnaBasica[fila] = columna);
+
+        double paso = amplitud[columnaPivote];
+        int filaPivote = 0;
+        boolean saleEnCotaSuperior = false;
+        for (int i = 1; i < nroFilas; i++) {
+            double a = tableau.get(i, columnaPivote);
+            double b = tableau.get(i, nroColumnas - 1);
+            if (a > epsilon) {
+                double razon = Math.max(b, 0) / a;
+                if (razon < paso) {
+                    paso = razon;
+                    filaPivote = i;
+                    saleEnCotaSuperior = false;
+                }
+            } else if (a < -epsilon && amplitud[columnaBasica[i]] < Double.POSITIVE_INFINITY) {
+                double razon = Math.max(amplitud[columnaBasica[i]] - b, 0) / -a;
+                if (razon < paso) {
+                    paso = razon;
+                    filaPivote = i;
+                    saleEnCotaSuperior = true;
+                }
+            }
+        }
+
+        if (paso == Double.POSITIVE_INFINITY) {
+            manejarProblemaNoAcotado("fila");
+            return;
+        }
+        if (filaPivote == 0) {
+            complementar(columnaPivote);
+            cambiosDeCota++;
+            if (registraHistorial())
+                guardarPaso("Cambio de cota: x" + columnaPivote + " pasa a su " + (complementada[columnaPivote] ? "cota superior" : "cota inferior"),
+                        "x" + columnaPivote, "");
+            return;
+        }
+
+        int columnaSaliente = columnaBasica[filaPivote];
+        pivotear(filaPivote, columnaPivote);
+        if (saleEnCotaSuperior) {
+            complementar(columnaSaliente);
+            if (registraHistorial())
+                guardarPaso("x" + columnaSaliente + " sale de la base en su cota superior", "", "x" + columnaSaliente);
+        }
+    }
+
+    /**
+     * Reemplaza la variable de la columna por su complemento u - x (o deshace el reemplazo):
+     * b ← b - a·u y a ← -a en todas las filas, incluida la fila Z.
+     */
+    private void complementar(int columna) {
+        double u = amplitud[columna];
+        for (int i = 0; i < nroFilas; i++) {
+            double a = tableau.get(i, columna);
+            if (a == 0) continue;
+            tableau.set(i, nroColumnas - 1, tableau.get(i, nroColumnas - 1) - a * u);
+            tableau.set(i, columna, -a);
+        }
+        complementada[columna] = !complementada[columna];
+    }
+
+    /**
+     * Valor de cada variable de decisión en las unidades del problema original: l + x o l + u - x̄.
+     */
+    private double[] valoresOriginales() {
+        double[] valor = new double[nroColumnas];
+        indiceSolucion.forEach((columna, fila) -> valor[columna] = tableau.get(fila, nroColumnas - 1));
+        double[] x = new double[nroVariables];
+        for (int j = 1; j <= nroVariables; j++)
+            x[j - 1] = cotaInferior[j - 1] + (complementada[j] ? amplitud[j] - valor[j] : valor[j]);
+        return x;
+    }
+
+    @Override
+    protected void finalizarSolucion() {
+        marcarEstado(EstadoSolucion.OPTIMA);
+        guardarPaso("Solución óptima encontrada", "", "");
+        double[] x = valoresOriginales();
+        for (int j = 0; j < nroVariables; j++)
+            solucion.put("x" + (j + 1), x[j]);
+        indiceSolucion.forEach((columna, fila) -> {
+            if (columna > nroVariables)
+                solucion.put("x" + columna, tableau.get(fila, nroColumnas - 1));
+        });
+        solucion.put("z", calcularValorFuncionObjetivo());
+    }
+
+    @Override
+    protected double calcularValorFuncionObjetivo() {
+        double[] x = valoresOriginales();
+        double z = 0;
+        for (int j = 0; j < nroVariables; j++)
+            z += funcionObjetivo[j] * x[j];
+        return z;
+    }
+
+    @Override
+    protected int obtenerColumnaPivote() {
+        return obtenerColumnaPivoteMaximizar();
+    }
+
+    @Override
+    protected boolean esOptimo() {
+        return !existenNegativosEnlaFuncionObjetivo();
+    }
+
+    @Override
+    protected boolean esColumnaArtificial(int columna) {
+        return columna >= primeraArtificial && columna < nroColumnas - 1;
+    }
+
+    // Las operaciones sobre la base de SimplexBase no conocen las cotas ni las columnas complementadas
+
+    @Override
+    public void agregarRestriccion(double[] coeficientes, double terminoIndependiente, TipoRestriccion tipo) {
+        throw new UnsupportedOperationException("El Simplex con variables acotadas no admite agregar restricciones");
+    }
+
+    @Override
+    public void reoptimizarDual() {
+        throw new UnsupportedOperationException("El Simplex con variables acotadas no admite la reoptimización dual");
+    }
+
+    @Override
+    public void resolverDesdeBase(Map<Integer, Integer> base) {
+        throw new UnsupportedOperationException("El Simplex con variables acotadas no admite el arranque en caliente");
+    }
+
+    /** Cantidad de cambios de cota de la variable entrante (iteraciones sin pivoteo). */
+    public int getCambiosDeCota() { return cambiosDeCota; }
+    public double getCotaInferior(int variable) { return cotaInferior[variable - 1]; }
+    public double getCotaSuperior(int variable) { return cotaInferior[variable - 1] + amplitud[variable]; }
+}
@@ -0,0 +1,96 @@
+package org.universidad.granm.claseabstracta;
+
+/**
+ * Implementación del método Simplex estándar para problemas con restricciones <=
+ */
+public class MSimplexEstandar extends SimplexBase {
+
+    public MSimplexEstandar(double[] funcionObjetivo, double[][] restricciones,
+                            double[] terminosIndependientes, TipoRestriccion[] tipoRestriccion, boolean maximizar) {
+        this(funcionObjetivo, MatrizDispersa.desdeDensa(restricciones), terminosIndependientes, tipoRestriccion, maximizar);
+    }
+
+    public MSimplexEstandar(double[] funcionObjetivo, MatrizDispersa restricciones,
+                            double[] terminosIndependientes, TipoRestriccion[] tipoRestriccion, boolean maximizar) {
+        this(funcionObjetivo, restricciones, terminosIndependientes, tipoRestriccion, maximizar, NivelHistorial.COMPLETO);
+    }
+
+    /**
+     * Constructor con el nivel de detalle del historial de pasos ({@link NivelHistorial#NINGUNO} para resolver en lote).
+     */
+    public MSimplexEstandar(double[] funcionObjetivo, MatrizDispersa restricciones,
+                            double[] terminosIndependientes, TipoRestriccion[] tipoRestriccion, boolean maximizar,
+                            NivelHistorial nivelHistorial) {
+        this(funcionObjetivo, restricciones, terminosIndependientes, tipoRestriccion, maximizar, opcionesConNivel(nivelHistorial));
+    }
+
+    /**
+     * Constructor con las opciones de resolución (tolerancias, límites, pricing e historial).
+     */
+    public MSimplexEstandar(double[] funcionObjetivo, MatrizDispersa restricciones,
+                            double[] terminosIndependientes, TipoRestriccion[] tipoRestriccion, boolean maximizar,
+                            OpcionesResolucion opciones) {
+        super(opciones);
+        this.maximizar = maximizar;
+        this.nroRestricciones = restricciones.getNroFilas();
+        this.nroVariables = funcionObjetivo.length;
+
+        inicializarTableau(funcionObjetivo, restricciones, terminosIndependientes, tipoRestriccion);
+        guardarPaso("Tabla inicial", "", "");
+    }
+
+    protected void inicializarTableau(double[] funcionObjetivo, MatrizDispersa restricciones,
+                                      double[] terminosIndependientes, TipoRestriccion[] tipoRestriccion) {
+        inicializarTableauBase(funcionObjetivo, restricciones, terminosIndependientes, tipoRestriccion);
+
+        // Fila de función objetivo
+        tableau.set(0, 0, 1);
+        for (int j = 0; j < nroVariables; j++)
+            tableau.set(0, j + 1, -funcionObjetivo[j]);
+
+        tableau.set(0, nroColumnas - 1, 0);
+
+        int colHolgura = nroVariables + 1;
+
+        // Filas de restricciones
+        for (int i = 0; i < nroRestricciones; i++) {
+            tableau.set(i + 1, 0, 0);
+            copiarRestriccion(restricciones, i);
+
+            tableau.set(i + 1, colHolgura + i, 1);
+
+            tableau.set(i + 1, nroColumnas - 1, terminosIndependientes[i]);
+        }
+    }
+
+    @Override
+    public void resolver() {
+        if (!maximizar && !existenPositivosEnlaFuncionObjetivo()) {
+            finalizarSolucion();
+            return;
+        }
+
+        while (!esOptimo() && solucionEncontrada) {
+            iteracionSimplex();
+        }
+
+        if (solucionEncontrada) {
+            finalizarSolucion();
+        }
+    }
+
+    @Override
+    protected int obtenerColumnaPivote() {
+        return maximizar ? obtenerColumnaPivoteMaximizar() : obtenerColumnaPivoteMinimizar();
+    }
+
+    @Override
+    protected boolean esOptimo() {
+        return maximizar ? !existenNegativosEnlaFuncionObjetivo() : !existenPositivosEnlaFuncionObjetivo();
+    }
+
+    @Override
+    protected double calcularValorFuncionObjetivo() {
+        return tableau.get(0, nroColumnas - 1);
+    }
+}
\ No newline at end of file
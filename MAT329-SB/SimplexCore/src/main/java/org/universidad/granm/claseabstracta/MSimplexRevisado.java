@@ -0,0 +1,572 @@
+package org.universidad.granm.claseabstracta;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Implementación del método Simplex revisado.
+ * En lugar de actualizar el tableau completo en cada pivoteo, mantiene una factorización LU
+ * de la base con actualizaciones en forma producto y refactorización periódica, y calcula
+ * solo los costos reducidos y la columna pivote que necesita cada iteración.
+ * Las restricciones ≥ y = se resuelven con una Fase 1 sobre variables artificiales.
+ *
+ * El tableau explícito solo se construye al guardar un paso del historial.
+ */
+public class MSimplexRevisado extends SimplexBase {
+
+    private final int m;
+    private final int nroColumnasModelo;
+
+    // Matriz de restricciones [A | holguras | excesos | artificiales] por columnas (CSC)
+    private int[] inicioColumna;
+    private int[] filasColumna;
+    private double[] valoresColumna;
+    private final double[] terminos;
+
+    private final double[] funcionObjetivo;
+    private final double[] costoFase1;
+    private final double[] costoFase2;
+    private double[] costo;
+    private int primeraArtificial;
+
+    private final int[] base;
+    private final boolean[] esBasica;
+    private final double[] valoresBasicos;
+    private final FactorizacionBase factorizacion;
+    private int intervaloRefactorizacion = 50;
+
+    // Vectores de trabajo reutilizados entre iteraciones
+    private final double[] duales;
+    private final double[] columnaTransformada;
+    private final double[] columnaDensa;
+
+    private boolean fase1;
+    private int columnaEntrante;
+
+    public MSimplexRevisado(double[] funcionObjetivo, double[][] restricciones,
+                            double[] terminosIndependientes, TipoRestriccion[] tipoRestricciones,
+                            boolean maximizar) {
+        this(funcionObjetivo, MatrizDispersa.desdeDensa(restricciones), terminosIndependientes, tipoRestricciones, maximizar);
+    }
+
+    /**
+     * Constructor con la matriz de restricciones dispersa; la matriz ocupa memoria según sus no nulos
+     * y no según m·n. La factorización de la base sigue siendo densa (m×m, ver {@link FactorizacionBase}).
+     */
+    public MSimplexRevisado(double[] funcionObjetivo, MatrizDispersa restricciones,
+                            double[] terminosIndependientes, TipoRestriccion[] tipoRestricciones,
+                            boolean maximizar) {
+        this(funcionObjetivo, restricciones, terminosIndependientes, tipoRestricciones, maximizar, NivelHistorial.COMPLETO);
+    }
+
+    /**
+     * Constructor con el nivel de detalle del historial de pasos ({@link NivelHistorial#NINGUNO} para resolver en lote).
+     */
+    public MSimplexRevisado(double[] funcionObjetivo, MatrizDispersa restricciones,
+                            double[] terminosIndependientes, TipoRestriccion[] tipoRestricciones,
+                            boolean maximizar, NivelHistorial nivelHistorial) {
+        this(funcionObjetivo, restricciones, terminosIndependientes, tipoRestricciones, maximizar, opcionesConNivel(nivelHistorial));
+    }
+
+    /**
+     * Constructor con las opciones de resolución. Las reglas de pricing con pesos no están admitidas.
+     */
+    public MSimplexRevisado(double[] funcionObjetivo, MatrizDispersa restricciones,
+                            double[] terminosIndependientes, TipoRestriccion[] tipoRestricciones,
+                            boolean maximizar, OpcionesResolucion opciones) {
+        super(opciones);
+        if (getReglaPricing() instanceof ReglaPricingPonderada)
+            throw new UnsupportedOperationException("El Simplex revisado no admite reglas de pricing con pesos");
+        this.maximizar = maximizar;
+        this.nroRestricciones = restricciones.getNroFilas();
+        this.nroVariables = funcionObjetivo.length;
+        this.funcionObjetivo = funcionObjetivo.clone();
+        this.m = nroRestricciones;
+
+        // Filas con término independiente negativo se multiplican por -1 (sin tocar los datos del usuario)
+        TipoRestriccion[] tipos = new TipoRestriccion[m];
+        double[] signo = new double[m];
+        for (int i = 0; i < m; i++) {
+            signo[i] = terminosIndependientes[i] < 0 ? -1 : 1;
+            tipos[i] = signo[i] > 0 ? tipoRestricciones[i] : tipoRestricciones[i].invertido();
+        }
+
+        if (restricciones.getNroColumnas() > nroVariables)
+            throw new IllegalArgumentException("La matriz de restricciones tiene más columnas que variables");
+        calcularDimensiones(tipos);
+        this.nroColumnasModelo = nroVariables + holguras + excesos + artificiales;
+        this.terminos = new double[m];
+        for (int i = 0; i < m; i++)
+            terminos[i] = signo[i] * terminosIndependientes[i];
+
+        construirColumnas(restricciones, tipos, signo);
+
+        this.costoFase1 = new double[nroColumnasModelo];
+        this.costoFase2 = new double[nroColumnasModelo];
+        for (int j = 0; j < nroVariables; j++)
+            costoFase2[j] = maximizar ? -funcionObjetivo[j] : funcionObjetivo[j];
+        for (int j = primeraArtificial; j < nroColumnasModelo; j++)
+            costoFase1[j] = 1;
+
+        this.base = new int[m];
+        this.esBasica = new boolean[nroColumnasModelo];
+        this.valoresBasicos = new double[m];
+        this.factorizacion = new FactorizacionBase(m);
+        this.duales = new double[m];
+        this.columnaTransformada = new double[m];
+        this.columnaDensa = new double[m];
+
+        construirBaseInicial(tipos);
+        this.fase1 = artificiales > 0;
+        this.costo = fase1 ? costoFase1 : costoFase2;
+        refactorizar();
+
+        guardarPaso(fase1 ? "Tabla inicial - Fase 1 (Simplex revisado)" : "Tabla inicial (Simplex revisado)", "", "");
+    }
+
+    private void construirColumnas(MatrizDispersa restricciones, TipoRestriccion[] tipos, double[] signo) {
+        MatrizDispersa porColumnas = restricciones.transpuesta();
+        int nnz = porColumnas.getNroNoCeros() + holguras + 2 * excesos + artificiales;
+
+        inicioColumna = new int[nroColumnasModelo + 1];
+        filasColumna = new int[nnz];
+        valoresColumna = new double[nnz];
+
+        int k = 0;
+        for (int j = 0; j < nroVariables; j++) {
+            inicioColumna[j] = k;
+            if (j >= porColumnas.getNroFilas()) continue;
+            for (int p = porColumnas.getInicioFila(j); p < porColumnas.getFinFila(j); p++) {
+                int i = porColumnas.getColumna(p);
+                filasColumna[k] = i;
+                valoresColumna[k] = signo[i] * porColumnas.getValorPosicion(p);
+                k++;
+            }
+        }
+
+        // Holguras, excesos y artificiales en el mismo orden de columnas que el tableau
+        int col = nroVariables;
+        for (int i = 0; i < m; i++)
+            if (tipos[i] == TipoRestriccion.MENOR_IGUAL) k = agregarUnitaria(col++, i, 1, k);
+        for (int i = 0; i < m; i++)
+            if (tipos[i] == TipoRestriccion.MAYOR_IGUAL) k = agregarUnitaria(col++, i, -1, k);
+        primeraArtificial = col;
+        for (int i = 0; i < m; i++)
+            if (tipos[i] != TipoRestriccion.MENOR_IGUAL) k = agregarUnitaria(col++, i, 1, k);
+        inicioColumna[nroColumnasModelo] = k;
+    }
+
+    private int agregarUnitaria(int columna, int fila, double valor, int k) {
+        inicioColumna[columna] = k;
+        filasColumna[k] = fila;
+        valoresColumna[k] = valor;
+        return k + 1;
+    }
+
+    private void construirBaseInicial(TipoRestriccion[] tipos) {
+        int colHolgura = nroVariables;
+        int colArtificial = primeraArtificial;
+        for (int i = 0; i < m; i++) {
+            int columna = tipos[i] == TipoRestriccion.MENOR_IGUAL ? colHolgura++ : colArtificial++;
+            base[i] = columna;
+            esBasica[columna] = true;
+            ponerEnBase(columna + 1, i + 1);
+        }
+    }
+
+    /**
+     * Factoriza de nuevo la base actual y recalcula x_B = B^-1 b.
+     */
+    private void refactorizar() {
+        double[] densa = new double[m * m];
+        for (int p = 0; p < m; p++) {
+            int columna = base[p];
+            for (int k = inicioColumna[columna]; k < inicioColumna[columna + 1]; k++)
+                densa[filasColumna[k] * m + p] = valoresColumna[k];
+        }
+        factorizacion.factorizar(densa);
+        factorizacion.ftran(terminos, valoresBasicos);
+    }
+
+    private void cargarColumna(int columna, double[] destino) {
+        Arrays.fill(destino, 0);
+        for (int k = inicioColumna[columna]; k < inicioColumna[columna + 1]; k++)
+            destino[filasColumna[k]] = valoresColumna[k];
+    }
+
+    private double productoColumna(double[] y, int columna) {
+        double suma = 0;
+        for (int k = inicioColumna[columna]; k < inicioColumna[columna + 1]; k++)
+            suma += y[filasColumna[k]] * valoresColumna[k];
+        return suma;
+    }
+
+    private void calcularDuales() {
+        double[] costoBase = new double[m];
+        for (int p = 0; p < m; p++)
+            costoBase[p] = costo[base[p]];
+        factorizacion.btran(costoBase, duales);
+    }
+
+    private double costoReducido(int columna) {
+        return costo[columna] - productoColumna(duales, columna);
+    }
+
+    private boolean puedeEntrar(int columna) {
+        return !esBasica[columna] && (fase1 || columna < primeraArtificial);
+    }
+
+    // Pricing sobre el problema en forma de minimización, con la regla configurada
+
+    @Override
+    protected boolean esOptimo() {
+        calcularDuales();
+        columnaEntrante = getReglaPricing().elegirColumna(0, nroColumnasModelo,
+                j -> puedeEntrar(j) ? costoReducido(j) : Double.POSITIVE_INFINITY,
+                j -> razonMinima(j + 1), epsilon);
+        return columnaEntrante < 0;
+    }
+
+    @Override
+    protected double razonMinima(int columna) {
+        int filaPivote = obtenerFilaPivote(columna);
+        if (filaPivote == 0)
+            return Double.POSITIVE_INFINITY;
+        return Math.max(valoresBasicos[filaPivote - 1], 0) / columnaTransformada[filaPivote - 1];
+    }
+
+    @Override
+    protected int obtenerColumnaPivote() {
+        return columnaEntrante + 1;
+    }
+
+    @Override
+    protected int obtenerFilaPivote(int columnaPivote) {
+        cargarColumna(columnaPivote - 1, columnaDensa);
+        factorizacion.ftran(columnaDensa, columnaTransformada);
+        if (isPruebaCocienteHarris())
+            return filaRazonHarris(columnaTransformada, valoresBasicos, 0, m) + 1;
+
+        // Misma tolerancia de pivote que la prueba del cociente de los motores con tableau
+        double toleranciaPivote = getToleranciaPivote();
+        double minimoActual = Double.POSITIVE_INFINITY;
+        int filaPivote = 0;
+        for (int i = 0; i < m; i++) {
+            double alfa = columnaTransformada[i];
+            if (alfa <= toleranciaPivote) continue;
+            double razon = Math.max(valoresBasicos[i], 0) / alfa;
+            if (razon < minimoActual) {
+                minimoActual = razon;
+                filaPivote = i + 1;
+            }
+        }
+        return filaPivote;
+    }
+
+    @Override
+    protected void realizarPivoteo(int filaPivote, int columnaPivote) {
+        cambiarBase(filaPivote - 1, columnaPivote - 1);
+    }
+
+    /**
+     * Cambia la variable básica de la posición r por la columna q; requiere que
+     * {@code columnaTransformada} contenga B^-1 a_q.
+     */
+    private void cambiarBase(int r, int q) {
+        double theta = valoresBasicos[r] / columnaTransformada[r];
+        for (int i = 0; i < m; i++)
+            valoresBasicos[i] -= theta * columnaTransformada[i];
+        valoresBasicos[r] = theta;
+
+        int saliente = base[r];
+        esBasica[saliente] = false;
+        base[r] = q;
+        esBasica[q] = true;
+        ponerEnBase(q + 1, r + 1);
+
+        if (factorizacion.getNroEtas() + 1 >= intervaloRefactorizacion)
+            refactorizar();
+        else
+            factorizacion.actualizar(r, columnaTransformada);
+    }
+
+    @Override
+    protected void actualizarSolucion(int columnaPivote, int filaPivote) {
+        if (!registraHistorial()) return;
+        guardarPaso("Cambio de base",
+                "Variable de entrada X" + columnaPivote,
+                "Variable de salida X" + filaPivote);
+    }
+
+    @Override
+    public void resolver() {
+        if (fase1) {
+            guardarPaso("Iniciando Fase 1", "", "");
+            while (!esOptimo() && solucionEncontrada) {
+                iteracionSimplex();
+            }
+            if (!solucionEncontrada) return;
+
+            if (valorObjetivoActual() > Math.sqrt(epsilon)) {
+                guardarPaso("Solución no factible: variables artificiales en la base", "", "");
+                marcarEstado(EstadoSolucion.INFACTIBLE);
+                return;
+            }
+            sacarArtificialesDeBase();
+            fase1 = false;
+            costo = costoFase2;
+            guardarPaso("Fase 1 completada - Iniciando Fase 2", "", "");
+        }
+
+        while (!esOptimo() && solucionEncontrada) {
+            iteracionSimplex();
+        }
+
+        if (solucionEncontrada) {
+            finalizarSolucion();
+        }
+    }
+
+    /**
+     * Intenta sustituir las artificiales básicas (con valor cero) por columnas del modelo.
+     * Si la fila es redundante la artificial queda en la base con valor cero y no vuelve a entrar.
+     */
+    private void sacarArtificialesDeBase() {
+        double[] unitario = new double[m];
+        double[] fila = new double[m];
+        for (int r = 0; r < m; r++) {
+            if (base[r] < primeraArtificial) continue;
+
+            Arrays.fill(unitario, 0);
+            unitario[r] = 1;
+            factorizacion.btran(unitario, fila);
+
+            for (int j = 0; j < primeraArtificial; j++) {
+                if (esBasica[j] || Math.abs(productoColumna(fila, j)) <= Math.sqrt(epsilon)) continue;
+                cargarColumna(j, columnaDensa);
+                factorizacion.ftran(columnaDensa, columnaTransformada);
+                cambiarBase(r, j);
+                break;
+            }
+        }
+    }
+
+    private double valorObjetivoActual() {
+        double z = 0;
+        for (int p = 0; p < m; p++)
+            z += costo[base[p]] * valoresBasicos[p];
+        return z;
+    }
+
+    @Override
+    protected void finalizarSolucion() {
+        marcarEstado(EstadoSolucion.OPTIMA);
+        for (int j = 0; j < nroVariables; j++)
+            solucion.put("x" + (j + 1), 0.0);
+        for (int p = 0; p < m; p++)
+            solucion.put("x" + (base[p] + 1), desescalar(base[p] + 1, valoresBasicos[p]));
+        solucion.put("z", calcularValorFuncionObjetivo());
+        guardarPaso("Solución óptima encontrada", "", "");
+    }
+
+    @Override
+    protected double calcularValorFuncionObjetivo() {
+        double z = 0;
+        for (int p = 0; p < m; p++)
+            if (base[p] < nroVariables)
+                z += funcionObjetivo[base[p]] * valoresBasicos[p];
+        return z;
+    }
+
+    /**
+     * Valor de la función objetivo original en la base actual. El tableau de este motor es solo una
+     * vista del historial (en forma de minimización), así que no se lee de ahí.
+     */
+    @Override
+    public double obtenerValorFuncionObjetivo() {
+        return calcularValorFuncionObjetivo();
+    }
+
+    /**
+     * Lee el tableau del último paso guardado; solo existe con {@link NivelHistorial#COMPLETO}.
+     *
+     * @throws IllegalStateException si el motor no construyó el tableau
+     */
+    @Override
+    public double getValor(int f, int c) {
+        if (tableau == null)
+            throw new IllegalStateException("El Simplex revisado solo construye el tableau con el historial COMPLETO");
+        return super.getValor(f, c);
+    }
+
+    /**
+     * El tableau es una vista del historial: modificarlo no cambiaría la base factorizada.
+     */
+    @Override
+    public void setValor(int f, int c, double valor) {
+        throw new UnsupportedOperationException("El Simplex revisado no admite modificar el tableau");
+    }
+
+    /**
+     * Construye el tableau explícito de la base actual solo para el historial de pasos:
+     * fila 0 con los costos reducidos y el valor objetivo, filas 1..m con B^-1 [A | b].
+     * Con un nivel distinto de {@link NivelHistorial#COMPLETO} el tableau no se construye (queda null).
+     */
+    @Override
+    protected void guardarPaso(String descripcion, String variableEntrada, String variableSalida) {
+        if (nivelHistorial != NivelHistorial.COMPLETO) {
+            super.guardarPaso(descripcion, variableEntrada, variableSalida);
+            return;
+        }
+        if (tableau == null)
+            tableau = new Tableau(nroFilas, nroColumnas);
+
+        calcularDuales();
+        double[] columna = new double[m];
+        tableau.set(0, 0, 1);
+        for (int j = 0; j < nroColumnasModelo; j++) {
+            tableau.set(0, j + 1, puedeEntrar(j) || esBasica[j] ? costoReducido(j) : 0);
+            cargarColumna(j, columnaDensa);
+            factorizacion.ftran(columnaDensa, columna);
+            for (int i = 0; i < m; i++)
+                tableau.set(i + 1, j + 1, columna[i]);
+        }
+        for (int i = 0; i < m; i++)
+            tableau.set(i + 1, nroColumnas - 1, valoresBasicos[i]);
+        tableau.set(0, nroColumnas - 1, valorObjetivoActual());
+
+        super.guardarPaso(descripcion, variableEntrada, variableSalida);
+    }
+
+    /**
+     * El tableau de este motor es solo una vista para el historial; la reoptimización dual
+     * trabaja sobre el tableau explícito de los otros motores.
+     */
+    @Override
+    public void agregarRestriccion(double[] coeficientes, double terminoIndependiente, TipoRestriccion tipo) {
+        throw new UnsupportedOperationException("El Simplex revisado no admite agregar restricciones");
+    }
+
+    @Override
+    public void reoptimizarDual() {
+        throw new UnsupportedOperationException("El Simplex revisado no admite la reoptimización dual");
+    }
+
+    @Override
+    public Map<Integer, Integer> exportarBase() {
+        return new HashMap<>(indiceSolucion);
+    }
+
+    /**
+     * Arranque en caliente: arma la base con las columnas de la base anterior, sin importar la posición
+     * que ocupaban, y la factoriza directamente. Las columnas linealmente dependientes se descartan y las
+     * filas que quedan sin cubrir toman su columna de la base inicial; si alguna de ellas es artificial,
+     * la resolución sigue con la Fase 1 desde esa base. Este motor no tiene Simplex dual, así que solo
+     * resuelve desde la base inicial si la base armada es singular o no es factible para los nuevos
+     * términos independientes.
+     */
+    @Override
+    public void resolverDesdeBase(Map<Integer, Integer> baseAnterior) {
+        int[] baseInicial = base.clone();
+        if (instalarBase(completarBase(baseAnterior.keySet(), baseInicial))) {
+            fase1 = false;
+            for (int columna : base)
+                fase1 |= columna >= primeraArtificial;
+            costo = fase1 ? costoFase1 : costoFase2;
+            guardarPaso("Base anterior instalada", "", "");
+            resolver();
+            return;
+        }
+
+        instalarBase(baseInicial);
+        guardarPaso("La base anterior no es válida: resolución desde la base inicial", "", "");
+        resolver();
+    }
+
+    /**
+     * Elige entre las columnas (numeradas desde 1) un subconjunto linealmente independiente, con una
+     * eliminación gaussiana columna por columna, y cubre las filas restantes con la base inicial.
+     * Cada columna elegida ocupa la posición de la fila en la que pivoteó.
+     */
+    private int[] completarBase(Iterable<Integer> columnas, int[] baseInicial) {
+        int[] candidata = new int[m];
+        Arrays.fill(candidata, -1);
+        double[][] reducidas = new double[m][];
+        int[] filaDe = new int[m];
+        int elegidas = 0;
+        double[] v = new double[m];
+
+        for (int numero : columnas) {
+            int columna = numero - 1;
+            if (columna < 0 || columna >= primeraArtificial || elegidas == m) continue;
+            cargarColumna(columna, v);
+            for (int p = 0; p < elegidas; p++) {
+                double factor = v[filaDe[p]];
+                if (factor == 0) continue;
+                double[] u = reducidas[p];
+                for (int i = 0; i < m; i++)
+                    v[i] -= factor * u[i];
+            }
+
+            int fila = -1;
+            double mayor = Math.sqrt(epsilon);
+            for (int i = 0; i < m; i++) {
+                if (candidata[i] < 0 && Math.abs(v[i]) > mayor) {
+                    mayor = Math.abs(v[i]);
+                    fila = i;
+                }
+            }
+            if (fila < 0) continue;
+
+            double pivote = v[fila];
+            double[] u = new double[m];
+            for (int i = 0; i < m; i++)
+                u[i] = v[i] / pivote;
+            reducidas[elegidas] = u;
+            filaDe[elegidas++] = fila;
+            candidata[fila] = columna;
+        }
+
+        for (int i = 0; i < m; i++)
+            if (candidata[i] < 0)
+                candidata[i] = baseInicial[i];
+        return candidata;
+    }
+
+    /**
+     * Reemplaza la base y la refactoriza.
+     *
+     * @return false si la base repite columnas, es singular o no es factible
+     */
+    private boolean instalarBase(int[] nuevaBase) {
+        boolean[] usada = new boolean[nroColumnasModelo];
+        for (int columna : nuevaBase) {
+            if (usada[columna]) return false;
+            usada[columna] = true;
+        }
+
+        System.arraycopy(nuevaBase, 0, base, 0, m);
+        System.arraycopy(usada, 0, esBasica, 0, nroColumnasModelo);
+        vaciarBase();
+        for (int p = 0; p < m; p++)
+            ponerEnBase(base[p] + 1, p + 1);
+        try {
+            refactorizar();
+        } catch (IllegalStateException e) {
+            return false;
+        }
+
+        for (int p = 0; p < m; p++)
+            if (valoresBasicos[p] < -getToleranciaFactibilidad())
+                return false;
+        return true;
+    }
+
+    public int getIntervaloRefactorizacion() { return intervaloRefactorizacion; }
+    public void setIntervaloRefactorizacion(int intervaloRefactorizacion) {
+        if (intervaloRefactorizacion < 1)
+            throw new IllegalArgumentException("El intervalo de refactorización debe ser positivo");
+        this.intervaloRefactorizacion = intervaloRefactorizacion;
+    }
+}
@@ -0,0 +1,205 @@
+package org.universidad.granm.claseabstracta;
+
+import java.util.Arrays;
+
+/**
+ * Matriz de coeficientes de las restricciones en formato disperso por filas (CSR).
+ * Solo se guardan los elementos no nulos: los de la fila i están en las posiciones
+ * {@code inicioFila[i] .. inicioFila[i + 1] - 1}, con sus columnas en orden creciente.
+ */
+public final class MatrizDispersa {
+
+    private final int nroFilas;
+    private final int nroColumnas;
+    private final int[] inicioFila;
+    private final int[] columnas;
+    private final double[] valores;
+
+    /**
+     * Construye la matriz a partir de los arreglos CSR (no se copian).
+     *
+     * @param inicioFila Arreglo de tamaño nroFilas + 1 con el inicio de cada fila
+     * @param columnas Columna de cada elemento no nulo, creciente dentro de cada fila
+     * @param valores Valor de cada elemento no nulo
+     */
+    public MatrizDispersa(int nroFilas, int nroColumnas, int[] inicioFila, int[] columnas, double[] valores) {
+        if (nroFilas < 0 || nroColumnas < 0)
+            throw new IllegalArgumentException("Dimensiones negativas");
+        if (inicioFila.length != nroFilas + 1 || inicioFila[0] != 0 || inicioFila[nroFilas] != columnas.length
+                || columnas.length != valores.length)
+            throw new IllegalArgumentException("Arreglos CSR inconsistentes");
+        for (int i = 0; i < nroFilas; i++) {
+            if (inicioFila[i] > inicioFila[i + 1])
+                throw new IllegalArgumentException("Arreglos CSR inconsistentes");
+            for (int k = inicioFila[i]; k < inicioFila[i + 1]; k++) {
+                if (columnas[k] < 0 || columnas[k] >= nroColumnas)
+                    throw new IllegalArgumentException("Columna fuera de rango: " + columnas[k]);
+                if (k > inicioFila[i] && columnas[k] <= columnas[k - 1])
+                    throw new IllegalArgumentException("Columnas no crecientes en la fila " + i);
+            }
+        }
+        this.nroFilas = nroFilas;
+        this.nroColumnas = nroColumnas;
+        this.inicioFila = inicioFila;
+        this.columnas = columnas;
+        this.valores = valores;
+    }
+
+    /**
+     * Convierte una matriz densa, descartando los ceros.
+     */
+    public static MatrizDispersa desdeDensa(double[][] densa) {
+        int filas = densa.length;
+        int cols = 0;
+        int nnz = 0;
+        for (double[] fila : densa) {
+            cols = Math.max(cols, fila.length);
+            for (double v : fila)
+                if (v != 0) nnz++;
+        }
+
+        int[] inicio = new int[filas + 1];
+        int[] columnas = new int[nnz];
+        double[] valores = new double[nnz];
+        int k = 0;
+        for (int i = 0; i < filas; i++) {
+            inicio[i] = k;
+            for (int j = 0; j < densa[i].length; j++) {
+                if (densa[i][j] == 0) continue;
+                columnas[k] = j;
+                valores[k] = densa[i][j];
+                k++;
+            }
+        }
+        inicio[filas] = k;
+        return new MatrizDispersa(filas, cols, inicio, columnas, valores);
+    }
+
+    /**
+     * Construye la matriz a partir de tripletas (fila, columna, valor) en cualquier orden.
+     * Las entradas repetidas se suman y los ceros se descartan.
+     */
+    public static MatrizDispersa desdeTripletas(int nroFilas, int nroColumnas, int[] filasT, int[] columnasT,
+                                                double[] valoresT, int cantidad) {
+        // Ordenar por columna y luego por fila (dos pasadas de conteo) para dejar columnas crecientes por fila
+        int[] porColumna = ordenarPorClave(columnasT, cantidad, nroColumnas, null);
+        int[] orden = ordenarPorClave(filasT, cantidad, nroFilas, porColumna);
+
+        int[] inicio = new int[nroFilas + 1];
+        int[] columnas = new int[cantidad];
+        double[] valores = new double[cantidad];
+        int k = 0;
+        int filaActual = 0;
+        for (int t = 0; t < cantidad; t++) {
+            int e = orden[t];
+            int fila = filasT[e];
+            while (filaActual < fila) inicio[++filaActual] = k;
+            if (k > inicio[fila] && columnas[k - 1] == columnasT[e]) {
+                valores[k - 1] += valoresT[e];
+            } else {
+                columnas[k] = columnasT[e];
+                valores[k] = valoresT[e];
+                k++;
+            }
+        }
+        while (filaActual < nroFilas) inicio[++filaActual] = k;
+
+        // Compactar descartando los ceros (incluidos los que resultan de sumar repetidos)
+        int destino = 0;
+        for (int i = 0; i < nroFilas; i++) {
+            int desde = inicio[i];
+            inicio[i] = destino;
+            for (int p = desde; p < inicio[i + 1]; p++) {
+                if (valores[p] == 0) continue;
+                columnas[destino] = columnas[p];
+                valores[destino] = valores[p];
+                destino++;
+            }
+        }
+        inicio[nroFilas] = destino;
+        return new MatrizDispersa(nroFilas, nroColumnas, inicio,
+                Arrays.copyOf(columnas, destino), Arrays.copyOf(valores, destino));
+    }
+
+    private static int[] ordenarPorClave(int[] claves, int cantidad, int rango, int[] ordenPrevio) {
+        int[] conteo = new int[rango + 1];
+        for (int t = 0; t < cantidad; t++) {
+            int clave = claves[t];
+            if (clave < 0 || clave >= rango)
+                throw new IllegalArgumentException("Índice fuera de rango: " + clave);
+            conteo[clave + 1]++;
+        }
+        for (int c = 0; c < rango; c++)
+            conteo[c + 1] += conteo[c];
+        int[] orden = new int[cantidad];
+        for (int t = 0; t < cantidad; t++) {
+            int e = ordenPrevio == null ? t : ordenPrevio[t];
+            orden[conteo[claves[e]]++] = e;
+        }
+        return orden;
+    }
+
+    /**
+     * Devuelve la transpuesta, que equivale a ver esta matriz por columnas (CSC).
+     */
+    public MatrizDispersa transpuesta() {
+        int nnz = columnas.length;
+        int[] inicio = new int[nroColumnas + 1];
+        for (int k = 0; k < nnz; k++)
+            inicio[columnas[k] + 1]++;
+        for (int j = 0; j < nroColumnas; j++)
+            inicio[j + 1] += inicio[j];
+
+        int[] siguiente = Arrays.copyOf(inicio, nroColumnas);
+        int[] filas = new int[nnz];
+        double[] vals = new double[nnz];
+        for (int i = 0; i < nroFilas; i++) {
+            for (int k = inicioFila[i]; k < inicioFila[i + 1]; k++) {
+                int p = siguiente[columnas[k]]++;
+                filas[p] = i;
+                vals[p] = valores[k];
+            }
+        }
+        return new MatrizDispersa(nroColumnas, nroFilas, inicio, filas, vals);
+    }
+
+    public double[][] aDensa() {
+        double[][] densa = new double[nroFilas][nroColumnas];
+        for (int i = 0; i < nroFilas; i++)
+            for (int k = inicioFila[i]; k < inicioFila[i + 1]; k++)
+                densa[i][columnas[k]] = valores[k];
+        return densa;
+    }
+
+    public double getValor(int i, int j) {
+        if (!(i >= 0 && i < nroFilas && j >= 0 && j < nroColumnas))
+            throw new IllegalArgumentException("Fuera de rango");
+        int k = Arrays.binarySearch(columnas, inicioFila[i], inicioFila[i + 1], j);
+        return k >= 0 ? valores[k] : 0;
+    }
+
+    /**
+     * Copia con sus propios valores (la estructura de filas y columnas no cambia y se comparte).
+     */
+    MatrizDispersa copia() {
+        return new MatrizDispersa(nroFilas, nroColumnas, inicioFila, columnas, valores.clone());
+    }
+
+    /**
+     * Multiplica la fila i por el factor indicado (modifica la matriz).
+     */
+    void escalarFila(int i, double factor) {
+        for (int k = inicioFila[i]; k < inicioFila[i + 1]; k++)
+            valores[k] *= factor;
+    }
+
+    // Recorrido de los no nulos: for (k = getInicioFila(i); k < getFinFila(i); k++) getColumna(k), getValorPosicion(k)
+    public int getInicioFila(int i) { return inicioFila[i]; }
+    public int getFinFila(int i) { return inicioFila[i + 1]; }
+    public int getColumna(int k) { return columnas[k]; }
+    public double getValorPosicion(int k) { return valores[k]; }
+
+    public int getNroFilas() { return nroFilas; }
+    public int getNroColumnas() { return nroColumnas; }
+    public int getNroNoCeros() { return columnas.length; }
+}
@@ -0,0 +1,99 @@
+package org.universidad.granm.claseabstracta;
+
+import java.util.Arrays;
+
+/**
+ * Modelo lineal completo, tal como se lee o escribe con {@link FormatoMps} y {@link FormatoLp}:
+ * función objetivo, restricciones dispersas, cotas de las variables y nombres de filas y columnas.
+ *
+ * @param constanteObjetivo Término constante de la función objetivo. Los motores no lo suman al valor de z
+ * @param cotaInferior      Cota inferior de cada variable (Double.NEGATIVE_INFINITY si es libre); null equivale a 0
+ * @param cotaSuperior      Cota superior de cada variable (Double.POSITIVE_INFINITY si no tiene); null equivale a sin cota
+ * @param nombresVariables  null para x1, x2, ...
+ * @param nombresRestricciones null para R1, R2, ...
+ */
+public record ModeloLineal(String nombre, boolean maximizar, double[] funcionObjetivo, double constanteObjetivo,
+                           MatrizDispersa restricciones, double[] terminosIndependientes, TipoRestriccion[] tipoRestricciones,
+                           double[] cotaInferior, double[] cotaSuperior,
+                           String[] nombresVariables, String[] nombresRestricciones) {
+
+    public ModeloLineal {
+        int n = funcionObjetivo.length;
+        int m = restricciones.getNroFilas();
+        if (restricciones.getNroColumnas() != n)
+            throw new IllegalArgumentException("La matriz tiene " + restricciones.getNroColumnas()
+                    + " columnas y la función objetivo " + n);
+        if (terminosIndependientes.length != m || tipoRestricciones.length != m)
+            throw new IllegalArgumentException("Los términos independientes y los tipos deben tener uno por restricción");
+        for (int i = 0; i < m; i++)
+            if (tipoRestricciones[i] == null)
+                throw new IllegalArgumentException("La restricción " + (i + 1) + " no tiene tipo");
+
+        if (cotaInferior == null)
+            cotaInferior = new double[n];
+        if (cotaSuperior == null) {
+            cotaSuperior = new double[n];
+            Arrays.fill(cotaSuperior, Double.POSITIVE_INFINITY);
+        }
+        if (cotaInferior.length != n || cotaSuperior.length != n)
+            throw new IllegalArgumentException("Las cotas deben tener una por variable");
+        for (int j = 0; j < n; j++)
+            if (Double.isNaN(cotaInferior[j]) || Double.isNaN(cotaSuperior[j]) || cotaInferior[j] > cotaSuperior[j])
+                throw new IllegalArgumentException("Cotas inválidas para la variable " + (j + 1));
+
+        if (nombresVariables == null)
+            nombresVariables = nombresGenerados("x", n);
+        if (nombresRestricciones == null)
+            nombresRestricciones = nombresGenerados("R", m);
+        if (nombresVariables.length != n || nombresRestricciones.length != m)
+            throw new IllegalArgumentException("Debe haber un nombre por variable y por restricción");
+        if (nombre == null)
+            nombre = "";
+    }
+
+    /**
+     * Modelo con variables x ≥ 0 a partir de la matriz densa que arma la interfaz.
+     */
+    public static ModeloLineal desdeDensa(double[] funcionObjetivo, double[][] restricciones,
+                                          double[] terminosIndependientes, TipoRestriccion[] tipoRestricciones, boolean maximizar) {
+        return new ModeloLineal("", maximizar, funcionObjetivo, 0, MatrizDispersa.desdeDensa(restricciones),
+                terminosIndependientes, tipoRestricciones, null, null, null, null);
+    }
+
+    private static String[] nombresGenerados(String prefijo, int cantidad) {
+        String[] nombres = new String[cantidad];
+        for (int i = 0; i < cantidad; i++)
+            nombres[i] = prefijo + (i + 1);
+        return nombres;
+    }
+
+    public int getNroVariables() { return funcionObjetivo.length; }
+    public int getNroRestricciones() { return terminosIndependientes.length; }
+
+    /**
+     * true si alguna variable tiene cotas distintas de 0 ≤ x < ∞.
+     */
+    public boolean tieneCotas() {
+        for (int j = 0; j < funcionObjetivo.length; j++)
+            if (cotaInferior[j] != 0 || cotaSuperior[j] != Double.POSITIVE_INFINITY)
+                return true;
+        return false;
+    }
+
+    public double[][] restriccionesDensas() {
+        return restricciones.aDensa();
+    }
+
+    /**
+     * Motor para resolver el modelo: Simplex con variables acotadas si hay cotas, Dos Fases si no.
+     *
+     * @throws IllegalArgumentException si alguna variable es libre (cota inferior infinita)
+     */
+    public SimplexBase crearMotor(OpcionesResolucion opciones) {
+        if (tieneCotas())
+            return new MSimplexAcotado(funcionObjetivo, restricciones, terminosIndependientes, tipoRestricciones,
+                    maximizar, cotaInferior, cotaSuperior, opciones);
+        return new MDosFasesRefactorizada(funcionObjetivo, restricciones, terminosIndependientes, tipoRestricciones,
+                maximizar, opciones);
+    }
+}
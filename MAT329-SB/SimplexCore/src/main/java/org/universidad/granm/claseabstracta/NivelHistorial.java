@@ -0,0 +1,19 @@
+package org.universidad.granm.claseabstracta;
+
+/**
+ * Nivel de detalle con el que un motor Simplex guarda su historial de pasos.
+ */
+public enum NivelHistorial {
+    /**
+     * No se guarda ningún paso: ni tablas ni descripciones (resolución en lote).
+     */
+    NINGUNO,
+    /**
+     * Solo la descripción y las variables de entrada y salida de cada paso, sin tablas.
+     */
+    RESUMEN,
+    /**
+     * Descripciones y tablas de cada paso, para el visor de pasos.
+     */
+    COMPLETO
+}
@@ -0,0 +1,116 @@
+package org.universidad.granm.claseabstracta;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Parámetros de un motor Simplex, fijados al construirlo. Es inmutable: cada {@code con...} devuelve
+ * una copia con un solo valor cambiado, así que una misma instancia puede pasarse a muchos motores
+ * (también en paralelo) sin que uno afecte a otro.
+ *
+ *     OpcionesResolucion opciones = OpcionesResolucion.PREDETERMINADAS
+ *             .conNivelHistorial(NivelHistorial.NINGUNO)
+ *             .conMaximoIteraciones(10_000);
+ *     SimplexBase motor = new MDosFasesRefactorizada(c, a, b, tipos, true, opciones);
+ *
+ * @param epsilon                Valor absoluto por debajo del cual un coeficiente se trata como cero
+ * @param decimales              Decimales al redondear valores para mostrarlos
+ * @param valorM                 Penalización de las artificiales en la Gran M numérica
+ * @param toleranciaFactibilidad Cuánto puede quedar negativo un término independiente en la prueba de Harris
+ * @param toleranciaPivote       Menor elemento pivote aceptado por la prueba de Harris
+ * @param pruebaCocienteHarris   Usar la prueba del cociente de Harris en lugar de la razón mínima estricta
+ * @param maximoIteraciones      Pivoteos (primales más duales) antes de abandonar la resolución
+ * @param tiempoLimite           Tiempo máximo de resolución, o null si no tiene
+ * @param reglaPricing           Crea la regla de pricing de cada motor (las reglas con pesos tienen estado propio)
+ * @param nivelHistorial         Detalle del historial de pasos
+ */
+public record OpcionesResolucion(double epsilon, int decimales, double valorM,
+                                 double toleranciaFactibilidad, double toleranciaPivote,
+                                 boolean pruebaCocienteHarris, int maximoIteraciones, Duration tiempoLimite,
+                                 Supplier<ReglaPricing> reglaPricing, NivelHistorial nivelHistorial) {
+
+    /**
+     * Los valores con los que trabajaban los motores antes de existir estas opciones.
+     */
+    public static final OpcionesResolucion PREDETERMINADAS = new OpcionesResolucion(1e-10, 6, 1e6, 1e-9, 1e-9,
+            false, Integer.MAX_VALUE, null, ReglaPricingDantzig::new, NivelHistorial.COMPLETO);
+
+    public OpcionesResolucion {
+        if (!(epsilon > 0))
+            throw new IllegalArgumentException("epsilon debe ser positivo");
+        if (decimales < 0)
+            throw new IllegalArgumentException("La cantidad de decimales no puede ser negativa");
+        if (!(valorM > 0) || Double.isInfinite(valorM))
+            throw new IllegalArgumentException("El valor de M debe ser positivo y finito");
+        if (!(toleranciaFactibilidad >= 0))
+            throw new IllegalArgumentException("La tolerancia de factibilidad no puede ser negativa");
+        if (!(toleranciaPivote >= 0))
+            throw new IllegalArgumentException("La tolerancia del pivote no puede ser negativa");
+        if (maximoIteraciones < 1)
+            throw new IllegalArgumentException("El máximo de iteraciones debe ser al menos 1");
+        if (tiempoLimite != null && (tiempoLimite.isNegative() || tiempoLimite.isZero()))
+            throw new IllegalArgumentException("El tiempo límite debe ser positivo");
+        if (reglaPricing == null)
+            throw new IllegalArgumentException("La regla de pricing no puede ser nula");
+        if (nivelHistorial == null)
+            throw new IllegalArgumentException("El nivel de historial no puede ser nulo");
+    }
+
+    /**
+     * Redondea un valor con la política de estas opciones: cero por debajo de epsilon y
+     * {@code decimales} decimales en el resto.
+     */
+    public double redondear(double valor) {
+        return SimplexBase.redondear(valor, decimales, epsilon);
+    }
+
+    public OpcionesResolucion conEpsilon(double epsilon) {
+        return new OpcionesResolucion(epsilon, decimales, valorM, toleranciaFactibilidad, toleranciaPivote,
+                pruebaCocienteHarris, maximoIteraciones, tiempoLimite, reglaPricing, nivelHistorial);
+    }
+
+    public OpcionesResolucion conDecimales(int decimales) {
+        return new OpcionesResolucion(epsilon, decimales, valorM, toleranciaFactibilidad, toleranciaPivote,
+                pruebaCocienteHarris, maximoIteraciones, tiempoLimite, reglaPricing, nivelHistorial);
+    }
+
+    public OpcionesResolucion conValorM(double valorM) {
+        return new OpcionesResolucion(epsilon, decimales, valorM, toleranciaFactibilidad, toleranciaPivote,
+                pruebaCocienteHarris, maximoIteraciones, tiempoLimite, reglaPricing, nivelHistorial);
+    }
+
+    public OpcionesResolucion conToleranciaFactibilidad(double toleranciaFactibilidad) {
+        return new OpcionesResolucion(epsilon, decimales, valorM, toleranciaFactibilidad, toleranciaPivote,
+                pruebaCocienteHarris, maximoIteraciones, tiempoLimite, reglaPricing, nivelHistorial);
+    }
+
+    public OpcionesResolucion conToleranciaPivote(double toleranciaPivote) {
+        return new OpcionesResolucion(epsilon, decimales, valorM, toleranciaFactibilidad, toleranciaPivote,
+                pruebaCocienteHarris, maximoIteraciones, tiempoLimite, reglaPricing, nivelHistorial);
+    }
+
+    public OpcionesResolucion conPruebaCocienteHarris(boolean pruebaCocienteHarris) {
+        return new OpcionesResolucion(epsilon, decimales, valorM, toleranciaFactibilidad, toleranciaPivote,
+                pruebaCocienteHarris, maximoIteraciones, tiempoLimite, reglaPricing, nivelHistorial);
+    }
+
+    public OpcionesResolucion conMaximoIteraciones(int maximoIteraciones) {
+        return new OpcionesResolucion(epsilon, decimales, valorM, toleranciaFactibilidad, toleranciaPivote,
+                pruebaCocienteHarris, maximoIteraciones, tiempoLimite, reglaPricing, nivelHistorial);
+    }
+
+    public OpcionesResolucion conTiempoLimite(Duration tiempoLimite) {
+        return new OpcionesResolucion(epsilon, decimales, valorM, toleranciaFactibilidad, toleranciaPivote,
+                pruebaCocienteHarris, maximoIteraciones, tiempoLimite, reglaPricing, nivelHistorial);
+    }
+
+    public OpcionesResolucion conReglaPricing(Supplier<ReglaPricing> reglaPricing) {
+        return new OpcionesResolucion(epsilon, decimales, valorM, toleranciaFactibilidad, toleranciaPivote,
+                pruebaCocienteHarris, maximoIteraciones, tiempoLimite, reglaPricing, nivelHistorial);
+    }
+
+    public OpcionesResolucion conNivelHistorial(NivelHistorial nivelHistorial) {
+        return new OpcionesResolucion(epsilon, decimales, valorM, toleranciaFactibilidad, toleranciaPivote,
+                pruebaCocienteHarris, maximoIteraciones, tiempoLimite, reglaPricing, nivelHistorial);
+    }
+}
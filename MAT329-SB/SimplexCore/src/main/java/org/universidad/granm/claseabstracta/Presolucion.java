@@ -0,0 +1,411 @@
+package org.universidad.granm.claseabstracta;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Presolve y postsolve de un problema lineal con variables x ≥ 0.
+ * Antes de reservar el tableau reduce el modelo con las reglas clásicas, repetidas hasta que
+ * ninguna cambia nada:
+ * <ul>
+ *     <li>filas vacías (se verifica 0 ≤ b, 0 ≥ b o 0 = b y se eliminan);</li>
+ *     <li>filas con una sola variable: "=" fija la variable, y las desigualdades que solo dicen
+ *     x ≥ 0 o x ≤ 0 se eliminan (la segunda fija x = 0);</li>
+ *     <li>filas duplicadas (una múltiplo de la otra), que se combinan en una sola;</li>
+ *     <li>columnas vacías o dominadas: si el costo no mejora al aumentar la variable y su columna
+ *     solo endurece las restricciones, la variable vale 0 en algún óptimo.</li>
+ * </ul>
+ * Las variables fijadas se sustituyen en los términos independientes y en una constante del objetivo.
+ * Después de resolver, {@link #posresolver(SimplexBase)} reescribe {@code solucion} con los nombres
+ * originales x1..xn y el valor de z del problema completo.
+ *
+ * Si el presolve detecta que el problema es infactible, o si la reducción elimina todo el modelo,
+ * el motor se construye con el problema original para que sea él quien informe el resultado.
+ */
+public final class Presolucion {
+
+    private static final double TOLERANCIA = 1e-9;
+
+    // Problema original
+    private final double[] funcionObjetivo;
+    private final MatrizDispersa restricciones;
+    private final double[] terminosOriginales;
+    private final TipoRestriccion[] tiposOriginales;
+    private final boolean maximizar;
+    private final int m;
+    private final int n;
+
+    // Estado de la reducción
+    private final double[] terminos;
+    private final TipoRestriccion[] tipos;
+    private final boolean[] filaActiva;
+    private final boolean[] columnaActiva;
+    private final double[] valorFijo;
+    private double constanteObjetivo;
+    private boolean infactible;
+
+    // Problema reducido
+    private int[] filasReducidas;
+    private int[] columnasReducidas;
+    private boolean reducido;
+
+    public Presolucion(double[] funcionObjetivo, double[][] restricciones,
+                       double[] terminosIndependientes, TipoRestriccion[] tipoRestricciones, boolean maximizar) {
+        this(funcionObjetivo, MatrizDispersa.desdeDensa(restricciones), terminosIndependientes, tipoRestricciones, maximizar);
+    }
+
+    public Presolucion(double[] funcionObjetivo, MatrizDispersa restricciones,
+                       double[] terminosIndependientes, TipoRestriccion[] tipoRestricciones, boolean maximizar) {
+        if (restricciones.getNroFilas() != terminosIndependientes.length || restricciones.getNroFilas() != tipoRestricciones.length)
+            throw new IllegalArgumentException("Las restricciones, los términos independientes y los tipos no coinciden");
+        if (restricciones.getNroColumnas() > funcionObjetivo.length)
+            throw new IllegalArgumentException("La matriz de restricciones tiene más columnas que variables");
+
+        this.funcionObjetivo = funcionObjetivo.clone();
+        this.restricciones = restricciones;
+        this.terminosOriginales = terminosIndependientes.clone();
+        this.tiposOriginales = tipoRestricciones.clone();
+        this.maximizar = maximizar;
+        this.m = restricciones.getNroFilas();
+        this.n = funcionObjetivo.length;
+
+        this.terminos = terminosIndependientes.clone();
+        this.tipos = tipoRestricciones.clone();
+        this.filaActiva = new boolean[m];
+        this.columnaActiva = new boolean[n];
+        this.valorFijo = new double[n];
+        Arrays.fill(filaActiva, true);
+        Arrays.fill(columnaActiva, true);
+
+        reducir();
+    }
+
+    private void reducir() {
+        boolean cambio = true;
+        while (cambio && !infactible) {
+            cambio = reducirFilas();
+            if (!infactible) cambio |= reducirDuplicadas();
+            if (!infactible) cambio |= reducirColumnas();
+        }
+
+        List<Integer> filas = new ArrayList<>();
+        List<Integer> columnas = new ArrayList<>();
+        for (int i = 0; i < m; i++) if (filaActiva[i]) filas.add(i);
+        for (int j = 0; j < n; j++) if (columnaActiva[j]) columnas.add(j);
+        filasReducidas = filas.stream().mapToInt(Integer::intValue).toArray();
+        columnasReducidas = columnas.stream().mapToInt(Integer::intValue).toArray();
+        reducido = !infactible && filasReducidas.length > 0 && columnasReducidas.length > 0;
+    }
+
+    /**
+     * Filas vacías y filas con una sola variable activa.
+     */
+    private boolean reducirFilas() {
+        boolean cambio = false;
+        for (int i = 0; i < m && !infactible; i++) {
+            if (!filaActiva[i]) continue;
+            int cantidad = 0;
+            int columna = -1;
+            double a = 0;
+            for (int k = restricciones.getInicioFila(i); k < restricciones.getFinFila(i); k++) {
+                if (!columnaActiva[restricciones.getColumna(k)]) continue;
+                cantidad++;
+                columna = restricciones.getColumna(k);
+                a = restricciones.getValorPosicion(k);
+            }
+
+            if (cantidad == 0) {
+                double b = terminos[i];
+                boolean cumple = switch (tipos[i]) {
+                    case MENOR_IGUAL -> b >= -TOLERANCIA;
+                    case MAYOR_IGUAL -> b <= TOLERANCIA;
+                    case IGUAL -> Math.abs(b) <= TOLERANCIA;
+                };
+                if (!cumple) infactible = true;
+                filaActiva[i] = false;
+                cambio = true;
+            } else if (cantidad == 1) {
+                cambio |= reducirFilaSimple(i, columna, a);
+            }
+        }
+        return cambio;
+    }
+
+    /**
+     * Fila a·x_j ⋈ b: con "=" fija x_j = b/a; una desigualdad se traduce en una cota de x_j, que solo
+     * se puede aprovechar si es redundante con x_j ≥ 0 o si obliga a x_j = 0.
+     */
+    private boolean reducirFilaSimple(int i, int j, double a) {
+        double cota = terminos[i] / a;
+        TipoRestriccion tipo = a < 0 ? tipos[i].invertido() : tipos[i];
+
+        switch (tipo) {
+            case IGUAL -> {
+                if (cota < -TOLERANCIA) {
+                    infactible = true;
+                    return false;
+                }
+                fijarVariable(j, Math.max(cota, 0));
+            }
+            case MENOR_IGUAL -> {
+                if (cota < -TOLERANCIA) {
+                    infactible = true;
+                    return false;
+                }
+                if (cota > TOLERANCIA) return false;
+                fijarVariable(j, 0);
+            }
+            case MAYOR_IGUAL -> {
+                // x_j ≥ cota: solo es redundante si la cota no es positiva
+                if (cota > TOLERANCIA) return false;
+            }
+        }
+        filaActiva[i] = false;
+        return true;
+    }
+
+    /**
+     * Filas con las mismas columnas activas y coeficientes proporcionales: la segunda se expresa en la
+     * escala de la primera y se combinan los lados derechos.
+     */
+    private boolean reducirDuplicadas() {
+        Map<Long, List<Integer>> grupos = new HashMap<>();
+        for (int i = 0; i < m; i++)
+            if (filaActiva[i])
+                grupos.computeIfAbsent(huellaFila(i), h -> new ArrayList<>()).add(i);
+
+        boolean cambio = false;
+        for (List<Integer> grupo : grupos.values()) {
+            for (int p = 0; p < grupo.size() && !infactible; p++) {
+                int i = grupo.get(p);
+                if (!filaActiva[i]) continue;
+                for (int q = p + 1; q < grupo.size() && !infactible; q++) {
+                    int k = grupo.get(q);
+                    if (!filaActiva[k]) continue;
+                    double lambda = proporcion(i, k);
+                    if (lambda == 0) continue;
+                    cambio |= combinarFilas(i, k, lambda);
+                }
+            }
+        }
+        return cambio;
+    }
+
+    /**
+     * Huella invariante a la escala de la fila: columnas activas y coeficientes divididos por el primero.
+     */
+    private long huellaFila(int i) {
+        long huella = 17;
+        double primero = 0;
+        for (int k = restricciones.getInicioFila(i); k < restricciones.getFinFila(i); k++) {
+            int j = restricciones.getColumna(k);
+            if (!columnaActiva[j]) continue;
+            if (primero == 0) primero = restricciones.getValorPosicion(k);
+            huella = 31 * huella + j;
+            huella = 31 * huella + Math.round(restricciones.getValorPosicion(k) / primero * 1e8);
+        }
+        return huella;
+    }
+
+    /**
+     * λ tal que la fila k = λ · fila i sobre las columnas activas, o 0 si no son proporcionales.
+     */
+    private double proporcion(int i, int k) {
+        int pi = restricciones.getInicioFila(i);
+        int pk = restricciones.getInicioFila(k);
+        double lambda = 0;
+        while (true) {
+            while (pi < restricciones.getFinFila(i) && !columnaActiva[restricciones.getColumna(pi)]) pi++;
+            while (pk < restricciones.getFinFila(k) && !columnaActiva[restricciones.getColumna(pk)]) pk++;
+            boolean finI = pi == restricciones.getFinFila(i);
+            boolean finK = pk == restricciones.getFinFila(k);
+            if (finI || finK)
+                return finI && finK ? lambda : 0;
+            if (restricciones.getColumna(pi) != restricciones.getColumna(pk))
+                return 0;
+
+            double ai = restricciones.getValorPosicion(pi);
+            double ak = restricciones.getValorPosicion(pk);
+            if (lambda == 0)
+                lambda = ak / ai;
+            else if (Math.abs(ak - lambda * ai) > TOLERANCIA * Math.max(1, Math.abs(ak)))
+                return 0;
+            pi++;
+            pk++;
+        }
+    }
+
+    /**
+     * Combina la fila k = λ · fila i en la fila i. Devuelve false si las dos forman un intervalo
+     * l ≤ a·x ≤ u que no se puede expresar en una sola fila.
+     */
+    private boolean combinarFilas(int i, int k, double lambda) {
+        double b = terminos[k] / lambda;
+        TipoRestriccion tipo = lambda < 0 ? tipos[k].invertido() : tipos[k];
+        double tolerancia = TOLERANCIA * Math.max(1, Math.max(Math.abs(b), Math.abs(terminos[i])));
+
+        if (tipos[i] == TipoRestriccion.IGUAL || tipo == TipoRestriccion.IGUAL) {
+            // La igualdad manda; la otra fila solo se verifica
+            boolean filaIgualdad = tipos[i] == TipoRestriccion.IGUAL;
+            double igualdad = filaIgualdad ? terminos[i] : b;
+            TipoRestriccion otroTipo = filaIgualdad ? tipo : tipos[i];
+            double otroB = filaIgualdad ? b : terminos[i];
+            boolean cumple = switch (otroTipo) {
+                case MENOR_IGUAL -> igualdad <= otroB + tolerancia;
+                case MAYOR_IGUAL -> igualdad >= otroB - tolerancia;
+                case IGUAL -> Math.abs(igualdad - otroB) <= tolerancia;
+            };
+            if (!cumple) infactible = true;
+            tipos[i] = TipoRestriccion.IGUAL;
+            terminos[i] = igualdad;
+        } else if (tipos[i] == tipo) {
+            terminos[i] = tipo == TipoRestriccion.MENOR_IGUAL ? Math.min(terminos[i], b) : Math.max(terminos[i], b);
+        } else {
+            double inferior = tipo == TipoRestriccion.MAYOR_IGUAL ? b : terminos[i];
+            double superior = tipo == TipoRestriccion.MENOR_IGUAL ? b : terminos[i];
+            if (inferior > superior + tolerancia) {
+                infactible = true;
+            } else if (superior - inferior > tolerancia) {
+                return false;
+            }
+            tipos[i] = TipoRestriccion.IGUAL;
+            terminos[i] = superior;
+        }
+        filaActiva[k] = false;
+        return true;
+    }
+
+    /**
+     * Columnas vacías o dominadas con costo que no mejora (en sentido de minimización) se fijan en 0.
+     */
+    private boolean reducirColumnas() {
+        boolean[] dominada = new boolean[n];
+        Arrays.fill(dominada, true);
+        for (int i = 0; i < m; i++) {
+            if (!filaActiva[i]) continue;
+            for (int k = restricciones.getInicioFila(i); k < restricciones.getFinFila(i); k++) {
+                int j = restricciones.getColumna(k);
+                double a = restricciones.getValorPosicion(k);
+                boolean endurece = (tipos[i] == TipoRestriccion.MENOR_IGUAL && a > 0)
+                        || (tipos[i] == TipoRestriccion.MAYOR_IGUAL && a < 0);
+                if (!endurece) dominada[j] = false;
+            }
+        }
+
+        boolean cambio = false;
+        for (int j = 0; j < n; j++) {
+            double costo = maximizar ? -funcionObjetivo[j] : funcionObjetivo[j];
+            if (columnaActiva[j] && dominada[j] && costo >= 0) {
+                fijarVariable(j, 0);
+                cambio = true;
+            }
+        }
+        return cambio;
+    }
+
+    /**
+     * Sustituye x_j = valor en los términos independientes de las filas activas y en el objetivo.
+     */
+    private void fijarVariable(int j, double valor) {
+        columnaActiva[j] = false;
+        valorFijo[j] = valor;
+        constanteObjetivo += funcionObjetivo[j] * valor;
+        if (valor == 0) return;
+        for (int i = 0; i < m; i++) {
+            if (!filaActiva[i]) continue;
+            double a = restricciones.getValor(i, j);
+            if (a != 0) terminos[i] -= a * valor;
+        }
+    }
+
+    /**
+     * Construye el motor con el problema reducido (o con el original si no hubo reducción utilizable).
+     * Cada llamada entrega datos nuevos, porque los motores modifican los que reciben.
+     */
+    public SimplexBase crearMotor(FabricaMotor fabrica) {
+        if (!reducido) {
+            int[] inicio = new int[m + 1];
+            for (int i = 0; i < m; i++) inicio[i + 1] = restricciones.getFinFila(i);
+            int nnz = restricciones.getNroNoCeros();
+            int[] columnas = new int[nnz];
+            double[] valores = new double[nnz];
+            for (int k = 0; k < nnz; k++) {
+                columnas[k] = restricciones.getColumna(k);
+                valores[k] = restricciones.getValorPosicion(k);
+            }
+            return fabrica.crear(funcionObjetivo.clone(),
+                    new MatrizDispersa(m, restricciones.getNroColumnas(), inicio, columnas, valores),
+                    terminosOriginales.clone(), tiposOriginales.clone(), maximizar);
+        }
+
+        int[] nuevaColumna = new int[n];
+        Arrays.fill(nuevaColumna, -1);
+        for (int c = 0; c < columnasReducidas.length; c++)
+            nuevaColumna[columnasReducidas[c]] = c;
+
+        int filas = filasReducidas.length;
+        int[] inicio = new int[filas + 1];
+        List<Integer> columnas = new ArrayList<>();
+        List<Double> valores = new ArrayList<>();
+        double[] b = new double[filas];
+        TipoRestriccion[] t = new TipoRestriccion[filas];
+        for (int r = 0; r < filas; r++) {
+            int i = filasReducidas[r];
+            for (int k = restricciones.getInicioFila(i); k < restricciones.getFinFila(i); k++) {
+                int c = nuevaColumna[restricciones.getColumna(k)];
+                if (c < 0) continue;
+                columnas.add(c);
+                valores.add(restricciones.getValorPosicion(k));
+            }
+            inicio[r + 1] = columnas.size();
+            b[r] = terminos[i];
+            t[r] = tipos[i];
+        }
+
+        double[] c = new double[columnasReducidas.length];
+        for (int k = 0; k < c.length; k++)
+            c[k] = funcionObjetivo[columnasReducidas[k]];
+
+        MatrizDispersa matriz = new MatrizDispersa(filas, c.length, inicio,
+                columnas.stream().mapToInt(Integer::intValue).toArray(),
+                valores.stream().mapToDouble(Double::doubleValue).toArray());
+        return fabrica.crear(c, matriz, b, t, maximizar);
+    }
+
+    /**
+     * Reescribe la solución del motor (ya resuelto) en términos del problema original:
+     * x1..xn con los valores fijados por el presolve y z con la constante del objetivo.
+     */
+    public void posresolver(SimplexBase motor) {
+        if (!reducido) return;
+        Map<String, Double> reducida = new HashMap<>(motor.solucion);
+        motor.solucion.clear();
+        for (int j = 0; j < n; j++)
+            motor.solucion.put("x" + (j + 1), valorFijo[j]);
+        for (int c = 0; c < columnasReducidas.length; c++)
+            motor.solucion.put("x" + (columnasReducidas[c] + 1), reducida.getOrDefault("x" + (c + 1), 0.0));
+        if (reducida.containsKey("z"))
+            motor.solucion.put("z", reducida.get("z") + constanteObjetivo);
+    }
+
+    /**
+     * Presolve, resolución y postsolve en un solo paso.
+     */
+    public SimplexBase resolver(FabricaMotor fabrica) {
+        SimplexBase motor = crearMotor(fabrica);
+        motor.resolver();
+        posresolver(motor);
+        return motor;
+    }
+
+    /** true si el presolve demostró que el problema no tiene solución factible. */
+    public boolean isInfactible() { return infactible; }
+    /** true si el motor recibe el problema reducido y no el original. */
+    public boolean isReducido() { return reducido; }
+    public int getFilasEliminadas() { return reducido ? m - filasReducidas.length : 0; }
+    public int getColumnasEliminadas() { return reducido ? n - columnasReducidas.length : 0; }
+    public double getConstanteObjetivo() { return constanteObjetivo; }
+}
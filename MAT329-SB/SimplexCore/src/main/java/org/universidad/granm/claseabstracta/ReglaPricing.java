@@ -0,0 +1,29 @@
+package org.universidad.granm.claseabstracta;
+
+import java.util.function.IntToDoubleFunction;
+
+/**
+ * Regla de pricing: elige la variable que entra a la base entre las columnas con costo reducido
+ * que mejora la función objetivo. {@link SimplexBase#obtenerColumnaPivote()} delega en la regla
+ * que crea {@link OpcionesResolucion#reglaPricing()} para cada motor; por defecto es la de Dantzig.
+ *
+ * Los costos se reciben ya con el signo de una minimización, de modo que una columna puede entrar
+ * si su costo es menor que -epsilon, tanto al maximizar como al minimizar y en cualquier fase.
+ */
+public interface ReglaPricing {
+
+    /**
+     * Elige la columna que entra a la base.
+     *
+     * @param desde Primera columna candidata
+     * @param hasta Columna siguiente a la última candidata
+     * @param costos Costo reducido de cada columna (Double.POSITIVE_INFINITY si no puede entrar)
+     * @param razon Razón mínima de la prueba del cociente para una columna (Double.POSITIVE_INFINITY si
+     *              la columna no está acotada); solo la usan las reglas que estiman el incremento de Z
+     * @param epsilon Tolerancia de los costos reducidos
+     * @return la columna elegida, o -1 si ninguna mejora la función objetivo
+     */
+    int elegirColumna(int desde, int hasta, IntToDoubleFunction costos, IntToDoubleFunction razon, double epsilon);
+
+    String nombre();
+}
@@ -0,0 +1,37 @@
+package org.universidad.granm.claseabstracta;
+
+import java.util.Random;
+import java.util.function.IntToDoubleFunction;
+
+/**
+ * Regla de arista aleatoria: entra una columna elegida con probabilidad uniforme entre las que
+ * mejoran la función objetivo. Con la misma semilla se repite la misma secuencia de pivoteos.
+ */
+public final class ReglaPricingAleatoria implements ReglaPricing {
+
+    private final Random random;
+
+    public ReglaPricingAleatoria() {
+        this(42);
+    }
+
+    public ReglaPricingAleatoria(long semilla) {
+        this.random = new Random(semilla);
+    }
+
+    @Override
+    public int elegirColumna(int desde, int hasta, IntToDoubleFunction costos, IntToDoubleFunction razon, double epsilon) {
+        // Muestreo de reservorio: una sola pasada sobre las columnas
+        int columna = -1;
+        int candidatas = 0;
+        for (int j = desde; j < hasta; j++)
+            if (costos.applyAsDouble(j) < -epsilon && random.nextInt(++candidatas) == 0)
+                columna = j;
+        return columna;
+    }
+
+    @Override
+    public String nombre() {
+        return "Arista aleatoria";
+    }
+}
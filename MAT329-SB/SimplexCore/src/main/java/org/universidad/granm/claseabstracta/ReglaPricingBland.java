@@ -0,0 +1,26 @@
+package org.universidad.granm.claseabstracta;
+
+import java.util.function.IntToDoubleFunction;
+
+/**
+ * Regla de Bland: entra la primera columna que mejora la función objetivo. Evita los ciclos en
+ * problemas degenerados, a cambio de hacer en general más iteraciones que Dantzig.
+ */
+public final class ReglaPricingBland implements ReglaPricing {
+
+    public ReglaPricingBland() {
+    }
+
+    @Override
+    public int elegirColumna(int desde, int hasta, IntToDoubleFunction costos, IntToDoubleFunction razon, double epsilon) {
+        for (int j = desde; j < hasta; j++)
+            if (costos.applyAsDouble(j) < -epsilon)
+                return j;
+        return -1;
+    }
+
+    @Override
+    public String nombre() {
+        return "Bland";
+    }
+}
@@ -0,0 +1,31 @@
+package org.universidad.granm.claseabstracta;
+
+import java.util.function.IntToDoubleFunction;
+
+/**
+ * Regla de Dantzig: entra la columna con el costo reducido más negativo (en caso de empate, la primera).
+ */
+public final class ReglaPricingDantzig implements ReglaPricing {
+
+    public ReglaPricingDantzig() {
+    }
+
+    @Override
+    public int elegirColumna(int desde, int hasta, IntToDoubleFunction costos, IntToDoubleFunction razon, double epsilon) {
+        double menor = -epsilon;
+        int columna = -1;
+        for (int j = desde; j < hasta; j++) {
+            double costo = costos.applyAsDouble(j);
+            if (costo < menor) {
+                menor = costo;
+                columna = j;
+            }
+        }
+        return columna;
+    }
+
+    @Override
+    public String nombre() {
+        return "Dantzig";
+    }
+}
@@ -0,0 +1,49 @@
+package org.universidad.granm.claseabstracta;
+
+import java.util.Arrays;
+
+/**
+ * Devex (Forrest y Goldfarb): aproxima los pesos de steepest edge respecto de un marco de referencia
+ * que empieza con peso 1 en todas las columnas. Tras pivotear en (r, q), con t_j = α_rj / α_rq, cada
+ * peso pasa a max(w_j, t_j² w_q); solo hace falta la fila pivote, así que la actualización cuesta O(n).
+ * Cuando un peso crece demasiado el marco de referencia se reinicia.
+ */
+public final class ReglaPricingDevex extends ReglaPricingPonderada {
+
+    private static final double PESO_MAXIMO = 1e6;
+
+    public ReglaPricingDevex() {
+    }
+
+    @Override
+    void inicializarPesos(Tableau tableau) {
+        pesos = new double[tableau.getNroColumnas()];
+        Arrays.fill(pesos, 1);
+    }
+
+    @Override
+    void actualizarPesos(Tableau tableau, int filaPivote, int columnaPivote) {
+        int columnas = tableau.getNroColumnas();
+        double[] datos = tableau.datos();
+        int fila = tableau.inicioFila(filaPivote);
+        double pivote = datos[fila + columnaPivote];
+        double pesoEntrante = pesos[columnaPivote];
+
+        boolean reiniciar = false;
+        for (int j = 0; j < columnas; j++) {
+            double t = datos[fila + j] / pivote;
+            if (t == 0) continue;
+            pesos[j] = Math.max(pesos[j], t * t * pesoEntrante);
+            reiniciar |= pesos[j] > PESO_MAXIMO;
+        }
+        pesos[columnaPivote] = 1;
+
+        if (reiniciar)
+            Arrays.fill(pesos, 1);
+    }
+
+    @Override
+    public String nombre() {
+        return "Devex";
+    }
+}
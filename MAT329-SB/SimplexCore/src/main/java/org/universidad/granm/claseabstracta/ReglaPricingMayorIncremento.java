@@ -0,0 +1,39 @@
+package org.universidad.granm.claseabstracta;
+
+import java.util.function.IntToDoubleFunction;
+
+/**
+ * Regla del mayor incremento: entra la columna que más mejora la función objetivo en un paso,
+ * |costo reducido| · razón mínima. Hace una prueba del cociente por cada candidata, así que cada
+ * iteración cuesta más que con Dantzig. Una columna no acotada se elige de inmediato.
+ */
+public final class ReglaPricingMayorIncremento implements ReglaPricing {
+
+    public ReglaPricingMayorIncremento() {
+    }
+
+    @Override
+    public int elegirColumna(int desde, int hasta, IntToDoubleFunction costos, IntToDoubleFunction razon, double epsilon) {
+        double mayor = -1;
+        int columna = -1;
+        for (int j = desde; j < hasta; j++) {
+            double costo = costos.applyAsDouble(j);
+            if (costo >= -epsilon) continue;
+
+            double theta = razon.applyAsDouble(j);
+            if (theta == Double.POSITIVE_INFINITY)
+                return j;
+            double incremento = -costo * theta;
+            if (incremento > mayor) {
+                mayor = incremento;
+                columna = j;
+            }
+        }
+        return columna;
+    }
+
+    @Override
+    public String nombre() {
+        return "Mayor incremento";
+    }
+}
@@ -0,0 +1,140 @@
+package org.universidad.granm.claseabstracta;
+
+import java.util.function.IntToDoubleFunction;
+
+/**
+ * Pricing parcial y múltiple para tableaus muy anchos, con el criterio de Dantzig.
+ *
+ * Pricing parcial: en lugar de recorrer toda la fila Z, se recorren ventanas de columnas consecutivas
+ * a partir de donde terminó la búsqueda anterior, y se elige en la primera ventana que tenga candidatas.
+ * Pricing múltiple: de esa ventana se guardan hasta {@code candidatos} columnas; en las iteraciones
+ * siguientes solo se vuelven a calcular sus costos, y se elige la mejor que siga mejorando Z.
+ *
+ * La búsqueda de ventanas se vuelve a hacer cuando la lista se agota, y solo devuelve -1 después de
+ * recorrer todas las columnas sin encontrar ninguna candidata, así que el criterio de optimalidad es exacto.
+ */
+public final class ReglaPricingParcial implements ReglaPricing {
+
+    private final int ventana;
+    // Candidatas guardadas, ordenadas por costo al llenarse
+    private final int[] lista;
+    private final double[] costosLista;
+    private int tamanoLista;
+    private int inicio;
+
+    /**
+     * @param ventana Columnas por ventana (Integer.MAX_VALUE para recorrer la fila entera)
+     * @param candidatos Columnas guardadas entre iteraciones (1 para pricing parcial sin lista)
+     */
+    public ReglaPricingParcial(int ventana, int candidatos) {
+        if (ventana < 1 || candidatos < 1)
+            throw new IllegalArgumentException("La ventana y la cantidad de candidatas deben ser positivas");
+        this.ventana = ventana;
+        this.lista = new int[candidatos];
+        this.costosLista = new double[candidatos];
+    }
+
+    /**
+     * Pricing parcial: ventanas de {@code ventana} columnas, sin lista de candidatas.
+     */
+    public static ReglaPricingParcial parcial(int ventana) {
+        return new ReglaPricingParcial(ventana, 1);
+    }
+
+    /**
+     * Pricing múltiple: recorre la fila entera cuando se agota una lista de {@code candidatos} columnas.
+     */
+    public static ReglaPricingParcial multiple(int candidatos) {
+        return new ReglaPricingParcial(Integer.MAX_VALUE, candidatos);
+    }
+
+    @Override
+    public int elegirColumna(int desde, int hasta, IntToDoubleFunction costos, IntToDoubleFunction razon, double epsilon) {
+        int columna = elegirDeLaLista(desde, hasta, costos, epsilon);
+        if (columna >= 0)
+            return columna;
+
+        llenarLista(desde, hasta, costos, epsilon);
+        return elegirDeLaLista(desde, hasta, costos, epsilon);
+    }
+
+    /**
+     * Vuelve a calcular el costo de las candidatas guardadas, descarta las que ya no mejoran Z
+     * y saca de la lista la mejor, que es la que entra.
+     */
+    private int elegirDeLaLista(int desde, int hasta, IntToDoubleFunction costos, double epsilon) {
+        double menor = -epsilon;
+        int mejor = -1;
+        int k = 0;
+        while (k < tamanoLista) {
+            int j = lista[k];
+            double costo = j >= desde && j < hasta ? costos.applyAsDouble(j) : Double.POSITIVE_INFINITY;
+            if (costo >= -epsilon) {
+                lista[k] = lista[--tamanoLista];
+                continue;
+            }
+            if (costo < menor) {
+                menor = costo;
+                mejor = k;
+            }
+            k++;
+        }
+        if (mejor < 0)
+            return -1;
+
+        int columna = lista[mejor];
+        lista[mejor] = lista[--tamanoLista];
+        return columna;
+    }
+
+    /**
+     * Recorre ventanas desde donde terminó la búsqueda anterior hasta encontrar una con candidatas,
+     * y guarda las de menor costo. Si da la vuelta completa sin encontrar ninguna, la lista queda vacía.
+     */
+    private void llenarLista(int desde, int hasta, IntToDoubleFunction costos, double epsilon) {
+        int columnas = hasta - desde;
+        if (columnas <= 0)
+            return;
+        if (inicio < desde || inicio >= hasta)
+            inicio = desde;
+
+        int recorridas = 0;
+        while (recorridas < columnas && tamanoLista == 0) {
+            int enVentana = Math.min(ventana, columnas - recorridas);
+            for (int n = 0; n < enVentana; n++) {
+                int j = inicio;
+                inicio = inicio + 1 < hasta ? inicio + 1 : desde;
+
+                double costo = costos.applyAsDouble(j);
+                if (costo >= -epsilon) continue;
+                if (tamanoLista < lista.length) {
+                    insertar(j, costo, tamanoLista++);
+                } else if (costo < costosLista[tamanoLista - 1]) {
+                    insertar(j, costo, tamanoLista - 1);
+                }
+            }
+            recorridas += enVentana;
+        }
+    }
+
+    /**
+     * Inserta la columna en la lista ordenada por costo, desplazando las de costo mayor desde la posición libre.
+     */
+    private void insertar(int columna, double costo, int libre) {
+        int k = libre;
+        while (k > 0 && costosLista[k - 1] > costo) {
+            lista[k] = lista[k - 1];
+            costosLista[k] = costosLista[k - 1];
+            k--;
+        }
+        lista[k] = columna;
+        costosLista[k] = costo;
+    }
+
+    @Override
+    public String nombre() {
+        return ventana == Integer.MAX_VALUE
+                ? "Múltiple (" + lista.length + ")"
+                : "Parcial (" + ventana + ", " + lista.length + ")";
+    }
+}
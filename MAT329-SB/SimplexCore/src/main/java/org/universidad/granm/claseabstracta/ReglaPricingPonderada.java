@@ -0,0 +1,51 @@
+package org.universidad.granm.claseabstracta;
+
+import java.util.function.IntToDoubleFunction;
+
+/**
+ * Regla de pricing normalizada: entra la columna que maximiza costo² / peso, donde el peso estima
+ * la norma de la arista del poliedro que recorre esa columna. Los pesos se calculan una sola vez sobre
+ * el tableau y después se actualizan en cada pivoteo con la fila y la columna pivote, sin recalcularlos.
+ *
+ * {@link SimplexBase#iteracionSimplex()} llama a {@link #inicializarPesos(Tableau)} cuando el tableau
+ * cambió fuera de los pivoteos (cambio de fase, restricción agregada, arranque en caliente) y a
+ * {@link #actualizarPesos(Tableau, int, int)} antes de cada pivoteo. Solo sirve a los motores que
+ * mantienen el tableau completo.
+ */
+public abstract class ReglaPricingPonderada implements ReglaPricing {
+
+    protected double[] pesos;
+
+    protected ReglaPricingPonderada() {
+    }
+
+    @Override
+    public int elegirColumna(int desde, int hasta, IntToDoubleFunction costos, IntToDoubleFunction razon, double epsilon) {
+        double mayor = 0;
+        int columna = -1;
+        for (int j = desde; j < hasta; j++) {
+            double costo = costos.applyAsDouble(j);
+            if (costo >= -epsilon) continue;
+
+            // Sin pesos para la columna (la regla todavía no vio el tableau) se comporta como Dantzig
+            double peso = pesos != null && j < pesos.length ? pesos[j] : 1;
+            double puntaje = costo * costo / peso;
+            if (puntaje > mayor) {
+                mayor = puntaje;
+                columna = j;
+            }
+        }
+        return columna;
+    }
+
+    /**
+     * Calcula los pesos desde cero para el tableau actual.
+     */
+    abstract void inicializarPesos(Tableau tableau);
+
+    /**
+     * Actualiza los pesos para el pivoteo (filaPivote, columnaPivote); se llama antes de pivotear,
+     * con el tableau todavía sin modificar.
+     */
+    abstract void actualizarPesos(Tableau tableau, int filaPivote, int columnaPivote);
+}
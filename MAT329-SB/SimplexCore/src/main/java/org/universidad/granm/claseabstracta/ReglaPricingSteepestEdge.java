@@ -0,0 +1,73 @@
+package org.universidad.granm.claseabstracta;
+
+import java.util.Arrays;
+
+/**
+ * Steepest edge exacto sobre el tableau: el peso de la columna j es γ_j = 1 + Σ α_ij², la norma al
+ * cuadrado de la arista que se recorre al aumentar x_j. Tras pivotear en (r, q), con t_j = α_rj / α_rq
+ * y σ_j = Σ α_iq α_ij, los pesos nuevos son γ_j - 2 t_j σ_j + t_j² γ_q (Goldfarb y Reid).
+ * Solo cambian los pesos de las columnas con t_j no nulo, así que σ se calcula sobre el patrón de no nulos
+ * de la fila pivote ({@link Tableau#prepararPatron}) y en las filas con α_iq no nulo: el mismo recorrido
+ * que la eliminación gaussiana del pivoteo, en lugar de una pasada por todo el tableau.
+ */
+public final class ReglaPricingSteepestEdge extends ReglaPricingPonderada {
+
+    private double[] productos;
+
+    public ReglaPricingSteepestEdge() {
+    }
+
+    @Override
+    void inicializarPesos(Tableau tableau) {
+        int filas = tableau.getNroFilas();
+        int columnas = tableau.getNroColumnas();
+        double[] datos = tableau.datos();
+        pesos = new double[columnas];
+        productos = new double[columnas];
+
+        Arrays.fill(pesos, 1);
+        for (int i = 1; i < filas; i++) {
+            int inicio = tableau.inicioFila(i);
+            for (int j = 0; j < columnas; j++) {
+                double a = datos[inicio + j];
+                pesos[j] += a * a;
+            }
+        }
+    }
+
+    @Override
+    void actualizarPesos(Tableau tableau, int filaPivote, int columnaPivote) {
+        int filas = tableau.getNroFilas();
+        double[] datos = tableau.datos();
+        int nnz = tableau.prepararPatron(filaPivote);
+        int[] patron = tableau.patron();
+
+        // σ_j = Σ α_iq α_ij solo para las columnas del patrón; productos[k] corresponde a patron[k]
+        Arrays.fill(productos, 0, nnz, 0);
+        for (int i = 1; i < filas; i++) {
+            int inicio = tableau.inicioFila(i);
+            double aq = datos[inicio + columnaPivote];
+            if (aq == 0) continue;
+            for (int k = 0; k < nnz; k++)
+                productos[k] += aq * datos[inicio + patron[k]];
+        }
+
+        int fila = tableau.inicioFila(filaPivote);
+        double pivote = datos[fila + columnaPivote];
+        double pesoEntrante = pesos[columnaPivote];
+        for (int k = 0; k < nnz; k++) {
+            int j = patron[k];
+            double t = datos[fila + j] / pivote;
+            double peso = pesos[j] - 2 * t * productos[k] + t * t * pesoEntrante;
+            // Cota inferior exacta de la norma, que protege de la cancelación numérica
+            pesos[j] = Math.max(peso, 1 + t * t);
+        }
+        // La columna que entra queda unitaria
+        pesos[columnaPivote] = 2;
+    }
+
+    @Override
+    public String nombre() {
+        return "Steepest edge";
+    }
+}
@@ -0,0 +1,142 @@
+package org.universidad.granm.claseabstracta;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Resolución en paralelo de muchos problemas independientes. Cada problema tiene su propio motor,
+ * construido con la fábrica dada; los motores no comparten estado, así que pueden resolverse a la vez
+ * en hilos virtuales o en un pool de tamaño fijo. Los resultados se entregan en orden de finalización.
+ *
+ *     try (ResolucionPorLotes lotes = new ResolucionPorLotes(
+ *             (c, a, b, tipos, max) -> new MSimplexRevisado(c, a, b, tipos, max, NivelHistorial.NINGUNO))) {
+ *         lotes.resolver(problemas, resultado -> ...);
+ *     }
+ *
+ * Para lotes grandes conviene que la fábrica use {@link NivelHistorial#NINGUNO}: el historial completo
+ * guarda una copia del tableau por paso.
+ */
+public final class ResolucionPorLotes implements AutoCloseable {
+
+    /**
+     * Un problema del lote, con los mismos datos que recibe {@link FabricaMotor#crear}.
+     */
+    public record Problema(double[] funcionObjetivo, MatrizDispersa restricciones,
+                           double[] terminosIndependientes, TipoRestriccion[] tipoRestricciones, boolean maximizar) {
+    }
+
+    /**
+     * Motor ya resuelto, o el error que se produjo al construirlo o resolverlo (motor nulo en ese caso).
+     * El índice es la posición del problema en el flujo de entrada.
+     */
+    public record Resultado(long indice, Problema problema, SimplexBase motor, Throwable error) {
+        public boolean exitoso() { return error == null; }
+    }
+
+    private final FabricaMotor fabrica;
+    private final ExecutorService ejecutor;
+    private final int maximoEnCurso;
+
+    /**
+     * Un hilo virtual por problema. Como el trabajo es de cálculo, en la práctica corren a la vez tantos
+     * como núcleos haya; el límite de problemas en curso evita tener todos los tableaus en memoria.
+     */
+    public ResolucionPorLotes(FabricaMotor fabrica) {
+        this(fabrica, Executors.newVirtualThreadPerTaskExecutor(), 4 * Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Pool de tamaño fijo con la cantidad de hilos dada.
+     */
+    public ResolucionPorLotes(FabricaMotor fabrica, int hilos) {
+        this(fabrica, crearPoolFijo(hilos), 2 * hilos);
+    }
+
+    private ResolucionPorLotes(FabricaMotor fabrica, ExecutorService ejecutor, int maximoEnCurso) {
+        if (fabrica == null) {
+            ejecutor.close();
+            throw new IllegalArgumentException("La fábrica de motores no puede ser nula");
+        }
+        this.fabrica = fabrica;
+        this.ejecutor = ejecutor;
+        this.maximoEnCurso = maximoEnCurso;
+    }
+
+    private static ExecutorService crearPoolFijo(int hilos) {
+        if (hilos < 1)
+            throw new IllegalArgumentException("La cantidad de hilos debe ser al menos 1");
+        return Executors.newFixedThreadPool(hilos);
+    }
+
+    /**
+     * Resuelve todos los problemas del flujo y llama a {@code alTerminar} con cada resultado apenas está
+     * listo. El flujo se consume de a poco, así que puede ser perezoso o muy largo. {@code alTerminar} se
+     * ejecuta siempre en el hilo que llamó a este método, nunca en paralelo consigo mismo.
+     *
+     * @return cantidad de problemas resueltos
+     */
+    public long resolver(Stream<Problema> problemas, Consumer<Resultado> alTerminar) throws InterruptedException {
+        BlockingQueue<Resultado> terminados = new LinkedBlockingQueue<>();
+        long enviados = 0;
+        long entregados = 0;
+
+        Iterator<Problema> iterador = problemas.iterator();
+        while (iterador.hasNext()) {
+            Problema problema = iterador.next();
+            long indice = enviados++;
+            ejecutor.execute(() -> terminados.add(resolverUno(indice, problema)));
+
+            // Con el cupo lleno se espera al menos un resultado; si no, solo se entregan los que ya estén
+            if (enviados - entregados >= maximoEnCurso) {
+                alTerminar.accept(terminados.take());
+                entregados++;
+            }
+            for (Resultado listo; (listo = terminados.poll()) != null; entregados++)
+                alTerminar.accept(listo);
+        }
+
+        for (; entregados < enviados; entregados++)
+            alTerminar.accept(terminados.take());
+        return enviados;
+    }
+
+    /**
+     * Resuelve la lista completa y devuelve los resultados en el orden de los problemas.
+     */
+    public List<Resultado> resolverTodos(List<Problema> problemas) throws InterruptedException {
+        List<Resultado> resultados = new ArrayList<>(problemas.size());
+        resolver(problemas.stream(), resultados::add);
+        resultados.sort(Comparator.comparingLong(Resultado::indice));
+        return resultados;
+    }
+
+    private Resultado resolverUno(long indice, Problema problema) {
+        try {
+            SimplexBase motor = fabrica.crear(problema.funcionObjetivo(), problema.restricciones(),
+                    problema.terminosIndependientes(), problema.tipoRestricciones(), problema.maximizar());
+            motor.resolver();
+            return new Resultado(indice, problema, motor, null);
+        } catch (Throwable e) {
+            // Sin resultado el hilo que entrega esperaría para siempre
+            return new Resultado(indice, problema, null, e);
+        }
+    }
+
+    public int getMaximoEnCurso() { return maximoEnCurso; }
+
+    /**
+     * Espera a que terminen los problemas en curso y libera los hilos.
+     */
+    @Override
+    public void close() {
+        ejecutor.close();
+    }
+}
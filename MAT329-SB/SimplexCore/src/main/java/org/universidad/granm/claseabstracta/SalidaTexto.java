@@ -0,0 +1,105 @@
+package org.universidad.granm.claseabstracta;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Escritura de texto a un FileChannel a través de un buffer directo grande, para exportar modelos de
+ * millones de elementos sin pasar por Writer ni crear un String por número entero.
+ */
+final class SalidaTexto implements AutoCloseable {
+
+    private static final int TAMANO_BUFFER = 1 << 20;
+
+    private final FileChannel canal;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(TAMANO_BUFFER);
+
+    SalidaTexto(Path archivo) throws IOException {
+        this.canal = FileChannel.open(archivo, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    SalidaTexto texto(String texto) throws IOException {
+        for (int i = 0; i < texto.length(); i++) {
+            char c = texto.charAt(i);
+            if (c >= 0x80) {
+                bytes(texto.substring(i).getBytes(StandardCharsets.UTF_8));
+                return this;
+            }
+            if (!buffer.hasRemaining())
+                vaciar();
+            buffer.put((byte) c);
+        }
+        return this;
+    }
+
+    SalidaTexto caracter(char c) throws IOException {
+        if (c >= 0x80)
+            return texto(String.valueOf(c));
+        if (!buffer.hasRemaining())
+            vaciar();
+        buffer.put((byte) c);
+        return this;
+    }
+
+    /**
+     * Escribe el número en la forma más corta que se vuelve a leer igual: sin decimales si es entero,
+     * si no como {@link Double#toString}.
+     */
+    SalidaTexto numero(double valor) throws IOException {
+        if (valor == (long) valor && Math.abs(valor) < 1e15)
+            return entero((long) valor);
+        return texto(Double.toString(valor));
+    }
+
+    private SalidaTexto entero(long valor) throws IOException {
+        if (buffer.remaining() < 20)
+            vaciar();
+        if (valor < 0) {
+            buffer.put((byte) '-');
+            valor = -valor;
+        }
+        int cifras = 1;
+        for (long v = valor; v >= 10; v /= 10)
+            cifras++;
+        int posicion = buffer.position() + cifras;
+        for (int i = posicion - 1; i >= buffer.position(); i--) {
+            buffer.put(i, (byte) ('0' + valor % 10));
+            valor /= 10;
+        }
+        buffer.position(posicion);
+        return this;
+    }
+
+    SalidaTexto nuevaLinea() throws IOException {
+        return caracter('\n');
+    }
+
+    private void bytes(byte[] bytes) throws IOException {
+        for (int desde = 0; desde < bytes.length; ) {
+            if (!buffer.hasRemaining())
+                vaciar();
+            int cantidad = Math.min(buffer.remaining(), bytes.length - desde);
+            buffer.put(bytes, desde, cantidad);
+            desde += cantidad;
+        }
+    }
+
+    private void vaciar() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining())
+            canal.write(buffer);
+        buffer.clear();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try (canal) {
+            vaciar();
+        }
+    }
+}
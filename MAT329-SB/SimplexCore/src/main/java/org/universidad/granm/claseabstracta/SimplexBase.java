@@ -0,0 +1,1147 @@
+package org.universidad.granm.claseabstracta;
+
+import org.universidad.granm.metodos.GuardarPasos;
+
+import java.io.Serial;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntToDoubleFunction;
+
+/**
+ * Clase abstracta base para implementaciones del método Simplex.
+ * Proporciona la funcionalidad común y define los métodos que deben
+ * ser implementados por las clases derivadas.
+ */
+public abstract class SimplexBase {
+
+    // Atributos protegidos compartidos
+    protected Tableau tableau;
+    protected int nroFilas;
+    protected int nroColumnas;
+    protected int nroVariables;
+    protected int nroRestricciones;
+    protected boolean maximizar;
+    protected boolean solucionEncontrada;
+    protected int holguras;
+    protected int excesos;
+    protected int artificiales;
+
+    public Map<String, Double> solucion;
+    // Columna de cada variable básica → fila; se modifica solo con ponerEnBase, quitarDeBase y vaciarBase,
+    // que mantienen columnaEnFila (fila → columna básica, 0 si la fila no tiene una registrada)
+    protected Map<Integer, Integer> indiceSolucion;
+    private int[] columnaEnFila = new int[0];
+    protected GuardarPasos historialDePasos;
+    protected final NivelHistorial nivelHistorial;
+    private double[] bufferColumnaPivote;
+    private double[] bufferTerminos;
+
+    // Eliminación gaussiana en paralelo: solo para tableaus con al menos umbralCeldasParalelo celdas
+    private ForkJoinPool poolEliminacion = ForkJoinPool.commonPool();
+    private int umbralCeldasParalelo = 1 << 18;
+    private static final int CELDAS_POR_TAREA = 1 << 14;
+    private int iteracionesDuales;
+    private int iteraciones;
+    private final ReglaPricing reglaPricing;
+    // Prueba del cociente de Harris (desactivada por omisión: se usa la razón mínima estricta del libro)
+    private final boolean pruebaCocienteHarris;
+    private final double toleranciaFactibilidad;
+    private final double toleranciaPivote;
+    // Límites de la resolución; el reloj empieza en la primera iteración
+    private final int maximoIteraciones;
+    private final long tiempoLimiteNanos;
+    private long inicioResolucion;
+    private boolean limiteAlcanzado;
+    private EstadoSolucion estado = EstadoSolucion.SIN_RESOLVER;
+    // Tableau y versión con los que están al día los pesos de una ReglaPricingPonderada
+    private Tableau tableauPesos;
+    private int versionPesos;
+    // Última columna elegida por la regla de pricing, válida mientras el tableau no cambie
+    private Tableau tableauCandidata;
+    private int versionCandidata;
+    private boolean maximizandoCandidata;
+    private int columnaCandidata;
+    // Factores del modelo escalado que recibió el motor (null si no se escaló) y fila de cada variable auxiliar
+    private Escalado escalado;
+    private int[] filaAuxiliar = new int[0];
+
+    protected final OpcionesResolucion opciones;
+    protected final double epsilon;
+    protected final int decimales;
+
+    /**
+     * Constructor base
+     */
+    protected SimplexBase() {
+        this(OpcionesResolucion.PREDETERMINADAS);
+    }
+
+    /**
+     * Constructor base con el nivel de detalle del historial de pasos
+     */
+    protected SimplexBase(NivelHistorial nivelHistorial) {
+        this(opcionesConNivel(nivelHistorial));
+    }
+
+    /**
+     * Constructor base con las opciones de resolución
+     */
+    protected SimplexBase(OpcionesResolucion opciones) {
+        if (opciones == null)
+            throw new IllegalArgumentException("Las opciones de resolución no pueden ser nulas");
+        this.opciones = opciones;
+        this.epsilon = opciones.epsilon();
+        this.decimales = opciones.decimales();
+        this.nivelHistorial = opciones.nivelHistorial();
+        this.reglaPricing = opciones.reglaPricing().get();
+        if (reglaPricing == null)
+            throw new IllegalArgumentException("La fábrica de reglas de pricing devolvió null");
+        this.pruebaCocienteHarris = opciones.pruebaCocienteHarris();
+        this.toleranciaFactibilidad = opciones.toleranciaFactibilidad();
+        this.toleranciaPivote = opciones.toleranciaPivote();
+        this.maximoIteraciones = opciones.maximoIteraciones();
+        this.tiempoLimiteNanos = opciones.tiempoLimite() == null ? Long.MAX_VALUE : opciones.tiempoLimite().toNanos();
+        this.solucionEncontrada = true;
+        this.solucion = new HashMap<>();
+        this.indiceSolucion = new HashMap<>();
+        this.historialDePasos = new GuardarPasos();
+    }
+
+    /**
+     * Opciones predeterminadas con otro nivel de historial, para los constructores que solo reciben el nivel.
+     */
+    protected static OpcionesResolucion opcionesConNivel(NivelHistorial nivelHistorial) {
+        if (nivelHistorial == null)
+            throw new IllegalArgumentException("El nivel de historial no puede ser nulo");
+        return OpcionesResolucion.PREDETERMINADAS.conNivelHistorial(nivelHistorial);
+    }
+
+    protected void inicializarTableauBase(double[] funcionObjetivo, MatrizDispersa restricciones,
+                                      double[] terminosIndependientes, TipoRestriccion[] tipoRestricciones) {
+        if (restricciones.getNroColumnas() > nroVariables)
+            throw new IllegalArgumentException("La matriz de restricciones tiene más columnas que variables");
+        calcularDimensiones(tipoRestricciones);
+        this.tableau = new Tableau(nroFilas, nroColumnas);
+    }
+
+    /**
+     * Cuenta holguras, excesos y artificiales y fija las dimensiones del tableau sin reservarlo.
+     */
+    protected void calcularDimensiones(TipoRestriccion[] tipoRestricciones) {
+        holguras = 0;
+        excesos = 0;
+        artificiales = 0;
+
+        // Contar tipos de variables necesarias
+        for (TipoRestriccion tipo : tipoRestricciones) {
+            switch (tipo) {
+                case MENOR_IGUAL:
+                    holguras++;
+                    break;
+                case MAYOR_IGUAL:
+                    excesos++;
+                    artificiales++;
+                    break;
+                case IGUAL:
+                    artificiales++;
+                    break;
+            }
+        }
+
+        // Fila de cada holgura, exceso y artificial, en el orden de sus columnas
+        filaAuxiliar = new int[holguras + excesos + artificiales];
+        int k = 0;
+        for (int i = 0; i < tipoRestricciones.length; i++)
+            if (tipoRestricciones[i] == TipoRestriccion.MENOR_IGUAL) filaAuxiliar[k++] = i;
+        for (int i = 0; i < tipoRestricciones.length; i++)
+            if (tipoRestricciones[i] == TipoRestriccion.MAYOR_IGUAL) filaAuxiliar[k++] = i;
+        for (int i = 0; i < tipoRestricciones.length; i++)
+            if (tipoRestricciones[i] != TipoRestriccion.MENOR_IGUAL) filaAuxiliar[k++] = i;
+
+        // Dimensiones del tableau
+        this.nroFilas = 1 + nroRestricciones;
+        this.nroColumnas = 1 + nroVariables + holguras + excesos + artificiales + 1;
+    }
+
+    /**
+     * Copia los coeficientes no nulos de la restricción i en la fila i + 1 del tableau (columnas 1..nroVariables).
+     */
+    protected void copiarRestriccion(MatrizDispersa restricciones, int i) {
+        for (int k = restricciones.getInicioFila(i); k < restricciones.getFinFila(i); k++)
+            tableau.set(i + 1, restricciones.getColumna(k) + 1, restricciones.getValorPosicion(k));
+    }
+
+    // Métodos comunes de gestión de matriz
+    public void setValor(int f, int c, double valor) {
+        validarRango(f, c);
+        tableau.set(f, c, valor);
+    }
+
+    public double getValor(int f, int c) {
+        validarRango(f, c);
+        return tableau.get(f, c);
+    }
+
+    private void validarRango(int f, int c) {
+        if (!(f >= 0 && f < nroFilas && c >= 0 && c < nroColumnas))
+            throw new IllegalArgumentException("Fuera de rango");
+    }
+
+    // Métodos comunes de gestión de pasos
+    // Con NivelHistorial.NINGUNO no se reserva memoria ni se construyen cadenas para el historial
+
+    /**
+     * Indica si el historial guarda pasos; los llamadores que arman descripciones concatenando
+     * deben consultarlo antes, para no construir cadenas que se descartan.
+     */
+    protected boolean registraHistorial() {
+        return nivelHistorial != NivelHistorial.NINGUNO;
+    }
+
+    protected void guardarPaso(String descripcion, String variableEntrada, String variableSalida) {
+        switch (nivelHistorial) {
+            case NINGUNO -> { }
+            case RESUMEN -> historialDePasos.agregarResumen(variableEntrada, variableSalida, descripcion);
+            case COMPLETO -> historialDePasos.agregarPaso(tableau, variableEntrada, variableSalida, descripcion);
+        }
+    }
+
+    /**
+     * Guarda el paso de normalización como registro compacto (fila, columna y valor pivote).
+     */
+    protected void guardarNormalizacion(int filaPivote, int columnaPivote, double valorPivote, String descripcion) {
+        switch (nivelHistorial) {
+            case NINGUNO -> { }
+            case RESUMEN -> historialDePasos.agregarResumen(
+                    "Variable de entrada X" + columnaPivote, "Variable de salida X" + filaPivote, descripcion);
+            case COMPLETO -> historialDePasos.agregarNormalizacion(tableau, filaPivote, columnaPivote, valorPivote,
+                    "Variable de entrada X" + columnaPivote, "Variable de salida X" + filaPivote, descripcion);
+        }
+    }
+
+    /**
+     * Guarda el paso de eliminación de la columna pivote como registro compacto.
+     */
+    protected void guardarEliminacion(int filaPivote, int columnaPivote, String descripcion) {
+        switch (nivelHistorial) {
+            case NINGUNO -> { }
+            case RESUMEN -> historialDePasos.agregarResumen(
+                    "Variable de entrada X" + columnaPivote, "Variable de salida X" + filaPivote, descripcion);
+            case COMPLETO -> historialDePasos.agregarEliminacion(tableau, filaPivote, columnaPivote,
+                    "Variable de entrada X" + columnaPivote, "Variable de salida X" + filaPivote, descripcion);
+        }
+    }
+
+    public GuardarPasos getHistorialDePasos() {
+        return historialDePasos;
+    }
+
+    public int cantPasos() {
+        return historialDePasos.getListaPasos().size();
+    }
+
+    public String getDescripcionPaso(int i) {
+        return historialDePasos.getListaPasos().get(i).getDescripcionPaso();
+    }
+
+    public String getVariableEntradaPaso(int i) {
+        return historialDePasos.getListaPasos().get(i).getVariableEntrada();
+    }
+
+    public String getVariableSalidaPaso(int i) {
+        return historialDePasos.getListaPasos().get(i).getVariableSalida();
+    }
+
+    public void limpiarPasos() {
+        historialDePasos.limpiarPasos();
+    }
+
+    public double[][] getTablaPaso(int indice) {
+        return historialDePasos.getTablaPaso(indice);
+    }
+
+    // Métodos comunes del algoritmo Simplex
+
+    /**
+     * Indica si alguna columna puede entrar a la base al maximizar. La pregunta la responde la regla de
+     * pricing y la columna elegida queda guardada para {@link #obtenerColumnaPivoteMaximizar()}, así que
+     * la fila Z no se recorre dos veces por iteración (y con pricing parcial no se recorre entera).
+     */
+    protected boolean existenNegativosEnlaFuncionObjetivo() {
+        return obtenerColumnaPivoteMaximizar() != 0;
+    }
+
+    /**
+     * Como {@link #existenNegativosEnlaFuncionObjetivo()}, al minimizar.
+     */
+    protected boolean existenPositivosEnlaFuncionObjetivo() {
+        return obtenerColumnaPivoteMinimizar() != 0;
+    }
+
+    protected void normalizarFilaPivote(int filaPivote, double valorPivote) {
+        double inversoMultiplicativo = 1 / valorPivote;
+        tableau.escalarFila(filaPivote, inversoMultiplicativo);
+    }
+
+    /**
+     * Columna que entra a la base según la regla de pricing, mirando los negativos de la fila Z, o 0 si no hay.
+     */
+    protected int obtenerColumnaPivoteMaximizar() {
+        return elegirColumna(true, j -> tableau.get(0, j));
+    }
+
+    /**
+     * Columna que entra a la base según la regla de pricing, mirando los positivos de la fila Z, o 0 si no hay.
+     */
+    protected int obtenerColumnaPivoteMinimizar() {
+        return elegirColumna(false, j -> -tableau.get(0, j));
+    }
+
+    /**
+     * Consulta a la regla de pricing, salvo que ya haya elegido para este mismo tableau y sentido.
+     * Los costos (negativos = mejoran) deben depender solo del tableau para que el resultado guardado siga valiendo.
+     */
+    protected int elegirColumna(boolean maximizando, IntToDoubleFunction costos) {
+        int version = tableau.getVersion();
+        if (tableauCandidata == tableau && versionCandidata == version && maximizandoCandidata == maximizando)
+            return columnaCandidata;
+
+        if (reglaPricing instanceof ReglaPricingPonderada ponderada
+                && (tableauPesos != tableau || versionPesos != version)) {
+            ponderada.inicializarPesos(tableau);
+            tableauPesos = tableau;
+            versionPesos = version;
+        }
+
+        int columnaPivote = reglaPricing.elegirColumna(1, nroColumnas - 1, costos, this::razonMinima, epsilon);
+        tableauCandidata = tableau;
+        versionCandidata = version;
+        maximizandoCandidata = maximizando;
+        columnaCandidata = Math.max(columnaPivote, 0);
+        return columnaCandidata;
+    }
+
+    /**
+     * Razón mínima de la prueba del cociente para la columna, o infinito si la columna no está acotada.
+     */
+    protected double razonMinima(int columna) {
+        int filaPivote = obtenerFilaPivote(columna);
+        if (filaPivote == 0)
+            return Double.POSITIVE_INFINITY;
+        return Math.max(tableau.get(filaPivote, nroColumnas - 1), 0) / tableau.get(filaPivote, columna);
+    }
+
+    protected int obtenerFilaPivote(int columnaPivote) {
+        if (pruebaCocienteHarris) {
+            if (bufferColumnaPivote == null || bufferColumnaPivote.length < nroFilas) {
+                bufferColumnaPivote = new double[nroFilas];
+                bufferTerminos = new double[nroFilas];
+            }
+            tableau.copiarColumna(columnaPivote, bufferColumnaPivote);
+            tableau.copiarColumna(nroColumnas - 1, bufferTerminos);
+            return Math.max(filaRazonHarris(bufferColumnaPivote, bufferTerminos, 1, nroFilas), 0);
+        }
+        int filaPivote = tableau.filaRazonMinima(columnaPivote, nroColumnas - 1, 1, toleranciaPivote);
+        return Math.max(filaPivote, 0);
+    }
+
+    /**
+     * Prueba del cociente de Harris en dos pasadas sobre las posiciones [desde, hasta).
+     * La primera calcula la razón máxima admisible relajando cada término en toleranciaFactibilidad;
+     * la segunda elige, entre las filas cuya razón no la supera, la de mayor elemento pivote.
+     * Las filas con elemento menor o igual que toleranciaPivote no participan.
+     *
+     * @return la posición elegida, o -1 si la columna no está acotada
+     */
+    int filaRazonHarris(double[] columna, double[] terminos, int desde, int hasta) {
+        double razonMaxima = Double.POSITIVE_INFINITY;
+        for (int i = desde; i < hasta; i++) {
+            double a = columna[i];
+            if (a > toleranciaPivote)
+                razonMaxima = Math.min(razonMaxima, (Math.max(terminos[i], 0) + toleranciaFactibilidad) / a);
+        }
+        if (razonMaxima == Double.POSITIVE_INFINITY)
+            return -1;
+
+        double mayorPivote = 0;
+        int fila = -1;
+        for (int i = desde; i < hasta; i++) {
+            double a = columna[i];
+            if (a > toleranciaPivote && Math.max(terminos[i], 0) / a <= razonMaxima && a > mayorPivote) {
+                mayorPivote = a;
+                fila = i;
+            }
+        }
+        return fila;
+    }
+
+    /**
+     * Realiza una iteración completa del algoritmo Simplex.
+     * Método template que define el flujo común.
+     */
+    protected void iteracionSimplex() {
+        if (limiteAlcanzado())
+            return;
+
+        int columnaPivote = obtenerColumnaPivote();
+
+        if (columnaPivote == 0) {
+            manejarProblemaNoAcotado("columna");
+            return;
+        }
+
+        int filaPivote = obtenerFilaPivote(columnaPivote);
+
+        if (filaPivote == 0) {
+            manejarProblemaNoAcotado("fila");
+            return;
+        }
+
+        pivotear(filaPivote, columnaPivote);
+    }
+
+    /**
+     * Corta la resolución si se llegó al máximo de iteraciones o al tiempo límite de las opciones:
+     * la marca como no encontrada y devuelve true. Los motores que redefinen iteracionSimplex
+     * deben llamarlo al empezar cada iteración.
+     */
+    protected boolean limiteAlcanzado() {
+        if (limiteAlcanzado)
+            return true;
+        if (inicioResolucion == 0)
+            inicioResolucion = System.nanoTime();
+
+        String motivo = null;
+        if (iteraciones + iteracionesDuales >= maximoIteraciones)
+            motivo = "Se alcanzó el máximo de " + maximoIteraciones + " iteraciones";
+        else if (tiempoLimiteNanos != Long.MAX_VALUE && System.nanoTime() - inicioResolucion > tiempoLimiteNanos)
+            motivo = "Se alcanzó el tiempo límite de " + opciones.tiempoLimite().toMillis() + " ms";
+        if (motivo == null)
+            return false;
+
+        limiteAlcanzado = true;
+        marcarEstado(EstadoSolucion.LIMITE_ALCANZADO);
+        if (registraHistorial())
+            guardarPaso(motivo, "", "");
+        return true;
+    }
+
+    /**
+     * Pivoteo de una iteración primal: actualiza los pesos de la regla de pricing (si los tiene),
+     * el tableau y la base, y cuenta la iteración.
+     */
+    protected void pivotear(int filaPivote, int columnaPivote) {
+        ReglaPricingPonderada ponderada = reglaPricing instanceof ReglaPricingPonderada regla ? regla : null;
+        if (ponderada != null)
+            ponderada.actualizarPesos(tableau, filaPivote, columnaPivote);
+        realizarPivoteo(filaPivote, columnaPivote);
+        actualizarSolucion(columnaPivote, filaPivote);
+        if (ponderada != null)
+            versionPesos = tableau.getVersion();
+        iteraciones++;
+    }
+
+    /**
+     * Realiza el pivoteo en el tableau
+     */
+    protected void realizarPivoteo(int filaPivote, int columnaPivote) {
+        double valorPivote = tableau.get(filaPivote, columnaPivote);
+
+        if (Math.abs(valorPivote - 1) > epsilon) {
+            normalizarFilaPivote(filaPivote, valorPivote);
+            guardarNormalizacion(filaPivote, columnaPivote, valorPivote, "Normalización de la fila pivote");
+        }
+
+        // Eliminación gaussiana: solo filas con elemento no nulo en la columna pivote y,
+        // si la fila pivote es dispersa, solo sobre su patrón de no nulos
+        int nnz = tableau.prepararPatron(filaPivote);
+
+        // invoke() espera a todas las tareas, así que el siguiente guardarPaso ve el tableau completo
+        if (poolEliminacion != null && (long) nroFilas * nroColumnas >= umbralCeldasParalelo) {
+            int filasPorTarea = Math.max(1, CELDAS_POR_TAREA / Math.max(1, nroColumnas));
+            poolEliminacion.invoke(new EliminacionParalela(tableau, 0, nroFilas, filasPorTarea,
+                    filaPivote, columnaPivote, nnz));
+        } else {
+            tableau.eliminarFilas(0, nroFilas, filaPivote, columnaPivote, nnz);
+        }
+        tableau.marcarModificado();
+    }
+
+    /**
+     * Divide el rango de filas en mitades hasta llegar a bloques de filasPorTarea filas.
+     * Estas tareas nunca se serializan, aunque RecursiveAction lo permita: el tableau es transient.
+     */
+    private static final class EliminacionParalela extends RecursiveAction {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final transient Tableau tableau;
+        private final int desde, hasta, filasPorTarea;
+        private final int filaPivote, columnaPivote, nnz;
+
+        EliminacionParalela(Tableau tableau, int desde, int hasta, int filasPorTarea,
+                            int filaPivote, int columnaPivote, int nnz) {
+            this.tableau = tableau;
+            this.desde = desde;
+            this.hasta = hasta;
+            this.filasPorTarea = filasPorTarea;
+            this.filaPivote = filaPivote;
+            this.columnaPivote = columnaPivote;
+            this.nnz = nnz;
+        }
+
+        @Override
+        protected void compute() {
+            if (hasta - desde <= filasPorTarea) {
+                tableau.eliminarFilas(desde, hasta, filaPivote, columnaPivote, nnz);
+                return;
+            }
+            int medio = (desde + hasta) >>> 1;
+            invokeAll(new EliminacionParalela(tableau, desde, medio, filasPorTarea, filaPivote, columnaPivote, nnz),
+                    new EliminacionParalela(tableau, medio, hasta, filasPorTarea, filaPivote, columnaPivote, nnz));
+        }
+    }
+
+    /**
+     * Actualiza la solución después del pivoteo
+     */
+    protected void actualizarSolucion(int columnaPivote, int filaPivote) {
+        solucion.put("x" + columnaPivote, 0.0);
+        // La variable que ocupaba la fila pivote sale de la base
+        ponerEnBase(columnaPivote, filaPivote);
+
+        guardarEliminacion(filaPivote, columnaPivote, "Eliminación de la columna pivote");
+    }
+
+    /**
+     * Registra la columna como básica en la fila; la variable que ocupaba esa fila sale de la base.
+     */
+    protected void ponerEnBase(int columna, int fila) {
+        if (fila >= columnaEnFila.length)
+            columnaEnFila = Arrays.copyOf(columnaEnFila, Math.max(fila + 1, 2 * columnaEnFila.length));
+        int saliente = columnaEnFila[fila];
+        if (saliente != 0 && saliente != columna)
+            indiceSolucion.remove(saliente);
+        Integer filaAnterior = indiceSolucion.put(columna, fila);
+        if (filaAnterior != null && filaAnterior != fila)
+            columnaEnFila[filaAnterior] = 0;
+        columnaEnFila[fila] = columna;
+    }
+
+    /**
+     * Quita la columna de la base registrada, si estaba.
+     */
+    protected void quitarDeBase(int columna) {
+        Integer fila = indiceSolucion.remove(columna);
+        if (fila != null)
+            columnaEnFila[fila] = 0;
+    }
+
+    /**
+     * Deja la base registrada vacía.
+     */
+    protected void vaciarBase() {
+        indiceSolucion.clear();
+        Arrays.fill(columnaEnFila, 0);
+    }
+
+    /**
+     * Maneja el caso de problema no acotado
+     */
+    protected void manejarProblemaNoAcotado(String tipo) {
+        if (registraHistorial())
+            guardarPaso("Problema no acotado " + tipo, "", "");
+        marcarEstado(EstadoSolucion.NO_ACOTADA);
+    }
+
+    /**
+     * Registra cómo terminó la resolución; cualquier estado distinto de OPTIMA la marca como no encontrada.
+     */
+    protected void marcarEstado(EstadoSolucion estado) {
+        this.estado = estado;
+        if (estado != EstadoSolucion.OPTIMA)
+            solucionEncontrada = false;
+    }
+
+    /**
+     * Finaliza el algoritmo y construye la solución final
+     */
+    protected void finalizarSolucion() {
+        marcarEstado(EstadoSolucion.OPTIMA);
+        guardarPaso("Solución óptima encontrada", "", "");
+        indiceSolucion.forEach((k, v) -> {
+            solucion.put("x" + k, desescalar(k, tableau.get(v, nroColumnas - 1)));
+        });
+
+        double valorZ = calcularValorFuncionObjetivo();
+        solucion.put("z", valorZ);
+    }
+
+    /**
+     * Valor de la variable de la columna dada (1..) en las unidades del modelo original, si el motor
+     * recibió un modelo escalado: x_j = s_j·x'_j y holgura_i = holgura'_i / r_i.
+     */
+    protected double desescalar(int columna, double valor) {
+        if (escalado == null || valor == 0)
+            return valor;
+        if (columna <= nroVariables)
+            return valor * escalado.getEscalaColumna(columna - 1);
+        int auxiliar = columna - nroVariables - 1;
+        if (auxiliar < filaAuxiliar.length && filaAuxiliar[auxiliar] >= 0)
+            return valor / escalado.getEscalaFila(filaAuxiliar[auxiliar]);
+        return valor;
+    }
+
+    /**
+     * Lo llama {@link Escalado#fabrica} después de construir el motor con el modelo escalado.
+     */
+    void aplicarEscalado(Escalado escalado) {
+        this.escalado = escalado;
+    }
+
+    // Reoptimización con el método Simplex dual
+
+    /**
+     * Agrega una restricción a un problema ya resuelto, expresada en la base óptima actual.
+     * La nueva variable de holgura entra a la base con el valor que resulte (posiblemente negativo);
+     * después se llama a {@link #reoptimizarDual()} para recuperar la factibilidad.
+     * Una restricción "=" se agrega como dos filas (≤ y ≥).
+     *
+     * @param coeficientes Coeficientes de las variables originales (puede tener menos de nroVariables)
+     * @param terminoIndependiente Lado derecho de la restricción
+     * @param tipo Sentido de la restricción
+     */
+    public void agregarRestriccion(double[] coeficientes, double terminoIndependiente, TipoRestriccion tipo) {
+        if (tableau == null)
+            throw new IllegalStateException("El motor no construyó el tableau explícito");
+        if (coeficientes.length > nroVariables)
+            throw new IllegalArgumentException("La restricción tiene más coeficientes que variables");
+        if (escalado != null) {
+            // La fila nueva queda sin escalar; solo se pasan sus coeficientes a las variables escaladas
+            coeficientes = coeficientes.clone();
+            for (int j = 0; j < coeficientes.length; j++)
+                coeficientes[j] *= escalado.getEscalaColumna(j);
+        }
+
+        depurarBase();
+        switch (tipo) {
+            case MENOR_IGUAL -> agregarFila(coeficientes, terminoIndependiente, 1);
+            case MAYOR_IGUAL -> agregarFila(coeficientes, terminoIndependiente, -1);
+            case IGUAL -> {
+                agregarFila(coeficientes, terminoIndependiente, 1);
+                agregarFila(coeficientes, terminoIndependiente, -1);
+            }
+        }
+        guardarPaso("Restricción agregada", "", "");
+    }
+
+    /**
+     * Agrega signo·(a x) + s = signo·b con una holgura nueva, insertada antes de la columna de términos
+     * independientes, y resta los múltiplos de las filas básicas para que la base siga siendo la identidad.
+     */
+    private void agregarFila(double[] coeficientes, double terminoIndependiente, double signo) {
+        int columnaHolgura = nroColumnas - 1;
+        tableau = tableau.ampliar(columnaHolgura);
+        int fila = nroFilas;
+        nroFilas++;
+        nroColumnas++;
+        nroRestricciones++;
+
+        for (int j = 0; j < coeficientes.length; j++)
+            if (coeficientes[j] != 0)
+                tableau.set(fila, j + 1, signo * coeficientes[j]);
+        tableau.set(fila, columnaHolgura, 1);
+        tableau.set(fila, nroColumnas - 1, signo * terminoIndependiente);
+        filaAuxiliar = Arrays.copyOf(filaAuxiliar, filaAuxiliar.length + 1);
+        filaAuxiliar[filaAuxiliar.length - 1] = -1;
+
+        for (Map.Entry<Integer, Integer> entry : indiceSolucion.entrySet()) {
+            double factor = -tableau.get(fila, entry.getKey());
+            if (factor != 0)
+                tableau.sumarMultiploFila(fila, entry.getValue(), factor);
+        }
+        ponerEnBase(columnaHolgura, fila);
+    }
+
+    /**
+     * Deja en indiceSolucion solo las variables que siguen siendo básicas (columna unitaria en su fila).
+     * Necesario si el tableau se modificó fuera de los pivoteos (por ejemplo con setM o setValor).
+     */
+    protected void depurarBase() {
+        for (Map.Entry<Integer, Integer> entry : Map.copyOf(indiceSolucion).entrySet())
+            if (!esColumnaUnitaria(entry.getKey(), entry.getValue()))
+                quitarDeBase(entry.getKey());
+    }
+
+    private boolean esColumnaUnitaria(int columna, int fila) {
+        return columna > 0 && columna < nroColumnas - 1 && fila > 0 && filaUnitaria(columna) == fila;
+    }
+
+    /**
+     * Fila en la que la columna es unitaria (1 en esa fila y 0 en las demás restricciones), o 0 si no lo es.
+     */
+    private int filaUnitaria(int columna) {
+        int fila = 0;
+        for (int i = 1; i < nroFilas; i++) {
+            double valor = tableau.get(i, columna);
+            if (Math.abs(valor) <= epsilon) continue;
+            if (fila != 0 || Math.abs(valor - 1) > epsilon)
+                return 0;
+            fila = i;
+        }
+        return fila;
+    }
+
+    /**
+     * Agrega a indiceSolucion las variables básicas que no figuran (holguras y artificiales de la base inicial).
+     */
+    private void completarBase() {
+        for (int j = 1; j < nroColumnas - 1; j++) {
+            if (indiceSolucion.containsKey(j)) continue;
+            int fila = filaUnitaria(j);
+            if (fila != 0 && (fila >= columnaEnFila.length || columnaEnFila[fila] == 0))
+                ponerEnBase(j, fila);
+        }
+    }
+
+    /**
+     * Recupera la factibilidad primal con pivoteos del método Simplex dual, partiendo de una tabla
+     * dual factible (la fila Z cumple el criterio de optimalidad), por ejemplo después de
+     * {@link #agregarRestriccion}. Sale de la base la variable con el término independiente más
+     * negativo y entra la de menor cociente |Z_j / a_rj| entre las columnas con a_rj negativo.
+     *
+     * @throws IllegalStateException si el problema no tenía solución o la tabla no es dual factible
+     */
+    public void reoptimizarDual() {
+        if (tableau == null)
+            throw new IllegalStateException("El motor no construyó el tableau explícito");
+        if (!solucionEncontrada)
+            throw new IllegalStateException("El problema no tiene una solución óptima para reoptimizar");
+        if (!esOptimo())
+            throw new IllegalStateException("La tabla no es dual factible");
+
+        depurarBase();
+        guardarPaso("Inicio del Simplex dual", "", "");
+        if (pivotearDual(false))
+            finalizarDesdeBase();
+    }
+
+    /**
+     * Pivoteos duales hasta que todos los términos independientes sean no negativos.
+     *
+     * @param reglaBland Elegir la fila de la variable básica de menor índice, para no ciclar
+     *                   cuando todos los cocientes son cero
+     * @return false si una fila no admite pivote dual (problema infactible)
+     */
+    private boolean pivotearDual(boolean reglaBland) {
+        int filaPivote;
+        while ((filaPivote = reglaBland ? obtenerFilaPivoteDualBland() : obtenerFilaPivoteDual()) != 0) {
+            if (limiteAlcanzado())
+                return false;
+            int columnaPivote = obtenerColumnaPivoteDual(filaPivote);
+            if (columnaPivote == 0) {
+                if (registraHistorial())
+                    guardarPaso("Problema infactible: la fila " + filaPivote + " no admite pivote dual", "", "");
+                marcarEstado(EstadoSolucion.INFACTIBLE);
+                return false;
+            }
+
+            realizarPivoteo(filaPivote, columnaPivote);
+            actualizarSolucion(columnaPivote, filaPivote);
+            iteracionesDuales++;
+        }
+        return true;
+    }
+
+    /**
+     * Reconstruye la solución desde la base actual, con cero en las variables no básicas.
+     */
+    private void finalizarDesdeBase() {
+        if (quedanArtificialesPositivas()) {
+            guardarPaso("Solución no factible: variables artificiales en la base", "", "");
+            marcarEstado(EstadoSolucion.INFACTIBLE);
+            return;
+        }
+        solucion.clear();
+        for (int j = 1; j <= nroVariables; j++)
+            solucion.put("x" + j, 0.0);
+        finalizarSolucion();
+    }
+
+    // Arranque en caliente desde la base de una resolución anterior
+
+    /**
+     * Devuelve la base actual (columna de la variable básica → fila), sin las variables que ya salieron.
+     * Sirve para {@link #resolverDesdeBase(Map)} en otro problema con las mismas restricciones.
+     */
+    public Map<Integer, Integer> exportarBase() {
+        if (tableau != null)
+            depurarBase();
+        return new HashMap<>(indiceSolucion);
+    }
+
+    /**
+     * Resuelve partiendo de la base final de otro motor con las mismas restricciones.
+     */
+    public void resolverDesdeBase(SimplexBase anterior) {
+        resolverDesdeBase(anterior.exportarBase());
+    }
+
+    /**
+     * Resuelve este problema (recién construido, con sus propios coeficientes de la función objetivo y
+     * términos independientes) partiendo de una base exportada de un problema con las mismas restricciones.
+     * Primero lleva las columnas de la base a la identidad con un pivoteo por columna; después:
+     * <ul>
+     *     <li>si la base es factible y óptima, termina;</li>
+     *     <li>si solo es factible (cambió la función objetivo), sigue con el Simplex primal;</li>
+     *     <li>si solo es dual factible (cambiaron los términos independientes), sigue con el Simplex dual;</li>
+     *     <li>si no es ninguna de las dos, recupera la factibilidad con el Simplex dual sobre costos nulos
+     *     y luego sigue con el primal.</li>
+     * </ul>
+     * Si la base no puede instalarse (columnas dependientes o quedan artificiales básicas), o si la solución
+     * a la que se llega no es factible por errores de redondeo, resuelve en frío.
+     *
+     * @param base Columna de cada variable básica → fila, como la devuelve {@link #exportarBase()}
+     */
+    public void resolverDesdeBase(Map<Integer, Integer> base) {
+        if (tableau == null)
+            throw new IllegalStateException("El motor no construyó el tableau explícito");
+
+        Tableau tableauInicial = tableau.copia();
+        Map<Integer, Integer> indiceInicial = new HashMap<>(indiceSolucion);
+        if (!instalarBase(base) || quedanArtificialesEnBase()) {
+            resolverEnFrio(tableauInicial, indiceInicial,
+                    "La base anterior no es válida: resolución desde la base inicial");
+            return;
+        }
+
+        completarBase();
+        anularTerminosCasiNulos();
+        boolean factible = obtenerFilaPivoteDual() == 0;
+        prepararArranqueEnCaliente();
+        guardarPaso("Base anterior instalada", "", "");
+
+        if (!factible && esOptimo()) {
+            if (pivotearDual(false)) {
+                anularTerminosCasiNulos();
+                finalizarDesdeBase();
+            }
+        } else {
+            if (!factible && !recuperarFactibilidad())
+                return;
+            solucion.clear();
+            for (int j = 1; j <= nroVariables; j++)
+                solucion.put("x" + j, 0.0);
+            continuarResolucion();
+        }
+
+        if (estado == EstadoSolucion.OPTIMA && !cumpleRestricciones(tableauInicial)) {
+            cancelarArranqueEnCaliente();
+            resolverEnFrio(tableauInicial, indiceInicial,
+                    "La solución desde la base anterior no es factible: resolución desde la base inicial");
+        }
+    }
+
+    /**
+     * Vuelve a la tabla y la base inicial del motor y resuelve sin la base anterior.
+     */
+    private void resolverEnFrio(Tableau tableauInicial, Map<Integer, Integer> indiceInicial, String motivo) {
+        tableau = tableauInicial;
+        vaciarBase();
+        indiceInicial.forEach(this::ponerEnBase);
+        solucion.clear();
+        solucionEncontrada = true;
+        estado = EstadoSolucion.SIN_RESOLVER;
+        guardarPaso(motivo, "", "");
+        resolver();
+    }
+
+    /**
+     * Comprueba la solución de la base actual contra las filas de la tabla inicial: variables básicas no
+     * negativas y cada restricción cumplida con un error menor que toleranciaFactibilidad relativo a la
+     * magnitud de sus términos. Detecta las bases a las que se llegó pivoteando sobre valores que eran
+     * errores de redondeo, aunque la tabla final parezca factible.
+     */
+    private boolean cumpleRestricciones(Tableau tableauInicial) {
+        double[] valores = new double[nroColumnas - 1];
+        for (Map.Entry<Integer, Integer> entry : indiceSolucion.entrySet()) {
+            double valor = tableau.get(entry.getValue(), nroColumnas - 1);
+            if (valor < -toleranciaFactibilidad)
+                return false;
+            valores[entry.getKey()] = valor;
+        }
+        for (int i = 1; i < nroFilas; i++) {
+            double termino = tableauInicial.get(i, nroColumnas - 1);
+            double suma = 0, magnitud = Math.abs(termino);
+            for (int j = 1; j < nroColumnas - 1; j++) {
+                double producto = tableauInicial.get(i, j) * valores[j];
+                suma += producto;
+                magnitud += Math.abs(producto);
+            }
+            if (Math.abs(suma - termino) > toleranciaFactibilidad * (1 + magnitud))
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Deja en cero los términos independientes con valor absoluto menor o igual que epsilon. Después de
+     * instalar una base o de los pivoteos duales pueden quedar valores en (-epsilon, 0), que la prueba
+     * de factibilidad acepta pero que harían negativo el cociente de la prueba del Simplex primal.
+     */
+    private void anularTerminosCasiNulos() {
+        for (int i = 1; i < nroFilas; i++)
+            if (Math.abs(tableau.get(i, nroColumnas - 1)) <= epsilon)
+                tableau.set(i, nroColumnas - 1, 0);
+    }
+
+    /**
+     * Pivotea cada columna de la base en la fila libre con el mayor elemento (pivoteo parcial).
+     *
+     * @return false si alguna columna no tiene elemento pivote en las filas libres
+     */
+    private boolean instalarBase(Map<Integer, Integer> base) {
+        boolean[] filaOcupada = new boolean[nroFilas];
+        vaciarBase();
+        for (int columna : base.keySet()) {
+            if (columna <= 0 || columna >= nroColumnas - 1 || esColumnaArtificial(columna))
+                continue;
+
+            int filaPivote = 0;
+            double mayor = epsilon;
+            for (int i = 1; i < nroFilas; i++) {
+                double valor = Math.abs(tableau.get(i, columna));
+                if (!filaOcupada[i] && valor > mayor) {
+                    mayor = valor;
+                    filaPivote = i;
+                }
+            }
+            if (filaPivote == 0)
+                return false;
+
+            filaOcupada[filaPivote] = true;
+            realizarPivoteo(filaPivote, columna);
+            ponerEnBase(columna, filaPivote);
+        }
+        return true;
+    }
+
+    private boolean quedanArtificialesEnBase() {
+        for (int j = 1; j < nroColumnas - 1; j++)
+            if (esColumnaArtificial(j) && filaUnitaria(j) != 0)
+                return true;
+        return false;
+    }
+
+    /**
+     * Simplex dual con la fila Z en cero (siempre dual factible) para llegar a una base factible;
+     * después restaura la fila Z y la expresa en la nueva base.
+     *
+     * @return false si el problema es infactible
+     */
+    private boolean recuperarFactibilidad() {
+        double[] filaZ = new double[nroColumnas];
+        for (int j = 1; j < nroColumnas; j++) {
+            filaZ[j] = tableau.get(0, j);
+            tableau.set(0, j, 0);
+        }
+        if (!pivotearDual(true))
+            return false;
+        anularTerminosCasiNulos();
+
+        for (int j = 1; j < nroColumnas; j++)
+            tableau.set(0, j, filaZ[j]);
+        depurarBase();
+        for (Map.Entry<Integer, Integer> entry : indiceSolucion.entrySet()) {
+            double factor = -tableau.get(0, entry.getKey());
+            if (factor != 0)
+                tableau.sumarMultiploFila(0, entry.getValue(), factor);
+        }
+        guardarPaso("Base factible recuperada con el Simplex dual", "", "");
+        return true;
+    }
+
+    /**
+     * Ajusta el tableau después de instalar una base anterior (por ejemplo, pasar directamente a la fase 2).
+     */
+    protected void prepararArranqueEnCaliente() {
+    }
+
+    /**
+     * Deshace lo que hizo {@link #prepararArranqueEnCaliente()}, antes de resolver desde la base inicial.
+     */
+    protected void cancelarArranqueEnCaliente() {
+    }
+
+    /**
+     * Sigue con el Simplex primal desde la base actual (factible) y finaliza la solución.
+     */
+    protected void continuarResolucion() {
+        while (!esOptimo() && solucionEncontrada) {
+            iteracionSimplex();
+        }
+
+        if (solucionEncontrada) {
+            finalizarSolucion();
+        }
+    }
+
+    /**
+     * Fila con el término independiente más negativo, o 0 si la tabla es factible.
+     */
+    protected int obtenerFilaPivoteDual() {
+        double menor = -epsilon;
+        int filaPivote = 0;
+        for (int i = 1; i < nroFilas; i++) {
+            double valor = tableau.get(i, nroColumnas - 1);
+            if (valor < menor) {
+                menor = valor;
+                filaPivote = i;
+            }
+        }
+        return filaPivote;
+    }
+
+    /**
+     * Regla de Bland para el Simplex dual: entre las filas infactibles, la de la variable básica de menor índice.
+     */
+    private int obtenerFilaPivoteDualBland() {
+        int filaPivote = 0;
+        int menorColumna = Integer.MAX_VALUE;
+        for (Map.Entry<Integer, Integer> entry : indiceSolucion.entrySet()) {
+            int fila = entry.getValue();
+            if (entry.getKey() < menorColumna && tableau.get(fila, nroColumnas - 1) < -epsilon) {
+                menorColumna = entry.getKey();
+                filaPivote = fila;
+            }
+        }
+        return filaPivote != 0 ? filaPivote : obtenerFilaPivoteDual();
+    }
+
+    /**
+     * Prueba del cociente dual sobre la fila pivote, o 0 si ninguna columna puede entrar.
+     */
+    protected int obtenerColumnaPivoteDual(int filaPivote) {
+        double minimoActual = Double.POSITIVE_INFINITY;
+        int columnaPivote = 0;
+        for (int j = 1; j < nroColumnas - 1; j++) {
+            double a = tableau.get(filaPivote, j);
+            if (a >= -epsilon || esColumnaArtificial(j)) continue;
+            double razon = Math.abs(tableau.get(0, j)) / -a;
+            if (razon < minimoActual) {
+                minimoActual = razon;
+                columnaPivote = j;
+            }
+        }
+        return columnaPivote;
+    }
+
+    /**
+     * Indica si la columna es de una variable artificial, que no debe volver a entrar a la base.
+     */
+    protected boolean esColumnaArtificial(int columna) {
+        return false;
+    }
+
+    /**
+     * Indica si alguna variable artificial sigue básica con valor positivo, es decir, si la base no es
+     * factible para el problema original. Se buscan las filas sin una variable no artificial con columna
+     * unitaria: las artificiales de la base inicial no figuran en indiceSolucion, y la fase 2 de Dos Fases
+     * deja sus columnas en cero.
+     */
+    protected boolean quedanArtificialesPositivas() {
+        boolean[] filaConBase = new boolean[nroFilas];
+        for (int j = 1; j < nroColumnas - 1; j++) {
+            if (esColumnaArtificial(j)) continue;
+            int fila = filaUnitaria(j);
+            if (fila != 0)
+                filaConBase[fila] = true;
+        }
+        for (int i = 1; i < nroFilas; i++)
+            if (!filaConBase[i] && tableau.get(i, nroColumnas - 1) > epsilon)
+                return true;
+        return false;
+    }
+
+    // Métodos abstractos que deben implementar las clases derivadas
+
+    /**
+     * Método principal de resolución que debe implementar cada clase derivada
+     */
+    public abstract void resolver();
+
+    /**
+     * Determina la columna pivote según el tipo específico de problema
+     */
+    protected abstract int obtenerColumnaPivote();
+
+    /**
+     * Verifica el criterio de optimalidad específico para cada implementación
+     */
+    protected abstract boolean esOptimo();
+
+
+    /**
+     * Calcula el valor final de la función objetivo
+     */
+    protected abstract double calcularValorFuncionObjetivo();
+
+    // Métodos utilitarios estáticos
+    public static double redondear(double valor, int decimales, double epsilon) {
+        if (Math.abs(valor) < epsilon) {
+            return 0.0;
+        }
+        BigDecimal bd = BigDecimal.valueOf(valor);
+        bd = bd.setScale(decimales, RoundingMode.HALF_UP);
+        return bd.doubleValue();
+    }
+
+    // Getters y Setters
+    public double[][] getM() {
+        if (tableau == null)
+            throw new IllegalStateException("El motor no construyó el tableau explícito");
+        return tableau.aMatriz();
+    }
+    public void setM(double[][] m) {
+        tableau = Tableau.desdeMatriz(m);
+        nroFilas = tableau.getNroFilas();
+        nroColumnas = tableau.getNroColumnas();
+    }
+    public Tableau getTableau() { return tableau; }
+    public int getNroFilas() { return nroFilas; }
+    public void setNroFilas(int nroFilas) { this.nroFilas = nroFilas; }
+    public int getNroColumnas() { return nroColumnas; }
+    public void setNroColumnas(int nroColumnas) { this.nroColumnas = nroColumnas; }
+    public int getNroVariables() { return nroVariables; }
+    public void setNroVariables(int nroVariables) { this.nroVariables = nroVariables; }
+    public int getNroRestricciones() { return nroRestricciones; }
+    public void setNroRestricciones(int nroRestricciones) { this.nroRestricciones = nroRestricciones; }
+    public boolean isSolucionEncontrada() { return solucionEncontrada; }
+    public int getIteracionesDuales() { return iteracionesDuales; }
+    /** Cantidad de pivoteos del Simplex primal, para comparar reglas de pricing. */
+    public int getIteraciones() { return iteraciones; }
+    public OpcionesResolucion getOpciones() { return opciones; }
+    public double getEpsilon() { return epsilon; }
+    public int getDecimales() { return decimales; }
+    /** Si la resolución se cortó por el máximo de iteraciones o el tiempo límite de las opciones. */
+    public boolean isLimiteAlcanzado() { return limiteAlcanzado; }
+    public EstadoSolucion getEstado() { return estado; }
+    public boolean isPruebaCocienteHarris() { return pruebaCocienteHarris; }
+    public double getToleranciaFactibilidad() { return toleranciaFactibilidad; }
+    public double getToleranciaPivote() { return toleranciaPivote; }
+    public ReglaPricing getReglaPricing() { return reglaPricing; }
+    public NivelHistorial getNivelHistorial() { return nivelHistorial; }
+    /** Factores y rango de coeficientes del escalado aplicado al modelo, o null si no se escaló. */
+    public Escalado getEscalado() { return escalado; }
+    public ForkJoinPool getPoolEliminacion() { return poolEliminacion; }
+    /** Pool para la eliminación en paralelo; {@code null} la desactiva. */
+    public void setPoolEliminacion(ForkJoinPool poolEliminacion) { this.poolEliminacion = poolEliminacion; }
+    public int getUmbralCeldasParalelo() { return umbralCeldasParalelo; }
+    public void setUmbralCeldasParalelo(int umbralCeldasParalelo) { this.umbralCeldasParalelo = umbralCeldasParalelo; }
+    public double obtenerValorFuncionObjetivo() { return getValor(0, nroColumnas - 1); }
+}
\ No newline at end of file
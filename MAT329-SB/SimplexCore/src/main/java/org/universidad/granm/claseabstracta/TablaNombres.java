@@ -0,0 +1,151 @@
+package org.universidad.granm.claseabstracta;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Tabla de nombres de filas o columnas con índices consecutivos en orden de alta. Las claves son los
+ * bytes del nombre tal como aparecen en el archivo, así que buscar un nombre que está en la línea de
+ * un {@link LectorMapeado} no crea ningún String. Direccionamiento abierto con sondeo lineal.
+ */
+final class TablaNombres {
+
+    private byte[] bytes = new byte[1 << 12];
+    private int bytesUsados;
+    private int[] inicio = new int[64];
+    private int[] largo = new int[64];
+    private int[] hashes = new int[64];
+    private int cantidad;
+
+    // Posición de cada nombre en la tabla hash (-1 si está libre); tamaño potencia de 2
+    private int[] tabla = nuevaTabla(128);
+
+    private static int[] nuevaTabla(int tamano) {
+        int[] tabla = new int[tamano];
+        Arrays.fill(tabla, -1);
+        return tabla;
+    }
+
+    /**
+     * @return índice del nombre [desde, hasta) de la línea actual del lector, o -1 si no está
+     */
+    int buscar(LectorMapeado lector, int desde, int hasta) {
+        int hash = hash(lector, desde, hasta);
+        int mascara = tabla.length - 1;
+        for (int p = ranura(hash, mascara); ; p = (p + 1) & mascara) {
+            int indice = tabla[p];
+            if (indice < 0)
+                return -1;
+            if (hashes[indice] == hash && iguales(indice, lector, desde, hasta))
+                return indice;
+        }
+    }
+
+    /**
+     * Da de alta el nombre [desde, hasta) de la línea actual del lector, que no debe estar en la tabla.
+     *
+     * @return índice asignado
+     */
+    int agregar(LectorMapeado lector, int desde, int hasta) {
+        int largoNombre = hasta - desde;
+        asegurarBytes(largoNombre);
+        for (int i = 0; i < largoNombre; i++)
+            bytes[bytesUsados + i] = lector.byteEn(desde + i);
+        return registrar(largoNombre, hash(lector, desde, hasta));
+    }
+
+    /**
+     * Da de alta un nombre generado (no leído del archivo), que no debe estar en la tabla.
+     *
+     * @return índice asignado, o -1 si el nombre ya estaba
+     */
+    int agregar(String nombre) {
+        byte[] codificado = nombre.getBytes(StandardCharsets.UTF_8);
+        int hash = 0;
+        for (byte b : codificado)
+            hash = 31 * hash + b;
+        int mascara = tabla.length - 1;
+        for (int p = ranura(hash, mascara); tabla[p] >= 0; p = (p + 1) & mascara) {
+            int indice = tabla[p];
+            if (hashes[indice] == hash && Arrays.equals(bytes, inicio[indice], inicio[indice] + largo[indice],
+                    codificado, 0, codificado.length))
+                return -1;
+        }
+        asegurarBytes(codificado.length);
+        System.arraycopy(codificado, 0, bytes, bytesUsados, codificado.length);
+        return registrar(codificado.length, hash);
+    }
+
+    private int registrar(int largoNombre, int hash) {
+        if (cantidad == inicio.length) {
+            inicio = Arrays.copyOf(inicio, cantidad * 2);
+            largo = Arrays.copyOf(largo, cantidad * 2);
+            hashes = Arrays.copyOf(hashes, cantidad * 2);
+        }
+        int indice = cantidad++;
+        inicio[indice] = bytesUsados;
+        largo[indice] = largoNombre;
+        hashes[indice] = hash;
+        bytesUsados += largoNombre;
+
+        // Factor de carga máximo 1/2
+        if (cantidad * 2 > tabla.length) {
+            tabla = nuevaTabla(tabla.length * 2);
+            for (int i = 0; i < cantidad; i++)
+                ubicar(i);
+        } else {
+            ubicar(indice);
+        }
+        return indice;
+    }
+
+    private void ubicar(int indice) {
+        int mascara = tabla.length - 1;
+        int p = ranura(hashes[indice], mascara);
+        while (tabla[p] >= 0)
+            p = (p + 1) & mascara;
+        tabla[p] = indice;
+    }
+
+    // Mezcla los bits altos con los bajos, como HashMap: los nombres suelen diferir solo al final
+    private static int ranura(int hash, int mascara) {
+        return (hash ^ (hash >>> 16)) & mascara;
+    }
+
+    private void asegurarBytes(int adicionales) {
+        if (bytesUsados + adicionales > bytes.length)
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, bytesUsados + adicionales));
+    }
+
+    private static int hash(LectorMapeado lector, int desde, int hasta) {
+        int hash = 0;
+        for (int i = desde; i < hasta; i++)
+            hash = 31 * hash + lector.byteEn(i);
+        return hash;
+    }
+
+    private boolean iguales(int indice, LectorMapeado lector, int desde, int hasta) {
+        if (largo[indice] != hasta - desde)
+            return false;
+        int p = inicio[indice];
+        for (int i = desde; i < hasta; i++, p++)
+            if (bytes[p] != lector.byteEn(i))
+                return false;
+        return true;
+    }
+
+    String nombre(int indice) {
+        return new String(bytes, inicio[indice], largo[indice], StandardCharsets.UTF_8);
+    }
+
+    int cantidad() {
+        return cantidad;
+    }
+
+    String[] nombres() {
+        String[] nombres = new String[cantidad];
+        for (int i = 0; i < cantidad; i++)
+            nombres[i] = nombre(i);
+        return nombres;
+    }
+}
@@ -0,0 +1,255 @@
+package org.universidad.granm.claseabstracta;
+
+/**
+ * Tableau del método Simplex almacenado en un único arreglo contiguo por filas.
+ * La celda (f, c) está en {@code datos[f * nroColumnas + c]}, de modo que cada fila
+ * ocupa un bloque consecutivo de memoria y los recorridos por fila no saltan entre objetos.
+ *
+ * Los accesos con validación de rango ({@link #getValor}, {@link #setValor}) son para la API pública;
+ * los motores del paquete usan los accesos y kernels de fila sin validación en los bucles internos.
+ * Los kernels de fila delegan en un {@link KernelFila} (vectorial o escalar) elegido al cargar la clase.
+ *
+ * Cada modificación incrementa {@link #getVersion()}, lo que permite al historial de pasos saber si el
+ * tableau cambió desde el último paso guardado.
+ */
+public final class Tableau {
+
+    private static final KernelFila KERNEL = KernelFila.seleccionar();
+
+    private final double[] datos;
+    private final int nroFilas;
+    private final int nroColumnas;
+    private int version;
+
+    // Patrón de no nulos de la última fila pivote (lo comparten las tareas de la eliminación en paralelo)
+    private int[] patron;
+
+    public Tableau(int nroFilas, int nroColumnas) {
+        if (nroFilas < 0 || nroColumnas < 0)
+            throw new IllegalArgumentException("Dimensiones negativas");
+        this.nroFilas = nroFilas;
+        this.nroColumnas = nroColumnas;
+        this.datos = new double[Math.multiplyExact(nroFilas, nroColumnas)];
+    }
+
+    /**
+     * Construye un tableau a partir de una matriz rectangular, copiando sus valores.
+     */
+    public static Tableau desdeMatriz(double[][] matriz) {
+        int filas = matriz.length;
+        int columnas = filas == 0 ? 0 : matriz[0].length;
+        Tableau tableau = new Tableau(filas, columnas);
+        for (int i = 0; i < filas; i++) {
+            if (matriz[i].length != columnas)
+                throw new IllegalArgumentException("La matriz no es rectangular");
+            System.arraycopy(matriz[i], 0, tableau.datos, i * columnas, columnas);
+        }
+        return tableau;
+    }
+
+    // Acceso con validación (API pública)
+    public double getValor(int f, int c) {
+        validarRango(f, c);
+        return datos[f * nroColumnas + c];
+    }
+
+    public void setValor(int f, int c, double valor) {
+        validarRango(f, c);
+        datos[f * nroColumnas + c] = valor;
+        version++;
+    }
+
+    private void validarRango(int f, int c) {
+        if (!(f >= 0 && f < nroFilas && c >= 0 && c < nroColumnas))
+            throw new IllegalArgumentException("Fuera de rango");
+    }
+
+    // Acceso sin validación para los bucles internos de los motores
+    double get(int f, int c) {
+        return datos[f * nroColumnas + c];
+    }
+
+    void set(int f, int c, double valor) {
+        datos[f * nroColumnas + c] = valor;
+        version++;
+    }
+
+    /**
+     * Posición en {@link #datos()} del primer elemento de la fila indicada.
+     */
+    int inicioFila(int f) {
+        return f * nroColumnas;
+    }
+
+    /**
+     * Arreglo interno; solo para kernels del paquete que recorren filas completas.
+     */
+    double[] datos() {
+        return datos;
+    }
+
+    // Kernels de fila
+
+    /**
+     * Multiplica toda la fila f por el factor indicado.
+     */
+    void escalarFila(int f, double factor) {
+        KERNEL.escalar(datos, f * nroColumnas, nroColumnas, factor);
+        version++;
+    }
+
+    /**
+     * fila destino += factor * fila origen
+     */
+    void sumarMultiploFila(int destino, int origen, double factor) {
+        KERNEL.sumarMultiplo(datos, destino * nroColumnas, origen * nroColumnas, nroColumnas, factor);
+        version++;
+    }
+
+    /**
+     * Guarda el patrón de columnas no nulas de la fila pivote y devuelve cuántas son.
+     * Debe llamarse antes de {@link #eliminarFilas}.
+     */
+    int prepararPatron(int filaPivote) {
+        if (patron == null)
+            patron = new int[nroColumnas];
+        int inicio = filaPivote * nroColumnas;
+        int nnz = 0;
+        for (int j = 0; j < nroColumnas; j++)
+            if (datos[inicio + j] != 0)
+                patron[nnz++] = j;
+        return nnz;
+    }
+
+    /**
+     * Columnas no nulas de la fila preparada con {@link #prepararPatron}, en las primeras nnz posiciones.
+     */
+    int[] patron() {
+        return patron;
+    }
+
+    /**
+     * Resta a las filas [desde, hasta) el múltiplo de la fila pivote que anula su elemento en la columna pivote.
+     * Salta las filas con factor cero y, si la fila pivote es dispersa, recorre solo su patrón de no nulos.
+     * Cada fila se actualiza de forma independiente, así que rangos disjuntos pueden procesarse en paralelo;
+     * no incrementa la versión (ver {@link #marcarModificado()}).
+     */
+    void eliminarFilas(int desde, int hasta, int filaPivote, int columnaPivote, int nnz) {
+        boolean filaDispersa = 2 * nnz < nroColumnas;
+        int o = filaPivote * nroColumnas;
+        for (int i = desde; i < hasta; i++) {
+            if (i == filaPivote) continue;
+            int d = i * nroColumnas;
+            double factor = -datos[d + columnaPivote];
+            if (factor == 0) continue;
+            if (filaDispersa) {
+                for (int k = 0; k < nnz; k++) {
+                    int j = patron[k];
+                    datos[d + j] += factor * datos[o + j];
+                }
+            } else {
+                KERNEL.sumarMultiplo(datos, d, o, nroColumnas, factor);
+            }
+        }
+    }
+
+    void marcarModificado() {
+        version++;
+    }
+
+    // Operaciones de pivoteo con validación, usadas también para reconstruir pasos del historial
+
+    /**
+     * Divide la fila pivote entre el valor pivote.
+     */
+    public void normalizarFila(int filaPivote, double valorPivote) {
+        validarRango(filaPivote, 0);
+        escalarFila(filaPivote, 1 / valorPivote);
+    }
+
+    /**
+     * Anula la columna pivote en todas las filas excepto la fila pivote (ya normalizada).
+     */
+    public void eliminarColumna(int filaPivote, int columnaPivote) {
+        validarRango(filaPivote, columnaPivote);
+        int nnz = prepararPatron(filaPivote);
+        eliminarFilas(0, nroFilas, filaPivote, columnaPivote, nnz);
+        marcarModificado();
+    }
+
+    /**
+     * Copia la columna c (todas las filas) en un arreglo contiguo.
+     */
+    void copiarColumna(int c, double[] destino) {
+        for (int i = 0, k = c; i < nroFilas; i++, k += nroColumnas)
+            destino[i] = datos[k];
+    }
+
+    /**
+     * Prueba del cociente mínimo entre las filas [desde, nroFilas): devuelve la primera fila con
+     * coeficiente mayor que toleranciaPivote en la columna que minimiza columnaNumerador / columna, o -1 si no hay.
+     * El kernel recorre las dos columnas en su lugar, con paso nroColumnas.
+     */
+    int filaRazonMinima(int columna, int columnaNumerador, int desde, double toleranciaPivote) {
+        return KERNEL.indiceRazonMinima(datos, columnaNumerador, columna, nroColumnas, desde, nroFilas,
+                toleranciaPivote);
+    }
+
+    /**
+     * Asigna el mismo valor a la columna c en todas las filas.
+     */
+    void llenarColumna(int c, double valor) {
+        for (int k = c; k < datos.length; k += nroColumnas)
+            datos[k] = valor;
+        version++;
+    }
+
+    // Copias
+
+    public Tableau copia() {
+        Tableau copia = new Tableau(nroFilas, nroColumnas);
+        System.arraycopy(datos, 0, copia.datos, 0, datos.length);
+        return copia;
+    }
+
+    /**
+     * Devuelve un tableau nuevo con una fila de ceros al final y una columna de ceros insertada
+     * en la posición indicada (las columnas desde esa posición se desplazan una a la derecha).
+     */
+    Tableau ampliar(int columnaNueva) {
+        if (columnaNueva < 0 || columnaNueva > nroColumnas)
+            throw new IllegalArgumentException("Fuera de rango");
+        Tableau ampliado = new Tableau(nroFilas + 1, nroColumnas + 1);
+        for (int i = 0; i < nroFilas; i++) {
+            int origen = i * nroColumnas;
+            int destino = i * ampliado.nroColumnas;
+            System.arraycopy(datos, origen, ampliado.datos, destino, columnaNueva);
+            System.arraycopy(datos, origen + columnaNueva, ampliado.datos, destino + columnaNueva + 1,
+                    nroColumnas - columnaNueva);
+        }
+        return ampliado;
+    }
+
+    /**
+     * Devuelve una copia del tableau como matriz {@code double[][]}, para la vista y el historial.
+     */
+    public double[][] aMatriz() {
+        double[][] matriz = new double[nroFilas][nroColumnas];
+        for (int i = 0; i < nroFilas; i++)
+            System.arraycopy(datos, i * nroColumnas, matriz[i], 0, nroColumnas);
+        return matriz;
+    }
+
+    /**
+     * Nombre de la implementación de kernels de fila en uso (vectorial o escalar).
+     */
+    public static String getKernelActivo() { return KERNEL.nombre(); }
+
+    /**
+     * Contador de modificaciones del tableau.
+     */
+    public int getVersion() { return version; }
+
+    public int getNroFilas() { return nroFilas; }
+    public int getNroColumnas() { return nroColumnas; }
+}
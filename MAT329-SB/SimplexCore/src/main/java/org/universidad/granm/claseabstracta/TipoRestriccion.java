@@ -0,0 +1,101 @@
+package org.universidad.granm.claseabstracta;
+
+/**
+ * Sentido de una restricción a·x ⋈ b. Los motores comparan estas constantes en lugar de los textos
+ * "≤", "≥" y "=" que muestra la interfaz; la conversión desde y hacia texto se hace solo al leer la
+ * entrada del usuario o de un archivo y al mostrar el modelo.
+ */
+public enum TipoRestriccion {
+    /**
+     * a·x ≤ b: lleva una variable de holgura.
+     */
+    MENOR_IGUAL("≤"),
+    /**
+     * a·x ≥ b: lleva una variable de exceso y una artificial.
+     */
+    MAYOR_IGUAL("≥"),
+    /**
+     * a·x = b: lleva una variable artificial.
+     */
+    IGUAL("=");
+
+    private final String simbolo;
+
+    TipoRestriccion(String simbolo) {
+        this.simbolo = simbolo;
+    }
+
+    /**
+     * Símbolo con el que se muestra en la interfaz y en los pasos: "≤", "≥" o "=".
+     */
+    public String simbolo() {
+        return simbolo;
+    }
+
+    /**
+     * El sentido que queda al multiplicar la restricción por -1 (la igualdad no cambia).
+     */
+    public TipoRestriccion invertido() {
+        return switch (this) {
+            case MENOR_IGUAL -> MAYOR_IGUAL;
+            case MAYOR_IGUAL -> MENOR_IGUAL;
+            case IGUAL -> IGUAL;
+        };
+    }
+
+    /**
+     * Sentido a partir de su símbolo; acepta también "<=", ">=" y "==".
+     *
+     * @throws IllegalArgumentException si el texto no es ninguno de esos símbolos
+     */
+    public static TipoRestriccion desde(String simbolo) {
+        if (simbolo != null) {
+            switch (simbolo.strip()) {
+                case "≤", "<=" -> { return MENOR_IGUAL; }
+                case "≥", ">=" -> { return MAYOR_IGUAL; }
+                case "=", "==" -> { return IGUAL; }
+                default -> { }
+            }
+        }
+        throw new IllegalArgumentException("Tipo de restricción inválido: " + simbolo);
+    }
+
+    /**
+     * Sentido a partir del carácter '≤', '≥' o '=' que usa el ComboBox de la interfaz.
+     *
+     * @throws IllegalArgumentException si el carácter no es ninguno de esos símbolos
+     */
+    public static TipoRestriccion desde(char simbolo) {
+        return switch (simbolo) {
+            case '≤' -> MENOR_IGUAL;
+            case '≥' -> MAYOR_IGUAL;
+            case '=' -> IGUAL;
+            default -> throw new IllegalArgumentException("Tipo de restricción inválido: " + simbolo);
+        };
+    }
+
+    /**
+     * Convierte los símbolos de cada restricción, tal como los arma la interfaz.
+     */
+    public static TipoRestriccion[] desde(String[] simbolos) {
+        TipoRestriccion[] tipos = new TipoRestriccion[simbolos.length];
+        for (int i = 0; i < simbolos.length; i++)
+            tipos[i] = desde(simbolos[i]);
+        return tipos;
+    }
+
+    /**
+     * Convierte los caracteres de cada restricción, tal como los arma la interfaz.
+     */
+    public static TipoRestriccion[] desde(char[] simbolos) {
+        TipoRestriccion[] tipos = new TipoRestriccion[simbolos.length];
+        for (int i = 0; i < simbolos.length; i++)
+            tipos[i] = desde(simbolos[i]);
+        return tipos;
+    }
+
+    @Override
+    public String toString() {
+        return simbolo;
+    }
+}
@@ -8,7 +8,6 @@ import java.util.Map;
 public class DosFaces extends MSimplex {
     private int artificiales;
     private double[] funcionObjetivoOriginal;
-    private Map<Integer, Integer> indexParaNuevoZ;
     private Map<Integer, Integer> indiceSolucionFase2;
 
     public DosFaces(double[] funcionObjetivo, double[][] restricciones, double[] terminosIndependientes, String[] tipoRestricciones, boolean maximizar) {
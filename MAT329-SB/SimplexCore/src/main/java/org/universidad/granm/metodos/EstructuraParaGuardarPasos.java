@@ -1,16 +1,44 @@
 package org.universidad.granm.metodos;
 
+import org.universidad.granm.claseabstracta.Tableau;
+
 /**
  * Clase que representa la estructura de datos para almacenar la información de cada paso
  * en el método Simplex. Guarda la tabla, las variables de entrada y salida, y una descripción
  * del paso realizado.
+ * Los pasos de pivoteo pueden guardarse sin tabla, solo con la operación realizada; en ese caso
+ * la tabla se reconstruye bajo demanda desde el historial ({@link GuardarPasos#getTablaPaso(int)}).
  */
 public class EstructuraParaGuardarPasos {
+    /**
+     * Tipo de registro: tabla completa, paso sin cambios en la tabla, una operación de pivoteo,
+     * o un resumen sin tabla (solo descripción y variables).
+     */
+    public enum TipoPaso {
+        TABLA,
+        SIN_CAMBIO,
+        RESUMEN,
+        NORMALIZACION,
+        ELIMINACION
+    }
+
     /**
      * Matriz que representa la tabla del método Simplex en un paso específico.
+     * Es null en los pasos que solo guardan la operación.
      */
     private double[][] tablaPasos;
 
+    private final TipoPaso tipo;
+    private final int filaPivote;
+    private final int columnaPivote;
+    private final double valorPivote;
+
+    /**
+     * Historial al que pertenece el paso y su posición, para reconstruir la tabla.
+     */
+    private final GuardarPasos historial;
+    private final int indice;
+
     /**
      * Variable que entra a la base en este paso del método Simplex.
      */
@@ -35,7 +63,45 @@ public class EstructuraParaGuardarPasos {
      * @param descripcionPaso Descripción textual del paso
      */
     public EstructuraParaGuardarPasos(double[][] tablaPasos, String variableEntrada, String variableSalida,  String descripcionPaso) {
-        this.tablaPasos = copiarTabla(tablaPasos);
+        this(copiarTabla(tablaPasos), TipoPaso.TABLA, 0, 0, 0, null, -1,
+                variableEntrada, variableSalida, descripcionPaso);
+    }
+
+    /**
+     * Constructor que copia la tabla desde un {@link Tableau}.
+     * La copia se hace una sola vez, directamente desde el arreglo contiguo.
+     *
+     * @param tableau Tableau del método Simplex
+     * @param variableEntrada Variable que entra a la base
+     * @param variableSalida Variable que sale de la base
+     * @param descripcionPaso Descripción textual del paso
+     */
+    public EstructuraParaGuardarPasos(Tableau tableau, String variableEntrada, String variableSalida, String descripcionPaso) {
+        this(tableau.aMatriz(), TipoPaso.TABLA, 0, 0, 0, null, -1,
+                variableEntrada, variableSalida, descripcionPaso);
+    }
+
+    /**
+     * Constructor de los registros del historial.
+     *
+     * @param tablaPasos Tabla completa (ya copiada) o null si el paso solo guarda la operación
+     * @param tipo Tipo de registro
+     * @param filaPivote Fila pivote de la operación
+     * @param columnaPivote Columna pivote de la operación
+     * @param valorPivote Valor pivote (solo en la normalización)
+     * @param historial Historial que reconstruye la tabla cuando no está guardada
+     * @param indice Posición del paso en el historial
+     */
+    EstructuraParaGuardarPasos(double[][] tablaPasos, TipoPaso tipo, int filaPivote, int columnaPivote,
+                               double valorPivote, GuardarPasos historial, int indice,
+                               String variableEntrada, String variableSalida, String descripcionPaso) {
+        this.tablaPasos = tablaPasos;
+        this.tipo = tipo;
+        this.filaPivote = filaPivote;
+        this.columnaPivote = columnaPivote;
+        this.valorPivote = valorPivote;
+        this.historial = historial;
+        this.indice = indice;
         this.variableEntrada = variableEntrada;
         this.variableSalida = variableSalida;
         this.descripcionPaso = descripcionPaso;
@@ -48,7 +114,7 @@ public class EstructuraParaGuardarPasos {
      * @param tablaPasos Matriz original a copiar
      * @return Una copia independiente de la matriz original
      */
-    private double[][] copiarTabla(double[][] tablaPasos) {
+    private static double[][] copiarTabla(double[][] tablaPasos) {
         double[][] copia = new double[tablaPasos.length][];
         for (int i = 0; i < tablaPasos.length; i++) {
             copia[i] = tablaPasos[i].clone();
@@ -57,14 +123,43 @@ public class EstructuraParaGuardarPasos {
     }
 
     /**
-     * Obtiene la tabla del método Simplex almacenada en este paso.
+     * Obtiene la tabla del método Simplex de este paso, reconstruyéndola si no está guardada.
      * 
      * @return Matriz que representa la tabla del método Simplex
      */
     public double[][] getTablaPasos() {
+        if (tablaPasos == null && historial != null)
+            return historial.getTablaPaso(indice);
+        return tablaPasos;
+    }
+
+    /**
+     * Indica si el paso guarda la tabla completa (primer paso, cambios arbitrarios o punto de control).
+     */
+    public boolean tieneTabla() {
+        return tablaPasos != null;
+    }
+
+    double[][] getTablaGuardada() {
         return tablaPasos;
     }
 
+    public TipoPaso getTipo() {
+        return tipo;
+    }
+
+    public int getFilaPivote() {
+        return filaPivote;
+    }
+
+    public int getColumnaPivote() {
+        return columnaPivote;
+    }
+
+    public double getValorPivote() {
+        return valorPivote;
+    }
+
     /**
      * Establece una nueva tabla para este paso.
      * 
@@ -0,0 +1,208 @@
+package org.universidad.granm.metodos;
+
+import org.universidad.granm.claseabstracta.Tableau;
+import org.universidad.granm.metodos.EstructuraParaGuardarPasos.TipoPaso;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Clase que gestiona el almacenamiento de los pasos realizados durante la ejecución del método Simplex.
+ * Permite guardar cada iteración del algoritmo con su respectiva tabla, variables de entrada/salida y descripción.
+ *
+ * Para no copiar el tableau completo en cada paso, los pasos de pivoteo se guardan como un registro de la
+ * operación (fila, columna y valor pivote). Solo se guarda la tabla completa en el primer paso, cuando el
+ * tableau cambia por algo que no es un pivoteo, y cada {@link #INTERVALO_PUNTO_CONTROL} operaciones como
+ * punto de control. {@link #getTablaPaso(int)} reconstruye la tabla repitiendo las operaciones desde el
+ * punto de control más cercano.
+ */
+public class GuardarPasos {
+    /**
+     * Cantidad máxima de operaciones entre dos tablas completas guardadas.
+     */
+    public static final int INTERVALO_PUNTO_CONTROL = 32;
+
+    /**
+     * Lista que almacena todos los pasos del método Simplex.
+     */
+    private List<EstructuraParaGuardarPasos> listaPasos;
+
+    /**
+     * Tableau y versión del último paso guardado, para detectar cambios que no son pivoteos.
+     */
+    private Tableau ultimoTableau;
+    private int ultimaVersion;
+    private int operacionesDesdePuntoControl;
+
+    /**
+     * Última tabla reconstruida, para que recorrer los pasos en orden no repita operaciones.
+     */
+    private Tableau tablaReconstruida;
+    private int indiceReconstruido = -1;
+
+    /**
+     * Constructor que inicializa la lista de pasos vacía.
+     */
+    public GuardarPasos() {
+        this.listaPasos = new ArrayList<>();
+    }
+
+    /**
+     * Agrega un nuevo paso a la lista de pasos del método Simplex.
+     *
+     * @param tablaPasos Matriz que representa el estado de la tabla Simplex en este paso
+     * @param variableEntrada Variable que entra a la base en este paso
+     * @param variableSalida Variable que sale de la base en este paso
+     * @param descripcionPaso Descripción textual de lo que ocurre en este paso
+     */
+    public void agregarPaso(double[][] tablaPasos, String variableEntrada, String variableSalida, String descripcionPaso) {
+        listaPasos.add(new EstructuraParaGuardarPasos(tablaPasos, variableEntrada, variableSalida, descripcionPaso));
+        ultimoTableau = null;
+    }
+
+    /**
+     * Agrega un nuevo paso tomando la tabla directamente del tableau contiguo de los motores.
+     * Si el tableau no cambió desde el paso anterior no se copia.
+     *
+     * @param tableau Tableau del método Simplex en este paso
+     * @param variableEntrada Variable que entra a la base en este paso
+     * @param variableSalida Variable que sale de la base en este paso
+     * @param descripcionPaso Descripción textual de lo que ocurre en este paso
+     */
+    public void agregarPaso(Tableau tableau, String variableEntrada, String variableSalida, String descripcionPaso) {
+        if (tableau == ultimoTableau && tableau.getVersion() == ultimaVersion) {
+            agregarRegistro(null, TipoPaso.SIN_CAMBIO, 0, 0, 0, variableEntrada, variableSalida, descripcionPaso);
+        } else {
+            agregarTablaCompleta(tableau, TipoPaso.TABLA, 0, 0, 0, variableEntrada, variableSalida, descripcionPaso);
+        }
+    }
+
+    /**
+     * Agrega un paso solo con su descripción y variables, sin tabla.
+     * {@link #getTablaPaso(int)} devuelve null para estos pasos.
+     */
+    public void agregarResumen(String variableEntrada, String variableSalida, String descripcionPaso) {
+        agregarRegistro(null, TipoPaso.RESUMEN, 0, 0, 0, variableEntrada, variableSalida, descripcionPaso);
+        ultimoTableau = null;
+    }
+
+    /**
+     * Agrega el paso de normalización de la fila pivote, ya aplicada sobre el tableau.
+     *
+     * @param tableau Tableau del método Simplex después de normalizar
+     * @param filaPivote Fila normalizada
+     * @param columnaPivote Columna pivote
+     * @param valorPivote Valor por el que se dividió la fila
+     */
+    public void agregarNormalizacion(Tableau tableau, int filaPivote, int columnaPivote, double valorPivote,
+                                     String variableEntrada, String variableSalida, String descripcionPaso) {
+        agregarOperacion(tableau, TipoPaso.NORMALIZACION, filaPivote, columnaPivote, valorPivote,
+                variableEntrada, variableSalida, descripcionPaso);
+    }
+
+    /**
+     * Agrega el paso de eliminación de la columna pivote, ya aplicada sobre el tableau.
+     *
+     * @param tableau Tableau del método Simplex después de la eliminación
+     * @param filaPivote Fila pivote
+     * @param columnaPivote Columna eliminada
+     */
+    public void agregarEliminacion(Tableau tableau, int filaPivote, int columnaPivote,
+                                   String variableEntrada, String variableSalida, String descripcionPaso) {
+        agregarOperacion(tableau, TipoPaso.ELIMINACION, filaPivote, columnaPivote, 0,
+                variableEntrada, variableSalida, descripcionPaso);
+    }
+
+    /**
+     * Guarda solo la operación si el tableau cambió exactamente por ella desde el paso anterior;
+     * en otro caso, o al cumplirse el intervalo, guarda además la tabla completa.
+     */
+    private void agregarOperacion(Tableau tableau, TipoPaso tipo, int filaPivote, int columnaPivote, double valorPivote,
+                                  String variableEntrada, String variableSalida, String descripcionPaso) {
+        boolean encadenada = tableau == ultimoTableau && tableau.getVersion() == ultimaVersion + 1;
+        if (!encadenada || operacionesDesdePuntoControl + 1 >= INTERVALO_PUNTO_CONTROL) {
+            agregarTablaCompleta(tableau, tipo, filaPivote, columnaPivote, valorPivote,
+                    variableEntrada, variableSalida, descripcionPaso);
+            return;
+        }
+        agregarRegistro(null, tipo, filaPivote, columnaPivote, valorPivote, variableEntrada, variableSalida, descripcionPaso);
+        operacionesDesdePuntoControl++;
+        ultimaVersion = tableau.getVersion();
+    }
+
+    private void agregarTablaCompleta(Tableau tableau, TipoPaso tipo, int filaPivote, int columnaPivote, double valorPivote,
+                                      String variableEntrada, String variableSalida, String descripcionPaso) {
+        agregarRegistro(tableau.aMatriz(), tipo, filaPivote, columnaPivote, valorPivote,
+                variableEntrada, variableSalida, descripcionPaso);
+        ultimoTableau = tableau;
+        ultimaVersion = tableau.getVersion();
+        operacionesDesdePuntoControl = 0;
+    }
+
+    private void agregarRegistro(double[][] tabla, TipoPaso tipo, int filaPivote, int columnaPivote, double valorPivote,
+                                 String variableEntrada, String variableSalida, String descripcionPaso) {
+        listaPasos.add(new EstructuraParaGuardarPasos(tabla, tipo, filaPivote, columnaPivote, valorPivote,
+                this, listaPasos.size(), variableEntrada, variableSalida, descripcionPaso));
+    }
+
+    /**
+     * Obtiene la lista completa de pasos almacenados.
+     *
+     * @return Lista de objetos EstructuraParaGuardarPasos que contienen todos los pasos
+     */
+    public List<EstructuraParaGuardarPasos> getListaPasos() {
+        return listaPasos;
+    }
+
+    /**
+     * Elimina todos los pasos almacenados.
+     * Útil para reiniciar el proceso o comenzar un nuevo problema.
+     */
+    public void limpiarPasos(){
+        listaPasos.clear();
+        ultimoTableau = null;
+        tablaReconstruida = null;
+        indiceReconstruido = -1;
+    }
+
+    /**
+     * Obtiene la tabla Simplex de un paso específico.
+     * Si el paso no guarda la tabla, se reconstruye desde el punto de control anterior
+     * (o desde la última tabla reconstruida, si está más cerca).
+     *
+     * @param indice Índice del paso del cual se quiere obtener la tabla
+     * @return Matriz que representa la tabla Simplex en el paso indicado, o null si es un paso de resumen
+     */
+    public double[][] getTablaPaso(int indice){
+        EstructuraParaGuardarPasos paso = listaPasos.get(indice);
+        if (paso.tieneTabla())
+            return paso.getTablaGuardada();
+        if (paso.getTipo() == TipoPaso.RESUMEN)
+            return null;
+
+        int puntoControl = indice;
+        while (!listaPasos.get(puntoControl).tieneTabla())
+            puntoControl--;
+
+        int desde;
+        if (tablaReconstruida != null && indiceReconstruido >= puntoControl && indiceReconstruido <= indice) {
+            desde = indiceReconstruido + 1;
+        } else {
+            tablaReconstruida = Tableau.desdeMatriz(listaPasos.get(puntoControl).getTablaGuardada());
+            desde = puntoControl + 1;
+        }
+
+        for (int i = desde; i <= indice; i++) {
+            EstructuraParaGuardarPasos operacion = listaPasos.get(i);
+            switch (operacion.getTipo()) {
+                case NORMALIZACION ->
+                        tablaReconstruida.normalizarFila(operacion.getFilaPivote(), operacion.getValorPivote());
+                case ELIMINACION ->
+                        tablaReconstruida.eliminarColumna(operacion.getFilaPivote(), operacion.getColumnaPivote());
+                default -> { }
+            }
+        }
+        indiceReconstruido = indice;
+        return tablaReconstruida.aMatriz();
+    }
+}
@@ -1,7 +1,6 @@
 package org.universidad.granm.metodos;
 
 import java.util.HashMap;
-import java.util.Map;
 
 /**
  * Clase que implementa el método de la Gran M (Big M) para resolver problemas de programación lineal
@@ -16,13 +15,7 @@ public class MGranM extends MSimplex {
      * no formen parte de la solución óptima, pero no tan grande como para causar
      * problemas de precisión numérica.
      */
-    public static double M_valor = 1e6; // Valor muy grande pero que evita overflow
-
-    /**
-     * Mapa que relaciona las filas de restricciones con las columnas de variables artificiales.
-     * Se utiliza para actualizar la función objetivo con los términos de penalización.
-     */
-    public static Map<Integer, Integer> indexParaNuevoZ;
+    public static final double M_valor = 1e6; // Valor muy grande pero que evita overflow
 
     /**
      * Indica si el problema es de maximización (true) o minimización (false).
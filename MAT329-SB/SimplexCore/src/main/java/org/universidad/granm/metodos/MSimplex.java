@@ -5,8 +5,6 @@ import java.math.RoundingMode;
 import java.util.HashMap;
 import java.util.Map;
 
-import static org.universidad.granm.metodos.MGranM.indexParaNuevoZ;
-
 /**
  * Clase para resolver problemas de programación lineal utilizando el método Simplex.
  * Esta implementación está diseñada para problemas de maximización con restricciones de tipo &lt;=.
@@ -63,13 +61,24 @@ public class MSimplex {
 
     protected boolean esGranM;
 
+    /**
+     * Mapa que relaciona las filas de restricciones con las columnas de variables artificiales.
+     * Solo lo llenan los métodos que agregan artificiales; es propio de cada instancia para que
+     * dos problemas resueltos a la vez no mezclen sus columnas.
+     */
+    protected Map<Integer, Integer> indexParaNuevoZ;
+
     /**
      * Indica si el problema es de maximización (true) o minimización (false).
      */
     protected boolean maximizar;
 
-    public static double epsilon = 1e-10;
-    public static int decimales = 6;
+    /**
+     * Umbral bajo el cual un valor se considera cero y cantidad de decimales al redondear.
+     * Son propios de cada instancia para poder resolver varios problemas en paralelo.
+     */
+    protected double epsilon = 1e-10;
+    protected int decimales = 6;
 
     public boolean solucionEncontrada;
 
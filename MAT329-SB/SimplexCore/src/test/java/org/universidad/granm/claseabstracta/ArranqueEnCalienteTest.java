@@ -0,0 +1,125 @@
+package org.universidad.granm.claseabstracta;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ArranqueEnCalienteTest {
+
+    private static final TipoRestriccion MENOR = TipoRestriccion.MENOR_IGUAL;
+    private static final TipoRestriccion MAYOR = TipoRestriccion.MAYOR_IGUAL;
+    private static final TipoRestriccion IGUAL = TipoRestriccion.IGUAL;
+
+    private static SimplexBase estandar(double[] c, double[][] a, double[] b) {
+        TipoRestriccion[] tipos = new TipoRestriccion[b.length];
+        Arrays.fill(tipos, MENOR);
+        return new MSimplexEstandar(c, MatrizDispersa.desdeDensa(a), b, tipos, true, NivelHistorial.NINGUNO);
+    }
+
+    /**
+     * Resuelve (c2, b2) en frío y desde la base óptima de (c, b), y compara los resultados.
+     */
+    private static void comprobarContraEnFrio(double[][] a, double[] c, double[] b, double[] c2, double[] b2) {
+        SimplexBase anterior = estandar(c, a, b);
+        anterior.resolver();
+        assertEquals(EstadoSolucion.OPTIMA, anterior.getEstado());
+
+        SimplexBase enCaliente = estandar(c2, a, b2);
+        enCaliente.resolverDesdeBase(anterior);
+        SimplexBase enFrio = estandar(c2, a, b2);
+        enFrio.resolver();
+
+        assertEquals(enFrio.getEstado(), enCaliente.getEstado());
+        assertEquals(enFrio.solucion.get("z"), enCaliente.solucion.get("z"), 1e-9);
+        for (double valor : enCaliente.solucion.values())
+            assertTrue(valor >= -1e-9, "valor negativo en la solución: " + enCaliente.solucion);
+        for (int i = 0; i < a.length; i++) {
+            double suma = 0;
+            for (int j = 0; j < c2.length; j++)
+                suma += a[i][j] * enCaliente.solucion.getOrDefault("x" + (j + 1), 0.0);
+            assertTrue(suma <= b2[i] + 1e-9, "no cumple la restricción " + (i + 1) + ": " + enCaliente.solucion);
+        }
+    }
+
+    @Test
+    void pivoteDegeneradoSobreUnElementoDeRedondeo() {
+        // Al instalar la base queda un término independiente en cero y, después del primer pivoteo,
+        // un elemento del orden de 1e-17 en esa fila; tomarlo como pivote llevaba a una solución no factible
+        comprobarContraEnFrio(
+                new double[][]{{2.9, 1.2, 0.4}, {3.5, 1.8, 3.9}, {1.7, 4.2, 1.4}, {0.6, 1.8, 5.0}, {3.9, 0.6, 4.6}},
+                new double[]{8.8, 5.3, 9.9}, new double[]{1.6, 1.6, 6.6, 7.6, 2.0},
+                new double[]{8.8, 2.5, 1.2}, new double[]{2.08, 11.67, 7.28, 14.12, 12.04});
+    }
+
+    @Test
+    void cambioDeCostosYTerminosConBaseDegenerada() {
+        comprobarContraEnFrio(
+                new double[][]{{2.2, 3.8, 4.1, 2.3, 2.3}, {4.9, 1.5, 1.5, 4.7, 3.7}, {0.7, 4.5, 2.0, 4.9, 1.8},
+                        {0.7, 3.8, 4.7, 4.9, 2.8}},
+                new double[]{0.8, 5.1, 5.5, 5.3, 3.8}, new double[]{1.0, 3.7, 10.2, 5.0},
+                new double[]{6.6, 4.5, 0.0, 5.3, 3.8}, new double[]{4.8, 9.93, 9.03, 9.03});
+    }
+
+    @Test
+    void noInformaNoAcotadoPorUnPivoteDeRedondeo() {
+        comprobarContraEnFrio(
+                new double[][]{{0.4, 0.4, 1.2}, {2.6, 1.4, 4.2}, {5.0, 3.3, 1.3}, {1.1, 0.2, 1.2}, {3.9, 0.4, 2.9}},
+                new double[]{5.5, 4.0, 8.1}, new double[]{4.2, 9.6, 2.3, 7.7, 4.9},
+                new double[]{0.3, 0.9, 8.1}, new double[]{3.0, 10.5, 4.75, 3.0, 7.25});
+    }
+
+    @Test
+    void soloCambianLosTerminosIndependientes() {
+        // max 3x1 + 2x2  s.a.  x1 + x2 ≤ 4,  x1 + 3x2 ≤ 6,  x1 ≤ 3: con x1 ≤ 1 la base deja de ser factible
+        comprobarContraEnFrio(new double[][]{{1, 1}, {1, 3}, {1, 0}},
+                new double[]{3, 2}, new double[]{4, 6, 3},
+                new double[]{3, 2}, new double[]{4, 6, 1});
+    }
+
+    @Test
+    void elRevisadoArrancaDesdeLaBaseAnteriorSinPivotear() {
+        // max 3x1 + 2x2 + 4x3  s.a.  x1 + x2 + 2x3 ≤ 4,  2x1 + x3 ≤ 5,  x1 + x2 + x3 ≥ 2,  x2 + x3 ≤ 3
+        MatrizDispersa a = MatrizDispersa.desdeDensa(new double[][]{{1, 1, 2}, {2, 0, 1}, {1, 1, 1}, {0, 1, 1}});
+        double[] c = {3, 2, 4};
+        TipoRestriccion[] tipos = {MENOR, MENOR, MAYOR, MENOR};
+        double[] b2 = {4.2, 5.1, 2, 3};
+
+        SimplexBase anterior = new MSimplexRevisado(c, a, new double[]{4, 5, 2, 3}, tipos, true, NivelHistorial.NINGUNO);
+        anterior.resolver();
+        SimplexBase enFrio = new MSimplexRevisado(c, a, b2, tipos, true, NivelHistorial.NINGUNO);
+        enFrio.resolver();
+        SimplexBase enCaliente = new MSimplexRevisado(c, a, b2, tipos, true, NivelHistorial.NINGUNO);
+        enCaliente.resolverDesdeBase(anterior);
+
+        assertEquals(EstadoSolucion.OPTIMA, enCaliente.getEstado());
+        assertEquals(enFrio.solucion.get("z"), enCaliente.solucion.get("z"), 1e-9);
+        // Los términos cambian poco: la base anterior sigue siendo óptima
+        assertTrue(enFrio.getIteraciones() > 1, "iteraciones en frío: " + enFrio.getIteraciones());
+        assertEquals(0, enCaliente.getIteraciones());
+    }
+
+    @Test
+    void elRevisadoConservaLaBaseConUnaFilaRedundante() {
+        // max 2x1 + x2 + x3  s.a.  x1 + x2 + x3 = 4,  2x1 + 2x2 + 2x3 = 8,  x1 ≤ 3,  x2 - x3 ≤ 1: la artificial de
+        // la fila redundante queda en la base con valor cero, y antes hacía descartar toda la base anterior
+        MatrizDispersa a = MatrizDispersa.desdeDensa(new double[][]{{1, 1, 1}, {2, 2, 2}, {1, 0, 0}, {0, 1, -1}});
+        double[] c = {2, 1, 1};
+        TipoRestriccion[] tipos = {IGUAL, IGUAL, MENOR, MENOR};
+        double[] b2 = {4, 8, 3.5, 1};
+
+        SimplexBase anterior = new MSimplexRevisado(c, a, new double[]{4, 8, 3, 1}, tipos, true, NivelHistorial.NINGUNO);
+        anterior.resolver();
+        SimplexBase enFrio = new MSimplexRevisado(c, a, b2, tipos, true, NivelHistorial.NINGUNO);
+        enFrio.resolver();
+        SimplexBase enCaliente = new MSimplexRevisado(c, a, b2, tipos, true, NivelHistorial.NINGUNO);
+        enCaliente.resolverDesdeBase(anterior);
+
+        assertEquals(EstadoSolucion.OPTIMA, enCaliente.getEstado());
+        assertEquals(enFrio.solucion.get("z"), enCaliente.solucion.get("z"), 1e-9);
+        assertTrue(enCaliente.getIteraciones() < enFrio.getIteraciones(),
+                enCaliente.getIteraciones() + " iteraciones en caliente, " + enFrio.getIteraciones() + " en frío");
+    }
+}
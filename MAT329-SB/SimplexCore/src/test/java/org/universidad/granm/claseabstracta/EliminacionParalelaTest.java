@@ -0,0 +1,59 @@
+package org.universidad.granm.claseabstracta;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class EliminacionParalelaTest {
+
+    @Test
+    void enParaleloDejaElMismoTableauQueEnSerie() {
+        // max c·x  s.a.  A x ≤ b con A ≥ 0 densa: cada pivoteo actualiza casi todas las filas
+        Random aleatorio = new Random(5);
+        int m = 60, n = 40;
+        double[] c = new double[n];
+        double[][] a = new double[m][n];
+        double[] b = new double[m];
+        TipoRestriccion[] tipos = new TipoRestriccion[m];
+        for (int j = 0; j < n; j++)
+            c[j] = 1 + aleatorio.nextInt(20);
+        for (int i = 0; i < m; i++) {
+            for (int j = 0; j < n; j++)
+                a[i][j] = aleatorio.nextInt(10);
+            b[i] = 100 + aleatorio.nextInt(900);
+            tipos[i] = TipoRestriccion.MENOR_IGUAL;
+        }
+
+        MSimplexEstandar serie = new MSimplexEstandar(c, a, b, tipos, true);
+        serie.setPoolEliminacion(null);
+        serie.resolver();
+
+        try (ForkJoinPool pool = new ForkJoinPool(4)) {
+            MSimplexEstandar paralelo = new MSimplexEstandar(c, a, b, tipos, true);
+            paralelo.setPoolEliminacion(pool);
+            // Umbral cero: también las tablas pequeñas se reparten entre los hilos
+            paralelo.setUmbralCeldasParalelo(0);
+            paralelo.resolver();
+
+            assertEquals(serie.getEstado(), paralelo.getEstado());
+            assertEquals(serie.getIteraciones(), paralelo.getIteraciones());
+            assertEquals(serie.cantPasos(), paralelo.cantPasos());
+            double[][] esperada = serie.getTableau().aMatriz();
+            double[][] obtenida = paralelo.getTableau().aMatriz();
+            for (int i = 0; i < esperada.length; i++)
+                assertArrayEquals(esperada[i], obtenida[i], "fila " + i);
+
+            // El historial se guarda después de cada eliminación completa, así que también coincide
+            for (int paso = 0; paso < serie.cantPasos(); paso++) {
+                double[][] tablaSerie = serie.getTablaPaso(paso);
+                double[][] tablaParalelo = paralelo.getTablaPaso(paso);
+                for (int i = 0; tablaSerie != null && i < tablaSerie.length; i++)
+                    assertArrayEquals(tablaSerie[i], tablaParalelo[i], "paso " + paso + ", fila " + i);
+            }
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package org.universidad.granm.claseabstracta;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EscaladoTest {
+
+    private static final FabricaMotor SIN_ESCALAR = (c, a, b, tipos, max) -> new MDosFasesRefactorizada(c, a, b, tipos, max,
+            OpcionesResolucion.PREDETERMINADAS.conNivelHistorial(NivelHistorial.NINGUNO));
+
+    @Test
+    void escaladoYSinEscalarDanLaMismaSolucion() {
+        Random aleatorio = new Random(17);
+        int comparados = 0;
+        for (int prueba = 0; prueba < 100; prueba++) {
+            // Modelo bien condicionado con filas y columnas multiplicadas por potencias de 10 entre 1e-4 y 1e4;
+            // los costos no son enteros para que el óptimo sea único y las dos soluciones puedan compararse
+            int m = 2 + aleatorio.nextInt(6), n = 2 + aleatorio.nextInt(6);
+            double[] escalaFila = new double[m], escalaColumna = new double[n];
+            for (int i = 0; i < m; i++)
+                escalaFila[i] = Math.pow(10, aleatorio.nextInt(9) - 4);
+            for (int j = 0; j < n; j++)
+                escalaColumna[j] = Math.pow(10, aleatorio.nextInt(9) - 4);
+
+            double[] c = new double[n];
+            double[][] a = new double[m][n];
+            double[] b = new double[m];
+            TipoRestriccion[] tipos = new TipoRestriccion[m];
+            for (int j = 0; j < n; j++)
+                c[j] = (1 + 9 * aleatorio.nextDouble()) * escalaColumna[j];
+            for (int i = 0; i < m; i++) {
+                for (int j = 0; j < n; j++)
+                    a[i][j] = (aleatorio.nextInt(3) == 0 ? 0 : 1 + aleatorio.nextInt(9)) * escalaFila[i] * escalaColumna[j];
+                boolean menor = aleatorio.nextInt(4) != 0;
+                tipos[i] = menor ? TipoRestriccion.MENOR_IGUAL : TipoRestriccion.MAYOR_IGUAL;
+                b[i] = (menor ? 20 + aleatorio.nextInt(50) : 1 + aleatorio.nextInt(3)) * escalaFila[i];
+            }
+            MatrizDispersa restricciones = MatrizDispersa.desdeDensa(a);
+            boolean maximizar = aleatorio.nextBoolean();
+
+            SimplexBase referencia = SIN_ESCALAR.crear(c, restricciones, b, tipos, maximizar);
+            referencia.resolver();
+            assertNull(referencia.getEscalado());
+
+            for (Escalado.Metodo metodo : Escalado.Metodo.values()) {
+                SimplexBase motor = Escalado.fabrica(metodo, SIN_ESCALAR).crear(c, restricciones, b, tipos, maximizar);
+                motor.resolver();
+                String caso = "prueba " + prueba + ", " + metodo;
+                assertTrue(motor.getEscalado().getRangoEscalado() <= motor.getEscalado().getRangoOriginal(), caso);
+                assertEquals(referencia.getEstado(), motor.getEstado(), caso);
+                if (referencia.getEstado() != EstadoSolucion.OPTIMA)
+                    continue;
+
+                // z y las variables de decisión, en las unidades del modelo original (las no básicas valen 0)
+                assertEquals(referencia.solucion.get("z"), motor.solucion.get("z"),
+                        1e-7 * Math.max(1, Math.abs(referencia.solucion.get("z"))), caso);
+                for (int j = 1; j <= n; j++)
+                    assertMismoValor(referencia.solucion.getOrDefault("x" + j, 0.0),
+                            motor.solucion.getOrDefault("x" + j, 0.0), caso + ", x" + j);
+                // Las holguras y excesos solo figuran si entraron a la base con un pivoteo
+                for (int k = n + 1; k <= n + m; k++) {
+                    String variable = "x" + k;
+                    if (referencia.solucion.containsKey(variable) && motor.solucion.containsKey(variable))
+                        assertMismoValor(referencia.solucion.get(variable), motor.solucion.get(variable), caso + ", " + variable);
+                }
+                comparados++;
+            }
+        }
+        assertTrue(comparados > 50);
+    }
+
+    private static void assertMismoValor(double esperado, double obtenido, String caso) {
+        assertEquals(esperado, obtenido, 1e-7 * Math.max(1, Math.abs(esperado)), caso);
+    }
+}
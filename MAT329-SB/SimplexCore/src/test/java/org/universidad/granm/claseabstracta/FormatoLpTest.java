@@ -0,0 +1,88 @@
+package org.universidad.granm.claseabstracta;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class FormatoLpTest {
+
+    private static final double INF = Double.POSITIVE_INFINITY;
+
+    @TempDir
+    Path carpeta;
+
+    /**
+     * "sinCosto" aparece en una restricción antes que las variables con costo, y "suelta" no tiene
+     * costo, coeficientes ni cotas: las dos deben volver en su lugar.
+     */
+    static ModeloLineal modeloConColumnasSinCosto() {
+        double[][] a = {{1, 1, 0, 2}, {0, 3, 0, -1}};
+        return new ModeloLineal("prueba", true, new double[]{0, 2, 0, 5}, 1.5,
+                MatrizDispersa.desdeDensa(a), new double[]{4, -2},
+                new TipoRestriccion[]{TipoRestriccion.MENOR_IGUAL, TipoRestriccion.MAYOR_IGUAL},
+                new double[]{0, Double.NEGATIVE_INFINITY, 0, 1}, new double[]{INF, INF, INF, 8},
+                new String[]{"sinCosto", "y", "suelta", "z"}, new String[]{"c1", "c2"});
+    }
+
+    static void assertModelosIguales(ModeloLineal esperado, ModeloLineal leido) {
+        assertEquals(esperado.getNroVariables(), leido.getNroVariables());
+        assertArrayEquals(esperado.nombresVariables(), leido.nombresVariables());
+        assertArrayEquals(esperado.nombresRestricciones(), leido.nombresRestricciones());
+        assertEquals(esperado.maximizar(), leido.maximizar());
+        assertArrayEquals(esperado.funcionObjetivo(), leido.funcionObjetivo());
+        assertEquals(esperado.constanteObjetivo(), leido.constanteObjetivo());
+        assertArrayEquals(esperado.restriccionesDensas(), leido.restriccionesDensas());
+        assertArrayEquals(esperado.terminosIndependientes(), leido.terminosIndependientes());
+        assertArrayEquals(esperado.tipoRestricciones(), leido.tipoRestricciones());
+        assertArrayEquals(esperado.cotaInferior(), leido.cotaInferior());
+        assertArrayEquals(esperado.cotaSuperior(), leido.cotaSuperior());
+    }
+
+    @Test
+    void idaYVueltaConservaTodasLasColumnasEnOrden() throws IOException {
+        ModeloLineal modelo = modeloConColumnasSinCosto();
+        Path archivo = carpeta.resolve("modelo.lp");
+        FormatoLp.escribir(modelo, archivo);
+
+        assertModelosIguales(modelo, FormatoLp.leer(archivo));
+    }
+
+    @Test
+    void leeRangosYCotas() throws IOException {
+        Path archivo = carpeta.resolve("rango.lp");
+        Files.writeString(archivo, """
+                \\ comentario
+                Minimize
+                 obj: x1 - 2 x2
+                Subject To
+                 -5 <= x1 - x2 <= 5
+                Bounds
+                 x1 <= 4
+                 x2 free
+                End
+                """);
+        ModeloLineal modelo = FormatoLp.leer(archivo);
+
+        assertEquals(2, modelo.getNroVariables());
+        assertEquals(2, modelo.getNroRestricciones());
+        assertEquals(4, modelo.cotaSuperior()[0]);
+        assertEquals(Double.NEGATIVE_INFINITY, modelo.cotaInferior()[1]);
+        assertEquals(INF, modelo.cotaSuperior()[1]);
+    }
+
+    @Test
+    void rechazaNombresInvalidos() {
+        ModeloLineal modelo = new ModeloLineal("", true, new double[]{1}, 0, MatrizDispersa.desdeDensa(new double[][]{{1}}),
+                new double[]{1}, new TipoRestriccion[]{TipoRestriccion.MENOR_IGUAL}, null, null,
+                new String[]{"con espacio"}, null);
+
+        assertThrows(IllegalArgumentException.class, () -> FormatoLp.escribir(modelo, carpeta.resolve("x.lp")));
+    }
+}
@@ -0,0 +1,34 @@
+package org.universidad.granm.claseabstracta;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+class FormatoMpsTest {
+
+    @TempDir
+    Path carpeta;
+
+    @Test
+    void idaYVueltaConservaTodasLasColumnasEnOrden() throws IOException {
+        ModeloLineal modelo = FormatoLpTest.modeloConColumnasSinCosto();
+        Path archivo = carpeta.resolve("modelo.mps");
+        FormatoMps.escribir(modelo, archivo);
+
+        FormatoLpTest.assertModelosIguales(modelo, FormatoMps.leer(archivo));
+    }
+
+    @Test
+    void deMpsALpYDeVuelta() throws IOException {
+        ModeloLineal modelo = FormatoLpTest.modeloConColumnasSinCosto();
+        Path mps = carpeta.resolve("modelo.mps");
+        Path lp = carpeta.resolve("modelo.lp");
+        FormatoMps.escribir(modelo, mps);
+        FormatoLp.escribir(FormatoMps.leer(mps), lp);
+        FormatoMps.escribir(FormatoLp.leer(lp), mps);
+
+        FormatoLpTest.assertModelosIguales(modelo, FormatoMps.leer(mps));
+    }
+}
@@ -0,0 +1,116 @@
+package org.universidad.granm.claseabstracta;
+
+import org.junit.jupiter.api.Test;
+import org.universidad.granm.metodos.EstructuraParaGuardarPasos;
+import org.universidad.granm.metodos.GuardarPasos;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HistorialPasosTest {
+
+    /**
+     * Historial que además copia el tableau del motor en cada paso, para compararlo con la reconstrucción.
+     */
+    private static final class HistorialConCopias extends GuardarPasos {
+        final List<double[][]> copias = new ArrayList<>();
+
+        @Override
+        public void agregarPaso(double[][] tablaPasos, String variableEntrada, String variableSalida, String descripcionPaso) {
+            super.agregarPaso(tablaPasos, variableEntrada, variableSalida, descripcionPaso);
+            copias.add(tablaPasos);
+        }
+
+        @Override
+        public void agregarPaso(Tableau tableau, String variableEntrada, String variableSalida, String descripcionPaso) {
+            super.agregarPaso(tableau, variableEntrada, variableSalida, descripcionPaso);
+            copias.add(tableau.aMatriz());
+        }
+
+        @Override
+        public void agregarResumen(String variableEntrada, String variableSalida, String descripcionPaso) {
+            super.agregarResumen(variableEntrada, variableSalida, descripcionPaso);
+            copias.add(null);
+        }
+
+        @Override
+        public void agregarNormalizacion(Tableau tableau, int filaPivote, int columnaPivote, double valorPivote,
+                                         String variableEntrada, String variableSalida, String descripcionPaso) {
+            super.agregarNormalizacion(tableau, filaPivote, columnaPivote, valorPivote,
+                    variableEntrada, variableSalida, descripcionPaso);
+            copias.add(tableau.aMatriz());
+        }
+
+        @Override
+        public void agregarEliminacion(Tableau tableau, int filaPivote, int columnaPivote,
+                                       String variableEntrada, String variableSalida, String descripcionPaso) {
+            super.agregarEliminacion(tableau, filaPivote, columnaPivote, variableEntrada, variableSalida, descripcionPaso);
+            copias.add(tableau.aMatriz());
+        }
+    }
+
+    @Test
+    void reconstruyeCadaPasoIgualQueLaTablaDelMotor() {
+        // Klee-Minty con n = 7: Dantzig recorre los 2^7 - 1 vértices, así que hay varios puntos de control
+        int n = 7;
+        double[] c = new double[n];
+        double[][] a = new double[n][n];
+        double[] b = new double[n];
+        TipoRestriccion[] tipos = new TipoRestriccion[n];
+        for (int i = 0; i < n; i++) {
+            c[i] = Math.pow(2, n - 1 - i);
+            for (int j = 0; j < i; j++)
+                a[i][j] = Math.pow(2, i - j + 1);
+            a[i][i] = 1;
+            b[i] = Math.pow(5, i + 1);
+            tipos[i] = TipoRestriccion.MENOR_IGUAL;
+        }
+        MSimplexEstandar motor = new MSimplexEstandar(c, a, b, tipos, true);
+        HistorialConCopias historial = new HistorialConCopias();
+        motor.historialDePasos = historial;
+
+        int pivoteos = 0;
+        while (!motor.esOptimo() && motor.solucionEncontrada) {
+            motor.iteracionSimplex();
+            // Un cambio del tableau fuera de los pivoteos corta la cadena de operaciones
+            if (++pivoteos == 40)
+                motor.setValor(1, motor.nroColumnas - 1, motor.getValor(1, motor.nroColumnas - 1) + 1);
+        }
+        motor.finalizarSolucion();
+        // En el óptimo x7 = 5^7: la restricción nueva lo corta y el Simplex dual pivotea sobre el tableau ampliado
+        double[] corte = new double[n];
+        corte[n - 1] = 1;
+        motor.agregarRestriccion(corte, b[n - 1] - 1, TipoRestriccion.MENOR_IGUAL);
+        int pasosAntesDelDual = historial.getListaPasos().size();
+        motor.reoptimizarDual();
+
+        assertEquals(EstadoSolucion.OPTIMA, motor.getEstado());
+        assertEquals(127, pivoteos);
+        assertTrue(historial.getListaPasos().subList(pasosAntesDelDual, historial.getListaPasos().size()).stream()
+                .anyMatch(paso -> !paso.tieneTabla()));
+        List<EstructuraParaGuardarPasos> pasos = historial.getListaPasos();
+        assertEquals(historial.copias.size(), pasos.size());
+        assertTrue(pasos.stream().filter(paso -> !paso.tieneTabla()).count() > GuardarPasos.INTERVALO_PUNTO_CONTROL);
+
+        // Hacia adelante reutiliza la última tabla reconstruida; hacia atrás parte siempre de un punto de control
+        for (int i = 0; i < pasos.size(); i++)
+            assertTablaIgual(historial.copias.get(i), historial.getTablaPaso(i), i);
+        for (int i = pasos.size() - 1; i >= 0; i--)
+            assertTablaIgual(historial.copias.get(i), historial.getTablaPaso(i), i);
+    }
+
+    private static void assertTablaIgual(double[][] esperada, double[][] obtenida, int paso) {
+        if (esperada == null) {
+            assertNull(obtenida, "paso " + paso);
+            return;
+        }
+        assertEquals(esperada.length, obtenida.length, "paso " + paso);
+        for (int i = 0; i < esperada.length; i++)
+            assertArrayEquals(esperada[i], obtenida[i], 1e-9, "paso " + paso + ", fila " + i);
+    }
+}
@@ -0,0 +1,55 @@
+package org.universidad.granm.claseabstracta;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class MDosFasesRefactorizadaTest {
+
+    private static final TipoRestriccion MENOR = TipoRestriccion.MENOR_IGUAL;
+
+    // max x1 + x2  s.a.  x1 - x2 ≤ -1,  x1 ≤ 3,  x2 ≤ 5   →  x1 = 3, x2 = 5, z = 8
+    private final double[] c = {1, 1};
+    private final double[][] a = {{1, -1}, {1, 0}, {0, 1}};
+    private final double[] b = {-1, 3, 5};
+    private final TipoRestriccion[] tipos = {MENOR, MENOR, MENOR};
+
+    @Test
+    void resolverDosVecesLosMismosDatosDaElMismoResultado() {
+        SimplexBase primero = new MDosFasesRefactorizada(c, a, b, tipos, true);
+        primero.resolver();
+        SimplexBase segundo = new MDosFasesRefactorizada(c, a, b, tipos, true);
+        segundo.resolver();
+
+        assertEquals(EstadoSolucion.OPTIMA, primero.getEstado());
+        assertEquals(8, primero.solucion.get("z"), 1e-9);
+        assertEquals(primero.getEstado(), segundo.getEstado());
+        assertEquals(primero.solucion, segundo.solucion);
+    }
+
+    @Test
+    void noModificaLosDatosRecibidos() {
+        MatrizDispersa matriz = MatrizDispersa.desdeDensa(a);
+        new MDosFasesRefactorizada(c, matriz, b, tipos, true).resolver();
+
+        assertArrayEquals(new double[]{-1, 3, 5}, b);
+        assertArrayEquals(new TipoRestriccion[]{MENOR, MENOR, MENOR}, tipos);
+        assertArrayEquals(a[0], matriz.aDensa()[0]);
+    }
+
+    @Test
+    void crearMotorNoModificaElModelo() {
+        ModeloLineal modelo = ModeloLineal.desdeDensa(c, a, b, tipos, true);
+        SimplexBase primero = modelo.crearMotor(OpcionesResolucion.PREDETERMINADAS);
+        primero.resolver();
+        SimplexBase segundo = modelo.crearMotor(OpcionesResolucion.PREDETERMINADAS);
+        segundo.resolver();
+
+        assertEquals(-1, modelo.terminosIndependientes()[0]);
+        assertEquals(MENOR, modelo.tipoRestricciones()[0]);
+        assertArrayEquals(a[0], modelo.restriccionesDensas()[0]);
+        assertEquals(primero.getEstado(), segundo.getEstado());
+        assertEquals(primero.solucion, segundo.solucion);
+    }
+}
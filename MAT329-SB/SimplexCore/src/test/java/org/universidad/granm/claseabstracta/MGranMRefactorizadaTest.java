@@ -0,0 +1,64 @@
+package org.universidad.granm.claseabstracta;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MGranMRefactorizadaTest {
+
+    private static final TipoRestriccion MENOR = TipoRestriccion.MENOR_IGUAL;
+    private static final TipoRestriccion MAYOR = TipoRestriccion.MAYOR_IGUAL;
+    private static final TipoRestriccion IGUAL = TipoRestriccion.IGUAL;
+
+    // max 5x1 + 2x2 + 3x3  s.a.  x1 = 6,  x1 + x2 + x3 = 1   →  infactible
+    private final double[] c = {5, 2, 3};
+    private final MatrizDispersa a = MatrizDispersa.desdeDensa(new double[][]{{1, 0, 0}, {1, 1, 1}});
+    private final double[] b = {6, 1};
+    private final TipoRestriccion[] tipos = {IGUAL, IGUAL};
+
+    @Test
+    void artificialDeLaBaseInicialConValorPositivoEsInfactible() {
+        for (MGranMRefactorizada.Modo modo : MGranMRefactorizada.Modo.values()) {
+            SimplexBase motor = new MGranMRefactorizada(c, a, b, tipos, true, NivelHistorial.NINGUNO, modo);
+            motor.resolver();
+
+            assertEquals(EstadoSolucion.INFACTIBLE, motor.getEstado(), modo.name());
+        }
+    }
+
+    // max 3x1 + 2x2  s.a.  x1 + x2 ≤ 4,  x1 ≥ 1   →  x1 = 4, z = 12; con x1 ≤ 2  →  x1 = 2, x2 = 2, z = 10
+    private SimplexBase resolverConCorte(MGranMRefactorizada.Modo modo) {
+        SimplexBase motor = new MGranMRefactorizada(new double[]{3, 2},
+                MatrizDispersa.desdeDensa(new double[][]{{1, 1}, {1, 0}}), new double[]{4, 1},
+                new TipoRestriccion[]{MENOR, MAYOR}, true, NivelHistorial.NINGUNO, modo);
+        motor.resolver();
+        assertEquals(EstadoSolucion.OPTIMA, motor.getEstado(), modo.name());
+        assertEquals(12, motor.solucion.get("z"), 1e-9, modo.name());
+        return motor;
+    }
+
+    @Test
+    void modoLexicograficoNoAdmiteAgregarRestricciones() {
+        MGranMRefactorizada motor = (MGranMRefactorizada) resolverConCorte(MGranMRefactorizada.Modo.LEXICOGRAFICO);
+        int columnas = motor.nroColumnas;
+
+        assertThrows(UnsupportedOperationException.class,
+                () -> motor.agregarRestriccion(new double[]{1, 0}, 2, MENOR));
+        // El tableau y la fila M quedan como estaban
+        assertEquals(columnas, motor.nroColumnas);
+        assertEquals(0, motor.getCoeficienteM(columnas - 1), 1e-9);
+    }
+
+    @Test
+    void modoNumericoReoptimizaTrasAgregarRestricciones() {
+        SimplexBase motor = resolverConCorte(MGranMRefactorizada.Modo.NUMERICO);
+        motor.agregarRestriccion(new double[]{1, 0}, 2, MENOR);
+        motor.reoptimizarDual();
+
+        assertEquals(EstadoSolucion.OPTIMA, motor.getEstado());
+        assertEquals(2, motor.solucion.get("x1"), 1e-9);
+        assertEquals(2, motor.solucion.get("x2"), 1e-9);
+        assertEquals(10, motor.solucion.get("z"), 1e-9);
+    }
+}
@@ -0,0 +1,143 @@
+package org.universidad.granm.claseabstracta;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MSimplexAcotadoTest {
+
+    private static final TipoRestriccion MENOR = TipoRestriccion.MENOR_IGUAL;
+    private static final TipoRestriccion MAYOR = TipoRestriccion.MAYOR_IGUAL;
+    private static final double INF = Double.POSITIVE_INFINITY;
+
+    private static final OpcionesResolucion SIN_HISTORIAL =
+            OpcionesResolucion.PREDETERMINADAS.conNivelHistorial(NivelHistorial.NINGUNO);
+
+    @Test
+    void laVariableBasicaSaleEnSuCotaSuperior() {
+        // max 2x1 + x2  s.a.  x1 + x2 ≤ 10,  x1 ≤ 4,  x2 ≤ 8   →  x1 = 4, x2 = 6, z = 14
+        SimplexBase motor = new MSimplexAcotado(new double[]{2, 1}, MatrizDispersa.desdeDensa(new double[][]{{1, 1}}),
+                new double[]{10}, new TipoRestriccion[]{MENOR}, true, null, new double[]{4, 8}, SIN_HISTORIAL);
+        motor.resolver();
+
+        assertEquals(EstadoSolucion.OPTIMA, motor.getEstado());
+        assertEquals(4, motor.solucion.get("x1"), 1e-9);
+        assertEquals(6, motor.solucion.get("x2"), 1e-9);
+        assertEquals(14, motor.solucion.get("z"), 1e-9);
+    }
+
+    @Test
+    void cambiaDeCotaSinPivotear() {
+        // max x1 + x2  s.a.  x1 + 2x2 ≤ 100,  x1 ≤ 3,  x2 ≤ 5   →  ambas en su cota superior, z = 8
+        MSimplexAcotado motor = new MSimplexAcotado(new double[]{1, 1}, MatrizDispersa.desdeDensa(new double[][]{{1, 2}}),
+                new double[]{100}, new TipoRestriccion[]{MENOR}, true, null, new double[]{3, 5}, SIN_HISTORIAL);
+        motor.resolver();
+
+        assertEquals(EstadoSolucion.OPTIMA, motor.getEstado());
+        assertEquals(3, motor.solucion.get("x1"), 1e-9);
+        assertEquals(5, motor.solucion.get("x2"), 1e-9);
+        assertEquals(8, motor.solucion.get("z"), 1e-9);
+        assertEquals(2, motor.getCambiosDeCota());
+    }
+
+    @Test
+    void trasladaLasCotasInferiores() {
+        // min x1 + 2x2  s.a.  x1 + x2 ≥ 5,  1 ≤ x1 ≤ 2,  2 ≤ x2 ≤ 6   →  x1 = 2, x2 = 3, z = 8
+        SimplexBase motor = new MSimplexAcotado(new double[]{1, 2}, MatrizDispersa.desdeDensa(new double[][]{{1, 1}}),
+                new double[]{5}, new TipoRestriccion[]{MAYOR}, false, new double[]{1, 2}, new double[]{2, 6}, SIN_HISTORIAL);
+        motor.resolver();
+
+        assertEquals(EstadoSolucion.OPTIMA, motor.getEstado());
+        assertEquals(2, motor.solucion.get("x1"), 1e-9);
+        assertEquals(3, motor.solucion.get("x2"), 1e-9);
+        assertEquals(8, motor.solucion.get("z"), 1e-9);
+    }
+
+    @Test
+    void detectaInfactibilidadPorLasCotas() {
+        // x1 + x2 ≥ 10 con x1 ≤ 3 y x2 ≤ 4
+        SimplexBase motor = new MSimplexAcotado(new double[]{1, 1}, MatrizDispersa.desdeDensa(new double[][]{{1, 1}}),
+                new double[]{10}, new TipoRestriccion[]{MAYOR}, true, null, new double[]{3, 4}, SIN_HISTORIAL);
+        motor.resolver();
+
+        assertEquals(EstadoSolucion.INFACTIBLE, motor.getEstado());
+    }
+
+    @Test
+    void rechazaCotasInvalidas() {
+        MatrizDispersa a = MatrizDispersa.desdeDensa(new double[][]{{1, 1}});
+        double[] c = {1, 1};
+        double[] b = {10};
+        TipoRestriccion[] tipos = {MENOR};
+
+        assertThrows(IllegalArgumentException.class,
+                () -> new MSimplexAcotado(c, a, b, tipos, true, new double[]{2, 0}, new double[]{1, INF}, SIN_HISTORIAL));
+        assertThrows(IllegalArgumentException.class,
+                () -> new MSimplexAcotado(c, a, b, tipos, true, new double[]{Double.NEGATIVE_INFINITY, 0}, null, SIN_HISTORIAL));
+        assertThrows(IllegalArgumentException.class,
+                () -> new MSimplexAcotado(c, a, b, tipos, true, null, new double[]{1}, SIN_HISTORIAL));
+    }
+
+    @Test
+    void coincideConLasCotasComoRestricciones() {
+        Random aleatorio = new Random(7);
+        for (int caso = 0; caso < 50; caso++) {
+            int m = 1 + aleatorio.nextInt(8), n = 2 + aleatorio.nextInt(8);
+            double[] c = new double[n];
+            double[][] a = new double[m][n];
+            double[] b = new double[m];
+            TipoRestriccion[] tipos = new TipoRestriccion[m];
+            double[] superior = new double[n];
+            for (int j = 0; j < n; j++) {
+                c[j] = aleatorio.nextInt(10) - 2;
+                superior[j] = aleatorio.nextDouble() < 0.7 ? 1 + aleatorio.nextInt(10) : INF;
+            }
+            for (int i = 0; i < m; i++) {
+                for (int j = 0; j < n; j++)
+                    a[i][j] = aleatorio.nextDouble() < 0.5 ? 1 + aleatorio.nextInt(9) : 0;
+                b[i] = 1 + aleatorio.nextInt(60);
+                tipos[i] = MENOR;
+            }
+            for (int j = 0; j < n; j++)
+                if (superior[j] == INF)
+                    a[aleatorio.nextInt(m)][j] = 1 + aleatorio.nextInt(9);
+
+            // Las mismas cotas superiores como filas x_j ≤ u_j de un Simplex estándar
+            int filasCota = 0;
+            for (double u : superior) if (u < INF) filasCota++;
+            double[][] ampliada = new double[m + filasCota][];
+            double[] bAmpliado = new double[m + filasCota];
+            TipoRestriccion[] tiposAmpliados = new TipoRestriccion[m + filasCota];
+            for (int i = 0; i < m; i++) {
+                ampliada[i] = a[i];
+                bAmpliado[i] = b[i];
+                tiposAmpliados[i] = MENOR;
+            }
+            for (int j = 0, i = m; j < n; j++) {
+                if (superior[j] == INF) continue;
+                ampliada[i] = new double[n];
+                ampliada[i][j] = 1;
+                bAmpliado[i] = superior[j];
+                tiposAmpliados[i++] = MENOR;
+            }
+
+            SimplexBase estandar = new MSimplexEstandar(c, MatrizDispersa.desdeDensa(ampliada), bAmpliado,
+                    tiposAmpliados, true, SIN_HISTORIAL);
+            estandar.resolver();
+            SimplexBase acotado = new MSimplexAcotado(c, MatrizDispersa.desdeDensa(a), b, tipos, true,
+                    null, superior, SIN_HISTORIAL);
+            acotado.resolver();
+
+            assertEquals(EstadoSolucion.OPTIMA, acotado.getEstado(), "caso " + caso);
+            assertEquals(estandar.solucion.get("z"), acotado.solucion.get("z"), 1e-6, "caso " + caso);
+            for (int j = 0; j < n; j++) {
+                double x = acotado.solucion.get("x" + (j + 1));
+                assertTrue(x >= -1e-9 && x <= superior[j] + 1e-9, "caso " + caso + ", x" + (j + 1) + " = " + x);
+            }
+        }
+    }
+}
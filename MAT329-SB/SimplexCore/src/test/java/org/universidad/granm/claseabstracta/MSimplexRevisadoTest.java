@@ -0,0 +1,141 @@
+package org.universidad.granm.claseabstracta;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MSimplexRevisadoTest {
+
+    private static final TipoRestriccion MENOR = TipoRestriccion.MENOR_IGUAL;
+    private static final TipoRestriccion MAYOR = TipoRestriccion.MAYOR_IGUAL;
+    private static final TipoRestriccion IGUAL = TipoRestriccion.IGUAL;
+
+    private static final OpcionesResolucion SIN_HISTORIAL =
+            OpcionesResolucion.PREDETERMINADAS.conNivelHistorial(NivelHistorial.NINGUNO);
+
+    @Test
+    void resuelveUnModeloConFase1() {
+        // min 2x1 + 3x2  s.a.  x1 + x2 ≥ 4,  x1 - x2 = 1,  -x1 ≥ -10   →  x1 = 2.5, x2 = 1.5, z = 9.5
+        double[] c = {2, 3};
+        MatrizDispersa a = MatrizDispersa.desdeDensa(new double[][]{{1, 1}, {1, -1}, {-1, 0}});
+        double[] b = {4, 1, -10};
+        TipoRestriccion[] tipos = {MAYOR, IGUAL, MAYOR};
+
+        SimplexBase motor = new MSimplexRevisado(c, a, b, tipos, false, SIN_HISTORIAL);
+        motor.resolver();
+
+        assertEquals(EstadoSolucion.OPTIMA, motor.getEstado());
+        assertEquals(2.5, motor.solucion.get("x1"), 1e-9);
+        assertEquals(1.5, motor.solucion.get("x2"), 1e-9);
+        assertEquals(9.5, motor.solucion.get("z"), 1e-9);
+    }
+
+    @Test
+    void detectaUnModeloInfactible() {
+        // x1 + x2 ≤ 1,  x1 + x2 ≥ 3
+        MatrizDispersa a = MatrizDispersa.desdeDensa(new double[][]{{1, 1}, {1, 1}});
+        SimplexBase motor = new MSimplexRevisado(new double[]{1, 1}, a, new double[]{1, 3},
+                new TipoRestriccion[]{MENOR, MAYOR}, true, SIN_HISTORIAL);
+        motor.resolver();
+
+        assertEquals(EstadoSolucion.INFACTIBLE, motor.getEstado());
+    }
+
+    @Test
+    void detectaUnModeloNoAcotado() {
+        // max x1 + x2  s.a.  x1 - x2 ≤ 1
+        MatrizDispersa a = MatrizDispersa.desdeDensa(new double[][]{{1, -1}});
+        SimplexBase motor = new MSimplexRevisado(new double[]{1, 1}, a, new double[]{1},
+                new TipoRestriccion[]{MENOR}, true, SIN_HISTORIAL);
+        motor.resolver();
+
+        assertEquals(EstadoSolucion.NO_ACOTADA, motor.getEstado());
+    }
+
+    @Test
+    void coincideConElTableauEnModelosAleatorios() {
+        Random aleatorio = new Random(42);
+        for (int caso = 0; caso < 50; caso++) {
+            int m = 2 + aleatorio.nextInt(12), n = 2 + aleatorio.nextInt(12);
+            double[] c = new double[n];
+            double[][] a = new double[m][n];
+            double[] b = new double[m];
+            TipoRestriccion[] tipos = new TipoRestriccion[m];
+            for (int j = 0; j < n; j++)
+                c[j] = aleatorio.nextInt(10);
+            for (int i = 0; i < m; i++) {
+                for (int j = 0; j < n; j++)
+                    a[i][j] = aleatorio.nextDouble() < 0.4 ? 1 + aleatorio.nextInt(9) : 0;
+                b[i] = 1 + aleatorio.nextInt(50);
+                tipos[i] = MENOR;
+            }
+            // Cada variable aparece en alguna restricción, así que el modelo es acotado
+            for (int j = 0; j < n; j++)
+                a[aleatorio.nextInt(m)][j] = 1 + aleatorio.nextInt(9);
+
+            SimplexBase tableau = new MSimplexEstandar(c, MatrizDispersa.desdeDensa(a), b, tipos, true, SIN_HISTORIAL);
+            tableau.resolver();
+            MSimplexRevisado revisado = new MSimplexRevisado(c, MatrizDispersa.desdeDensa(a), b, tipos, true, SIN_HISTORIAL);
+            revisado.setIntervaloRefactorizacion(1 + aleatorio.nextInt(5));
+            revisado.resolver();
+
+            assertEquals(EstadoSolucion.OPTIMA, revisado.getEstado(), "caso " + caso);
+            assertEquals(tableau.solucion.get("z"), revisado.solucion.get("z"), 1e-6, "caso " + caso);
+        }
+    }
+
+    @Test
+    void rechazaReglasDePricingConPesos() {
+        MatrizDispersa a = MatrizDispersa.desdeDensa(new double[][]{{1}});
+        OpcionesResolucion opciones = SIN_HISTORIAL.conReglaPricing(ReglaPricingDevex::new);
+
+        assertThrows(UnsupportedOperationException.class, () -> new MSimplexRevisado(new double[]{1}, a,
+                new double[]{1}, new TipoRestriccion[]{MENOR}, true, opciones));
+    }
+
+    @Test
+    void valorObjetivoEsElDelModeloOriginal() {
+        // max 3x1 + 5x2  s.a.  x1 ≤ 4,  2x2 ≤ 12,  3x1 + 2x2 ≤ 18   →  z = 36
+        MatrizDispersa a = MatrizDispersa.desdeDensa(new double[][]{{1, 0}, {0, 2}, {3, 2}});
+        double[] b = {4, 12, 18};
+        TipoRestriccion[] tipos = {MENOR, MENOR, MENOR};
+        for (NivelHistorial nivel : new NivelHistorial[]{NivelHistorial.COMPLETO, NivelHistorial.NINGUNO}) {
+            SimplexBase motor = new MSimplexRevisado(new double[]{3, 5}, a, b, tipos, true, nivel);
+            motor.resolver();
+
+            assertEquals(36, motor.obtenerValorFuncionObjetivo(), 1e-9, nivel.name());
+            assertEquals(motor.solucion.get("z"), motor.obtenerValorFuncionObjetivo(), 1e-9, nivel.name());
+        }
+    }
+
+    @Test
+    void sinHistorialCompletoNoHayTableauQueLeer() {
+        SimplexBase motor = new MSimplexRevisado(new double[]{1}, MatrizDispersa.desdeDensa(new double[][]{{1}}),
+                new double[]{1}, new TipoRestriccion[]{MENOR}, true, SIN_HISTORIAL);
+        motor.resolver();
+
+        assertThrows(IllegalStateException.class, () -> motor.getValor(0, 0));
+        assertThrows(UnsupportedOperationException.class, () -> motor.setValor(0, 0, 1));
+    }
+
+    @Test
+    void usaLaMismaToleranciaDePivoteQueElTableau() {
+        // max x1  s.a.  1e-4 x1 ≤ 1e-5,  x1 ≤ 5: la primera fila da la razón mínima con un pivote de 1e-4
+        MatrizDispersa a = MatrizDispersa.desdeDensa(new double[][]{{1e-4}, {1}});
+        double[] b = {1e-5, 5};
+        TipoRestriccion[] tipos = {MENOR, MENOR};
+        for (double tolerancia : new double[]{1e-9, 1e-3}) {
+            OpcionesResolucion opciones = SIN_HISTORIAL.conToleranciaPivote(tolerancia);
+            SimplexBase tableau = new MSimplexEstandar(new double[]{1}, a, b, tipos, true, opciones);
+            tableau.resolver();
+            SimplexBase revisado = new MSimplexRevisado(new double[]{1}, a, b, tipos, true, opciones);
+            revisado.resolver();
+
+            assertEquals(tolerancia < 1e-4 ? 0.1 : 5, revisado.solucion.get("x1"), 1e-9, "tolerancia " + tolerancia);
+            assertEquals(tableau.solucion.get("x1"), revisado.solucion.get("x1"), 1e-9, "tolerancia " + tolerancia);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package org.universidad.granm.claseabstracta;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class OpcionesResolucionTest {
+
+    private static final OpcionesResolucion PREDETERMINADAS = OpcionesResolucion.PREDETERMINADAS;
+
+    @Test
+    void rechazaValoresInvalidos() {
+        assertThrows(IllegalArgumentException.class, () -> PREDETERMINADAS.conEpsilon(0));
+        assertThrows(IllegalArgumentException.class, () -> PREDETERMINADAS.conEpsilon(-1e-10));
+        assertThrows(IllegalArgumentException.class, () -> PREDETERMINADAS.conEpsilon(Double.NaN));
+        assertThrows(IllegalArgumentException.class, () -> PREDETERMINADAS.conDecimales(-1));
+        assertThrows(IllegalArgumentException.class, () -> PREDETERMINADAS.conValorM(0));
+        assertThrows(IllegalArgumentException.class, () -> PREDETERMINADAS.conValorM(Double.POSITIVE_INFINITY));
+        assertThrows(IllegalArgumentException.class, () -> PREDETERMINADAS.conValorM(Double.NaN));
+        assertThrows(IllegalArgumentException.class, () -> PREDETERMINADAS.conToleranciaFactibilidad(-1e-9));
+        assertThrows(IllegalArgumentException.class, () -> PREDETERMINADAS.conToleranciaFactibilidad(Double.NaN));
+        assertThrows(IllegalArgumentException.class, () -> PREDETERMINADAS.conToleranciaPivote(-1e-9));
+        assertThrows(IllegalArgumentException.class, () -> PREDETERMINADAS.conMaximoIteraciones(0));
+        assertThrows(IllegalArgumentException.class, () -> PREDETERMINADAS.conTiempoLimite(Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> PREDETERMINADAS.conTiempoLimite(Duration.ofSeconds(-1)));
+        assertThrows(IllegalArgumentException.class, () -> PREDETERMINADAS.conReglaPricing(null));
+        assertThrows(IllegalArgumentException.class, () -> PREDETERMINADAS.conNivelHistorial(null));
+    }
+
+    @Test
+    void aceptaLosLimitesValidos() {
+        // Tolerancias en cero, sin decimales y sin tiempo límite son configuraciones válidas
+        OpcionesResolucion opciones = PREDETERMINADAS.conToleranciaFactibilidad(0).conToleranciaPivote(0)
+                .conDecimales(0).conMaximoIteraciones(1).conTiempoLimite(null);
+        assertEquals(0, opciones.toleranciaPivote());
+        assertEquals(1, opciones.maximoIteraciones());
+        assertNull(opciones.tiempoLimite());
+    }
+
+    @Test
+    void cadaCambioDevuelveUnaCopiaSinTocarElOriginal() {
+        OpcionesResolucion cambiadas = PREDETERMINADAS.conMaximoIteraciones(500)
+                .conNivelHistorial(NivelHistorial.NINGUNO);
+
+        assertNotSame(PREDETERMINADAS, cambiadas);
+        assertEquals(500, cambiadas.maximoIteraciones());
+        assertEquals(NivelHistorial.NINGUNO, cambiadas.nivelHistorial());
+        assertEquals(PREDETERMINADAS.epsilon(), cambiadas.epsilon());
+        assertEquals(PREDETERMINADAS.reglaPricing(), cambiadas.reglaPricing());
+
+        assertEquals(Integer.MAX_VALUE, PREDETERMINADAS.maximoIteraciones());
+        assertEquals(NivelHistorial.COMPLETO, PREDETERMINADAS.nivelHistorial());
+        assertEquals(1e-10, PREDETERMINADAS.epsilon());
+    }
+}
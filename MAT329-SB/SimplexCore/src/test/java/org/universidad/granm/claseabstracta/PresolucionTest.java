@@ -0,0 +1,120 @@
+package org.universidad.granm.claseabstracta;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PresolucionTest {
+
+    private static final TipoRestriccion MENOR = TipoRestriccion.MENOR_IGUAL;
+    private static final TipoRestriccion MAYOR = TipoRestriccion.MAYOR_IGUAL;
+    private static final TipoRestriccion IGUAL = TipoRestriccion.IGUAL;
+
+    private static final FabricaMotor GRAN_M = (c, a, b, tipos, maximizar) ->
+            new MGranMRefactorizada(c, a, b, tipos, maximizar, NivelHistorial.NINGUNO);
+
+    // max 3x1 + 2x2 - x4 + 5x5  s.a.  x1 = 2,  x1 + x2 + x5 ≤ 6,  2x1 + 2x2 + 2x5 ≤ 14,
+    //                                 x2 + x3 + x4 ≤ 10,  x5 ≤ 3   →  x1 = 2, x2 = 1, x5 = 3, z = 23
+    private final double[] c = {3, 2, 0, -1, 5};
+    private final double[][] a = {
+            {1, 0, 0, 0, 0},
+            {1, 1, 0, 0, 1},
+            {2, 2, 0, 0, 2},
+            {0, 1, 1, 1, 0},
+            {0, 0, 0, 0, 1}};
+    private final double[] b = {2, 6, 14, 10, 3};
+    private final TipoRestriccion[] tipos = {IGUAL, MENOR, MENOR, MENOR, MENOR};
+
+    @Test
+    void reduceYRecuperaLaSolucionOriginal() {
+        Presolucion presolucion = new Presolucion(c, a, b, tipos, true);
+
+        // x1 = 2 fija x1, la tercera fila duplica la segunda, x3 y x4 quedan dominadas
+        assertTrue(presolucion.isReducido());
+        assertEquals(2, presolucion.getFilasEliminadas());
+        assertEquals(3, presolucion.getColumnasEliminadas());
+        assertEquals(6, presolucion.getConstanteObjetivo(), 1e-12);
+
+        SimplexBase motor = presolucion.resolver(GRAN_M);
+        assertEquals(EstadoSolucion.OPTIMA, motor.getEstado());
+        assertEquals(2, motor.solucion.get("x1"), 1e-9);
+        assertEquals(1, motor.solucion.get("x2"), 1e-9);
+        assertEquals(0, motor.solucion.get("x3"), 1e-9);
+        assertEquals(0, motor.solucion.get("x4"), 1e-9);
+        assertEquals(3, motor.solucion.get("x5"), 1e-9);
+        assertEquals(23, motor.solucion.get("z"), 1e-9);
+    }
+
+    @Test
+    void noModificaLosDatosRecibidos() {
+        new Presolucion(c, a, b, tipos, true).resolver(GRAN_M);
+
+        assertArrayEquals(new double[]{3, 2, 0, -1, 5}, c);
+        assertArrayEquals(new double[]{2, 6, 14, 10, 3}, b);
+        assertArrayEquals(new TipoRestriccion[]{IGUAL, MENOR, MENOR, MENOR, MENOR}, tipos);
+        assertArrayEquals(new double[]{2, 2, 0, 0, 2}, a[2]);
+    }
+
+    @Test
+    void filasDuplicadasContradictoriasSonInfactibles() {
+        // x1 + x2 ≤ 1  y  2x1 + 2x2 ≥ 6
+        Presolucion presolucion = new Presolucion(new double[]{1, 1}, new double[][]{{1, 1}, {2, 2}},
+                new double[]{1, 6}, new TipoRestriccion[]{MENOR, MAYOR}, true);
+
+        assertTrue(presolucion.isInfactible());
+        assertFalse(presolucion.isReducido());
+        // El motor recibe el problema original y es él quien informa la infactibilidad
+        assertEquals(EstadoSolucion.INFACTIBLE, presolucion.resolver(GRAN_M).getEstado());
+    }
+
+    @Test
+    void coincideConResolverSinPresolve() {
+        Random aleatorio = new Random(3);
+        for (int caso = 0; caso < 50; caso++) {
+            int m = 2 + aleatorio.nextInt(6), n = 2 + aleatorio.nextInt(6);
+            // Filas ≤ al azar, una copia escalada de la primera y una fila x_k = 1
+            double[] costos = new double[n];
+            double[][] filas = new double[m + 2][n];
+            double[] terminos = new double[m + 2];
+            TipoRestriccion[] t = new TipoRestriccion[m + 2];
+            for (int j = 0; j < n; j++)
+                costos[j] = aleatorio.nextInt(11) - 3;
+            for (int i = 0; i < m; i++) {
+                for (int j = 0; j < n; j++)
+                    filas[i][j] = aleatorio.nextDouble() < 0.5 ? 1 + aleatorio.nextInt(9) : 0;
+                terminos[i] = 10 + aleatorio.nextInt(50);
+                t[i] = MENOR;
+            }
+            for (int j = 0; j < n; j++)
+                filas[m][j] = 3 * filas[0][j];
+            terminos[m] = 3 * terminos[0] + aleatorio.nextInt(5);
+            t[m] = MENOR;
+            filas[m + 1][aleatorio.nextInt(n)] = 1;
+            terminos[m + 1] = 1;
+            t[m + 1] = IGUAL;
+
+            SimplexBase directo = GRAN_M.crear(costos, MatrizDispersa.desdeDensa(filas), terminos, t, true);
+            directo.resolver();
+            Presolucion presolucion = new Presolucion(costos, filas, terminos, t, true);
+            SimplexBase reducido = presolucion.resolver(GRAN_M);
+
+            // Si la reducción elimina todo el modelo, el motor recibe el original
+            assertTrue(!presolucion.isReducido() || presolucion.getFilasEliminadas() >= 2, "caso " + caso);
+            assertEquals(directo.getEstado(), reducido.getEstado(), "caso " + caso);
+            if (directo.getEstado() != EstadoSolucion.OPTIMA) continue;
+            assertEquals(directo.solucion.get("z"), reducido.solucion.get("z"), 1e-6, "caso " + caso);
+            for (int i = 0; i < m + 2; i++) {
+                double ax = 0;
+                for (int j = 0; j < n; j++)
+                    ax += filas[i][j] * reducido.solucion.getOrDefault("x" + (j + 1), 0.0);
+                assertTrue(t[i] == IGUAL ? Math.abs(ax - terminos[i]) < 1e-6 : ax <= terminos[i] + 1e-6,
+                        "caso " + caso + ", fila " + (i + 1));
+            }
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package org.universidad.granm.claseabstracta;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PruebaCocienteHarrisTest {
+
+    private static final TipoRestriccion MENOR = TipoRestriccion.MENOR_IGUAL;
+
+    private static final OpcionesResolucion SIN_HISTORIAL =
+            OpcionesResolucion.PREDETERMINADAS.conNivelHistorial(NivelHistorial.NINGUNO).conMaximoIteraciones(100);
+
+    @Test
+    void resuelveElEjemploDegeneradoDeBeale() {
+        // max 3/4 x1 - 150 x2 + 1/50 x3 - 6 x4: con la razón mínima estricta Dantzig cicla en z = 0
+        double[] c = {0.75, -150, 0.02, -6};
+        MatrizDispersa a = MatrizDispersa.desdeDensa(new double[][]{
+                {0.25, -60, -0.04, 9}, {0.5, -90, -0.02, 3}, {0, 0, 1, 0}});
+        double[] b = {0, 0, 1};
+        TipoRestriccion[] tipos = {MENOR, MENOR, MENOR};
+
+        SimplexBase estricta = new MSimplexEstandar(c, a, b, tipos, true, SIN_HISTORIAL);
+        estricta.resolver();
+        SimplexBase harris = new MSimplexEstandar(c, a, b, tipos, true, SIN_HISTORIAL.conPruebaCocienteHarris(true));
+        harris.resolver();
+
+        assertEquals(EstadoSolucion.LIMITE_ALCANZADO, estricta.getEstado());
+        assertEquals(EstadoSolucion.OPTIMA, harris.getEstado());
+        assertEquals(0.05, harris.solucion.get("z"), 1e-12);
+        assertEquals(0.04, harris.solucion.get("x1"), 1e-12);
+        assertEquals(1, harris.solucion.get("x3"), 1e-12);
+    }
+
+    @Test
+    void entreFilasCasiEmpatadasEligeElMayorPivote() {
+        // max x1  s.a.  0.001 x1 ≤ 0.001,  x1 ≤ 1 + 1e-12: la estricta pivotea en 0.001, Harris en 1
+        double[] c = {1};
+        MatrizDispersa a = MatrizDispersa.desdeDensa(new double[][]{{0.001}, {1}});
+        double[] b = {0.001, 1 + 1e-12};
+        TipoRestriccion[] tipos = {MENOR, MENOR};
+
+        SimplexBase estricta = new MSimplexEstandar(c, a, b, tipos, true, SIN_HISTORIAL);
+        SimplexBase harris = new MSimplexEstandar(c, a, b, tipos, true, SIN_HISTORIAL.conPruebaCocienteHarris(true));
+
+        assertEquals(1, estricta.obtenerFilaPivote(1));
+        assertEquals(2, harris.obtenerFilaPivote(1));
+
+        harris.resolver();
+        assertEquals(EstadoSolucion.OPTIMA, harris.getEstado());
+        assertEquals(1, harris.solucion.get("z"), 1e-9);
+    }
+}
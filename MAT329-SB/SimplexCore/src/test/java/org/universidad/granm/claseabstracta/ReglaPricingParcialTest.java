@@ -0,0 +1,101 @@
+package org.universidad.granm.claseabstracta;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ReglaPricingParcialTest {
+
+    private static final double EPSILON = 1e-10;
+
+    @Test
+    void partialYMultipleLleganAlOptimoDeDantzigEnUnModeloAncho() {
+        // max c·x  s.a.  A x ≤ b con 300 columnas y A ≥ 0: acotado y con muchas columnas candidatas
+        Random aleatorio = new Random(14);
+        int m = 12, n = 300;
+        double[] c = new double[n];
+        double[][] a = new double[m][n];
+        double[] b = new double[m];
+        TipoRestriccion[] tipos = new TipoRestriccion[m];
+        for (int j = 0; j < n; j++) {
+            c[j] = 1 + aleatorio.nextInt(50);
+            a[aleatorio.nextInt(m)][j] = 1 + aleatorio.nextInt(9);
+        }
+        for (int i = 0; i < m; i++) {
+            for (int j = 0; j < n; j++)
+                if (aleatorio.nextInt(4) == 0)
+                    a[i][j] = aleatorio.nextInt(10);
+            b[i] = 100 + aleatorio.nextInt(400);
+            tipos[i] = TipoRestriccion.MENOR_IGUAL;
+        }
+
+        SimplexBase dantzig = resolver(ReglaPricingDantzig::new, c, a, b, tipos);
+        assertEquals(EstadoSolucion.OPTIMA, dantzig.getEstado());
+        for (Supplier<ReglaPricing> regla : List.<Supplier<ReglaPricing>>of(() -> ReglaPricingParcial.parcial(16),
+                () -> ReglaPricingParcial.multiple(8), () -> new ReglaPricingParcial(32, 4))) {
+            SimplexBase motor = resolver(regla, c, a, b, tipos);
+            String caso = motor.getReglaPricing().nombre();
+            assertEquals(EstadoSolucion.OPTIMA, motor.getEstado(), caso);
+            assertEquals(dantzig.solucion.get("z"), motor.solucion.get("z"), 1e-9, caso);
+        }
+    }
+
+    @Test
+    void daLaVueltaALaFilaAntesDeDeclararOptimo() {
+        ReglaPricingParcial regla = ReglaPricingParcial.parcial(4);
+        double[] costos = new double[20];
+
+        // Ventanas [1, 5), [5, 9), [9, 13): la búsqueda se detiene en la tercera, con la columna 10
+        costos[10] = -1;
+        assertEquals(10, regla.elegirColumna(1, 20, j -> costos[j], j -> 0, EPSILON));
+
+        // La siguiente búsqueda empieza en 13; la única candidata está antes, así que debe dar la vuelta
+        costos[10] = 0;
+        costos[2] = -1;
+        assertEquals(2, regla.elegirColumna(1, 20, j -> costos[j], j -> 0, EPSILON));
+
+        // Sin candidatas en toda la fila recién entonces es óptimo
+        costos[2] = 0;
+        assertEquals(-1, regla.elegirColumna(1, 20, j -> costos[j], j -> 0, EPSILON));
+    }
+
+    @Test
+    void laListaDescartaLasCandidatasQueDejaronDeMejorar() {
+        ReglaPricingParcial regla = ReglaPricingParcial.multiple(3);
+        double[] costos = new double[10];
+        costos[3] = -5;
+        costos[6] = -4;
+        costos[8] = -3;
+        costos[9] = -1;
+
+        // Se guardan 3, 6 y 8; entra 3
+        assertEquals(3, regla.elegirColumna(1, 10, j -> costos[j], j -> 0, EPSILON));
+        // Tras el pivoteo 6 ya no mejora y 8 pasa a ser la mejor de la lista, aunque 9 sea ahora más negativa
+        costos[3] = 0;
+        costos[6] = 0;
+        costos[9] = -7;
+        assertEquals(8, regla.elegirColumna(1, 10, j -> costos[j], j -> 0, EPSILON));
+        // Lista agotada: se vuelve a recorrer la fila
+        costos[8] = 0;
+        assertEquals(9, regla.elegirColumna(1, 10, j -> costos[j], j -> 0, EPSILON));
+    }
+
+    @Test
+    void rechazaVentanasYListasVacias() {
+        assertThrows(IllegalArgumentException.class, () -> new ReglaPricingParcial(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new ReglaPricingParcial(8, 0));
+    }
+
+    private static SimplexBase resolver(Supplier<ReglaPricing> regla, double[] c, double[][] a, double[] b,
+                                        TipoRestriccion[] tipos) {
+        SimplexBase motor = new MSimplexEstandar(c, MatrizDispersa.desdeDensa(a), b, tipos, true,
+                OpcionesResolucion.PREDETERMINADAS.conNivelHistorial(NivelHistorial.NINGUNO).conReglaPricing(regla));
+        motor.resolver();
+        return motor;
+    }
+}
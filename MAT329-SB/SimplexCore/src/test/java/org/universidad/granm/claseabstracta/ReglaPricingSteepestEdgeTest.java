@@ -0,0 +1,51 @@
+package org.universidad.granm.claseabstracta;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ReglaPricingSteepestEdgeTest {
+
+    @Test
+    void laActualizacionCoincideConLosPesosRecalculados() {
+        // Tableau disperso: las filas pivote tienen pocos no nulos, así que la actualización recorre solo su patrón
+        Random aleatorio = new Random(7);
+        Tableau tableau = new Tableau(30, 40);
+        for (int i = 0; i < 30; i++)
+            for (int j = 0; j < 40; j++)
+                if (aleatorio.nextDouble() < 0.2)
+                    tableau.set(i, j, aleatorio.nextInt(9) - 4);
+
+        ReglaPricingSteepestEdge regla = new ReglaPricingSteepestEdge();
+        regla.inicializarPesos(tableau);
+        for (int paso = 0; paso < 10; paso++) {
+            int fila = 1 + aleatorio.nextInt(29);
+            int columna = columnaDeMayorModulo(tableau, fila);
+            if (columna < 0) continue;
+
+            regla.actualizarPesos(tableau, fila, columna);
+            tableau.normalizarFila(fila, tableau.get(fila, columna));
+            tableau.eliminarColumna(fila, columna);
+
+            ReglaPricingSteepestEdge recalculada = new ReglaPricingSteepestEdge();
+            recalculada.inicializarPesos(tableau);
+            for (int j = 0; j < 40; j++)
+                assertEquals(recalculada.pesos[j], regla.pesos[j], 1e-9 * recalculada.pesos[j], "columna " + j);
+        }
+    }
+
+    private static int columnaDeMayorModulo(Tableau tableau, int fila) {
+        int columna = -1;
+        double mayor = 0;
+        for (int j = 0; j < tableau.getNroColumnas(); j++) {
+            double a = Math.abs(tableau.get(fila, j));
+            if (a > mayor) {
+                mayor = a;
+                columna = j;
+            }
+        }
+        return columna;
+    }
+}
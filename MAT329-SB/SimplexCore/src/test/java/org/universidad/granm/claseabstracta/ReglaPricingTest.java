@@ -0,0 +1,82 @@
+package org.universidad.granm.claseabstracta;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReglaPricingTest {
+
+    private static final List<Supplier<ReglaPricing>> REGLAS = List.of(ReglaPricingDantzig::new,
+            ReglaPricingBland::new, ReglaPricingMayorIncremento::new, () -> new ReglaPricingAleatoria(3));
+
+    private static final OpcionesResolucion SIN_HISTORIAL =
+            OpcionesResolucion.PREDETERMINADAS.conNivelHistorial(NivelHistorial.NINGUNO);
+
+    @Test
+    void todasLasReglasLleganAlMismoOptimo() {
+        Random aleatorio = new Random(12);
+        int optimos = 0;
+        for (int prueba = 0; prueba < 200; prueba++) {
+            int m = 2 + aleatorio.nextInt(6), n = 2 + aleatorio.nextInt(6);
+            double[] c = new double[n];
+            double[][] a = new double[m][n];
+            double[] b = new double[m];
+            TipoRestriccion[] tipos = new TipoRestriccion[m];
+            for (int j = 0; j < n; j++)
+                c[j] = aleatorio.nextInt(10) - 3;
+            for (int i = 0; i < m; i++) {
+                for (int j = 0; j < n; j++)
+                    a[i][j] = aleatorio.nextInt(3) == 0 ? 0 : aleatorio.nextInt(8);
+                boolean menor = aleatorio.nextInt(4) != 0;
+                tipos[i] = menor ? TipoRestriccion.MENOR_IGUAL : TipoRestriccion.MAYOR_IGUAL;
+                b[i] = menor ? 10 + aleatorio.nextInt(30) : aleatorio.nextInt(5);
+            }
+            boolean maximizar = aleatorio.nextBoolean();
+
+            SimplexBase referencia = resolver(REGLAS.getFirst(), c, a, b, tipos, maximizar);
+            for (Supplier<ReglaPricing> regla : REGLAS.subList(1, REGLAS.size())) {
+                SimplexBase motor = resolver(regla, c, a, b, tipos, maximizar);
+                String caso = "prueba " + prueba + ", " + motor.getReglaPricing().nombre();
+                assertEquals(referencia.getEstado(), motor.getEstado(), caso);
+                if (referencia.getEstado() == EstadoSolucion.OPTIMA)
+                    assertEquals(referencia.solucion.get("z"), motor.solucion.get("z"), 1e-9, caso);
+            }
+            if (referencia.getEstado() == EstadoSolucion.OPTIMA)
+                optimos++;
+        }
+        assertTrue(optimos > 100);
+    }
+
+    @Test
+    void blandNoCiclaEnElEjemploDeBeale() {
+        // max 3/4 x1 - 150 x2 + 1/50 x3 - 6 x4: con Dantzig y la razón mínima estricta cicla sin salir de z = 0
+        double[] c = {0.75, -150, 0.02, -6};
+        double[][] a = {{0.25, -60, -0.04, 9}, {0.5, -90, -0.02, 3}, {0, 0, 1, 0}};
+        double[] b = {0, 0, 1};
+        TipoRestriccion[] tipos = {TipoRestriccion.MENOR_IGUAL, TipoRestriccion.MENOR_IGUAL, TipoRestriccion.MENOR_IGUAL};
+
+        OpcionesResolucion opciones = SIN_HISTORIAL.conMaximoIteraciones(100);
+        SimplexBase dantzig = new MSimplexEstandar(c, MatrizDispersa.desdeDensa(a), b, tipos, true, opciones);
+        dantzig.resolver();
+        SimplexBase bland = new MSimplexEstandar(c, MatrizDispersa.desdeDensa(a), b, tipos, true,
+                opciones.conReglaPricing(ReglaPricingBland::new));
+        bland.resolver();
+
+        assertEquals(EstadoSolucion.LIMITE_ALCANZADO, dantzig.getEstado());
+        assertEquals(EstadoSolucion.OPTIMA, bland.getEstado());
+        assertEquals(0.05, bland.solucion.get("z"), 1e-12);
+    }
+
+    private static SimplexBase resolver(Supplier<ReglaPricing> regla, double[] c, double[][] a, double[] b,
+                                        TipoRestriccion[] tipos, boolean maximizar) {
+        SimplexBase motor = new MDosFasesRefactorizada(c, MatrizDispersa.desdeDensa(a), b, tipos, maximizar,
+                SIN_HISTORIAL.conReglaPricing(regla));
+        motor.resolver();
+        return motor;
+    }
+}
@@ -0,0 +1,57 @@
+package org.universidad.granm.claseabstracta;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ReoptimizacionDualTest {
+
+    private static final TipoRestriccion MENOR = TipoRestriccion.MENOR_IGUAL;
+    private static final TipoRestriccion MAYOR = TipoRestriccion.MAYOR_IGUAL;
+
+    // max x1 + 3x2 + 2x3  s.a.  x1 + x2 + 3x3 ≤ 6,  x2 + x3 ≥ 6   →  x2 = 6, z = 18
+    private final double[] c = {1, 3, 2};
+    private final double[][] a = {{1, 1, 3}, {0, 1, 1}};
+    private final double[] b = {6, 6};
+    private final TipoRestriccion[] tipos = {MENOR, MAYOR};
+
+    @Test
+    void corteInfactibleConGranMNumerica() {
+        SimplexBase motor = new MGranMRefactorizada(c, a, b, tipos, true);
+        motor.resolver();
+        assertEquals(EstadoSolucion.OPTIMA, motor.getEstado());
+        assertEquals(18, motor.solucion.get("z"), 1e-9);
+
+        // 2x1 + 2x2 + 2x3 ≤ 1 contradice x2 + x3 ≥ 6: la artificial de esa fila queda básica y positiva
+        motor.agregarRestriccion(new double[]{2, 2, 2}, 1, MENOR);
+        motor.reoptimizarDual();
+
+        assertEquals(EstadoSolucion.INFACTIBLE, motor.getEstado());
+    }
+
+    @Test
+    void corteInfactibleConDosFases() {
+        SimplexBase motor = new MDosFasesRefactorizada(c, a, b, tipos, true);
+        motor.resolver();
+        motor.agregarRestriccion(new double[]{2, 2, 2}, 1, MENOR);
+        motor.reoptimizarDual();
+
+        assertEquals(EstadoSolucion.INFACTIBLE, motor.getEstado());
+    }
+
+    @Test
+    void corteFactibleLlegaAlNuevoOptimo() {
+        // max x1 + x2  s.a.  x1 + x2 ≥ 2,  x1 ≤ 4,  x2 ≤ 4   →  z = 8; con x1 + x2 ≤ 5  →  z = 5
+        SimplexBase motor = new MGranMRefactorizada(new double[]{1, 1},
+                new double[][]{{1, 1}, {1, 0}, {0, 1}}, new double[]{2, 4, 4}, new TipoRestriccion[]{MAYOR, MENOR, MENOR}, true);
+        motor.resolver();
+        assertEquals(8, motor.solucion.get("z"), 1e-9);
+
+        motor.agregarRestriccion(new double[]{1, 1}, 5, MENOR);
+        motor.reoptimizarDual();
+
+        assertEquals(EstadoSolucion.OPTIMA, motor.getEstado());
+        assertEquals(5, motor.solucion.get("z"), 1e-9);
+        assertEquals(5, motor.solucion.get("x1") + motor.solucion.get("x2"), 1e-9);
+    }
+}
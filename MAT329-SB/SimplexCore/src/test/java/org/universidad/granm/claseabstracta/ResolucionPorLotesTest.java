@@ -0,0 +1,67 @@
+package org.universidad.granm.claseabstracta;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ResolucionPorLotesTest {
+
+    private static final int FALLIDO = 13;
+
+    // Falla al construir el motor del problema con b = FALLIDO; el resto se resuelve normalmente
+    private static final FabricaMotor FABRICA = (c, a, b, tipos, max) -> {
+        if (b[0] == FALLIDO)
+            throw new IllegalStateException("problema " + FALLIDO);
+        return new MSimplexEstandar(c, a, b, tipos, max,
+                OpcionesResolucion.PREDETERMINADAS.conNivelHistorial(NivelHistorial.NINGUNO));
+    };
+
+    @Test
+    void devuelveLosResultadosEnOrdenYReportaLosErrores() throws InterruptedException {
+        // max x1 + x2  s.a.  x1 + 2 x2 ≤ k,  x1 ≤ k/2: óptimo z = 3k/4
+        List<ResolucionPorLotes.Problema> problemas = new ArrayList<>();
+        for (int k = 1; k <= 40; k++)
+            problemas.add(new ResolucionPorLotes.Problema(new double[]{1, 1},
+                    MatrizDispersa.desdeDensa(new double[][]{{1, 2}, {1, 0}}), new double[]{k, k / 2.0},
+                    new TipoRestriccion[]{TipoRestriccion.MENOR_IGUAL, TipoRestriccion.MENOR_IGUAL}, true));
+
+        List<ResolucionPorLotes.Resultado> resultados;
+        // Dos hilos y como mucho cuatro problemas en curso: la entrega se bloquea varias veces
+        try (ResolucionPorLotes lotes = new ResolucionPorLotes(FABRICA, 2)) {
+            resultados = lotes.resolverTodos(problemas);
+        }
+
+        assertEquals(problemas.size(), resultados.size());
+        for (int i = 0; i < resultados.size(); i++) {
+            ResolucionPorLotes.Resultado resultado = resultados.get(i);
+            int k = i + 1;
+            assertEquals(i, resultado.indice());
+            assertSame(problemas.get(i), resultado.problema());
+            if (k == FALLIDO) {
+                assertFalse(resultado.exitoso());
+                assertNull(resultado.motor());
+                assertInstanceOf(IllegalStateException.class, resultado.error());
+                continue;
+            }
+            assertTrue(resultado.exitoso(), "problema " + k);
+            assertEquals(EstadoSolucion.OPTIMA, resultado.motor().getEstado(), "problema " + k);
+            assertEquals(0.75 * k, resultado.motor().solucion.get("z"), 1e-9, "problema " + k);
+        }
+    }
+
+    @Test
+    void rechazaFabricaNulaYPoolSinHilos() {
+        assertThrows(IllegalArgumentException.class, () -> new ResolucionPorLotes(null));
+        assertThrows(IllegalArgumentException.class, () -> new ResolucionPorLotes(null, 2));
+        assertThrows(IllegalArgumentException.class, () -> new ResolucionPorLotes(FABRICA, 0));
+    }
+}